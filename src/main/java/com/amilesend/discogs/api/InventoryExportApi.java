@@ -111,7 +111,8 @@ public class InventoryExportApi extends ApiBase {
     }
 
     /**
-     * Downloads an inventory export CSV file. Note: authentication is required.
+     * Downloads an inventory export CSV file. Note: authentication is required. If the request is resumable, then
+     * an interrupted download continues from where it stopped when the same request is issued again.
      *
      * @param request the request
      * @return the response
@@ -129,8 +130,13 @@ public class InventoryExportApi extends ApiBase {
         final Request httpRequest = connection.newRequestBuilderForDownload()
                 .url(buildHttpUrl(subPath, request))
                 .build();
-        final DownloadInformation downloadInfo =
-                connection.download(httpRequest, request.getFolderPath(), request.getCallback());
+        final DownloadInformation downloadInfo = request.isResumable()
+                ? connection.downloadResumable(
+                        httpRequest,
+                        request.getFolderPath(),
+                        request.getCallback(),
+                        request.getSegmentCount())
+                : connection.download(httpRequest, request.getFolderPath(), request.getCallback());
         return DownloadInventoryExportResponse.builder()
                 .fileName(downloadInfo.getFileName())
                 .sizeBytes(downloadInfo.getSizeBytes())
@@ -53,6 +53,7 @@ import lombok.NonNull;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -285,8 +286,13 @@ public class MarketplaceApi extends ApiBase {
                         .build(),
                 new MapParser<>(Condition.class, Price.class));
 
+        // Copy to an EnumMap for compact, ordinal-indexed storage when responses are retained (e.g., cached)
+        final Map<Condition, Price> priceSuggestions = new EnumMap<>(Condition.class);
+        if (Objects.nonNull(prices)) {
+            priceSuggestions.putAll(prices);
+        }
         return GetPriceSuggestionsResponse.builder()
-                .priceSuggestions(prices)
+                .priceSuggestions(priceSuggestions)
                 .build();
     }
 
@@ -99,7 +99,8 @@ public class UserIdentityApi extends ApiBase {
     }
 
     /**
-     * Gets the submissions made by the given user.
+     * Gets a page of the submissions made by the given user. Use
+     * {@link GetUserSubmissionsResponse#streamPages(boolean)} to iterate over the remaining pages.
      *
      * @param request the request
      * @return the submissions
@@ -111,13 +112,14 @@ public class UserIdentityApi extends ApiBase {
                 .append(URLEncoder.encode(request.getUsername(), StandardCharsets.UTF_8))
                 .append("/submissions")
                 .toString();
-        return executeGet(subPath, GetUserSubmissionsResponse.class);
+        return executeGet(subPath, request, GetUserSubmissionsResponse.class);
     }
 
     /**
-     * Gets the contributions made by the give user, sort, and sort order.
+     * Gets a page of the contributions made by the give user, sort, and sort order. Use
+     * {@link GetUserContributionsResponse#streamPages(boolean)} to iterate over the remaining pages.
      *
-     * @param request the request specifying user, sort, and sort order
+     * @param request the request specifying user, sort, sort order, and pagination
      * @return the contributions
      * @see GetUserContributionsRequest
      * @see GetUserContributionsResponse
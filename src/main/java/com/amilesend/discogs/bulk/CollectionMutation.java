@@ -0,0 +1,232 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.model.collection.ChangeReleaseRatingRequest;
+import com.amilesend.discogs.model.collection.DeleteInstanceRequest;
+import com.amilesend.discogs.model.collection.EditInstanceFieldRequest;
+import com.amilesend.discogs.model.collection.MoveReleaseRequest;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * Describes a single collection instance change to apply with the {@link CollectionMutationEngine}. Each request
+ * must reference the folder that the instance is in when the first mutation of the instance is submitted.
+ *
+ * @see #editField(EditInstanceFieldRequest)
+ * @see #changeRating(ChangeReleaseRatingRequest)
+ * @see #move(MoveReleaseRequest)
+ * @see #delete(DeleteInstanceRequest)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CollectionMutation {
+    /**
+     * The type of mutation.
+     *
+     * @see Type
+     */
+    private final Type type;
+    /** The instance identifier. */
+    private final long instanceId;
+    /** The identifier of the folder that contains the instance. */
+    private final long folderId;
+    /**
+     * The request, which is a {@link EditInstanceFieldRequest}, {@link ChangeReleaseRatingRequest},
+     * {@link MoveReleaseRequest}, or {@link DeleteInstanceRequest} based on the {@link #type}.
+     */
+    private final Object request;
+
+    /**
+     * Creates a mutation that edits a custom field of an instance. Edits of the same field are collapsed.
+     *
+     * @param request the edit instance field request
+     * @return the mutation
+     */
+    public static CollectionMutation editField(@NonNull final EditInstanceFieldRequest request) {
+        validateIds(request.getReleaseId(), request.getInstanceId());
+        Validate.isTrue(request.getFieldId() > 0L, "fieldId must be > 0");
+        return new CollectionMutation(Type.EDIT_FIELD, request.getInstanceId(), request.getFolderId(), request);
+    }
+
+    /**
+     * Creates a mutation that changes the rating of an instance. Rating changes of the same instance are collapsed.
+     *
+     * @param request the change release rating request
+     * @return the mutation
+     */
+    public static CollectionMutation changeRating(@NonNull final ChangeReleaseRatingRequest request) {
+        validateIds(request.getReleaseId(), request.getInstanceId());
+        return new CollectionMutation(Type.CHANGE_RATING, request.getInstanceId(), request.getFolderId(), request);
+    }
+
+    /**
+     * Creates a mutation that moves an instance to another folder. Consecutive moves of the same instance are
+     * collapsed into a single move to the last destination folder.
+     *
+     * @param request the move release request
+     * @return the mutation
+     */
+    public static CollectionMutation move(@NonNull final MoveReleaseRequest request) {
+        validateIds(request.getReleaseId(), request.getInstanceId());
+        Validate.notNull(request.getMoveToFolderId(), "moveToFolderId must not be null");
+        return new CollectionMutation(Type.MOVE, request.getInstanceId(), request.getFolderId(), request);
+    }
+
+    /**
+     * Creates a mutation that deletes an instance. All other mutations of the same instance are discarded.
+     *
+     * @param request the delete instance request
+     * @return the mutation
+     */
+    public static CollectionMutation delete(@NonNull final DeleteInstanceRequest request) {
+        validateIds(request.getReleaseId(), request.getInstanceId());
+        return new CollectionMutation(Type.DELETE, request.getInstanceId(), request.getFolderId(), request);
+    }
+
+    /**
+     * Gets the key used to collapse repeated mutations of the same instance.
+     *
+     * @return the key
+     */
+    String getCollapseKey() {
+        if (type == Type.EDIT_FIELD) {
+            return type.name() + ":" + instanceId + ":" + ((EditInstanceFieldRequest) request).getFieldId();
+        }
+
+        return type.name() + ":" + instanceId;
+    }
+
+    /**
+     * Gets the checkpoint identifier of the mutation, which is stable across process restarts.
+     *
+     * @param key the collapse key of the mutation within its job
+     * @return the checkpoint identifier
+     * @see Checkpoint#toId(String, Object...)
+     */
+    String getCheckpointId(final String key) {
+        switch (type) {
+            case EDIT_FIELD:
+                final EditInstanceFieldRequest edit = (EditInstanceFieldRequest) request;
+                return Checkpoint.toId(key, type, edit.getUsername(), folderId, edit.getReleaseId(), instanceId,
+                        edit.getFieldId(), edit.getValue());
+            case CHANGE_RATING:
+                final ChangeReleaseRatingRequest rating = (ChangeReleaseRatingRequest) request;
+                return Checkpoint.toId(key, type, rating.getUsername(), folderId, rating.getReleaseId(), instanceId,
+                        rating.getRating());
+            case MOVE:
+                final MoveReleaseRequest move = (MoveReleaseRequest) request;
+                return Checkpoint.toId(key, type, move.getUsername(), folderId, move.getReleaseId(), instanceId,
+                        move.getMoveToFolderId());
+            case DELETE:
+                final DeleteInstanceRequest delete = (DeleteInstanceRequest) request;
+                return Checkpoint.toId(key, type, delete.getUsername(), folderId, delete.getReleaseId(), instanceId);
+            default:
+                throw new IllegalStateException("Unsupported mutation type: " + type);
+        }
+    }
+
+    /**
+     * Determines if this mutation must be applied after all other mutations of the same instance since it changes
+     * the folder that the instance is referenced by.
+     *
+     * @return {@code true} if this is a move; else, {@code false}
+     */
+    boolean isMove() {
+        return type == Type.MOVE;
+    }
+
+    /**
+     * Creates a copy of this mutation that references the given folder.
+     *
+     * @param newFolderId the folder identifier
+     * @return the mutation, or this mutation if the folder is unchanged
+     */
+    CollectionMutation withFolderId(final long newFolderId) {
+        if (newFolderId == folderId) {
+            return this;
+        }
+
+        switch (type) {
+            case EDIT_FIELD:
+                final EditInstanceFieldRequest edit = (EditInstanceFieldRequest) request;
+                return editField(EditInstanceFieldRequest.builder()
+                        .username(edit.getUsername())
+                        .folderId(newFolderId)
+                        .releaseId(edit.getReleaseId())
+                        .instanceId(edit.getInstanceId())
+                        .fieldId(edit.getFieldId())
+                        .value(edit.getValue())
+                        .build());
+            case CHANGE_RATING:
+                final ChangeReleaseRatingRequest rating = (ChangeReleaseRatingRequest) request;
+                return changeRating(ChangeReleaseRatingRequest.builder()
+                        .username(rating.getUsername())
+                        .folderId(newFolderId)
+                        .releaseId(rating.getReleaseId())
+                        .instanceId(rating.getInstanceId())
+                        .rating(rating.getRating())
+                        .build());
+            case MOVE:
+                final MoveReleaseRequest move = (MoveReleaseRequest) request;
+                return move(MoveReleaseRequest.builder()
+                        .username(move.getUsername())
+                        .folderId(newFolderId)
+                        .releaseId(move.getReleaseId())
+                        .instanceId(move.getInstanceId())
+                        .moveToFolderId(move.getMoveToFolderId())
+                        .build());
+            case DELETE:
+                final DeleteInstanceRequest delete = (DeleteInstanceRequest) request;
+                return delete(DeleteInstanceRequest.builder()
+                        .username(delete.getUsername())
+                        .folderId(newFolderId)
+                        .releaseId(delete.getReleaseId())
+                        .instanceId(delete.getInstanceId())
+                        .build());
+            default:
+                throw new IllegalStateException("Unsupported mutation type: " + type);
+        }
+    }
+
+    private static void validateIds(final long releaseId, final long instanceId) {
+        Validate.isTrue(releaseId > 0L, "releaseId must be > 0");
+        Validate.isTrue(instanceId > 0L, "instanceId must be > 0");
+    }
+
+    /** Describes the type of collection mutation. */
+    public enum Type {
+        /** Edits a custom field of an instance. */
+        EDIT_FIELD,
+        /** Changes the rating of an instance. */
+        CHANGE_RATING,
+        /** Moves an instance to another folder. */
+        MOVE,
+        /** Deletes an instance. */
+        DELETE
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.model.collection.ChangeReleaseRatingRequest;
+import com.amilesend.discogs.model.collection.DeleteInstanceRequest;
+import com.amilesend.discogs.model.collection.EditInstanceFieldRequest;
+import com.amilesend.discogs.model.collection.MoveReleaseRequest;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a large number of collection instance field edits, rating changes, moves, and deletes. The mutations are
+ * first normalized per instance:
+ * <ul>
+ *   <li>Repeated edits of the same field, repeated rating changes, and consecutive moves are collapsed so that only
+ *       the last value (or destination folder) is applied, and moves back to the original folder are dropped.</li>
+ *   <li>A delete discards all other mutations of the same instance.</li>
+ *   <li>Since an instance is addressed by its folder, all mutations reference the folder that the instance was in
+ *       for its first submitted mutation, and moves are applied after every other mutation. If a mutation of an
+ *       instance fails, the move of that instance is not attempted.</li>
+ * </ul>
+ * The mutations are then executed concurrently by a {@link BulkExecutor} within the rate limit and with retries for
+ * transient failures.
+ * <p>
+ * When a checkpoint file is configured, each successful mutation is recorded so that a job that stopped before
+ * finishing can be re-run with the same input and only apply the outstanding mutations. The checkpoint file is
+ * deleted once every mutation has succeeded.
+ * Example:
+ * <pre>
+ * final CollectionMutationEngine engine = CollectionMutationEngine.builder()
+ *         .userCollectionApi(discogs.getUserCollectionApi())
+ *         .checkpointFile(Path.of("reorganize.checkpoint"))
+ *         .build();
+ * final CollectionMutationReport report = engine.execute(mutations);
+ * </pre>
+ *
+ * @see CollectionMutation
+ * @see CollectionMutationReport
+ */
+@Slf4j
+@Getter
+public class CollectionMutationEngine {
+    /** The user collection API. */
+    private final UserCollectionApi userCollectionApi;
+    /** The executor used to apply the mutations. */
+    private final BulkExecutor bulkExecutor;
+    /** The checkpoint file, or {@code null} if progress is not recorded. */
+    private final Path checkpointFile;
+
+    /**
+     * Creates a new {@code CollectionMutationEngine}.
+     *
+     * @param userCollectionApi the user collection API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param checkpointFile the checkpoint file used to resume a stopped job (optional)
+     */
+    @Builder
+    private CollectionMutationEngine(
+            @NonNull final UserCollectionApi userCollectionApi,
+            final BulkExecutor bulkExecutor,
+            final Path checkpointFile) {
+        this.userCollectionApi = userCollectionApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Normalizes and applies the given mutations.
+     *
+     * @param mutations the collection mutations in the order they were produced
+     * @return the report with a result for each normalized mutation
+     * @throws IOException if an error occurred while reading or writing the checkpoint file
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public CollectionMutationReport execute(@NonNull final Iterable<CollectionMutation> mutations)
+            throws IOException, InterruptedException {
+        int submittedCount = 0;
+        final Map<Long, Long> originFolderIds = new HashMap<>();
+        final Set<Long> deletedInstanceIds = new HashSet<>();
+        final Map<String, CollectionMutation> collapsed = new LinkedHashMap<>();
+        for (final CollectionMutation mutation : mutations) {
+            Objects.requireNonNull(mutation, "mutations must not contain null values");
+            final long originFolderId =
+                    originFolderIds.computeIfAbsent(mutation.getInstanceId(), id -> mutation.getFolderId());
+            collapsed.put(mutation.getCollapseKey(), mutation.withFolderId(originFolderId));
+            if (mutation.getType() == CollectionMutation.Type.DELETE) {
+                deletedInstanceIds.add(mutation.getInstanceId());
+            }
+            ++submittedCount;
+        }
+
+        final List<CollectionMutation> edits = new ArrayList<>(collapsed.size());
+        final List<CollectionMutation> moves = new ArrayList<>();
+        final Map<CollectionMutation, String> checkpointIds = new IdentityHashMap<>();
+        collapsed.forEach((key, mutation) -> {
+            final boolean isDeleted = deletedInstanceIds.contains(mutation.getInstanceId());
+            if (mutation.isMove()) {
+                final Long moveToFolderId = ((MoveReleaseRequest) mutation.getRequest()).getMoveToFolderId();
+                if (isDeleted || moveToFolderId == mutation.getFolderId()) {
+                    return;
+                }
+                moves.add(mutation);
+            } else if (isDeleted && mutation.getType() != CollectionMutation.Type.DELETE) {
+                return;
+            } else {
+                edits.add(mutation);
+            }
+            checkpointIds.put(mutation, mutation.getCheckpointId(key));
+        });
+
+        final Checkpoint checkpoint = Objects.isNull(checkpointFile) ? null : Checkpoint.open(checkpointFile);
+        try {
+            final List<BulkItemResult<CollectionMutation, Long>> results = new ArrayList<>(checkpointIds.size());
+            results.addAll(bulkExecutor.execute(edits, this::apply, checkpoint, checkpointIds::get));
+
+            // A move changes the folder that the instance is addressed by, so it is only applied once every other
+            // mutation of the instance has succeeded
+            final Set<Long> failedInstanceIds = results.stream()
+                    .filter(r -> r.getStatus() == BulkItemResult.Status.FAILED)
+                    .map(r -> r.getItem().getInstanceId())
+                    .collect(Collectors.toSet());
+            final List<CollectionMutation> allowedMoves = new ArrayList<>(moves.size());
+            for (final CollectionMutation move : moves) {
+                if (failedInstanceIds.contains(move.getInstanceId())) {
+                    results.add(BulkItemResult.<CollectionMutation, Long>builder()
+                            .item(move)
+                            .status(BulkItemResult.Status.FAILED)
+                            .error(new IllegalStateException(
+                                    "Move not attempted since another mutation of the instance failed"))
+                            .build());
+                } else {
+                    allowedMoves.add(move);
+                }
+            }
+            results.addAll(bulkExecutor.execute(allowedMoves, this::apply, checkpoint, checkpointIds::get));
+
+            if (Objects.nonNull(checkpoint) && results.stream().allMatch(BulkItemResult::isSuccessful)) {
+                checkpoint.delete();
+            }
+
+            final CollectionMutationReport report = CollectionMutationReport.builder()
+                    .results(results)
+                    .collapsedCount(submittedCount - checkpointIds.size())
+                    .build();
+            log.debug("Applied collection mutations: succeeded={}, failed={}, skipped={}, collapsed={}",
+                    report.getSucceededCount(), report.getFailedCount(), report.getSkippedCount(),
+                    report.getCollapsedCount());
+            return report;
+        } finally {
+            if (Objects.nonNull(checkpoint)) {
+                checkpoint.close();
+            }
+        }
+    }
+
+    private Long apply(final CollectionMutation mutation) {
+        switch (mutation.getType()) {
+            case EDIT_FIELD:
+                userCollectionApi.editInstanceField((EditInstanceFieldRequest) mutation.getRequest());
+                break;
+            case CHANGE_RATING:
+                userCollectionApi.changeReleaseRating((ChangeReleaseRatingRequest) mutation.getRequest());
+                break;
+            case MOVE:
+                userCollectionApi.moveRelease((MoveReleaseRequest) mutation.getRequest());
+                break;
+            case DELETE:
+                userCollectionApi.deleteInstance((DeleteInstanceRequest) mutation.getRequest());
+                break;
+            default:
+                throw new IllegalStateException("Unsupported mutation type: " + mutation.getType());
+        }
+
+        return mutation.getInstanceId();
+    }
+}
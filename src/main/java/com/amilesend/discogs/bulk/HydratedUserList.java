@@ -0,0 +1,55 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.model.lists.GetUserListResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Describes a user list whose items are resolved to the database resources that they reference.
+ *
+ * @see UserListHydrator
+ */
+@Builder
+@Data
+public class HydratedUserList {
+    /**
+     * The user list as returned by the API.
+     *
+     * @see GetUserListResponse
+     */
+    private final GetUserListResponse list;
+    /**
+     * The hydrated items in list order.
+     *
+     * @see HydratedUserListItem
+     */
+    private final List<HydratedUserListItem> items;
+
+    /**
+     * Gets the number of items whose referenced resource could not be resolved.
+     *
+     * @return the unresolved count
+     */
+    public int getUnresolvedCount() {
+        return (int) items.stream().filter(i -> !i.isResolved()).count();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.model.database.GetArtistInformationResponse;
+import com.amilesend.discogs.model.database.GetLabelInformationResponse;
+import com.amilesend.discogs.model.database.GetMasterReleaseResponse;
+import com.amilesend.discogs.model.database.GetReleaseResponse;
+import com.amilesend.discogs.model.database.type.SearchType;
+import com.amilesend.discogs.model.lists.type.UserListItem;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Describes a user list item along with the database resource that it references.
+ *
+ * @see UserListHydrator
+ */
+@Builder
+@Data
+public class HydratedUserListItem {
+    /**
+     * The user list item.
+     *
+     * @see UserListItem
+     */
+    private final UserListItem item;
+    /**
+     * The referenced resource type, or {@code null} if the item type is not recognized.
+     *
+     * @see SearchType
+     */
+    private final SearchType type;
+    /** The referenced resource, or {@code null} if it could not be resolved. */
+    private final Object resource;
+
+    /**
+     * Determines if the referenced resource was resolved.
+     *
+     * @return {@code true} if resolved; else, {@code false}
+     */
+    public boolean isResolved() {
+        return Objects.nonNull(resource);
+    }
+
+    /**
+     * Gets the referenced release.
+     *
+     * @return the release, or {@code null} if the item does not reference a resolved release
+     */
+    public GetReleaseResponse getRelease() {
+        return getResource(SearchType.RELEASE, GetReleaseResponse.class);
+    }
+
+    /**
+     * Gets the referenced master release.
+     *
+     * @return the master release, or {@code null} if the item does not reference a resolved master release
+     */
+    public GetMasterReleaseResponse getMasterRelease() {
+        return getResource(SearchType.MASTER, GetMasterReleaseResponse.class);
+    }
+
+    /**
+     * Gets the referenced artist.
+     *
+     * @return the artist, or {@code null} if the item does not reference a resolved artist
+     */
+    public GetArtistInformationResponse getArtist() {
+        return getResource(SearchType.ARTIST, GetArtistInformationResponse.class);
+    }
+
+    /**
+     * Gets the referenced label.
+     *
+     * @return the label, or {@code null} if the item does not reference a resolved label
+     */
+    public GetLabelInformationResponse getLabel() {
+        return getResource(SearchType.LABEL, GetLabelInformationResponse.class);
+    }
+
+    private <T> T getResource(final SearchType expectedType, final Class<T> resourceType) {
+        return type == expectedType && resourceType.isInstance(resource) ? resourceType.cast(resource) : null;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Describes how the {@link ListingChangeRouter} intends to apply a set of listing mutations along with the cost
+ * estimates that the decision was based on.
+ */
+@Builder
+@Data
+public class ListingChangePlan {
+    /**
+     * The selected route.
+     *
+     * @see Route
+     */
+    private final Route route;
+    /** A human-readable explanation of why the route was selected. */
+    private final String reason;
+    /** The mutations to apply with individual API calls. */
+    private final List<ListingMutation> apiMutations;
+    /** The records to upload as new inventory. */
+    private final List<InventoryRecord> addRecords;
+    /** The records to upload as inventory changes. */
+    private final List<InventoryRecord> changeRecords;
+    /** The number of submitted mutations that were superseded by a later mutation of the same listing. */
+    private final int collapsedCount;
+    /** The estimated number of API requests for the selected route. */
+    private final int estimatedRequestCount;
+    /** The estimated time in milliseconds to apply every mutation with individual API calls. */
+    private final long estimatedApiMillis;
+    /**
+     * The estimated time in milliseconds to apply the mutations using CSV uploads for the eligible mutations, or
+     * {@code -1} if no mutation is eligible.
+     */
+    private final long estimatedUploadMillis;
+
+    /** Describes the route used to apply listing mutations. */
+    public enum Route {
+        /** Every mutation is applied with an individual API call. */
+        API,
+        /** Every mutation is applied with inventory CSV uploads. */
+        CSV_UPLOAD,
+        /** Eligible mutations are uploaded as CSV files and the remaining ones are applied with API calls. */
+        HYBRID
+    }
+}
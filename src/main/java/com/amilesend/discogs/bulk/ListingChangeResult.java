@@ -0,0 +1,45 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.model.inventory.AddInventoryResponse;
+import com.amilesend.discogs.model.inventory.ChangeInventoryResponse;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes the outcome of applying a {@link ListingChangePlan}. Note that uploaded CSV files are processed
+ * asynchronously by Discogs; use the upload location with the {@link com.amilesend.discogs.api.InventoryUploadApi}
+ * to track their progress.
+ */
+@Builder
+@Data
+public class ListingChangeResult {
+    /**
+     * The plan that was applied.
+     *
+     * @see ListingChangePlan
+     */
+    private final ListingChangePlan plan;
+    /** The report for the mutations applied with API calls, or {@code null} if there were none. */
+    private final ListingMutationReport mutationReport;
+    /** The response for the add inventory upload, or {@code null} if there was no upload. */
+    private final AddInventoryResponse addUpload;
+    /** The response for the change inventory upload, or {@code null} if there was no upload. */
+    private final ChangeInventoryResponse changeUpload;
+}
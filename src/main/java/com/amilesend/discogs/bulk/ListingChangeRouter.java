@@ -0,0 +1,291 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.api.InventoryUploadApi;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.csv.InventoryCsvWriter;
+import com.amilesend.discogs.csv.type.InventoryHeader;
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.csv.type.InventoryRecordType;
+import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.inventory.AddInventoryRequest;
+import com.amilesend.discogs.model.inventory.AddInventoryResponse;
+import com.amilesend.discogs.model.inventory.ChangeInventoryRequest;
+import com.amilesend.discogs.model.inventory.ChangeInventoryResponse;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.type.ListingStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the cheapest way to apply a set of listing mutations. Small change sets are applied fastest with
+ * individual {@link MarketplaceApi} calls, while large ones are far cheaper as a single
+ * {@link InventoryUploadApi} CSV upload that Discogs processes asynchronously. The router estimates the request
+ * count and rate-limited duration of each approach and selects per-item API calls, CSV uploads, or a hybrid where
+ * only the mutations that a CSV upload cannot express are applied with API calls.
+ * <p>
+ * A mutation can be uploaded when it creates or updates a listing and does not set a status other than
+ * {@link ListingStatus#FOR_SALE}; change upload rows identify the listing to update by its listing identifier.
+ * Deletes are always applied with API calls.
+ * Example:
+ * <pre>
+ * final ListingChangeRouter router = ListingChangeRouter.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .inventoryUploadApi(discogs.getInventoryUploadApi())
+ *         .build();
+ * final ListingChangeResult result = router.route(mutations, Path.of("uploads"));
+ * log.info("Applied changes via {}: {}", result.getPlan().getRoute(), result.getPlan().getReason());
+ * </pre>
+ *
+ * @see ListingChangePlan
+ * @see ListingChangeResult
+ */
+@Slf4j
+@Getter
+public class ListingChangeRouter {
+    /** The file name of the generated CSV with listings to add. */
+    public static final String ADD_CSV_FILE_NAME = "listing-add.csv";
+    /** The file name of the generated CSV with listings to change. */
+    public static final String CHANGE_CSV_FILE_NAME = "listing-change.csv";
+
+    private static final long DEFAULT_API_LATENCY_MILLIS = 500L;
+    private static final long DEFAULT_UPLOAD_PROCESSING_MILLIS = TimeUnit.MINUTES.toMillis(2L);
+    private static final long DEFAULT_UPLOAD_ROW_MILLIS = 10L;
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1L);
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The inventory upload API. */
+    private final InventoryUploadApi inventoryUploadApi;
+    /** The engine used to apply the mutations routed to API calls. */
+    private final ListingMutationEngine mutationEngine;
+    /** The estimated round-trip latency of a single API call. */
+    private final long apiLatencyMillis;
+    /** The estimated fixed delay for Discogs to start processing an uploaded CSV file. */
+    private final long uploadProcessingMillis;
+    /** The estimated time for Discogs to process a single uploaded CSV row. */
+    private final long uploadRowMillis;
+
+    /**
+     * Creates a new {@code ListingChangeRouter}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param inventoryUploadApi the inventory upload API
+     * @param mutationEngine the engine for API calls (optional; default is a {@link ListingMutationEngine} without
+     *                       a checkpoint)
+     * @param apiLatencyMillis the estimated API call latency (optional; default is 500)
+     * @param uploadProcessingMillis the estimated upload processing delay (optional; default is 2 minutes)
+     * @param uploadRowMillis the estimated processing time per uploaded row (optional; default is 10)
+     */
+    @Builder
+    private ListingChangeRouter(
+            @NonNull final MarketplaceApi marketplaceApi,
+            @NonNull final InventoryUploadApi inventoryUploadApi,
+            final ListingMutationEngine mutationEngine,
+            final Long apiLatencyMillis,
+            final Long uploadProcessingMillis,
+            final Long uploadRowMillis) {
+        this.marketplaceApi = marketplaceApi;
+        this.inventoryUploadApi = inventoryUploadApi;
+        this.mutationEngine = Optional.ofNullable(mutationEngine)
+                .orElseGet(() -> ListingMutationEngine.builder().marketplaceApi(marketplaceApi).build());
+        this.apiLatencyMillis = Optional.ofNullable(apiLatencyMillis).orElse(DEFAULT_API_LATENCY_MILLIS);
+        this.uploadProcessingMillis =
+                Optional.ofNullable(uploadProcessingMillis).orElse(DEFAULT_UPLOAD_PROCESSING_MILLIS);
+        this.uploadRowMillis = Optional.ofNullable(uploadRowMillis).orElse(DEFAULT_UPLOAD_ROW_MILLIS);
+        Validate.isTrue(this.apiLatencyMillis >= 0L, "apiLatencyMillis must not be negative");
+        Validate.isTrue(this.uploadProcessingMillis >= 0L, "uploadProcessingMillis must not be negative");
+        Validate.isTrue(this.uploadRowMillis >= 0L, "uploadRowMillis must not be negative");
+    }
+
+    /**
+     * Plans and applies the given mutations.
+     *
+     * @param mutations the listing mutations in the order they were produced
+     * @param workFolder the folder to write generated CSV files to
+     * @return the result
+     * @throws IOException if an error occurred while writing CSV files or the mutation checkpoint
+     * @throws ValidationException if a record to upload is invalid
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public ListingChangeResult route(@NonNull final Iterable<ListingMutation> mutations, @NonNull final Path workFolder)
+            throws IOException, ValidationException, InterruptedException {
+        return execute(plan(mutations), workFolder);
+    }
+
+    /**
+     * Collapses the given mutations and determines the cheapest route to apply them without applying them.
+     *
+     * @param mutations the listing mutations in the order they were produced
+     * @return the plan
+     */
+    public ListingChangePlan plan(@NonNull final Iterable<ListingMutation> mutations) {
+        final Map<String, ListingMutation> collapsed = new LinkedHashMap<>();
+        final int submittedCount = ListingMutation.collapse(mutations, collapsed);
+
+        final List<ListingMutation> ineligible = new ArrayList<>();
+        final List<InventoryRecord> addRecords = new ArrayList<>();
+        final List<InventoryRecord> changeRecords = new ArrayList<>();
+        for (final ListingMutation mutation : collapsed.values()) {
+            final InventoryRecord record = toUploadRecord(mutation);
+            if (Objects.isNull(record)) {
+                ineligible.add(mutation);
+            } else if (mutation.getType() == ListingMutation.Type.CREATE) {
+                addRecords.add(record);
+            } else {
+                changeRecords.add(record);
+            }
+        }
+
+        final int eligibleCount = addRecords.size() + changeRecords.size();
+        final int uploadCount = (addRecords.isEmpty() ? 0 : 1) + (changeRecords.isEmpty() ? 0 : 1);
+        final long apiMillis = estimateApiMillis(collapsed.size());
+        final long uploadMillis = eligibleCount == 0
+                ? -1L
+                : Math.max(
+                        estimateApiMillis(ineligible.size() + uploadCount),
+                        estimateApiMillis(uploadCount) + uploadProcessingMillis + eligibleCount * uploadRowMillis);
+
+        final ListingChangePlan.ListingChangePlanBuilder builder = ListingChangePlan.builder()
+                .collapsedCount(submittedCount - collapsed.size())
+                .estimatedApiMillis(apiMillis)
+                .estimatedUploadMillis(uploadMillis);
+        if (eligibleCount == 0 || uploadMillis >= apiMillis) {
+            builder.route(ListingChangePlan.Route.API)
+                    .reason(eligibleCount == 0
+                            ? "None of the " + collapsed.size() + " mutations can be expressed as CSV rows"
+                            : String.format("%d API calls estimated at %d ms versus %d ms with CSV uploads",
+                                    collapsed.size(), apiMillis, uploadMillis))
+                    .apiMutations(new ArrayList<>(collapsed.values()))
+                    .addRecords(List.of())
+                    .changeRecords(List.of())
+                    .estimatedRequestCount(collapsed.size());
+        } else {
+            builder.route(ineligible.isEmpty() ? ListingChangePlan.Route.CSV_UPLOAD : ListingChangePlan.Route.HYBRID)
+                    .reason(String.format(
+                            "%d CSV rows in %d upload(s) estimated at %d ms versus %d ms for %d API calls%s",
+                            eligibleCount, uploadCount, uploadMillis, apiMillis, collapsed.size(),
+                            ineligible.isEmpty()
+                                    ? ""
+                                    : "; " + ineligible.size() + " mutations require API calls"))
+                    .apiMutations(ineligible)
+                    .addRecords(addRecords)
+                    .changeRecords(changeRecords)
+                    .estimatedRequestCount(ineligible.size() + uploadCount);
+        }
+
+        final ListingChangePlan plan = builder.build();
+        log.debug("Listing change plan: route={}, reason={}", plan.getRoute(), plan.getReason());
+        return plan;
+    }
+
+    /**
+     * Applies the given plan.
+     *
+     * @param plan the plan
+     * @param workFolder the folder to write generated CSV files to
+     * @return the result
+     * @throws IOException if an error occurred while writing CSV files or the mutation checkpoint
+     * @throws ValidationException if a record to upload is invalid
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public ListingChangeResult execute(@NonNull final ListingChangePlan plan, @NonNull final Path workFolder)
+            throws IOException, ValidationException, InterruptedException {
+        final ListingChangeResult.ListingChangeResultBuilder builder = ListingChangeResult.builder().plan(plan);
+
+        // Upload first so that Discogs processes the files while the API calls are made
+        if (!plan.getAddRecords().isEmpty()) {
+            final Path csvFile = writeCsv(workFolder.resolve(ADD_CSV_FILE_NAME),
+                    plan.getAddRecords(), InventoryRecordType.NEW);
+            final AddInventoryResponse response = inventoryUploadApi.addInventory(AddInventoryRequest.builder()
+                    .inventoryCsvFile(csvFile)
+                    .build());
+            builder.addUpload(response);
+        }
+        if (!plan.getChangeRecords().isEmpty()) {
+            final Path csvFile = writeCsv(workFolder.resolve(CHANGE_CSV_FILE_NAME),
+                    plan.getChangeRecords(), InventoryRecordType.UPDATE);
+            final ChangeInventoryResponse response = inventoryUploadApi.changeInventory(
+                    ChangeInventoryRequest.builder()
+                            .inventoryCsvFile(csvFile)
+                            .build());
+            builder.changeUpload(response);
+        }
+        if (!plan.getApiMutations().isEmpty()) {
+            builder.mutationReport(mutationEngine.execute(plan.getApiMutations()));
+        }
+
+        return builder.build();
+    }
+
+    @VisibleForTesting
+    long estimateApiMillis(final int requestCount) {
+        final BulkExecutor bulkExecutor = mutationEngine.getBulkExecutor();
+        final long millisPerPermit = MILLIS_PER_MINUTE / bulkExecutor.getRateLimiter().getPermitsPerMinute();
+        final long millisPerRequest = Math.max(millisPerPermit, apiLatencyMillis / bulkExecutor.getConcurrency());
+        return requestCount * millisPerRequest;
+    }
+
+    private static InventoryRecord toUploadRecord(final ListingMutation mutation) {
+        if (mutation.getType() == ListingMutation.Type.DELETE) {
+            return null;
+        }
+
+        final CreateListingRequest request = mutation.getRequest();
+        if (Objects.nonNull(request.getStatus()) && request.getStatus() != ListingStatus.FOR_SALE) {
+            return null;
+        }
+        try {
+            return InventoryRecord.fromListingRequest(request);
+        } catch (final IllegalArgumentException | ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    private static Path writeCsv(
+            final Path csvFile,
+            final List<InventoryRecord> records,
+            final InventoryRecordType type) throws IOException, ValidationException {
+        final Set<InventoryHeader> headers = EnumSet.noneOf(InventoryHeader.class);
+        records.forEach(r -> headers.addAll(r.getDefinedHeaders()));
+
+        return InventoryCsvWriter.writeFile(InventoryCsvWriter.builder()
+                        .csvFile(csvFile)
+                        .headers(new ArrayList<>(headers))
+                        .recordType(type),
+                writer -> writer.writeAll(records));
+    }
+}
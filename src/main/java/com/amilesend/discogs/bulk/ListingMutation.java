@@ -0,0 +1,153 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a single listing change to apply with the {@link ListingMutationEngine}.
+ *
+ * @see #create(CreateListingRequest)
+ * @see #update(UpdateListingRequest)
+ * @see #delete(long)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ListingMutation {
+    /**
+     * The type of mutation.
+     *
+     * @see Type
+     */
+    private final Type type;
+    /** The listing identifier, or {@code 0} for a {@link Type#CREATE} mutation. */
+    private final long listingId;
+    /** The create or update request, or {@code null} for a {@link Type#DELETE} mutation. */
+    private final CreateListingRequest request;
+
+    /**
+     * Creates a mutation that creates a new listing. Create mutations with the same external identifier are
+     * collapsed; create mutations without an external identifier are never collapsed.
+     *
+     * @param request the create listing request
+     * @return the mutation
+     */
+    public static ListingMutation create(@NonNull final CreateListingRequest request) {
+        Validate.isTrue(!(request instanceof UpdateListingRequest), "request must not be an UpdateListingRequest");
+        return new ListingMutation(Type.CREATE, 0L, request);
+    }
+
+    /**
+     * Creates a mutation that updates an existing listing.
+     *
+     * @param request the update listing request
+     * @return the mutation
+     */
+    public static ListingMutation update(@NonNull final UpdateListingRequest request) {
+        Validate.isTrue(request.getListingId() > 0L, "listingId must be > 0");
+        return new ListingMutation(Type.UPDATE, request.getListingId(), request);
+    }
+
+    /**
+     * Creates a mutation that deletes an existing listing.
+     *
+     * @param listingId the listing identifier
+     * @return the mutation
+     */
+    public static ListingMutation delete(final long listingId) {
+        Validate.isTrue(listingId > 0L, "listingId must be > 0");
+        return new ListingMutation(Type.DELETE, listingId, null);
+    }
+
+    /**
+     * Collapses repeated mutations of the same listing so that only the last one is kept, at the position of the
+     * first one.
+     *
+     * @param mutations the listing mutations in the order they were produced
+     * @param collapsed the map to add the collapsed mutations to, keyed by collapse key
+     * @return the number of submitted mutations
+     * @see #getCollapseKey()
+     */
+    static int collapse(final Iterable<ListingMutation> mutations, final Map<String, ListingMutation> collapsed) {
+        int submittedCount = 0;
+        for (final ListingMutation mutation : mutations) {
+            Objects.requireNonNull(mutation, "mutations must not contain null values");
+            collapsed.put(Optional.ofNullable(mutation.getCollapseKey()).orElse("create#" + submittedCount), mutation);
+            ++submittedCount;
+        }
+
+        return submittedCount;
+    }
+
+    /**
+     * Gets the key used to collapse repeated mutations of the same listing.
+     *
+     * @return the key, or {@code null} if the mutation cannot be collapsed
+     */
+    String getCollapseKey() {
+        if (type != Type.CREATE) {
+            return "listing:" + listingId;
+        }
+
+        return StringUtils.isBlank(request.getExternalId()) ? null : "create:" + request.getExternalId();
+    }
+
+    /**
+     * Gets the checkpoint identifier of the mutation, which is stable across process restarts.
+     *
+     * @param key the collapse key of the mutation within its job
+     * @return the checkpoint identifier
+     * @see Checkpoint#toId(String, Object...)
+     */
+    String getCheckpointId(final String key) {
+        if (Objects.isNull(request)) {
+            return Checkpoint.toId(key, type, listingId);
+        }
+
+        return Checkpoint.toId(key, type, listingId, request.getReleaseId(), request.getCondition(),
+                request.getStatus(), request.getPrice(), request.getSleeveCondition(), request.getComments(),
+                request.getAllowOffers(), request.getExternalId(), request.getLocation(), request.getWeight(),
+                request.getFormatQuantity());
+    }
+
+    /** Describes the type of listing mutation. */
+    public enum Type {
+        /** Creates a new listing. */
+        CREATE,
+        /** Updates an existing listing. */
+        UPDATE,
+        /** Deletes an existing listing. */
+        DELETE
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.model.marketplace.CreateListingResponse;
+import com.amilesend.discogs.model.marketplace.DeleteListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Applies a large number of listing creates, updates, and deletes. Repeated mutations of the same listing are
+ * collapsed so that only the last one is applied, and the remaining mutations are executed concurrently by a
+ * {@link BulkExecutor} within the rate limit and with retries for transient failures. Since creating a listing is
+ * not idempotent, a create is only retried when it was throttled, which proves that it was not processed.
+ * <p>
+ * When a checkpoint file is configured, each successful mutation is recorded so that a job that stopped before
+ * finishing can be re-run with the same input and only apply the outstanding mutations. The checkpoint file is
+ * deleted once every mutation has succeeded.
+ * Example:
+ * <pre>
+ * final ListingMutationEngine engine = ListingMutationEngine.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .checkpointFile(Path.of("repricing.checkpoint"))
+ *         .build();
+ * final ListingMutationReport report = engine.execute(mutations);
+ * </pre>
+ *
+ * @see ListingMutation
+ * @see ListingMutationReport
+ */
+@Slf4j
+@Getter
+public class ListingMutationEngine {
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The executor used to apply the mutations. */
+    private final BulkExecutor bulkExecutor;
+    /** The checkpoint file, or {@code null} if progress is not recorded. */
+    private final Path checkpointFile;
+
+    /**
+     * Creates a new {@code ListingMutationEngine}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param checkpointFile the checkpoint file used to resume a stopped job (optional)
+     */
+    @Builder
+    private ListingMutationEngine(
+            @NonNull final MarketplaceApi marketplaceApi,
+            final BulkExecutor bulkExecutor,
+            final Path checkpointFile) {
+        this.marketplaceApi = marketplaceApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Collapses and applies the given mutations.
+     *
+     * @param mutations the listing mutations in the order they were produced
+     * @return the report with a result for each collapsed mutation
+     * @throws IOException if an error occurred while reading or writing the checkpoint file
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public ListingMutationReport execute(@NonNull final Iterable<ListingMutation> mutations)
+            throws IOException, InterruptedException {
+        final Map<String, ListingMutation> collapsed = new LinkedHashMap<>();
+        final int submittedCount = ListingMutation.collapse(mutations, collapsed);
+
+        final Map<ListingMutation, String> checkpointIds = new IdentityHashMap<>();
+        collapsed.forEach((key, mutation) -> checkpointIds.put(mutation, mutation.getCheckpointId(key)));
+        final List<ListingMutation> ordered = new ArrayList<>(collapsed.values());
+
+        final Checkpoint checkpoint = Objects.isNull(checkpointFile) ? null : Checkpoint.open(checkpointFile);
+        try {
+            final List<BulkItemResult<ListingMutation, Long>> results =
+                    bulkExecutor.execute(ordered, this::apply, checkpoint, checkpointIds::get, this::isRetryable);
+            if (Objects.nonNull(checkpoint) && results.stream().allMatch(BulkItemResult::isSuccessful)) {
+                checkpoint.delete();
+            }
+
+            final ListingMutationReport report = ListingMutationReport.builder()
+                    .results(results)
+                    .collapsedCount(submittedCount - ordered.size())
+                    .build();
+            log.debug("Applied listing mutations: succeeded={}, failed={}, skipped={}, collapsed={}",
+                    report.getSucceededCount(), report.getFailedCount(), report.getSkippedCount(),
+                    report.getCollapsedCount());
+            return report;
+        } finally {
+            if (Objects.nonNull(checkpoint)) {
+                checkpoint.close();
+            }
+        }
+    }
+
+    // A create that failed after it may have reached the server is not retried, since it could create a duplicate
+    private boolean isRetryable(final ListingMutation mutation, final Throwable error) {
+        return mutation.getType() == ListingMutation.Type.CREATE
+                ? BulkExecutor.isRejected(error)
+                : BulkExecutor.isRetryable(error);
+    }
+
+    private Long apply(final ListingMutation mutation) {
+        switch (mutation.getType()) {
+            case CREATE:
+                return Optional.ofNullable(marketplaceApi.createListing(mutation.getRequest()))
+                        .map(CreateListingResponse::getListingId)
+                        .orElse(null);
+            case UPDATE:
+                marketplaceApi.updateListing((UpdateListingRequest) mutation.getRequest());
+                return mutation.getListingId();
+            case DELETE:
+                marketplaceApi.deleteListing(DeleteListingRequest.builder()
+                        .listingId(mutation.getListingId())
+                        .build());
+                return mutation.getListingId();
+            default:
+                throw new IllegalStateException("Unsupported mutation type: " + mutation.getType());
+        }
+    }
+}
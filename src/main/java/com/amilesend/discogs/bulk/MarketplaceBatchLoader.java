@@ -0,0 +1,177 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.cache.TtlCache;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.marketplace.GetPriceSuggestionsRequest;
+import com.amilesend.discogs.model.marketplace.GetPriceSuggestionsResponse;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsRequest;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Loads price suggestions and release statistics for many releases at once. Release identifiers are deduplicated,
+ * previously loaded values are served from short-lived caches, and the remaining releases are requested
+ * concurrently with a {@link BulkExecutor} within the rate limit. Price suggestions are retained as returned by
+ * {@link MarketplaceApi#getPriceSuggestions}, which stores them in an {@link java.util.EnumMap} keyed by condition.
+ * <p>
+ * Releases whose request failed (e.g., a release without statistics) are omitted from the results and are not
+ * cached.
+ * Example:
+ * <pre>
+ * final MarketplaceBatchLoader loader = MarketplaceBatchLoader.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .build();
+ * final Map&lt;Long, GetPriceSuggestionsResponse&gt; suggestions = loader.getPriceSuggestions(releaseIds);
+ * </pre>
+ */
+@Slf4j
+@Getter
+public class MarketplaceBatchLoader {
+    private static final Duration DEFAULT_PRICE_SUGGESTIONS_TTL = Duration.ofMinutes(10L);
+    private static final Duration DEFAULT_RELEASE_STATISTICS_TTL = Duration.ofMinutes(1L);
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The executor used to issue the requests. */
+    private final BulkExecutor bulkExecutor;
+    /** The cached price suggestions by release identifier. */
+    private final TtlCache<Long, GetPriceSuggestionsResponse> priceSuggestionsCache;
+    /** The cached release statistics by release identifier and currency. */
+    private final TtlCache<String, GetReleaseStatisticsResponse> releaseStatisticsCache;
+
+    /**
+     * Creates a new {@code MarketplaceBatchLoader}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param priceSuggestionsTtl the price suggestions cache duration (optional; default is 10 minutes)
+     * @param releaseStatisticsTtl the release statistics cache duration (optional; default is 1 minute)
+     * @param maxCacheSize the maximum number of cached values per type (optional; default is 10000)
+     */
+    @Builder
+    private MarketplaceBatchLoader(
+            @NonNull final MarketplaceApi marketplaceApi,
+            final BulkExecutor bulkExecutor,
+            final Duration priceSuggestionsTtl,
+            final Duration releaseStatisticsTtl,
+            final Integer maxCacheSize) {
+        this.marketplaceApi = marketplaceApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.priceSuggestionsCache = TtlCache.<Long, GetPriceSuggestionsResponse>builder()
+                .ttl(Optional.ofNullable(priceSuggestionsTtl).orElse(DEFAULT_PRICE_SUGGESTIONS_TTL))
+                .maxSize(maxCacheSize)
+                .build();
+        this.releaseStatisticsCache = TtlCache.<String, GetReleaseStatisticsResponse>builder()
+                .ttl(Optional.ofNullable(releaseStatisticsTtl).orElse(DEFAULT_RELEASE_STATISTICS_TTL))
+                .maxSize(maxCacheSize)
+                .build();
+    }
+
+    /**
+     * Gets the price suggestions for the given releases. Note: authentication is required.
+     *
+     * @param releaseIds the release identifiers
+     * @return the price suggestions by release identifier in the order of first occurrence
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see MarketplaceApi#getPriceSuggestions(GetPriceSuggestionsRequest)
+     */
+    public Map<Long, GetPriceSuggestionsResponse> getPriceSuggestions(@NonNull final Collection<Long> releaseIds)
+            throws InterruptedException {
+        return load(releaseIds, priceSuggestionsCache, Function.identity(),
+                id -> marketplaceApi.getPriceSuggestions(GetPriceSuggestionsRequest.builder()
+                        .releaseId(id)
+                        .build()));
+    }
+
+    /**
+     * Gets the marketplace statistics for the given releases.
+     *
+     * @param releaseIds the release identifiers
+     * @param currency the currency (optional)
+     * @return the statistics by release identifier in the order of first occurrence
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see MarketplaceApi#getReleaseStatistics(GetReleaseStatisticsRequest)
+     */
+    public Map<Long, GetReleaseStatisticsResponse> getReleaseStatistics(
+            @NonNull final Collection<Long> releaseIds,
+            final Currency currency) throws InterruptedException {
+        return load(releaseIds, releaseStatisticsCache, id -> id + ":" + currency,
+                id -> marketplaceApi.getReleaseStatistics(GetReleaseStatisticsRequest.builder()
+                        .releaseId(id)
+                        .currency(currency)
+                        .build()));
+    }
+
+    private <K, V> Map<Long, V> load(
+            final Collection<Long> releaseIds,
+            final TtlCache<K, V> cache,
+            final Function<Long, K> toCacheKey,
+            final Function<Long, V> request) throws InterruptedException {
+        final Set<Long> uniqueIds = new LinkedHashSet<>(releaseIds);
+        final Map<Long, V> results = new LinkedHashMap<>(uniqueIds.size() * 4 / 3 + 1);
+        final List<Long> misses = new ArrayList<>();
+        for (final Long releaseId : uniqueIds) {
+            Validate.isTrue(Objects.nonNull(releaseId) && releaseId > 0L, "releaseIds must be > 0");
+            final V cached = cache.get(toCacheKey.apply(releaseId));
+            // Insert a placeholder to preserve the order of first occurrence
+            results.put(releaseId, cached);
+            if (Objects.isNull(cached)) {
+                misses.add(releaseId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return results;
+        }
+
+        for (final BulkItemResult<Long, V> result : bulkExecutor.execute(misses, request, null)) {
+            final Long releaseId = result.getItem();
+            if (result.getStatus() == BulkItemResult.Status.SUCCEEDED && Objects.nonNull(result.getResult())) {
+                cache.put(toCacheKey.apply(releaseId), result.getResult());
+                results.put(releaseId, result.getResult());
+            } else {
+                log.debug("Unable to load release {}: {}", releaseId, result.getErrorMessage());
+                results.remove(releaseId);
+            }
+        }
+
+        log.debug("Loaded {} releases ({} cached, {} requested)",
+                results.size(), uniqueIds.size() - misses.size(), misses.size());
+        return results;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.api.UserListsApi;
+import com.amilesend.discogs.cache.TtlCache;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.database.GetArtistInformationRequest;
+import com.amilesend.discogs.model.database.GetLabelInformationRequest;
+import com.amilesend.discogs.model.database.GetMasterReleaseRequest;
+import com.amilesend.discogs.model.database.GetReleaseRequest;
+import com.amilesend.discogs.model.database.type.SearchType;
+import com.amilesend.discogs.model.lists.GetUserListRequest;
+import com.amilesend.discogs.model.lists.GetUserListResponse;
+import com.amilesend.discogs.model.lists.type.UserListItem;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Fetches a user list and resolves each of its items to the release, master release, artist, or label that it
+ * references. Items that reference the same resource are resolved once, previously resolved resources are served
+ * from a short-lived cache, and the remaining resources are requested concurrently with a {@link BulkExecutor}
+ * within the rate limit.
+ * <p>
+ * An optional listener is notified with each item as soon as it is resolved so that rendering can start before
+ * the whole list is hydrated. Resources whose request failed are reported as unresolved and are not cached.
+ * Example:
+ * <pre>
+ * final UserListHydrator hydrator = UserListHydrator.builder()
+ *         .userListsApi(discogs.getUserListsApi())
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .build();
+ * final HydratedUserList list = hydrator.getUserList(listId, item -&gt; render(item));
+ * </pre>
+ *
+ * @see HydratedUserList
+ */
+@Slf4j
+@Getter
+public class UserListHydrator {
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(10L);
+
+    /** The user lists API. */
+    private final UserListsApi userListsApi;
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The executor used to resolve the referenced resources. */
+    private final BulkExecutor bulkExecutor;
+    @Getter(AccessLevel.NONE)
+    private final TtlCache<ResourceKey, Object> resourceCache;
+
+    /**
+     * Creates a new {@code UserListHydrator}.
+     *
+     * @param userListsApi the user lists API
+     * @param databaseApi the database API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param cacheTtl the resolved resource cache duration (optional; default is 10 minutes)
+     * @param maxCacheSize the maximum number of cached resources (optional; default is 10000)
+     */
+    @Builder
+    private UserListHydrator(
+            @NonNull final UserListsApi userListsApi,
+            @NonNull final DatabaseApi databaseApi,
+            final BulkExecutor bulkExecutor,
+            final Duration cacheTtl,
+            final Integer maxCacheSize) {
+        this.userListsApi = userListsApi;
+        this.databaseApi = databaseApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.resourceCache = TtlCache.<ResourceKey, Object>builder()
+                .ttl(Optional.ofNullable(cacheTtl).orElse(DEFAULT_CACHE_TTL))
+                .maxSize(maxCacheSize)
+                .build();
+    }
+
+    /**
+     * Fetches the user list and resolves all of its items.
+     *
+     * @param listId the list identifier
+     * @return the hydrated list, or {@code null} if the list was not returned
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see UserListsApi#getUserList(GetUserListRequest)
+     */
+    public HydratedUserList getUserList(final long listId) throws InterruptedException {
+        return getUserList(listId, null);
+    }
+
+    /**
+     * Fetches the user list and resolves all of its items, notifying the listener with each item as soon as it is
+     * resolved. Cached and unrecognized items are delivered first, followed by the remaining items in completion
+     * order.
+     *
+     * @param listId the list identifier
+     * @param listener notified with each hydrated item; invocations are serialized (optional)
+     * @return the hydrated list with items in list order, or {@code null} if the list was not returned
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see UserListsApi#getUserList(GetUserListRequest)
+     */
+    public HydratedUserList getUserList(final long listId, final Consumer<HydratedUserListItem> listener)
+            throws InterruptedException {
+        Validate.isTrue(listId > 0L, "listId must be > 0");
+        final Consumer<HydratedUserListItem> notifier = Optional.ofNullable(listener).orElse(i -> {});
+
+        bulkExecutor.getRateLimiter().acquire();
+        final GetUserListResponse list = userListsApi.getUserList(GetUserListRequest.builder()
+                .listId(listId)
+                .build());
+        if (Objects.isNull(list)) {
+            return null;
+        }
+
+        final List<UserListItem> items = Optional.ofNullable(list.getItems()).orElse(List.of());
+        final HydratedUserListItem[] hydrated = new HydratedUserListItem[items.size()];
+        // Item positions by referenced resource so that each resource is only requested once
+        final Map<ResourceKey, List<Integer>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); ++i) {
+            final UserListItem item = items.get(i);
+            final SearchType type = Objects.isNull(item) ? null : SearchType.fromValue(item.getType());
+            if (Objects.isNull(type) || Objects.isNull(item.getId())) {
+                hydrated[i] = newItem(item, null, null);
+                notifier.accept(hydrated[i]);
+                continue;
+            }
+
+            final ResourceKey key = new ResourceKey(type, item.getId());
+            final Object cached = resourceCache.get(key);
+            if (Objects.nonNull(cached)) {
+                hydrated[i] = newItem(item, type, cached);
+                notifier.accept(hydrated[i]);
+            } else {
+                pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        bulkExecutor.execute(new ArrayList<>(pending.keySet()), this::resolve, result -> {
+            final ResourceKey key = result.getItem();
+            final Object resource = result.getStatus() == BulkItemResult.Status.SUCCEEDED ? result.getResult() : null;
+            if (Objects.nonNull(resource)) {
+                resourceCache.put(key, resource);
+            } else {
+                log.debug("Unable to resolve {} {}: {}", key.type, key.id, result.getErrorMessage());
+            }
+
+            for (final int index : pending.get(key)) {
+                hydrated[index] = newItem(items.get(index), key.type, resource);
+                notifier.accept(hydrated[index]);
+            }
+        });
+
+        log.debug("Hydrated list {} with {} items ({} resources requested)", listId, items.size(), pending.size());
+        return HydratedUserList.builder()
+                .list(list)
+                .items(Arrays.asList(hydrated))
+                .build();
+    }
+
+    private Object resolve(final ResourceKey key) {
+        switch (key.type) {
+            case RELEASE:
+                return databaseApi.getRelease(GetReleaseRequest.builder().releaseId(key.id).build());
+            case MASTER:
+                return databaseApi.getMasterRelease(GetMasterReleaseRequest.builder().masterId(key.id).build());
+            case ARTIST:
+                return databaseApi.getArtistInformation(GetArtistInformationRequest.builder()
+                        .artistId(key.id)
+                        .build());
+            case LABEL:
+                return databaseApi.getLabelInformation(GetLabelInformationRequest.builder()
+                        .labelId(key.id)
+                        .build());
+            default:
+                throw new IllegalStateException("Unsupported resource type: " + key.type);
+        }
+    }
+
+    private static HydratedUserListItem newItem(
+            final UserListItem item,
+            final SearchType type,
+            final Object resource) {
+        return HydratedUserListItem.builder()
+                .item(item)
+                .type(type)
+                .resource(resource)
+                .build();
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static class ResourceKey {
+        private final SearchType type;
+        private final long id;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.concurrent.Checkpoint;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Describes a single wantlist change computed by the {@link WantListImporter}.
+ *
+ * @see WantListImporter
+ */
+@Builder
+@Data
+public class WantListChange {
+    /**
+     * The type of change.
+     *
+     * @see Type
+     */
+    private final Type type;
+    /** The release identifier. */
+    private final long releaseId;
+    /** The desired entry, or {@code null} for a {@link Type#DELETE} change. */
+    private final WantListEntry entry;
+
+    /**
+     * Gets the checkpoint identifier of the change, which is stable across process restarts.
+     *
+     * @return the checkpoint identifier
+     * @see Checkpoint#toId(String, Object...)
+     */
+    String getCheckpointId() {
+        final String key = type.name() + ":" + releaseId;
+        return Objects.isNull(entry)
+                ? Checkpoint.toId(key, type, releaseId)
+                : Checkpoint.toId(key, type, releaseId, entry.getNotes(), entry.getRating());
+    }
+
+    /** Describes the type of wantlist change. */
+    public enum Type {
+        /** Adds a release to the wantlist. */
+        ADD,
+        /** Updates the notes or rating of a release on the wantlist. */
+        UPDATE,
+        /** Removes a release from the wantlist. */
+        DELETE
+    }
+}
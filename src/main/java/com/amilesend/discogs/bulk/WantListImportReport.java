@@ -0,0 +1,83 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Describes the outcome of a {@link WantListImporter#execute} invocation.
+ */
+@Builder
+@Data
+public class WantListImportReport {
+    /**
+     * The per-change results. The result value is the affected release identifier.
+     *
+     * @see BulkItemResult
+     */
+    private final List<BulkItemResult<WantListChange, Long>> results;
+    /** The number of desired entries that already matched the current wantlist. */
+    private final int unchangedCount;
+
+    /**
+     * Gets the number of changes that succeeded in this run.
+     *
+     * @return the succeeded count
+     */
+    public int getSucceededCount() {
+        return countOf(BulkItemResult.Status.SUCCEEDED);
+    }
+
+    /**
+     * Gets the number of changes that failed.
+     *
+     * @return the failed count
+     */
+    public int getFailedCount() {
+        return countOf(BulkItemResult.Status.FAILED);
+    }
+
+    /**
+     * Gets the number of changes skipped since they completed in a previous run.
+     *
+     * @return the skipped count
+     */
+    public int getSkippedCount() {
+        return countOf(BulkItemResult.Status.SKIPPED);
+    }
+
+    /**
+     * Gets the results of the changes that failed.
+     *
+     * @return the failed results
+     */
+    public List<BulkItemResult<WantListChange, Long>> getFailures() {
+        return results.stream()
+                .filter(r -> r.getStatus() == BulkItemResult.Status.FAILED)
+                .collect(Collectors.toList());
+    }
+
+    private int countOf(final BulkItemResult.Status status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.UserWantListApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.wantlist.AddReleaseToWantListRequest;
+import com.amilesend.discogs.model.wantlist.DeleteReleaseFormWantListRequest;
+import com.amilesend.discogs.model.wantlist.GetWantListRequest;
+import com.amilesend.discogs.model.wantlist.GetWantListResponse;
+import com.amilesend.discogs.model.wantlist.UpdateReleaseOnWantListRequest;
+import com.amilesend.discogs.model.wantlist.type.WantListRelease;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Brings a user's wantlist in line with a desired list of entries. The current wantlist is read once, diffed
+ * against the desired entries, and only the required adds, updates, and (optionally) deletes are executed
+ * concurrently by a {@link BulkExecutor} within the rate limit and with retries for transient failures.
+ * <p>
+ * When a checkpoint file is configured, each successful change is recorded so that a job that stopped before
+ * finishing can be re-run with the same input and only apply the outstanding changes. The checkpoint file is
+ * deleted once every change has succeeded.
+ * Example:
+ * <pre>
+ * final WantListImporter importer = WantListImporter.builder()
+ *         .userWantListApi(discogs.getUserWantListApi())
+ *         .checkpointFile(Path.of("wantlist.checkpoint"))
+ *         .build();
+ * final WantListImportReport report = importer.execute("username", entries, false);
+ * </pre>
+ *
+ * @see WantListEntry
+ * @see WantListImportReport
+ */
+@Slf4j
+@Getter
+public class WantListImporter {
+    /** The maximum number of wantlist items returned per page. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** The user wantlist API. */
+    private final UserWantListApi userWantListApi;
+    /** The executor used to apply the changes. */
+    private final BulkExecutor bulkExecutor;
+    /** The checkpoint file, or {@code null} if progress is not recorded. */
+    private final Path checkpointFile;
+    /** The number of wantlist items to request per page. */
+    private final int pageSize;
+
+    /**
+     * Creates a new {@code WantListImporter}.
+     *
+     * @param userWantListApi the user wantlist API
+     * @param bulkExecutor the executor whose rate limiter is also used to read the current wantlist (optional;
+     *                     default is {@link BulkExecutor} with default settings)
+     * @param checkpointFile the checkpoint file used to resume a stopped job (optional)
+     * @param pageSize the number of wantlist items to request per page (optional; default is
+     *                 {@link #MAX_PAGE_SIZE})
+     */
+    @Builder
+    private WantListImporter(
+            @NonNull final UserWantListApi userWantListApi,
+            final BulkExecutor bulkExecutor,
+            final Path checkpointFile,
+            final Integer pageSize) {
+        this.userWantListApi = userWantListApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.checkpointFile = checkpointFile;
+        this.pageSize = Optional.ofNullable(pageSize).orElse(MAX_PAGE_SIZE);
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be > 0 and <= " + MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Computes and applies the changes required for the user's wantlist to match the given entries.
+     *
+     * @param username the username
+     * @param entries the desired wantlist entries
+     * @param removeMissing {@code true} to remove wantlist items that are not in {@code entries}; else,
+     *                      {@code false} to leave them unchanged
+     * @return the report with a result for each change
+     * @throws IllegalArgumentException if {@code entries} contains more than one entry for a release
+     * @throws IOException if an error occurred while reading or writing the checkpoint file
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public WantListImportReport execute(
+            @NonNull final String username,
+            @NonNull final Iterable<WantListEntry> entries,
+            final boolean removeMissing) throws IOException, InterruptedException {
+        Validate.notBlank(username, "username must not be blank");
+        final Map<Long, WantListEntry> desired = new LinkedHashMap<>();
+        for (final WantListEntry entry : entries) {
+            Objects.requireNonNull(entry, "entries must not contain null values");
+            Validate.isTrue(entry.getReleaseId() > 0L, "releaseId must be > 0");
+            Validate.isTrue(Objects.isNull(desired.put(entry.getReleaseId(), entry)),
+                    "entries must not contain duplicate release ids: " + entry.getReleaseId());
+        }
+
+        final Map<Long, WantListEntry> current = readWantList(username);
+        final List<WantListChange> changes = new ArrayList<>();
+        int unchangedCount = 0;
+        for (final WantListEntry entry : desired.values()) {
+            final WantListEntry existing = current.get(entry.getReleaseId());
+            if (Objects.isNull(existing)) {
+                changes.add(newChange(WantListChange.Type.ADD, entry.getReleaseId(), entry));
+            } else if (isChanged(existing, entry)) {
+                changes.add(newChange(WantListChange.Type.UPDATE, entry.getReleaseId(), entry));
+            } else {
+                ++unchangedCount;
+            }
+        }
+        if (removeMissing) {
+            current.keySet().stream()
+                    .filter(releaseId -> !desired.containsKey(releaseId))
+                    .forEach(releaseId -> changes.add(newChange(WantListChange.Type.DELETE, releaseId, null)));
+        }
+
+        final Checkpoint checkpoint = Objects.isNull(checkpointFile) ? null : Checkpoint.open(checkpointFile);
+        try {
+            final List<BulkItemResult<WantListChange, Long>> results = bulkExecutor.execute(
+                    changes,
+                    change -> apply(username, change),
+                    checkpoint,
+                    WantListChange::getCheckpointId);
+            if (Objects.nonNull(checkpoint) && results.stream().allMatch(BulkItemResult::isSuccessful)) {
+                checkpoint.delete();
+            }
+
+            final WantListImportReport report = WantListImportReport.builder()
+                    .results(results)
+                    .unchangedCount(unchangedCount)
+                    .build();
+            log.debug("Applied wantlist changes for {}: succeeded={}, failed={}, skipped={}, unchanged={}",
+                    username, report.getSucceededCount(), report.getFailedCount(), report.getSkippedCount(),
+                    report.getUnchangedCount());
+            return report;
+        } finally {
+            if (Objects.nonNull(checkpoint)) {
+                checkpoint.close();
+            }
+        }
+    }
+
+    // Undefined desired values are left unchanged and are therefore not compared
+    private static boolean isChanged(final WantListEntry current, final WantListEntry desired) {
+        return (Objects.nonNull(desired.getNotes()) && !desired.getNotes().equals(current.getNotes()))
+                || (Objects.nonNull(desired.getRating()) && !desired.getRating().equals(current.getRating()));
+    }
+
+    private static WantListChange newChange(
+            final WantListChange.Type type,
+            final long releaseId,
+            final WantListEntry entry) {
+        return WantListChange.builder()
+                .type(type)
+                .releaseId(releaseId)
+                .entry(entry)
+                .build();
+    }
+
+    private Map<Long, WantListEntry> readWantList(final String username) throws InterruptedException {
+        final RateLimiter rateLimiter = bulkExecutor.getRateLimiter();
+        final Map<Long, WantListEntry> current = new HashMap<>();
+        rateLimiter.acquire();
+        GetWantListResponse page = userWantListApi.getWantList(GetWantListRequest.builder()
+                .username(username)
+                .perPage(pageSize)
+                .build());
+        while (Objects.nonNull(page)) {
+            for (final WantListRelease want : Optional.ofNullable(page.getWants()).orElse(List.of())) {
+                if (Objects.nonNull(want) && Objects.nonNull(want.getId())) {
+                    current.put(want.getId(), WantListEntry.builder()
+                            .releaseId(want.getId())
+                            .notes(want.getNotes())
+                            .rating(want.getRating())
+                            .build());
+                }
+            }
+
+            if (Objects.isNull(page.getPagination()) || !page.hasNext()) {
+                break;
+            }
+            rateLimiter.acquire();
+            page = page.getNext();
+        }
+
+        return current;
+    }
+
+    private Long apply(final String username, final WantListChange change) {
+        final WantListEntry entry = change.getEntry();
+        switch (change.getType()) {
+            case ADD:
+                userWantListApi.addReleaseToWantList(AddReleaseToWantListRequest.builder()
+                        .username(username)
+                        .releaseId(change.getReleaseId())
+                        .notes(entry.getNotes())
+                        .rating(entry.getRating())
+                        .build());
+                break;
+            case UPDATE:
+                userWantListApi.updateReleaseOnWantList(UpdateReleaseOnWantListRequest.builder()
+                        .username(username)
+                        .releaseId(change.getReleaseId())
+                        .notes(entry.getNotes())
+                        .rating(entry.getRating())
+                        .build());
+                break;
+            case DELETE:
+                userWantListApi.deleteReleaseFromWantList(DeleteReleaseFormWantListRequest.builder()
+                        .username(username)
+                        .releaseId(change.getReleaseId())
+                        .build());
+                break;
+            default:
+                throw new IllegalStateException("Unsupported change type: " + change.getType());
+        }
+
+        return change.getReleaseId();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.wantlist.type.WantListRelease;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes a want that is available in the marketplace.
+ *
+ * @see WantListMatcher
+ */
+@Builder
+@Data
+public class WantListMatch {
+    /** The username of the wantlist owner. */
+    private final String username;
+    /**
+     * The wanted release.
+     *
+     * @see WantListRelease
+     */
+    private final WantListRelease want;
+    /**
+     * The marketplace statistics of the release.
+     *
+     * @see GetReleaseStatisticsResponse
+     */
+    private final GetReleaseStatisticsResponse statistics;
+}
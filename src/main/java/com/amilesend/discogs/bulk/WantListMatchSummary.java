@@ -0,0 +1,43 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Describes the outcome of a {@link WantListMatcher#match} invocation.
+ */
+@Builder
+@Data
+public class WantListMatchSummary {
+    /** The number of wantlists that were read. */
+    private final int userCount;
+    /** The number of wants that were read across all wantlists. */
+    private final int wantCount;
+    /** The number of unique releases across all wantlists. */
+    private final int releaseCount;
+    /** The number of matches emitted. */
+    private final int matchCount;
+    /** The number of unique releases whose marketplace statistics could not be loaded, and were not matched. */
+    private final int failedReleaseCount;
+    /** The usernames whose wantlist could not be read (e.g., a private wantlist). */
+    private final List<String> failedUsernames;
+}
@@ -0,0 +1,290 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.api.UserWantListApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.type.Currency;
+import com.amilesend.discogs.model.wantlist.GetWantListRequest;
+import com.amilesend.discogs.model.wantlist.GetWantListResponse;
+import com.amilesend.discogs.model.wantlist.type.WantListRelease;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Matches the wantlists of many users against marketplace availability. Wants are streamed page by page, and the
+ * release identifiers are deduplicated across all users so that the statistics of each release are only loaded once
+ * per run, regardless of how many users want it. Releases are resolved in batches with a
+ * {@link MarketplaceBatchLoader}, which requests the statistics concurrently, and matches are emitted as each batch
+ * completes. Since the wantlist requests share the loader's {@link RateLimiter}, the run stays within a single rate
+ * budget.
+ * <p>
+ * A want matches when the release is for sale, not blocked from sale, and (if configured) the lowest price is at or
+ * below the maximum price. A wantlist that cannot be read (e.g., a private wantlist) is skipped and reported in the
+ * summary. Each user's wants are buffered until the wantlist has been read in full, so a wantlist that fails partway
+ * contributes no wants or matches. Releases whose statistics cannot be loaded are not matched; they are loaded
+ * again if a later wantlist also wants them, and otherwise reported in the summary.
+ * Example:
+ * <pre>
+ * final WantListMatcher matcher = WantListMatcher.builder()
+ *         .userWantListApi(discogs.getUserWantListApi())
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .currency(Currency.USD)
+ *         .maxPrice(25.0D)
+ *         .build();
+ * matcher.match(usernames, match -&gt; notify(match.getUsername(), match.getWant()));
+ * </pre>
+ *
+ * @see WantListMatch
+ * @see WantListMatchSummary
+ */
+@Slf4j
+@Getter
+public class WantListMatcher {
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** The user wantlist API. */
+    private final UserWantListApi userWantListApi;
+    /** The loader used to resolve the release statistics. */
+    private final MarketplaceBatchLoader batchLoader;
+    /** The rate limiter shared with the loader. */
+    private final RateLimiter rateLimiter;
+    /** The currency for the lowest price, or {@code null} for the default currency. */
+    private final Currency currency;
+    /** The maximum lowest price for a match, or {@code null} to match any available release. */
+    private final Double maxPrice;
+    /** The number of unique unresolved releases that triggers a batch load. */
+    private final int batchSize;
+    /** The number of wants to request per page. */
+    private final int pageSize;
+
+    /**
+     * Creates a new {@code WantListMatcher}.
+     *
+     * @param userWantListApi the user wantlist API
+     * @param marketplaceApi the marketplace API (required if {@code batchLoader} is not defined)
+     * @param batchLoader the loader used to resolve release statistics (optional; default is a
+     *                    {@link MarketplaceBatchLoader} with default settings)
+     * @param currency the currency for the lowest price (optional)
+     * @param maxPrice the maximum lowest price for a match (optional)
+     * @param batchSize the number of unique releases to resolve per batch (optional; default is 50)
+     * @param pageSize the number of wants per page (optional; default is 100)
+     */
+    @Builder
+    private WantListMatcher(
+            @NonNull final UserWantListApi userWantListApi,
+            final MarketplaceApi marketplaceApi,
+            final MarketplaceBatchLoader batchLoader,
+            final Currency currency,
+            final Double maxPrice,
+            final Integer batchSize,
+            final Integer pageSize) {
+        Validate.isTrue(Objects.nonNull(marketplaceApi) || Objects.nonNull(batchLoader),
+                "marketplaceApi or batchLoader must be defined");
+        Validate.isTrue(Objects.isNull(maxPrice) || maxPrice >= 0.0D, "maxPrice must be >= 0");
+        this.batchSize = Optional.ofNullable(batchSize).orElse(DEFAULT_BATCH_SIZE);
+        this.pageSize = Optional.ofNullable(pageSize).orElse(DEFAULT_PAGE_SIZE);
+        Validate.isTrue(this.batchSize > 0, "batchSize must be positive");
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be between 1 and " + MAX_PAGE_SIZE);
+
+        this.userWantListApi = userWantListApi;
+        this.batchLoader = Optional.ofNullable(batchLoader)
+                .orElseGet(() -> MarketplaceBatchLoader.builder().marketplaceApi(marketplaceApi).build());
+        this.rateLimiter = this.batchLoader.getBulkExecutor().getRateLimiter();
+        this.currency = currency;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * Reads the wantlists of the given users and emits each want that is available in the marketplace.
+     *
+     * @param usernames the usernames of the wantlist owners
+     * @param listener the listener to notify with each match
+     * @return the summary
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public WantListMatchSummary match(
+            @NonNull final Collection<String> usernames,
+            @NonNull final WantListMatchListener listener) throws InterruptedException {
+        final Set<String> uniqueUsernames = new LinkedHashSet<>(usernames);
+        uniqueUsernames.forEach(u -> Validate.notBlank(u, "usernames must not contain blank values"));
+
+        final MatchRun run = new MatchRun(listener);
+        final List<String> failedUsernames = new ArrayList<>();
+        for (final String username : uniqueUsernames) {
+            try {
+                readWantList(username, run);
+            } catch (final ConnectionException ex) {
+                log.warn("Unable to read the wantlist for {}: {}", username, ex.getMessage());
+                failedUsernames.add(username);
+            }
+        }
+        run.flush();
+
+        final WantListMatchSummary summary = WantListMatchSummary.builder()
+                .userCount(uniqueUsernames.size() - failedUsernames.size())
+                .wantCount(run.wantCount)
+                .releaseCount(run.resolved.size() + run.failedReleaseIds.size())
+                .matchCount(run.matchCount)
+                .failedReleaseCount(run.failedReleaseIds.size())
+                .failedUsernames(failedUsernames)
+                .build();
+        log.debug("Matched wantlists: {}", summary);
+        return summary;
+    }
+
+    /**
+     * Determines if the given statistics describe a release that satisfies the match criteria.
+     *
+     * @param statistics the release statistics
+     * @return {@code true} if the release is available; else, {@code false}
+     */
+    boolean isMatch(final GetReleaseStatisticsResponse statistics) {
+        if (Objects.isNull(statistics)
+                || Boolean.TRUE.equals(statistics.getBlockedFormSale())
+                || Objects.isNull(statistics.getNumForSale())
+                || statistics.getNumForSale() <= 0) {
+            return false;
+        }
+
+        if (Objects.isNull(maxPrice)) {
+            return true;
+        }
+
+        return Objects.nonNull(statistics.getLowestPrice())
+                && Objects.nonNull(statistics.getLowestPrice().getValue())
+                && statistics.getLowestPrice().getValue() <= maxPrice;
+    }
+
+    private void readWantList(final String username, final MatchRun run) throws InterruptedException {
+        final List<WantListRelease> wants = new ArrayList<>();
+        rateLimiter.acquire();
+        GetWantListResponse page = userWantListApi.getWantList(GetWantListRequest.builder()
+                .username(username)
+                .perPage(pageSize)
+                .build());
+        while (Objects.nonNull(page)) {
+            wants.addAll(Optional.ofNullable(page.getWants()).orElse(List.of()));
+            if (Objects.isNull(page.getPagination()) || !page.hasNext()) {
+                break;
+            }
+            rateLimiter.acquire();
+            page = page.getNext();
+        }
+
+        for (final WantListRelease want : wants) {
+            run.offer(username, want);
+        }
+    }
+
+    /** Holds the state of a single {@link #match} invocation. */
+    @RequiredArgsConstructor
+    private class MatchRun {
+        private final WantListMatchListener listener;
+        // Statistics by release identifier; a null value denotes a release without statistics
+        private final Map<Long, GetReleaseStatisticsResponse> resolved = new HashMap<>();
+        private final Map<Long, List<PendingWant>> pending = new LinkedHashMap<>();
+        // Releases whose statistics could not be loaded; they are kept out of resolved so that they are retried
+        private final Set<Long> failedReleaseIds = new HashSet<>();
+        private int wantCount;
+        private int matchCount;
+
+        void offer(final String username, final WantListRelease want) throws InterruptedException {
+            if (Objects.isNull(want) || Objects.isNull(want.getId())) {
+                return;
+            }
+
+            ++wantCount;
+            final Long releaseId = want.getId();
+            if (resolved.containsKey(releaseId)) {
+                evaluate(username, want, resolved.get(releaseId));
+                return;
+            }
+
+            pending.computeIfAbsent(releaseId, id -> new ArrayList<>()).add(new PendingWant(username, want));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() throws InterruptedException {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            final Map<Long, GetReleaseStatisticsResponse> statistics =
+                    batchLoader.getReleaseStatistics(pending.keySet(), currency);
+            for (final Map.Entry<Long, List<PendingWant>> entry : pending.entrySet()) {
+                if (!statistics.containsKey(entry.getKey())) {
+                    failedReleaseIds.add(entry.getKey());
+                    continue;
+                }
+
+                final GetReleaseStatisticsResponse releaseStatistics = statistics.get(entry.getKey());
+                failedReleaseIds.remove(entry.getKey());
+                resolved.put(entry.getKey(), releaseStatistics);
+                for (final PendingWant pendingWant : entry.getValue()) {
+                    evaluate(pendingWant.username, pendingWant.want, releaseStatistics);
+                }
+            }
+            pending.clear();
+        }
+
+        private void evaluate(
+                final String username,
+                final WantListRelease want,
+                final GetReleaseStatisticsResponse statistics) {
+            if (isMatch(statistics)) {
+                ++matchCount;
+                listener.onMatch(WantListMatch.builder()
+                        .username(username)
+                        .want(want)
+                        .statistics(statistics)
+                        .build());
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingWant {
+        private final String username;
+        private final WantListRelease want;
+    }
+}
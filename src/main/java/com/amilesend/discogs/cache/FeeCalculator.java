@@ -0,0 +1,266 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.model.marketplace.GetFeeRequest;
+import com.amilesend.discogs.model.marketplace.GetFeeResponse;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Answers {@link MarketplaceApi#getFee} locally where possible. Fees are a deterministic function of price and
+ * currency for a given seller, so every observed fee is memoized by (price bucket, currency). In addition, the
+ * calculator learns a proportional fee schedule (i.e., {@code fee = rate * price}) per currency from the observed
+ * responses; once enough observations agree with the learned rate, fees for unseen prices within the range of the
+ * observed prices are computed locally. Prices outside of that range are requested from the API, since a schedule
+ * that is proportional over the observed prices may still be tiered or capped beyond them.
+ * <p>
+ * Every {@code verificationInterval}-th locally computed fee is verified against the API. If the API disagrees,
+ * the learned schedule for that currency is discarded and fees are requested from the API until it is re-learned.
+ * Fees are also requested from the API whenever the schedule is not yet learned or the observations are not
+ * proportional (e.g., tiered or capped fees).
+ * Example:
+ * <pre>
+ * final FeeCalculator feeCalculator = FeeCalculator.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .build();
+ * final GetFeeResponse fee = feeCalculator.getFee(19.99D, Currency.USD);
+ * </pre>
+ */
+@Slf4j
+@Getter
+public class FeeCalculator {
+    private static final double DEFAULT_BUCKET_SIZE = 0.01D;
+    private static final int DEFAULT_MIN_OBSERVATIONS = 3;
+    private static final int DEFAULT_VERIFICATION_INTERVAL = 50;
+    private static final int DEFAULT_MAX_MEMOIZED = 10000;
+    private static final double TOLERANCE = 0.005D;
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The price granularity used to memoize fees. */
+    private final double bucketSize;
+    /** The number of consistent observations required before fees are computed locally. */
+    private final int minObservations;
+    /** The number of locally computed fees between verifications against the API. */
+    private final int verificationInterval;
+    /** The maximum number of memoized fees per currency. */
+    private final int maxMemoized;
+    /** The number of fees answered from the memoized observations. */
+    private final AtomicLong memoizedCount = new AtomicLong();
+    /** The number of fees computed from a learned schedule. */
+    private final AtomicLong computedCount = new AtomicLong();
+    /** The number of fees requested from the API. */
+    private final AtomicLong apiCount = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final Map<Currency, Schedule> schedules = new HashMap<>();
+
+    /**
+     * Creates a new {@code FeeCalculator}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param bucketSize the price granularity used to memoize fees (optional; default is 0.01)
+     * @param minObservations the consistent observations required to learn a schedule (optional; default is 3)
+     * @param verificationInterval the computed fees between verifications (optional; default is 50)
+     * @param maxMemoized the maximum number of memoized fees per currency (optional; default is 10000)
+     */
+    @Builder
+    private FeeCalculator(
+            @NonNull final MarketplaceApi marketplaceApi,
+            final Double bucketSize,
+            final Integer minObservations,
+            final Integer verificationInterval,
+            final Integer maxMemoized) {
+        this.marketplaceApi = marketplaceApi;
+        this.bucketSize = Optional.ofNullable(bucketSize).orElse(DEFAULT_BUCKET_SIZE);
+        this.minObservations = Optional.ofNullable(minObservations).orElse(DEFAULT_MIN_OBSERVATIONS);
+        this.verificationInterval = Optional.ofNullable(verificationInterval).orElse(DEFAULT_VERIFICATION_INTERVAL);
+        this.maxMemoized = Optional.ofNullable(maxMemoized).orElse(DEFAULT_MAX_MEMOIZED);
+        Validate.isTrue(this.bucketSize > 0.0D, "bucketSize must be positive");
+        Validate.isTrue(this.minObservations > 1, "minObservations must be > 1");
+        Validate.isTrue(this.verificationInterval > 0, "verificationInterval must be positive");
+        Validate.isTrue(this.maxMemoized > 0, "maxMemoized must be positive");
+    }
+
+    /**
+     * Gets the fee for the given price.
+     *
+     * @param price the price
+     * @param currency the currency, or {@code null} for the seller's default currency
+     * @return the fee
+     * @see MarketplaceApi#getFee(GetFeeRequest)
+     */
+    public GetFeeResponse getFee(final double price, final Currency currency) {
+        Validate.isTrue(price >= 0.0D, "price must be >= 0");
+        final long bucket = Math.round(price / bucketSize);
+
+        final boolean isVerification;
+        synchronized (this) {
+            final Schedule schedule = schedules.computeIfAbsent(currency, c -> new Schedule(maxMemoized));
+            final Observation memoized = schedule.observations.get(bucket);
+            if (Objects.nonNull(memoized)) {
+                memoizedCount.incrementAndGet();
+                return newResponse(schedule, memoized.fee);
+            }
+
+            final boolean isComputable = schedule.isLearned() && schedule.isObserved(price);
+            isVerification = isComputable && ++schedule.computedSinceVerification >= verificationInterval;
+            if (isComputable && !isVerification) {
+                computedCount.incrementAndGet();
+                return newResponse(schedule, schedule.compute(price));
+            }
+        }
+
+        apiCount.incrementAndGet();
+        final GetFeeResponse response = marketplaceApi.getFee(GetFeeRequest.builder()
+                .price(price)
+                .currency(currency)
+                .build());
+        if (Objects.nonNull(response) && Objects.nonNull(response.getValue())) {
+            observe(currency, bucket, price, response, isVerification);
+        }
+
+        return response;
+    }
+
+    /**
+     * Determines if a fee schedule has been learned for the given currency.
+     *
+     * @param currency the currency, or {@code null} for the seller's default currency
+     * @return {@code true} if fees are computed locally; else, {@code false}
+     */
+    public synchronized boolean isLearned(final Currency currency) {
+        return Optional.ofNullable(schedules.get(currency)).map(Schedule::isLearned).orElse(false);
+    }
+
+    /** Discards all memoized fees and learned schedules (e.g., after the seller's fee terms change). */
+    public synchronized void clear() {
+        schedules.clear();
+    }
+
+    private synchronized void observe(
+            final Currency currency,
+            final long bucket,
+            final double price,
+            final GetFeeResponse response,
+            final boolean isVerification) {
+        final Schedule schedule = schedules.computeIfAbsent(currency, c -> new Schedule(maxMemoized));
+        final double fee = response.getValue();
+        if (isVerification) {
+            schedule.computedSinceVerification = 0;
+            if (schedule.isLearned() && Math.abs(schedule.compute(price) - fee) > TOLERANCE) {
+                log.info("Discarding learned fee schedule for {} after a mismatch at price {}", currency, price);
+                schedule.observations.clear();
+            }
+        }
+
+        schedule.responseCurrency = response.getCurrency();
+        schedule.observations.put(bucket, new Observation(price, fee));
+        schedule.learn(minObservations);
+    }
+
+    private static GetFeeResponse newResponse(final Schedule schedule, final double fee) {
+        return GetFeeResponse.builder()
+                .currency(schedule.responseCurrency)
+                .value(fee)
+                .build();
+    }
+
+    @RequiredArgsConstructor
+    private static class Observation {
+        private final double price;
+        private final double fee;
+    }
+
+    /** The memoized observations, and the learned rate and the price range it was learned from for a currency. */
+    private static class Schedule {
+        private final Map<Long, Observation> observations;
+        private Currency responseCurrency;
+        private double rate = Double.NaN;
+        private double minPrice;
+        private double maxPrice;
+        private int computedSinceVerification;
+
+        private Schedule(final int maxMemoized) {
+            this.observations = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Long, Observation> eldest) {
+                    return size() > maxMemoized;
+                }
+            };
+        }
+
+        private boolean isLearned() {
+            return !Double.isNaN(rate);
+        }
+
+        private boolean isObserved(final double price) {
+            return price >= minPrice && price <= maxPrice;
+        }
+
+        private double compute(final double price) {
+            return Math.round(rate * price * 100.0D) / 100.0D;
+        }
+
+        private void learn(final int minObservations) {
+            rate = Double.NaN;
+            if (observations.size() < minObservations) {
+                return;
+            }
+
+            // The ratio of the summed fees to the summed prices weights each observation by its price, so the larger
+            // prices, which carry the most precision after fees are rounded to cents, dominate the estimate. It is
+            // only accepted if every observation agrees with it.
+            double priceSum = 0.0D;
+            double feeSum = 0.0D;
+            minPrice = Double.MAX_VALUE;
+            maxPrice = 0.0D;
+            for (final Observation observation : observations.values()) {
+                priceSum += observation.price;
+                feeSum += observation.fee;
+                minPrice = Math.min(minPrice, observation.price);
+                maxPrice = Math.max(maxPrice, observation.price);
+            }
+            if (priceSum <= 0.0D) {
+                return;
+            }
+
+            rate = feeSum / priceSum;
+            for (final Observation observation : observations.values()) {
+                if (Math.abs(compute(observation.price) - observation.fee) > TOLERANCE) {
+                    rate = Double.NaN;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe, size-bounded cache whose entries expire a fixed duration after they are written. When the cache is
+ * full, the least recently used entry is evicted.
+ * Example:
+ * <pre>
+ * final TtlCache&lt;Long, Price&gt; cache = TtlCache.&lt;Long, Price&gt;builder()
+ *         .ttl(Duration.ofMinutes(1L))
+ *         .maxSize(10000)
+ *         .build();
+ * </pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TtlCache<K, V> {
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    /** The duration after which an entry expires. */
+    @Getter
+    private final Duration ttl;
+    /** The maximum number of entries. */
+    @Getter
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    /**
+     * Creates a new {@code TtlCache}.
+     *
+     * @param ttl the duration after which an entry expires
+     * @param maxSize the maximum number of entries (optional; default is 10000)
+     */
+    @Builder
+    private TtlCache(@NonNull final Duration ttl, final Integer maxSize) {
+        this(ttl, maxSize, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    TtlCache(final Duration ttl, final Integer maxSize, final LongSupplier ticker) {
+        Validate.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        this.ttl = ttl;
+        this.maxSize = Optional.ofNullable(maxSize).orElse(DEFAULT_MAX_SIZE);
+        Validate.isTrue(this.maxSize > 0, "maxSize must be positive");
+
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > TtlCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached value for the given key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if not cached or expired
+     */
+    public synchronized V get(@NonNull final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (isExpired(entry, ticker.getAsLong())) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * Caches the value for the given key.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public synchronized void put(@NonNull final K key, @NonNull final V value) {
+        entries.put(key, new CacheEntry<>(value, ticker.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * Removes the cached value for the given key.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(@NonNull final K key) {
+        entries.remove(key);
+    }
+
+    /** Removes all cached values. */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Removes all expired entries.
+     *
+     * @return the number of entries removed
+     */
+    public synchronized int purgeExpired() {
+        final long now = ticker.getAsLong();
+        int removed = 0;
+        for (final Iterator<CacheEntry<V>> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            if (isExpired(iterator.next(), now)) {
+                iterator.remove();
+                ++removed;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Gets the number of entries, including any that have expired but not yet been removed.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static boolean isExpired(final CacheEntry<?> entry, final long now) {
+        return now - entry.expiresAtNanos >= 0L;
+    }
+
+    @RequiredArgsConstructor
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.collect;
+
+import com.amilesend.client.util.Validate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Assigns dense indexes (in insertion order) to {@code long} keys using an open-addressing hash table of
+ * primitives, so that a large number of keys can be tracked without allocating an object per key. Callers can keep
+ * per-key values in their own primitive arrays by index. This class is not thread-safe.
+ *
+ * @see LongHashSet
+ */
+public class LongHashIndex {
+    /** The index returned for keys that are not present. */
+    public static final int NOT_FOUND = -1;
+
+    private static final int EMPTY_SLOT = 0;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    // The index + 1 of the key held by each hash table slot, or EMPTY_SLOT
+    private int[] slots;
+    // The keys by index
+    private long[] keys;
+    private int size;
+
+    /**
+     * Creates a new empty {@code LongHashIndex}.
+     *
+     * @param initialCapacity the number of keys to allocate storage for up front
+     */
+    public LongHashIndex(final int initialCapacity) {
+        Validate.isTrue(initialCapacity > 0, "initialCapacity must be > 0");
+        slots = new int[Integer.highestOneBit(Math.max(initialCapacity, 2) * 2 - 1) << 1];
+        keys = new long[initialCapacity];
+    }
+
+    /**
+     * Adds the given key if it is not already present.
+     *
+     * @param key the key
+     * @return the index of the key
+     */
+    public int add(final long key) {
+        int slot = findSlot(key);
+        if (slots[slot] != EMPTY_SLOT) {
+            return slots[slot] - 1;
+        }
+
+        // Keep the load factor at or below 0.5 so that probe sequences stay short
+        if ((size + 1) * 2 > slots.length) {
+            rehash();
+            slot = findSlot(key);
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[size] = key;
+        slots[slot] = ++size;
+        return size - 1;
+    }
+
+    /**
+     * Gets the index of the given key.
+     *
+     * @param key the key
+     * @return the index, or {@link #NOT_FOUND} if the key is not present
+     */
+    public int indexOf(final long key) {
+        final int slot = findSlot(key);
+        return slots[slot] == EMPTY_SLOT ? NOT_FOUND : slots[slot] - 1;
+    }
+
+    /**
+     * Gets the key at the given index.
+     *
+     * @param index the index
+     * @return the key
+     */
+    public long getKey(final int index) {
+        return keys[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Gets the number of keys.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots in the hash table, which is at least twice the number of keys.
+     *
+     * @return the number of slots
+     */
+    public int getTableCapacity() {
+        return slots.length;
+    }
+
+    private int findSlot(final long key) {
+        final int mask = slots.length - 1;
+        int slot = (int) ((key * HASH_MULTIPLIER) >>> 32) & mask;
+        while (slots[slot] != EMPTY_SLOT && keys[slots[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        for (int index = 0; index < size; ++index) {
+            slots[findSlot(keys[index])] = index + 1;
+        }
+    }
+}
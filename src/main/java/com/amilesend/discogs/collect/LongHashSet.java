@@ -0,0 +1,108 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.collect;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+
+import java.util.Optional;
+
+/**
+ * A set of positive {@code long} identifiers backed by a {@link LongHashIndex}, so that tracking a large number of
+ * visited identifiers does not allocate an object per identifier. This class is not thread-safe.
+ */
+public class LongHashSet {
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final LongHashIndex index;
+
+    /** Creates a new empty {@code LongHashSet}. */
+    public LongHashSet() {
+        this(null);
+    }
+
+    /**
+     * Creates a new empty {@code LongHashSet}.
+     *
+     * @param initialCapacity the number of identifiers to allocate storage for up front (optional; default is 1024)
+     */
+    public LongHashSet(final Integer initialCapacity) {
+        final int capacity = Optional.ofNullable(initialCapacity).orElse(DEFAULT_INITIAL_CAPACITY);
+        Validate.isTrue(capacity > 0, "initialCapacity must be > 0");
+        index = new LongHashIndex(capacity);
+    }
+
+    /**
+     * Adds the given identifier.
+     *
+     * @param id the identifier
+     * @return {@code true} if the identifier was added; else, {@code false} if it was already present
+     */
+    public boolean add(final long id) {
+        Validate.isTrue(id > 0L, "id must be > 0");
+        final int size = index.size();
+        return index.add(id) == size;
+    }
+
+    /**
+     * Determines if the given identifier is present.
+     *
+     * @param id the identifier
+     * @return {@code true} if present; else, {@code false}
+     */
+    public boolean contains(final long id) {
+        return id > 0L && index.indexOf(id) != LongHashIndex.NOT_FOUND;
+    }
+
+    /**
+     * Gets the number of identifiers in the set.
+     *
+     * @return the number of identifiers
+     */
+    public int getSize() {
+        return index.size();
+    }
+
+    /**
+     * Determines if the set is empty.
+     *
+     * @return {@code true} if empty; else, {@code false}
+     */
+    public boolean isEmpty() {
+        return index.size() == 0;
+    }
+
+    /**
+     * Gets the identifiers in the set, in insertion order.
+     *
+     * @return the identifiers
+     */
+    public long[] toArray() {
+        final long[] ids = new long[index.size()];
+        for (int i = 0; i < ids.length; ++i) {
+            ids[i] = index.getKey(i);
+        }
+
+        return ids;
+    }
+
+    @VisibleForTesting
+    int getTableCapacity() {
+        return index.getTableCapacity();
+    }
+}
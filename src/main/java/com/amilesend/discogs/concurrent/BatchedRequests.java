@@ -0,0 +1,86 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Issues requests with a {@link BulkExecutor} in fixed-size batches, which bounds the number of responses held in
+ * memory at once, and tallies the requests that were issued and that failed. Failed requests are logged and
+ * skipped so that a single failure does not stop the whole run. This class is not thread-safe.
+ */
+@Slf4j
+public class BatchedRequests {
+    private final BulkExecutor bulkExecutor;
+    private final int batchSize;
+
+    /** The number of requests issued. */
+    @Getter
+    private int requestCount;
+    /** The number of requests that failed after retries. */
+    @Getter
+    private int failedRequestCount;
+
+    /**
+     * Creates a new {@code BatchedRequests}.
+     *
+     * @param bulkExecutor the executor used to issue the requests
+     * @param batchSize the maximum number of requests submitted to the executor at once
+     */
+    public BatchedRequests(@NonNull final BulkExecutor bulkExecutor, final int batchSize) {
+        Validate.isTrue(batchSize > 0, "batchSize must be > 0");
+        this.bulkExecutor = bulkExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Executes the operation for each item in batches and passes each successful non-null result to the consumer.
+     *
+     * @param items the items
+     * @param operation the request to issue for each item
+     * @param onResult notified with each item and its result; invocations are serialized
+     * @param <K> the item type
+     * @param <R> the result type
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public <K, R> void execute(
+            @NonNull final List<K> items,
+            @NonNull final Function<K, R> operation,
+            @NonNull final BiConsumer<K, R> onResult) throws InterruptedException {
+        for (int from = 0; from < items.size(); from += batchSize) {
+            final List<K> batch = items.subList(from, Math.min(items.size(), from + batchSize));
+            requestCount += batch.size();
+            bulkExecutor.execute(batch, operation, result -> {
+                if (result.getStatus() == BulkItemResult.Status.FAILED) {
+                    ++failedRequestCount;
+                    log.debug("Unable to request {}: {}", result.getItem(), result.getErrorMessage());
+                } else if (Objects.nonNull(result.getResult())) {
+                    onResult.accept(result.getItem(), result.getResult());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executes an API operation for many items concurrently while sharing a {@link RateLimiter}. Each item is retried
+ * with exponential backoff when the failure is transient (i.e., an I/O error, a throttled request, or a server
+ * error); any other failure is recorded in the item's result without affecting the remaining items.
+ * Example:
+ * <pre>
+ * final BulkExecutor executor = BulkExecutor.builder()
+ *         .concurrency(4)
+ *         .build();
+ * final List&lt;BulkItemResult&lt;Long, Void&gt;&gt; results = executor.execute(listingIds, id -&gt; {
+ *     marketplaceApi.deleteListing(DeleteListingRequest.builder().listingId(id).build());
+ *     return null;
+ * }, null);
+ * </pre>
+ *
+ * @see BulkItemResult
+ */
+@Slf4j
+@Getter
+public class BulkExecutor {
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000L;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    /** The rate limiter shared by all operations. */
+    private final RateLimiter rateLimiter;
+    /** The maximum number of concurrent operations. */
+    private final int concurrency;
+    /** The maximum number of attempts per item. */
+    private final int maxAttempts;
+    /** The delay before the first retry, which doubles for each subsequent retry. */
+    private final long initialBackoffMillis;
+
+    /**
+     * Creates a new {@code BulkExecutor}.
+     *
+     * @param rateLimiter the rate limiter (optional; default is {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param concurrency the maximum number of concurrent operations (optional; default is 4)
+     * @param maxAttempts the maximum number of attempts per item (optional; default is 3)
+     * @param initialBackoffMillis the delay before the first retry (optional; default is 1000)
+     */
+    @Builder
+    private BulkExecutor(
+            final RateLimiter rateLimiter,
+            final Integer concurrency,
+            final Integer maxAttempts,
+            final Long initialBackoffMillis) {
+        this.rateLimiter = Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+        this.concurrency = Optional.ofNullable(concurrency).orElse(DEFAULT_CONCURRENCY);
+        this.maxAttempts = Optional.ofNullable(maxAttempts).orElse(DEFAULT_MAX_ATTEMPTS);
+        this.initialBackoffMillis = Optional.ofNullable(initialBackoffMillis).orElse(DEFAULT_INITIAL_BACKOFF_MILLIS);
+        Validate.isTrue(this.concurrency > 0, "concurrency must be positive");
+        Validate.isTrue(this.maxAttempts > 0, "maxAttempts must be positive");
+        Validate.isTrue(this.initialBackoffMillis >= 0L, "initialBackoffMillis must not be negative");
+    }
+
+    /**
+     * Executes the operation for each item.
+     *
+     * @param items the items
+     * @param operation the operation to apply to each item
+     * @param listener notified with each item's result as it completes; invocations are serialized (optional)
+     * @param <T> the item type
+     * @param <R> the result type
+     * @return the results in the same order as the items
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public <T, R> List<BulkItemResult<T, R>> execute(
+            @NonNull final List<T> items,
+            @NonNull final Function<T, R> operation,
+            final Consumer<BulkItemResult<T, R>> listener) throws InterruptedException {
+        return execute(items, operation, listener, (item, error) -> isRetryable(error));
+    }
+
+    private <T, R> List<BulkItemResult<T, R>> execute(
+            final List<T> items,
+            final Function<T, R> operation,
+            final Consumer<BulkItemResult<T, R>> listener,
+            final BiPredicate<T, Throwable> retryPolicy) throws InterruptedException {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        final Object listenerLock = new Object();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(items.size(), concurrency));
+        try {
+            final List<Future<BulkItemResult<T, R>>> futures = new ArrayList<>(items.size());
+            for (final T item : items) {
+                futures.add(executor.submit(() -> {
+                    final BulkItemResult<T, R> result = executeItem(item, operation, retryPolicy);
+                    if (Objects.nonNull(listener)) {
+                        synchronized (listenerLock) {
+                            listener.accept(result);
+                        }
+                    }
+                    return result;
+                }));
+            }
+
+            final List<BulkItemResult<T, R>> results = new ArrayList<>(items.size());
+            for (final Future<BulkItemResult<T, R>> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException ex) {
+                    // Only a failing listener can reach here as operation failures are captured in the result
+                    futures.forEach(f -> f.cancel(true));
+                    throw asRuntimeException(ex.getCause());
+                }
+            }
+
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes the operation for each item that is not recorded as completed in the given checkpoint, and records
+     * each item that succeeds so that a job that stopped before finishing can be resumed. Items that completed in a
+     * previous run are reported as {@link BulkItemResult.Status#SKIPPED}.
+     *
+     * @param items the items
+     * @param operation the operation to apply to each item
+     * @param checkpoint the checkpoint (optional; if {@code null}, every item is executed)
+     * @param checkpointId maps an item to its identifier in the checkpoint, which must be the same when the job is
+     *                     re-run in a new process (e.g., built with {@link Checkpoint#toId(String, Object...)} and
+     *                     never derived from {@link Object#hashCode()})
+     * @param <T> the item type
+     * @param <R> the result type
+     * @return the results in the same order as the items
+     * @throws IOException if an error occurred while writing the checkpoint
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see Checkpoint
+     */
+    public <T, R> List<BulkItemResult<T, R>> execute(
+            @NonNull final List<T> items,
+            @NonNull final Function<T, R> operation,
+            final Checkpoint checkpoint,
+            @NonNull final Function<T, String> checkpointId) throws IOException, InterruptedException {
+        return execute(items, operation, checkpoint, checkpointId, (item, error) -> isRetryable(error));
+    }
+
+    /**
+     * Executes the operation for each item that is not recorded as completed in the given checkpoint, and retries
+     * the failures accepted by the given retry policy. This allows items whose operation is not idempotent (e.g., a
+     * create) to only be retried when the failure proves that the request was not processed.
+     *
+     * @param items the items
+     * @param operation the operation to apply to each item
+     * @param checkpoint the checkpoint (optional; if {@code null}, every item is executed)
+     * @param checkpointId maps an item to its identifier in the checkpoint, which must be the same when the job is
+     *                     re-run in a new process
+     * @param retryPolicy determines if the failure of the given item should be retried
+     * @param <T> the item type
+     * @param <R> the result type
+     * @return the results in the same order as the items
+     * @throws IOException if an error occurred while writing the checkpoint
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see #isRetryable(Throwable)
+     * @see #isRejected(Throwable)
+     */
+    public <T, R> List<BulkItemResult<T, R>> execute(
+            @NonNull final List<T> items,
+            @NonNull final Function<T, R> operation,
+            final Checkpoint checkpoint,
+            @NonNull final Function<T, String> checkpointId,
+            @NonNull final BiPredicate<T, Throwable> retryPolicy) throws IOException, InterruptedException {
+        if (Objects.isNull(checkpoint)) {
+            return execute(items, operation, null, retryPolicy);
+        }
+
+        final List<BulkItemResult<T, R>> results = new ArrayList<>(items.size());
+        final List<T> pending = new ArrayList<>(items.size());
+        for (final T item : items) {
+            if (checkpoint.isCompleted(checkpointId.apply(item))) {
+                results.add(BulkItemResult.<T, R>builder()
+                        .item(item)
+                        .status(BulkItemResult.Status.SKIPPED)
+                        .build());
+            } else {
+                results.add(null);
+                pending.add(item);
+            }
+        }
+
+        final List<BulkItemResult<T, R>> executed;
+        try {
+            executed = execute(pending, operation, result -> {
+                if (result.getStatus() == BulkItemResult.Status.SUCCEEDED) {
+                    try {
+                        checkpoint.markCompleted(checkpointId.apply(result.getItem()));
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            }, retryPolicy);
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        // Merge the executed results into the skipped placeholders to preserve the item order
+        int executedIndex = 0;
+        for (int i = 0; i < results.size(); ++i) {
+            if (Objects.isNull(results.get(i))) {
+                results.set(i, executed.get(executedIndex++));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Determines if the given failure is transient and the operation should be retried.
+     *
+     * @param error the failure
+     * @return {@code true} if the operation should be retried; else, {@code false}
+     */
+    public static boolean isRetryable(final Throwable error) {
+        if (error instanceof ResponseException) {
+            final ResponseException responseException = (ResponseException) error;
+            return responseException.isRetryable()
+                    || responseException.getCode() == TOO_MANY_REQUESTS
+                    || responseException.getCode() >= SERVER_ERROR;
+        }
+
+        return error instanceof RequestException;
+    }
+
+    /**
+     * Determines if the given failure proves that the request was rejected without being processed (i.e., it was
+     * throttled), so that even an operation that is not idempotent can be safely retried.
+     *
+     * @param error the failure
+     * @return {@code true} if the request was not processed; else, {@code false}
+     */
+    public static boolean isRejected(final Throwable error) {
+        return error instanceof ResponseException && ((ResponseException) error).getCode() == TOO_MANY_REQUESTS;
+    }
+
+    private <T, R> BulkItemResult<T, R> executeItem(
+            final T item,
+            final Function<T, R> operation,
+            final BiPredicate<T, Throwable> retryPolicy) throws InterruptedException {
+        for (int attempt = 1; ; ++attempt) {
+            rateLimiter.acquire();
+            try {
+                return BulkItemResult.<T, R>builder()
+                        .item(item)
+                        .status(BulkItemResult.Status.SUCCEEDED)
+                        .result(operation.apply(item))
+                        .attempts(attempt)
+                        .build();
+            } catch (final RuntimeException ex) {
+                if (attempt >= maxAttempts || !retryPolicy.test(item, ex)) {
+                    log.debug("Operation failed for {} after {} attempt(s): {}", item, attempt, ex.getMessage());
+                    return BulkItemResult.<T, R>builder()
+                            .item(item)
+                            .status(BulkItemResult.Status.FAILED)
+                            .attempts(attempt)
+                            .error(ex)
+                            .build();
+                }
+
+                log.debug("Retrying operation for {} after attempt {}: {}", item, attempt, ex.getMessage());
+                TimeUnit.MILLISECONDS.sleep(getBackoffMillis(attempt));
+            }
+        }
+    }
+
+    @VisibleForTesting
+    long getBackoffMillis(final int attempt) {
+        if (initialBackoffMillis == 0L) {
+            return 0L;
+        }
+
+        final long backoff = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << Math.min(attempt - 1, 16));
+        // Add up to 20% jitter so that concurrent retries do not align
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5L + 1L);
+    }
+
+    private static RuntimeException asRuntimeException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Describes the outcome of a single item executed by the {@link BulkExecutor}.
+ *
+ * @param <T> the item type
+ * @param <R> the result type
+ */
+@Builder
+@Data
+public class BulkItemResult<T, R> {
+    /** The item. */
+    private final T item;
+    /**
+     * The item status.
+     *
+     * @see Status
+     */
+    private final Status status;
+    /** The operation result, or {@code null} if the operation did not succeed or does not return a value. */
+    private final R result;
+    /** The number of attempts made. */
+    private final int attempts;
+    /** The last error, or {@code null} if the operation succeeded. */
+    private final Throwable error;
+
+    /**
+     * Determines if the item was processed successfully, either in this run or a previous one.
+     *
+     * @return {@code true} if the item succeeded or was skipped; else, {@code false}
+     */
+    public boolean isSuccessful() {
+        return status == Status.SUCCEEDED || status == Status.SKIPPED;
+    }
+
+    /**
+     * Gets the last error message.
+     *
+     * @return the error message, or {@code null} if the operation succeeded
+     */
+    public String getErrorMessage() {
+        return Objects.isNull(error) ? null : error.getMessage();
+    }
+
+    /** Describes the status of an item. */
+    public enum Status {
+        /** The operation succeeded. */
+        SUCCEEDED,
+        /** The operation failed after exhausting all attempts or with a non-retryable error. */
+        FAILED,
+        /** The item was not executed since it already completed in a previous run. */
+        SKIPPED
+    }
+}
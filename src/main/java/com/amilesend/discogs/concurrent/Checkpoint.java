@@ -0,0 +1,211 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.connection.AtomicFileWriter;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An append-only record of the completed items of a bulk job, used to resume a job that stopped before finishing.
+ * Each completed item identifier is appended as a line and flushed immediately, so at most the items in flight are
+ * repeated after a crash. A partially written last line is ignored when the checkpoint is reopened.
+ * Example:
+ * <pre>
+ * try (final Checkpoint checkpoint = Checkpoint.open(Path.of("job.checkpoint"))) {
+ *     for (final String id : ids) {
+ *         if (!checkpoint.isCompleted(id)) {
+ *             process(id);
+ *             checkpoint.markCompleted(id);
+ *         }
+ *     }
+ *     checkpoint.delete();
+ * }
+ * </pre>
+ */
+public class Checkpoint implements Closeable {
+    /** The path of the checkpoint file. */
+    @Getter
+    private final Path file;
+    private final Set<String> completed;
+    private BufferedWriter writer;
+
+    private Checkpoint(final Path file, final Set<String> completed, final BufferedWriter writer) {
+        this.file = file;
+        this.completed = completed;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens the checkpoint file, loading the items completed by previous runs. The file is created if it does not
+     * exist.
+     *
+     * @param file the path of the checkpoint file
+     * @return the checkpoint
+     * @throws IOException if an error occurred while reading or opening the file
+     */
+    public static Checkpoint open(@NonNull final Path file) throws IOException {
+        final Set<String> completed = new HashSet<>();
+        if (Files.isRegularFile(file)) {
+            final String content = Files.readString(file, StandardCharsets.UTF_8);
+            final String[] lines = content.split("\n", -1);
+            // The last element is either empty or an incomplete line from an interrupted write
+            for (int i = 0; i < lines.length - 1; ++i) {
+                if (StringUtils.isNotBlank(lines[i])) {
+                    completed.add(lines[i]);
+                }
+            }
+            if (!content.isEmpty() && !content.endsWith("\n")) {
+                rewrite(file, completed);
+            }
+        } else {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (Objects.nonNull(parent)) {
+                Files.createDirectories(parent);
+            }
+        }
+
+        return new Checkpoint(file, completed, Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Creates a stable item identifier from the given key and a SHA-256 digest of the given values. Identifiers must
+     * be the same when a job is re-run in a new process, so they must not be derived from {@link Object#hashCode()}
+     * (e.g., enum hash codes differ between runs). Enums contribute their {@link Enum#name()}, and all other values
+     * their string form.
+     *
+     * @param key the item key (e.g., the resource identifier), which must not contain line breaks
+     * @param values the values that define the item's content
+     * @return the item identifier
+     */
+    public static String toId(@NonNull final String key, final Object... values) {
+        return key + '#' + toDigest(values);
+    }
+
+    /**
+     * Creates a stable hexadecimal SHA-256 digest of the given values that is the same in every process, unlike
+     * {@link Objects#hash(Object...)}. Enums contribute their {@link Enum#name()}, and all other values their string
+     * form.
+     *
+     * @param values the values
+     * @return the digest
+     * @see #toId(String, Object...)
+     */
+    public static String toDigest(final Object... values) {
+        final StringBuilder canonical = new StringBuilder();
+        for (final Object value : values) {
+            if (Objects.isNull(value)) {
+                canonical.append("-;");
+                continue;
+            }
+
+            final String text = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+            // Length-prefix each value so that adjacent values cannot be confused with each other
+            canonical.append(text.length()).append(':').append(text).append(';');
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Determines if the given item completed in this or a previous run.
+     *
+     * @param id the item identifier
+     * @return {@code true} if the item completed; else, {@code false}
+     */
+    public synchronized boolean isCompleted(@NonNull final String id) {
+        return completed.contains(id);
+    }
+
+    /**
+     * Gets the number of completed items.
+     *
+     * @return the number of completed items
+     */
+    public synchronized int size() {
+        return completed.size();
+    }
+
+    /**
+     * Records the given item as completed.
+     *
+     * @param id the item identifier, which must not contain line breaks
+     * @throws IOException if an error occurred while writing the checkpoint file
+     */
+    public synchronized void markCompleted(@NonNull final String id) throws IOException {
+        Validate.notBlank(id, "id must not be blank");
+        Validate.isTrue(id.indexOf('\n') < 0 && id.indexOf('\r') < 0, "id must not contain line breaks");
+        Validate.isTrue(Objects.nonNull(writer), "checkpoint is closed");
+        if (completed.add(id)) {
+            writer.write(id);
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    /**
+     * Closes and deletes the checkpoint file once the job has completed.
+     *
+     * @throws IOException if an error occurred while deleting the file
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (Objects.nonNull(writer)) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    // Replaces the file atomically so that a crash while dropping an incomplete line keeps the completed items
+    private static void rewrite(final Path file, final Set<String> completed) throws IOException {
+        final StringBuilder content = new StringBuilder();
+        completed.forEach(id -> content.append(id).append('\n'));
+        AtomicFileWriter.write(file, out -> out.write(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Identifies a single page of a paginated request.
+ *
+ * @param <K> the type of the request that is paged through
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class PageKey<K> {
+    /** The request that is paged through. */
+    @NonNull
+    private final K request;
+    /** The page number, starting at 1. */
+    private final int page;
+
+    @Override
+    public String toString() {
+        return request + "#" + page;
+    }
+}
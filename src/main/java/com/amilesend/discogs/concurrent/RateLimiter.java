@@ -0,0 +1,130 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe token bucket rate limiter used to keep concurrent API calls within the Discogs rate limit. Permits
+ * are replenished continuously at {@code permitsPerMinute} and up to {@code burst} permits may accumulate while
+ * idle. The Discogs API enforces its limit over a moving 60 second window, so the default burst of one permit
+ * never exceeds the configured rate within any window.
+ * <p>
+ * Waiting callers reserve their permit before sleeping, so permits are granted in arrival order without holding a
+ * lock while sleeping.
+ * Example:
+ * <pre>
+ * final RateLimiter rateLimiter = RateLimiter.builder()
+ *         .permitsPerMinute(60)
+ *         .build();
+ * rateLimiter.acquire();
+ * </pre>
+ */
+public class RateLimiter {
+    /** The default number of permits per minute (i.e., the authenticated Discogs rate limit). */
+    public static final int DEFAULT_PERMITS_PER_MINUTE = 60;
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1L);
+
+    /** The number of permits granted per minute. */
+    @Getter
+    private final int permitsPerMinute;
+    /** The maximum number of permits that can accumulate while idle. */
+    @Getter
+    private final int burst;
+    private final double nanosPerPermit;
+    private final LongSupplier ticker;
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new {@code RateLimiter}.
+     *
+     * @param permitsPerMinute the number of permits per minute (optional; default is 60)
+     * @param burst the maximum number of permits that can accumulate while idle (optional; default is 1)
+     */
+    @Builder
+    private RateLimiter(final Integer permitsPerMinute, final Integer burst) {
+        this(permitsPerMinute, burst, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RateLimiter(final Integer permitsPerMinute, final Integer burst, final LongSupplier ticker) {
+        this.permitsPerMinute = Optional.ofNullable(permitsPerMinute).orElse(DEFAULT_PERMITS_PER_MINUTE);
+        this.burst = Optional.ofNullable(burst).orElse(1);
+        Validate.isTrue(this.permitsPerMinute > 0, "permitsPerMinute must be positive");
+        Validate.isTrue(this.burst > 0, "burst must be positive");
+
+        this.nanosPerPermit = (double) NANOS_PER_MINUTE / this.permitsPerMinute;
+        this.ticker = ticker;
+        this.storedPermits = this.burst;
+        this.lastRefillNanos = ticker.getAsLong();
+    }
+
+    /**
+     * Acquires a permit, blocking until it is available.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos = reserve();
+        if (waitNanos > 0L) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Acquires a permit only if one is immediately available.
+     *
+     * @return {@code true} if a permit was acquired; else, {@code false}
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (storedPermits < 1.0D) {
+            return false;
+        }
+
+        storedPermits -= 1.0D;
+        return true;
+    }
+
+    /**
+     * Reserves the next permit.
+     *
+     * @return the number of nanoseconds to wait before the reserved permit may be used
+     */
+    @VisibleForTesting
+    synchronized long reserve() {
+        refill();
+        storedPermits -= 1.0D;
+        return storedPermits >= 0.0D ? 0L : (long) Math.ceil(-storedPermits * nanosPerPermit);
+    }
+
+    private void refill() {
+        final long now = ticker.getAsLong();
+        storedPermits = Math.min(burst, storedPermits + (now - lastRefillNanos) / nanosPerPermit);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces the contents of a file so that a crash while writing leaves either the previous or the new contents in
+ * place, never a partially written file. The contents are written to a temporary sibling file that is forced to the
+ * storage device and then atomically moved over the target file.
+ * Example:
+ * <pre>
+ * AtomicFileWriter.write(stateFile, out -&gt; properties.store(out, null));
+ * </pre>
+ */
+public final class AtomicFileWriter {
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Writes the contents produced by the given writer to the file, replacing any existing file.
+     *
+     * @param file the file to write
+     * @param contentWriter writes the contents to the given (buffered) stream, which is flushed, forced, and closed
+     *                      by this method
+     * @throws IOException if an error occurred while writing or moving the file
+     */
+    public static void write(@NonNull final Path file, @NonNull final ContentWriter contentWriter)
+            throws IOException {
+        final Path tmpFile = file.resolveSibling(file.getFileName() + TMP_FILE_SUFFIX);
+        try {
+            try (final FileChannel channel = FileChannel.open(tmpFile,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.write(new UncloseableOutputStream(out));
+                out.flush();
+                channel.force(true);
+            }
+            move(tmpFile, file);
+        } catch (final IOException | RuntimeException ex) {
+            Files.deleteIfExists(tmpFile);
+            throw ex;
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            // Fall back to a regular replace where the file system cannot rename atomically
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Writes the contents of a file. */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to the given stream. Closing the stream (e.g., through a wrapping writer) only flushes
+         * it, so that the contents can still be forced to the storage device afterwards.
+         *
+         * @param out the output stream
+         * @throws IOException if an error occurred while writing
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /** Flushes instead of closing, so that callers may close the writers they wrap around the stream. */
+    private static class UncloseableOutputStream extends FilterOutputStream {
+        UncloseableOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
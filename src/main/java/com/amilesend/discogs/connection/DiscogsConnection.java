@@ -67,6 +67,11 @@ public class DiscogsConnection extends Connection<GsonFactory> {
     /** The authorization verifier used to check if API calls require authentication prior to invoking the API. */
     @Builder.Default
     private final AuthVerifier authVerifier = new NoOpAuthVerifier();
+    /**
+     * The optional high-throughput writer used to persist downloaded content. When not defined, downloads are
+     * written with {@link TransferFileWriter}.
+     */
+    private final ChannelTransferFileWriter channelTransferFileWriter;
 
     /**
      * Creates a new {@link Request.Builder} with pre-configured headers for a download request that expects a
@@ -158,6 +163,32 @@ public class DiscogsConnection extends Connection<GsonFactory> {
         }
     }
 
+    /**
+     * Downloads the contents for the given {@code request} to the specified {@code folderPath} using HTTP range
+     * requests so that an interrupted download can be resumed from where it stopped by invoking this method again
+     * with the same request.
+     *
+     * @param request the request
+     * @param folderPath the path of the folder to download the content to
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @param segmentCount the number of ranged segments to fetch concurrently
+     * @return the download information
+     * @throws ConnectionException if an error occurred while downloading the content for the request
+     * @see ResumableDownloader
+     * @see DownloadInformation
+     */
+    public DownloadInformation downloadResumable(
+            @NonNull final Request request,
+            @NonNull final Path folderPath,
+            @NonNull final TransferProgressCallback callback,
+            final int segmentCount) throws ConnectionException {
+        return ResumableDownloader.builder()
+                .connection(this)
+                .segmentCount(segmentCount)
+                .build()
+                .download(request, folderPath, callback);
+    }
+
     @VisibleForTesting
     String parseFileNameFromContentDisposition(final String headerValue) {
         Validate.notBlank(headerValue, "Content-Disposition header value must not be blank");
@@ -187,11 +218,13 @@ public class DiscogsConnection extends Connection<GsonFactory> {
             final Path downloadPath,
             final long sizeBytes,
             final TransferProgressCallback callback) throws IOException {
-        final long totalBytes = TransferFileWriter.builder()
-                .output(downloadPath)
-                .callback(callback)
-                .build()
-                .write(response.body().source(), sizeBytes);
+        final long totalBytes = channelTransferFileWriter != null
+                ? channelTransferFileWriter.write(response.body().source(), downloadPath, sizeBytes, callback)
+                : TransferFileWriter.builder()
+                        .output(downloadPath)
+                        .callback(callback)
+                        .build()
+                        .write(response.body().source(), sizeBytes);
 
         if (log.isDebugEnabled()) {
             log.debug("Downloaded [{}] bytes to [{}]", totalBytes, downloadPath);
@@ -0,0 +1,263 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import com.amilesend.client.util.StringUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Describes the persisted progress of a resumable download so that an interrupted transfer can continue from where
+ * it stopped. The state is stored as a properties file next to the partial download file.
+ *
+ * @see ResumableDownloader
+ */
+@Getter
+class DownloadState {
+    private static final String URL_KEY = "url";
+    private static final String FILE_NAME_KEY = "fileName";
+    private static final String TOTAL_BYTES_KEY = "totalBytes";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String SEGMENT_COUNT_KEY = "segments";
+    private static final String SEGMENT_KEY_PREFIX = "segment.";
+
+    /** The download URL. */
+    private final String url;
+    /** The name of the file as described by the server. */
+    private final String fileName;
+    /** The expected size of the file in bytes. */
+    private final long totalBytes;
+    /** The entity tag used to verify that the remote file did not change between attempts. */
+    private final String etag;
+    /** The last modified value used to verify that the remote file did not change between attempts. */
+    private final String lastModified;
+    /** The byte ranges that make up the file. */
+    private final List<Segment> segments;
+
+    DownloadState(
+            @NonNull final String url,
+            @NonNull final String fileName,
+            final long totalBytes,
+            final String etag,
+            final String lastModified,
+            @NonNull final List<Segment> segments) {
+        this.url = url;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    /**
+     * Creates a new state that splits the file into {@code segmentCount} contiguous ranges.
+     *
+     * @param url the download URL
+     * @param fileName the file name
+     * @param totalBytes the expected file size
+     * @param etag the entity tag (optional)
+     * @param lastModified the last modified value (optional)
+     * @param segmentCount the number of segments
+     * @return the new state
+     */
+    static DownloadState newState(
+            final String url,
+            final String fileName,
+            final long totalBytes,
+            final String etag,
+            final String lastModified,
+            final int segmentCount) {
+        final int count = (int) Math.max(1L, Math.min(segmentCount, totalBytes));
+        final long segmentSize = totalBytes / count;
+        final List<Segment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            final long start = i * segmentSize;
+            final long end = i == count - 1 ? totalBytes - 1 : start + segmentSize - 1;
+            segments.add(new Segment(start, end, 0L));
+        }
+
+        return new DownloadState(url, fileName, totalBytes, etag, lastModified, segments);
+    }
+
+    /**
+     * Loads a previously persisted state.
+     *
+     * @param stateFile the path of the state file
+     * @return the state, or {@code null} if the file does not exist or is malformed
+     * @throws IOException if an error occurred while reading the file
+     */
+    static DownloadState load(final Path stateFile) throws IOException {
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+
+        final Properties props = new Properties();
+        try (final Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+
+        try {
+            final int segmentCount = Integer.parseInt(props.getProperty(SEGMENT_COUNT_KEY));
+            final List<Segment> segments = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; ++i) {
+                final String[] tokens = props.getProperty(SEGMENT_KEY_PREFIX + i).split(",");
+                segments.add(new Segment(
+                        Long.parseLong(tokens[0]),
+                        Long.parseLong(tokens[1]),
+                        Long.parseLong(tokens[2])));
+            }
+
+            return new DownloadState(
+                    props.getProperty(URL_KEY),
+                    props.getProperty(FILE_NAME_KEY),
+                    Long.parseLong(props.getProperty(TOTAL_BYTES_KEY)),
+                    props.getProperty(ETAG_KEY),
+                    props.getProperty(LAST_MODIFIED_KEY),
+                    segments);
+        } catch (final RuntimeException ex) {
+            // Treat a malformed state file as if no progress was recorded
+            return null;
+        }
+    }
+
+    /**
+     * Persists the state, atomically replacing any previously saved state.
+     *
+     * @param stateFile the path of the state file
+     * @throws IOException if an error occurred while writing the file
+     * @see AtomicFileWriter
+     */
+    synchronized void save(final Path stateFile) throws IOException {
+        final Properties props = new Properties();
+        props.setProperty(URL_KEY, url);
+        props.setProperty(FILE_NAME_KEY, fileName);
+        props.setProperty(TOTAL_BYTES_KEY, String.valueOf(totalBytes));
+        if (StringUtils.isNotBlank(etag)) {
+            props.setProperty(ETAG_KEY, etag);
+        }
+        if (StringUtils.isNotBlank(lastModified)) {
+            props.setProperty(LAST_MODIFIED_KEY, lastModified);
+        }
+        props.setProperty(SEGMENT_COUNT_KEY, String.valueOf(segments.size()));
+        for (int i = 0; i < segments.size(); ++i) {
+            final Segment segment = segments.get(i);
+            props.setProperty(SEGMENT_KEY_PREFIX + i, new StringBuilder()
+                    .append(segment.getStart())
+                    .append(",")
+                    .append(segment.getEnd())
+                    .append(",")
+                    .append(segment.getCompletedBytes())
+                    .toString());
+        }
+
+        AtomicFileWriter.write(stateFile,
+                out -> props.store(new OutputStreamWriter(out, StandardCharsets.UTF_8), null));
+    }
+
+    /**
+     * Determines if the remote file described by the given attributes is the same as the one associated with
+     * this state.
+     *
+     * @param otherFileName the file name
+     * @param otherTotalBytes the file size
+     * @param otherEtag the entity tag
+     * @param otherLastModified the last modified value
+     * @return {@code true} if the remote file is unchanged; else, {@code false}
+     */
+    boolean isSameFile(
+            final String otherFileName,
+            final long otherTotalBytes,
+            final String otherEtag,
+            final String otherLastModified) {
+        return Objects.equals(fileName, otherFileName)
+                && totalBytes == otherTotalBytes
+                && Objects.equals(etag, otherEtag)
+                && Objects.equals(lastModified, otherLastModified);
+    }
+
+    /**
+     * Creates a copy of the state with the progress of each segment at the time of the invocation.
+     *
+     * @return the copy
+     */
+    DownloadState snapshot() {
+        final List<Segment> copies = new ArrayList<>(segments.size());
+        for (final Segment segment : segments) {
+            copies.add(new Segment(segment.getStart(), segment.getEnd(), segment.getCompletedBytes()));
+        }
+
+        return new DownloadState(url, fileName, totalBytes, etag, lastModified, copies);
+    }
+
+    /**
+     * Gets the total number of bytes already written across all segments.
+     *
+     * @return the number of completed bytes
+     */
+    long getCompletedBytes() {
+        return segments.stream()
+                .mapToLong(Segment::getCompletedBytes)
+                .sum();
+    }
+
+    /** Describes a contiguous, inclusive byte range of the file and how much of it has been written. */
+    @AllArgsConstructor
+    @Getter
+    static class Segment {
+        /** The first byte offset (inclusive). */
+        private final long start;
+        /** The last byte offset (inclusive). */
+        private final long end;
+        /** The number of bytes written from {@link #start}. */
+        @Setter
+        private volatile long completedBytes;
+
+        /**
+         * Gets the number of bytes contained by the segment.
+         *
+         * @return the segment length
+         */
+        long getLength() {
+            return end - start + 1L;
+        }
+
+        /**
+         * Determines if all bytes for the segment have been written.
+         *
+         * @return {@code true} if complete; else, {@code false}
+         */
+        boolean isComplete() {
+            return completedBytes >= getLength();
+        }
+    }
+}
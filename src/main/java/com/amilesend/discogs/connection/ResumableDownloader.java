@@ -0,0 +1,475 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.model.inventory.type.DownloadInformation;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.amilesend.client.connection.Connection.Headers.ACCEPT_ENCODING;
+import static com.amilesend.discogs.connection.DiscogsConnection.CONTENT_DISPOSITION;
+import static com.amilesend.discogs.connection.DiscogsConnection.CONTENT_LENGTH;
+
+/**
+ * Downloads content with HTTP {@code Range} requests so that an interrupted transfer resumes from the last
+ * recorded offset instead of fetching the whole file again. Progress is kept in a partial file plus a small
+ * state file in the destination folder, and the completed file is verified against the size reported by the
+ * server before it is moved to its final name. Optionally, the file can be split into multiple segments that
+ * are fetched concurrently.
+ * <p>
+ * If the server does not honor range requests, the content is downloaded in a single pass.
+ *
+ * @see DiscogsConnection#downloadResumable(Request, Path, TransferProgressCallback, int)
+ */
+@Slf4j
+@Getter
+public class ResumableDownloader {
+    public static final String RANGE = "Range";
+    public static final String IF_RANGE = "If-Range";
+    public static final String CONTENT_RANGE = "Content-Range";
+    public static final String ETAG = "ETag";
+    public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String PARTIAL_FILE_EXTENSION = ".part";
+    public static final String STATE_FILE_EXTENSION = ".state";
+
+    private static final int PARTIAL_CONTENT_STATUS_CODE = 206;
+    private static final int DEFAULT_SEGMENT_COUNT = 1;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_CHECKPOINT_INTERVAL_BYTES = 8L * 1024L * 1024L;
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+
+    /** The connection used to issue requests. */
+    private final DiscogsConnection connection;
+    /** The number of ranged segments to fetch concurrently. */
+    private final int segmentCount;
+    /** The maximum number of attempts to fetch a single segment before failing. */
+    private final int maxAttempts;
+    /** The number of bytes written for a segment before its progress is persisted. */
+    private final long checkpointIntervalBytes;
+
+    /**
+     * Creates a new {@code ResumableDownloader}.
+     *
+     * @param connection the connection used to issue requests (required)
+     * @param segmentCount the number of segments to fetch concurrently (optional; default is 1)
+     * @param maxAttempts the maximum number of attempts per segment (optional; default is 3)
+     * @param checkpointIntervalBytes the number of bytes between persisted checkpoints (optional; default is 8 MiB)
+     */
+    @Builder
+    private ResumableDownloader(
+            @NonNull final DiscogsConnection connection,
+            final Integer segmentCount,
+            final Integer maxAttempts,
+            final Long checkpointIntervalBytes) {
+        this.connection = connection;
+        this.segmentCount = Optional.ofNullable(segmentCount).orElse(DEFAULT_SEGMENT_COUNT);
+        this.maxAttempts = Optional.ofNullable(maxAttempts).orElse(DEFAULT_MAX_ATTEMPTS);
+        this.checkpointIntervalBytes = Optional.ofNullable(checkpointIntervalBytes)
+                .orElse(DEFAULT_CHECKPOINT_INTERVAL_BYTES);
+
+        Validate.isTrue(this.segmentCount > 0, "segmentCount must be > 0");
+        Validate.isTrue(this.maxAttempts > 0, "maxAttempts must be > 0");
+        Validate.isTrue(this.checkpointIntervalBytes > 0L, "checkpointIntervalBytes must be > 0");
+    }
+
+    /**
+     * Downloads the contents for the given {@code request} to the specified {@code folderPath}, resuming a
+     * previously interrupted download of the same URL if one exists.
+     *
+     * @param request the request
+     * @param folderPath the path of the folder to download the content to
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the download information where {@link DownloadInformation#getDownloadedBytes()} reflects the number
+     *         of bytes transferred by this invocation
+     * @throws ConnectionException if an error occurred while downloading the content for the request
+     */
+    public DownloadInformation download(
+            @NonNull final Request request,
+            @NonNull final Path folderPath,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        try {
+            return downloadInternal(request, folderPath, callback);
+        } catch (final ConnectionException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            callback.onFailure(ex);
+            throw new RequestException("Download was interrupted", ex);
+        } catch (final Exception ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        }
+    }
+
+    private DownloadInformation downloadInternal(
+            final Request request,
+            final Path folderPath,
+            final TransferProgressCallback callback) throws IOException, InterruptedException {
+        // Byte ranges must refer to the identity representation so that segments can be stitched together
+        final Request baseRequest = request.newBuilder()
+                .removeHeader(ACCEPT_ENCODING)
+                .build();
+        final String url = baseRequest.url().toString();
+        final String stateKey = toStateKey(url);
+        final Path stateFile = connection.checkFolderAndGetDestinationPath(folderPath, stateKey + STATE_FILE_EXTENSION);
+        final Path partFile = stateFile.resolveSibling(stateKey + PARTIAL_FILE_EXTENSION);
+
+        final DownloadState state;
+        try (final Response probe = connection.execute(baseRequest.newBuilder()
+                .header(RANGE, "bytes=0-0")
+                .build())) {
+            final String fileName = connection.parseFileNameFromContentDisposition(probe.header(CONTENT_DISPOSITION));
+            if (probe.code() != PARTIAL_CONTENT_STATUS_CODE) {
+                // The server ignored the range; the probe response already carries the whole file
+                log.debug("Server does not support range requests for [{}]; downloading in a single pass", url);
+                Files.deleteIfExists(stateFile);
+                final long totalBytes = parseContentLength(probe);
+                final long downloadedBytes = writeFullResponse(probe, partFile, totalBytes, callback);
+                return complete(partFile, stateFile, stateFile.resolveSibling(fileName),
+                        fileName, totalBytes, downloadedBytes, callback);
+            }
+
+            state = loadOrCreateState(
+                    stateFile,
+                    partFile,
+                    url,
+                    fileName,
+                    parseTotalBytesFromContentRange(probe.header(CONTENT_RANGE)),
+                    probe.header(ETAG),
+                    probe.header(LAST_MODIFIED));
+        }
+
+        final long resumedBytes = state.getCompletedBytes();
+        if (resumedBytes > 0L) {
+            log.info("Resuming download of [{}] at {} of {} bytes", state.getFileName(), resumedBytes,
+                    state.getTotalBytes());
+        }
+
+        try (final FileChannel channel =
+                     FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            fetchSegments(baseRequest, state, stateFile, channel, new AtomicLong(resumedBytes), callback);
+            channel.force(true);
+        } catch (final IllegalStateException ex) {
+            // The remote file changed or the server stopped honoring ranges; the partial content is unusable
+            discard(partFile, stateFile);
+            throw ex;
+        }
+
+        return complete(partFile, stateFile, stateFile.resolveSibling(state.getFileName()),
+                state.getFileName(), state.getTotalBytes(), state.getTotalBytes() - resumedBytes, callback);
+    }
+
+    @VisibleForTesting
+    DownloadState loadOrCreateState(
+            final Path stateFile,
+            final Path partFile,
+            final String url,
+            final String fileName,
+            final long totalBytes,
+            final String etag,
+            final String lastModified) throws IOException {
+        final DownloadState existing = DownloadState.load(stateFile);
+        if (existing != null
+                && Files.isRegularFile(partFile)
+                && existing.isSameFile(fileName, totalBytes, etag, lastModified)) {
+            return existing;
+        }
+
+        Files.deleteIfExists(partFile);
+        final DownloadState state = DownloadState.newState(url, fileName, totalBytes, etag, lastModified, segmentCount);
+        state.save(stateFile);
+        return state;
+    }
+
+    private void fetchSegments(
+            final Request baseRequest,
+            final DownloadState state,
+            final Path stateFile,
+            final FileChannel channel,
+            final AtomicLong progress,
+            final TransferProgressCallback callback) throws IOException, InterruptedException {
+        final List<DownloadState.Segment> pending = state.getSegments().stream()
+                .filter(s -> !s.isComplete())
+                .collect(Collectors.toList());
+        if (pending.size() == 1) {
+            fetchSegment(baseRequest, state, pending.get(0), stateFile, channel, progress, callback);
+            return;
+        }
+
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(Math.max(1, Math.min(pending.size(), segmentCount)));
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(pending.size());
+            for (final DownloadState.Segment segment : pending) {
+                futures.add(executor.submit(() -> {
+                    fetchSegment(baseRequest, state, segment, stateFile, channel, progress, callback);
+                    return null;
+                }));
+            }
+
+            for (final Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException ex) {
+                    futures.forEach(f -> f.cancel(true));
+                    rethrow(ex.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void fetchSegment(
+            final Request baseRequest,
+            final DownloadState state,
+            final DownloadState.Segment segment,
+            final Path stateFile,
+            final FileChannel channel,
+            final AtomicLong progress,
+            final TransferProgressCallback callback) throws IOException {
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                transferSegment(baseRequest, state, segment, stateFile, channel, progress, callback);
+                return;
+            } catch (final IOException | ConnectionException ex) {
+                if (attempt >= maxAttempts || Thread.currentThread().isInterrupted()) {
+                    throw ex;
+                }
+
+                log.warn("Segment [{}-{}] failed on attempt {} of {}; resuming at offset {}: {}",
+                        segment.getStart(), segment.getEnd(), attempt, maxAttempts,
+                        segment.getStart() + segment.getCompletedBytes(), ex.getMessage());
+            }
+        }
+    }
+
+    private void transferSegment(
+            final Request baseRequest,
+            final DownloadState state,
+            final DownloadState.Segment segment,
+            final Path stateFile,
+            final FileChannel channel,
+            final AtomicLong progress,
+            final TransferProgressCallback callback) throws IOException {
+        long position = segment.getStart() + segment.getCompletedBytes();
+        final Request.Builder requestBuilder = baseRequest.newBuilder()
+                .header(RANGE, new StringBuilder("bytes=")
+                        .append(position)
+                        .append("-")
+                        .append(segment.getEnd())
+                        .toString());
+        if (StringUtils.isNotBlank(state.getEtag())) {
+            requestBuilder.header(IF_RANGE, state.getEtag());
+        } else if (StringUtils.isNotBlank(state.getLastModified())) {
+            requestBuilder.header(IF_RANGE, state.getLastModified());
+        }
+
+        try (final Response response = connection.execute(requestBuilder.build())) {
+            if (response.code() != PARTIAL_CONTENT_STATUS_CODE) {
+                throw new IllegalStateException("Server did not honor range request for segment ["
+                        + segment.getStart() + "-" + segment.getEnd() + "] (status " + response.code() + ")");
+            }
+
+            final BufferedSource source = response.body().source();
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE_BYTES);
+            long remaining = segment.getEnd() - position + 1L;
+            long bytesSinceCheckpoint = 0L;
+            while (remaining > 0L) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                final int read = source.read(buffer);
+                if (read == -1) {
+                    throw new EOFException("Unexpected end of stream at offset " + position);
+                }
+
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                remaining -= read;
+                bytesSinceCheckpoint += read;
+                segment.setCompletedBytes(segment.getCompletedBytes() + read);
+                callback.onUpdate(progress.addAndGet(read), state.getTotalBytes());
+
+                if (bytesSinceCheckpoint >= checkpointIntervalBytes) {
+                    checkpoint(channel, state, stateFile);
+                    bytesSinceCheckpoint = 0L;
+                }
+            }
+        }
+
+        checkpoint(channel, state, stateFile);
+    }
+
+    // Other segments keep writing while the channel is forced, so only the progress captured before forcing is
+    // known to be durable; bytes are always written before they are counted in a segment's progress.
+    private static void checkpoint(
+            final FileChannel channel,
+            final DownloadState state,
+            final Path stateFile) throws IOException {
+        synchronized (state) {
+            final DownloadState durableState = state.snapshot();
+            channel.force(false);
+            durableState.save(stateFile);
+        }
+    }
+
+    private static long writeFullResponse(
+            final Response response,
+            final Path partFile,
+            final long totalBytes,
+            final TransferProgressCallback callback) throws IOException {
+        final BufferedSource source = response.body().source();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE_BYTES);
+        long position = 0L;
+        try (final FileChannel channel = FileChannel.open(partFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                buffer.clear();
+                callback.onUpdate(position, totalBytes);
+            }
+            channel.force(true);
+        }
+
+        return position;
+    }
+
+    private static DownloadInformation complete(
+            final Path partFile,
+            final Path stateFile,
+            final Path downloadPath,
+            final String fileName,
+            final long totalBytes,
+            final long downloadedBytes,
+            final TransferProgressCallback callback) throws IOException {
+        final long actualBytes = Files.size(partFile);
+        if (actualBytes != totalBytes) {
+            discard(partFile, stateFile);
+            throw new IllegalStateException("Downloaded size [" + actualBytes
+                    + "] does not match the expected Content-Length [" + totalBytes + "]");
+        }
+
+        Files.move(partFile, downloadPath, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(stateFile);
+        callback.onComplete(totalBytes);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Downloaded [{}] bytes to [{}]", downloadedBytes, downloadPath);
+        }
+
+        return DownloadInformation.builder()
+                .fileName(fileName)
+                .sizeBytes(totalBytes)
+                .downloadPath(downloadPath)
+                .downloadedBytes(downloadedBytes)
+                .build();
+    }
+
+    private static void discard(final Path partFile, final Path stateFile) throws IOException {
+        Files.deleteIfExists(partFile);
+        Files.deleteIfExists(stateFile);
+    }
+
+    @VisibleForTesting
+    static long parseContentLength(final Response response) {
+        return Optional.ofNullable(response.header(CONTENT_LENGTH))
+                .map(Long::parseLong)
+                .orElseThrow(() -> new IllegalStateException("Response does not define a CONTENT_LENGTH header"));
+    }
+
+    @VisibleForTesting
+    static long parseTotalBytesFromContentRange(final String headerValue) {
+        Validate.notBlank(headerValue, "Content-Range header value must not be blank");
+        final int separatorIndex = headerValue.lastIndexOf('/');
+        final String total = separatorIndex < 0 ? StringUtils.EMPTY : headerValue.substring(separatorIndex + 1);
+        Validate.isTrue(StringUtils.isNotBlank(total) && !"*".equals(total),
+                "Content-Range header value does not define the total size: " + headerValue);
+
+        return Long.parseLong(total.trim());
+    }
+
+    @VisibleForTesting
+    static String toStateKey(final String url) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(".discogs-download-");
+            for (int i = 0; i < 8; ++i) {
+                sb.append(String.format("%02x", digest[i]));
+            }
+
+            return sb.toString();
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static void rethrow(final Throwable cause) throws IOException {
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        throw new IOException(cause);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes the outcome of a {@link DiscographyCrawler#crawl} invocation.
+ */
+@Builder
+@Data
+public class DiscographyCrawlSummary {
+    /** The number of unique artists whose releases were listed. */
+    private final int artistCount;
+    /** The number of unique master releases whose versions were listed. */
+    private final int masterCount;
+    /** The number of unique releases emitted to the listener. */
+    private final int releaseCount;
+    /** The number of API requests issued, excluding retries. */
+    private final int requestCount;
+    /** The number of API requests that failed after retries. */
+    private final int failedRequestCount;
+}
@@ -0,0 +1,258 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.collect.LongHashSet;
+import com.amilesend.discogs.concurrent.BatchedRequests;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.PageKey;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.GetArtistReleasesRequest;
+import com.amilesend.discogs.model.database.GetMasterReleaseVersionsRequest;
+import com.amilesend.discogs.model.database.GetReleaseRequest;
+import com.amilesend.discogs.model.database.type.MasterReleaseVersion;
+import com.amilesend.discogs.model.type.Artist;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Crawls the discography of one or more artists breadth-first: artist releases and masters, then the versions of
+ * each master, then each release. Identifiers are deduplicated across the whole crawl with {@link LongHashSet}s so
+ * that each artist, master, and release is requested once, and the requests of each step are issued concurrently
+ * with a {@link BulkExecutor} within the rate limit.
+ * <p>
+ * Fetched releases are streamed to a {@link DiscographyListener} and are not retained, so memory beyond the visited
+ * identifier sets stays proportional to the current frontier. When {@code maxDepth} is greater than zero, the main
+ * artists credited on each fetched release are crawled in turn, up to the given number of artist hops. The
+ * "Various" artist is never crawled.
+ * Example:
+ * <pre>
+ * final DiscographyCrawler crawler = DiscographyCrawler.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .build();
+ * final DiscographyCrawlSummary summary = crawler.crawl(artistId, (release, depth) -&gt; index(release));
+ * </pre>
+ *
+ * @see DiscographyListener
+ * @see DiscographyCrawlSummary
+ */
+@Slf4j
+@Getter
+public class DiscographyCrawler {
+    /** The maximum number of items returned per page. */
+    public static final int MAX_PAGE_SIZE = 100;
+    /** The identifier of the "Various" artist that is credited on compilations. */
+    public static final long VARIOUS_ARTIST_ID = 194L;
+
+    private static final String MASTER_TYPE = "master";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The executor used to issue the requests. */
+    private final BulkExecutor bulkExecutor;
+    /** The maximum number of artist hops from the seed artists. */
+    private final int maxDepth;
+    /** The number of items to request per page. */
+    private final int pageSize;
+    /** The maximum number of requests submitted to the executor at once. */
+    private final int batchSize;
+
+    /**
+     * Creates a new {@code DiscographyCrawler}.
+     *
+     * @param databaseApi the database API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param maxDepth the maximum number of artist hops from the seed artists (optional; default is 0, which only
+     *                 crawls the seed artists)
+     * @param pageSize the number of items to request per page (optional; default is {@link #MAX_PAGE_SIZE})
+     * @param batchSize the maximum number of requests submitted to the executor at once, which bounds the number of
+     *                  responses held in memory (optional; default is 100)
+     */
+    @Builder
+    private DiscographyCrawler(
+            @NonNull final DatabaseApi databaseApi,
+            final BulkExecutor bulkExecutor,
+            final Integer maxDepth,
+            final Integer pageSize,
+            final Integer batchSize) {
+        this.databaseApi = databaseApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.maxDepth = Optional.ofNullable(maxDepth).orElse(0);
+        this.pageSize = Optional.ofNullable(pageSize).orElse(MAX_PAGE_SIZE);
+        this.batchSize = Optional.ofNullable(batchSize).orElse(DEFAULT_BATCH_SIZE);
+        Validate.isTrue(this.maxDepth >= 0, "maxDepth must be >= 0");
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be > 0 and <= " + MAX_PAGE_SIZE);
+        Validate.isTrue(this.batchSize > 0, "batchSize must be > 0");
+    }
+
+    /**
+     * Crawls the discography of the given artist.
+     *
+     * @param artistId the artist identifier
+     * @param listener notified with each fetched release
+     * @return the crawl summary
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public DiscographyCrawlSummary crawl(final long artistId, @NonNull final DiscographyListener listener)
+            throws InterruptedException {
+        return crawl(List.of(artistId), listener);
+    }
+
+    /**
+     * Crawls the discographies of the given artists.
+     *
+     * @param artistIds the seed artist identifiers
+     * @param listener notified with each fetched release
+     * @return the crawl summary
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public DiscographyCrawlSummary crawl(
+            @NonNull final Collection<Long> artistIds,
+            @NonNull final DiscographyListener listener) throws InterruptedException {
+        final CrawlRun run = new CrawlRun(listener);
+        LongHashSet frontier = new LongHashSet(Math.max(artistIds.size(), 1));
+        for (final Long artistId : artistIds) {
+            Validate.isTrue(Objects.nonNull(artistId) && artistId > 0L, "artistIds must be > 0");
+            if (run.visitedArtists.add(artistId)) {
+                frontier.add(artistId);
+            }
+        }
+
+        for (int depth = 0; !frontier.isEmpty(); ++depth) {
+            frontier = run.crawlLevel(frontier.toArray(), depth);
+        }
+
+        final DiscographyCrawlSummary summary = DiscographyCrawlSummary.builder()
+                .artistCount(run.visitedArtists.getSize())
+                .masterCount(run.visitedMasters.getSize())
+                .releaseCount(run.releaseCount)
+                .requestCount(run.requests.getRequestCount())
+                .failedRequestCount(run.requests.getFailedRequestCount())
+                .build();
+        log.debug("Crawled discography: {}", summary);
+        return summary;
+    }
+
+    /** Holds the state of a single {@link #crawl} invocation. */
+    @RequiredArgsConstructor
+    private class CrawlRun {
+        private final DiscographyListener listener;
+        private final LongHashSet visitedArtists = new LongHashSet();
+        private final LongHashSet visitedMasters = new LongHashSet();
+        private final LongHashSet visitedReleases = new LongHashSet();
+        private final BatchedRequests requests = new BatchedRequests(bulkExecutor, batchSize);
+        private int releaseCount;
+
+        /**
+         * Crawls the given artists and returns the artists to crawl at the next depth.
+         */
+        LongHashSet crawlLevel(final long[] artistIds, final int depth) throws InterruptedException {
+            final LongHashSet releaseIds = new LongHashSet();
+            final LongHashSet masterIds = new LongHashSet();
+            fetchAllPages(artistIds, (id, page) -> databaseApi.getArtistReleases(GetArtistReleasesRequest.builder()
+                            .artistId(id)
+                            .page(page)
+                            .perPage(pageSize)
+                            .build()),
+                    response -> Optional.ofNullable(response.getReleases()).orElse(List.of()).stream()
+                            .filter(r -> Objects.nonNull(r) && Objects.nonNull(r.getId()))
+                            .forEach(r -> {
+                                if (MASTER_TYPE.equals(r.getType())) {
+                                    if (visitedMasters.add(r.getId())) {
+                                        masterIds.add(r.getId());
+                                    }
+                                } else if (visitedReleases.add(r.getId())) {
+                                    releaseIds.add(r.getId());
+                                }
+                            }));
+
+            fetchAllPages(masterIds.toArray(), (id, page) -> databaseApi.getMasterReleaseVersions(
+                            GetMasterReleaseVersionsRequest.builder()
+                                    .masterId(id)
+                                    .page(page)
+                                    .perPage(pageSize)
+                                    .build()),
+                    response -> Optional.ofNullable(response.getVersions()).orElse(List.of()).stream()
+                            .map(MasterReleaseVersion::getId)
+                            .filter(Objects::nonNull)
+                            .filter(visitedReleases::add)
+                            .forEach(releaseIds::add));
+
+            final LongHashSet nextArtistIds = new LongHashSet();
+            requests.execute(toList(releaseIds.toArray()),
+                    id -> databaseApi.getRelease(GetReleaseRequest.builder().releaseId(id).build()),
+                    (releaseId, release) -> {
+                        ++releaseCount;
+                        listener.onRelease(release, depth);
+                        if (depth < maxDepth) {
+                            Optional.ofNullable(release.getArtists()).orElse(List.of()).stream()
+                                    .map(Artist::getId)
+                                    .filter(id -> Objects.nonNull(id) && id > 0L && id != VARIOUS_ARTIST_ID)
+                                    .filter(visitedArtists::add)
+                                    .forEach(nextArtistIds::add);
+                        }
+                    });
+
+            log.debug("Crawled depth {}: artists={}, masters={}, releases={}",
+                    depth, artistIds.length, masterIds.getSize(), releaseIds.getSize());
+            return nextArtistIds;
+        }
+
+        // Requests the first page of each identifier, then the remaining pages by page number
+        private <R extends PaginatedResponseBase<R>> void fetchAllPages(
+                final long[] ids,
+                final BiFunction<Long, Integer, R> request,
+                final Consumer<R> onPage) throws InterruptedException {
+            final List<PageKey<Long>> remainingPages = new ArrayList<>();
+            requests.execute(toList(ids).stream().map(id -> new PageKey<>(id, 1)).collect(Collectors.toList()),
+                    key -> request.apply(key.getRequest(), key.getPage()),
+                    (key, response) -> {
+                        onPage.accept(response);
+                        final int pages = Optional.ofNullable(response.getPagination())
+                                .map(PaginatedResponseBase.Pagination::getPages)
+                                .orElse(1);
+                        for (int page = 2; page <= pages; ++page) {
+                            remainingPages.add(new PageKey<>(key.getRequest(), page));
+                        }
+                    });
+            requests.execute(remainingPages, key -> request.apply(key.getRequest(), key.getPage()),
+                    (key, response) -> onPage.accept(response));
+        }
+    }
+
+    private static List<Long> toList(final long[] ids) {
+        return LongStream.of(ids).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.discogs.model.database.GetReleaseResponse;
+
+/**
+ * Listener that is notified of each release found by a crawl. Invocations are serialized.
+ *
+ * @see DiscographyCrawler
+ */
+@FunctionalInterface
+public interface DiscographyListener {
+    /**
+     * Invoked when a release is fetched.
+     *
+     * @param release the release
+     * @param depth the number of artist hops from the seed artists (i.e., 0 for a release of a seed artist)
+     */
+    void onRelease(GetReleaseResponse release, int depth);
+}
@@ -0,0 +1,280 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.collect.LongHashSet;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.GetLabelReleasesRequest;
+import com.amilesend.discogs.model.database.GetLabelReleasesResponse;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Crawls label catalogs into compact {@link LabelCatalogSnapshot}s that are persisted in a
+ * {@link LabelCatalogStore}. The first page of a catalog is requested to learn the page count, and the remaining
+ * pages are requested concurrently with a {@link BulkExecutor} within the rate limit.
+ * <p>
+ * On refresh, each page is hashed and compared with the hash stored in the previous snapshot so that the result
+ * lists only the pages whose contents changed. The API offers no way to learn a page's contents without requesting
+ * it, so every page is requested by default. When {@code quickCheck} is enabled, a catalog whose entry count, page
+ * count, and first page are unchanged is assumed unchanged after a single request. This misses edits that are
+ * confined to later pages, so only enable it for frequent refreshes that are backed by a periodic full refresh.
+ * Example:
+ * <pre>
+ * final LabelCatalogCrawler crawler = LabelCatalogCrawler.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .store(new LabelCatalogStore(Path.of("catalogs")))
+ *         .build();
+ * final LabelCatalogRefreshResult result = crawler.refresh(labelId);
+ * </pre>
+ *
+ * @see LabelCatalogSnapshot
+ * @see LabelCatalogRefreshResult
+ */
+@Slf4j
+@Getter
+public class LabelCatalogCrawler {
+    /** The maximum number of entries returned per page. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final long HASH_SEED = 1125899906842597L;
+
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The store of catalog snapshots. */
+    private final LabelCatalogStore store;
+    /** The executor used to request the pages. */
+    private final BulkExecutor bulkExecutor;
+    /** The number of entries to request per page. */
+    private final int pageSize;
+    /** Flag indicator to assume a catalog is unchanged when its counts and first page are unchanged. */
+    private final boolean quickCheck;
+
+    /**
+     * Creates a new {@code LabelCatalogCrawler}.
+     *
+     * @param databaseApi the database API
+     * @param store the store of catalog snapshots
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param pageSize the number of entries to request per page (optional; default is {@link #MAX_PAGE_SIZE})
+     * @param quickCheck {@code true} to assume a catalog is unchanged when its counts and first page are unchanged
+     *                   (optional; default is {@code false})
+     */
+    @Builder
+    private LabelCatalogCrawler(
+            @NonNull final DatabaseApi databaseApi,
+            @NonNull final LabelCatalogStore store,
+            final BulkExecutor bulkExecutor,
+            final Integer pageSize,
+            final Boolean quickCheck) {
+        this.databaseApi = databaseApi;
+        this.store = store;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.pageSize = Optional.ofNullable(pageSize).orElse(MAX_PAGE_SIZE);
+        this.quickCheck = Optional.ofNullable(quickCheck).orElse(Boolean.FALSE);
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be > 0 and <= " + MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Crawls the catalog of the given label and saves the snapshot when every page was fetched. When there is no
+     * previous snapshot, every page is reported as changed.
+     *
+     * @param labelId the label identifier
+     * @return the refresh result
+     * @throws IOException if an error occurred while reading or writing the snapshot
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public LabelCatalogRefreshResult refresh(final long labelId) throws IOException, InterruptedException {
+        Validate.isTrue(labelId > 0L, "labelId must be > 0");
+        final LabelCatalogSnapshot previous = store.get(labelId);
+        final boolean comparable = Objects.nonNull(previous) && previous.getPageSize() == pageSize;
+
+        final CatalogPage firstPage = fetchPages(labelId, List.of(1)).get(0).getResult();
+        if (Objects.isNull(firstPage)) {
+            return newFailedResult(labelId, 1, 1);
+        }
+
+        final int pageCount = Math.max(firstPage.pageCount, 1);
+        if (quickCheck
+                && comparable
+                && firstPage.itemCount == previous.size()
+                && pageCount == previous.getPageCount()
+                && firstPage.hash == previous.getPageHash(0)) {
+            log.debug("Label {} catalog is unchanged", labelId);
+            return LabelCatalogRefreshResult.builder()
+                    .labelId(labelId)
+                    .pageCount(pageCount)
+                    .itemCount(previous.size())
+                    .requestCount(1)
+                    .changedPages(List.of())
+                    .build();
+        }
+
+        final List<CatalogPage> pages = new ArrayList<>(pageCount);
+        pages.add(firstPage);
+        int failedPageCount = 0;
+        for (final BulkItemResult<Integer, CatalogPage> result : fetchPages(labelId,
+                IntStream.rangeClosed(2, pageCount).boxed().collect(Collectors.toList()))) {
+            if (Objects.isNull(result.getResult())) {
+                ++failedPageCount;
+                log.debug("Unable to fetch label {} page {}: {}", labelId, result.getItem(), result.getErrorMessage());
+            }
+            pages.add(result.getResult());
+        }
+        if (failedPageCount > 0) {
+            return newFailedResult(labelId, pageCount, failedPageCount);
+        }
+
+        final List<Integer> changedPages = new ArrayList<>();
+        for (int i = 0; i < pageCount; ++i) {
+            if (!comparable || i >= previous.getPageCount() || pages.get(i).hash != previous.getPageHash(i)) {
+                changedPages.add(i + 1);
+            }
+        }
+
+        final LabelCatalogSnapshot snapshot = toSnapshot(labelId, pages);
+        int addedCount = 0;
+        int removedCount = 0;
+        if (!changedPages.isEmpty()) {
+            final LongHashSet currentIds = snapshot.getReleaseIdSet();
+            final LongHashSet previousIds = Objects.isNull(previous) ? new LongHashSet() : previous.getReleaseIdSet();
+            addedCount = countMissing(currentIds, previousIds);
+            removedCount = countMissing(previousIds, currentIds);
+        }
+        store.put(snapshot);
+
+        final LabelCatalogRefreshResult result = LabelCatalogRefreshResult.builder()
+                .labelId(labelId)
+                .pageCount(pageCount)
+                .itemCount(snapshot.size())
+                .requestCount(pageCount)
+                .changedPages(changedPages)
+                .addedCount(addedCount)
+                .removedCount(removedCount)
+                .build();
+        log.debug("Refreshed label {} catalog: {}", labelId, result);
+        return result;
+    }
+
+    private List<BulkItemResult<Integer, CatalogPage>> fetchPages(final long labelId, final List<Integer> pages)
+            throws InterruptedException {
+        return bulkExecutor.execute(pages, page -> Optional.ofNullable(databaseApi.getLabelReleases(
+                GetLabelReleasesRequest.builder()
+                        .labelId(labelId)
+                        .page(page)
+                        .perPage(pageSize)
+                        .build()))
+                .map(CatalogPage::new)
+                .orElse(null), null);
+    }
+
+    private LabelCatalogSnapshot toSnapshot(final long labelId, final List<CatalogPage> pages) {
+        final int size = pages.stream().mapToInt(p -> p.releaseIds.length).sum();
+        final long[] releaseIds = new long[size];
+        final String[] catalogNumbers = new String[size];
+        final int[] years = new int[size];
+        final long[] pageHashes = new long[pages.size()];
+        int offset = 0;
+        for (int i = 0; i < pages.size(); ++i) {
+            final CatalogPage page = pages.get(i);
+            final int length = page.releaseIds.length;
+            System.arraycopy(page.releaseIds, 0, releaseIds, offset, length);
+            System.arraycopy(page.catalogNumbers, 0, catalogNumbers, offset, length);
+            System.arraycopy(page.years, 0, years, offset, length);
+            pageHashes[i] = page.hash;
+            offset += length;
+        }
+
+        return new LabelCatalogSnapshot(labelId, pageSize, releaseIds, catalogNumbers, years, pageHashes);
+    }
+
+    private static int countMissing(final LongHashSet ids, final LongHashSet other) {
+        int count = 0;
+        for (final long id : ids.toArray()) {
+            if (!other.contains(id)) {
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    private static LabelCatalogRefreshResult newFailedResult(
+            final long labelId,
+            final int pageCount,
+            final int failedPageCount) {
+        return LabelCatalogRefreshResult.builder()
+                .labelId(labelId)
+                .pageCount(pageCount)
+                .requestCount(pageCount)
+                .failedPageCount(failedPageCount)
+                .changedPages(List.of())
+                .build();
+    }
+
+    /** The compact contents of a single catalog page. */
+    private static class CatalogPage {
+        private final long[] releaseIds;
+        private final String[] catalogNumbers;
+        private final int[] years;
+        private final long hash;
+        private final int pageCount;
+        private final int itemCount;
+
+        CatalogPage(final GetLabelReleasesResponse response) {
+            final List<GetLabelReleasesResponse.LabelRelease> releases =
+                    Optional.ofNullable(response.getReleases()).orElse(List.of());
+            releaseIds = new long[releases.size()];
+            catalogNumbers = new String[releases.size()];
+            years = new int[releases.size()];
+            long pageHash = HASH_SEED;
+            for (int i = 0; i < releases.size(); ++i) {
+                final GetLabelReleasesResponse.LabelRelease release = releases.get(i);
+                releaseIds[i] = Optional.ofNullable(release).map(GetLabelReleasesResponse.LabelRelease::getId)
+                        .orElse(0L);
+                catalogNumbers[i] = Objects.isNull(release) ? null : release.getCatalogNumber();
+                years[i] = Optional.ofNullable(release).map(GetLabelReleasesResponse.LabelRelease::getYear)
+                        .orElse(LabelCatalogSnapshot.NO_YEAR);
+                pageHash = 31L * pageHash + releaseIds[i];
+                pageHash = 31L * pageHash + Objects.hashCode(catalogNumbers[i]);
+                pageHash = 31L * pageHash + years[i];
+            }
+
+            final PaginatedResponseBase.Pagination pagination = response.getPagination();
+            hash = pageHash;
+            pageCount = Optional.ofNullable(pagination).map(PaginatedResponseBase.Pagination::getPages).orElse(1);
+            itemCount = Optional.ofNullable(pagination).map(PaginatedResponseBase.Pagination::getItems)
+                    .orElse(releases.size());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Describes the outcome of a {@link LabelCatalogCrawler#refresh} invocation.
+ */
+@Builder
+@Data
+public class LabelCatalogRefreshResult {
+    /** The label identifier. */
+    private final long labelId;
+    /** The number of catalog pages. */
+    private final int pageCount;
+    /** The number of catalog entries. */
+    private final int itemCount;
+    /** The number of API requests issued, excluding retries. */
+    private final int requestCount;
+    /** The number of catalog pages that could not be fetched; the snapshot is only saved when this is zero. */
+    private final int failedPageCount;
+    /** The one-based numbers of the pages whose contents differ from the previous snapshot. */
+    private final List<Integer> changedPages;
+    /** The number of releases that were not in the previous snapshot. */
+    private final int addedCount;
+    /** The number of releases in the previous snapshot that are no longer in the catalog. */
+    private final int removedCount;
+
+    /**
+     * Determines if the catalog changed since the previous snapshot.
+     *
+     * @return {@code true} if any page changed; else, {@code false}
+     */
+    public boolean isChanged() {
+        return !changedPages.isEmpty();
+    }
+}
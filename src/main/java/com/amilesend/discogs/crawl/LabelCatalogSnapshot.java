@@ -0,0 +1,147 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.collect.LongHashSet;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * A compact snapshot of a label catalog that keeps the release identifier, catalog number, and year of each entry
+ * in primitive arrays in catalog order, along with a hash of each catalog page that is used to detect changes on
+ * refresh.
+ *
+ * @see LabelCatalogCrawler
+ * @see LabelCatalogStore
+ */
+public class LabelCatalogSnapshot {
+    /** The year value for entries without a year. */
+    public static final int NO_YEAR = 0;
+
+    /** The label identifier. */
+    @Getter
+    private final long labelId;
+    /** The number of entries per catalog page that the page hashes were computed with. */
+    @Getter
+    private final int pageSize;
+    private final long[] releaseIds;
+    private final String[] catalogNumbers;
+    private final int[] years;
+    private final long[] pageHashes;
+
+    /**
+     * Creates a new {@code LabelCatalogSnapshot}.
+     *
+     * @param labelId the label identifier
+     * @param pageSize the number of entries per catalog page
+     * @param releaseIds the release identifier of each entry
+     * @param catalogNumbers the catalog number of each entry
+     * @param years the year of each entry, or {@link #NO_YEAR}
+     * @param pageHashes the hash of each catalog page
+     */
+    LabelCatalogSnapshot(
+            final long labelId,
+            final int pageSize,
+            @NonNull final long[] releaseIds,
+            @NonNull final String[] catalogNumbers,
+            @NonNull final int[] years,
+            @NonNull final long[] pageHashes) {
+        Validate.isTrue(labelId > 0L, "labelId must be > 0");
+        Validate.isTrue(pageSize > 0, "pageSize must be > 0");
+        Validate.isTrue(releaseIds.length == catalogNumbers.length && releaseIds.length == years.length,
+                "entry arrays must have the same length");
+        this.labelId = labelId;
+        this.pageSize = pageSize;
+        this.releaseIds = releaseIds;
+        this.catalogNumbers = catalogNumbers;
+        this.years = years;
+        this.pageHashes = pageHashes;
+    }
+
+    /**
+     * Gets the number of catalog entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return releaseIds.length;
+    }
+
+    /**
+     * Gets the number of catalog pages.
+     *
+     * @return the number of pages
+     */
+    public int getPageCount() {
+        return pageHashes.length;
+    }
+
+    /**
+     * Gets the release identifier of the given entry.
+     *
+     * @param index the entry index
+     * @return the release identifier
+     */
+    public long getReleaseId(final int index) {
+        return releaseIds[index];
+    }
+
+    /**
+     * Gets the catalog number of the given entry.
+     *
+     * @param index the entry index
+     * @return the catalog number, or {@code null} if not defined
+     */
+    public String getCatalogNumber(final int index) {
+        return catalogNumbers[index];
+    }
+
+    /**
+     * Gets the year of the given entry.
+     *
+     * @param index the entry index
+     * @return the year, or {@link #NO_YEAR} if not defined
+     */
+    public int getYear(final int index) {
+        return years[index];
+    }
+
+    /**
+     * Gets the hash of the given catalog page.
+     *
+     * @param page the zero-based page index
+     * @return the page hash
+     */
+    public long getPageHash(final int page) {
+        return pageHashes[page];
+    }
+
+    /**
+     * Gets the unique release identifiers in the catalog.
+     *
+     * @return the release identifiers
+     */
+    public LongHashSet getReleaseIdSet() {
+        final LongHashSet ids = new LongHashSet(Math.max(releaseIds.length, 1));
+        Arrays.stream(releaseIds).filter(id -> id > 0L).forEach(ids::add);
+        return ids;
+    }
+}
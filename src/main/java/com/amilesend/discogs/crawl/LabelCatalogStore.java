@@ -0,0 +1,140 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.connection.AtomicFileWriter;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Persists {@link LabelCatalogSnapshot}s as one compact binary file per label within a directory. Each file is
+ * replaced atomically when saved.
+ *
+ * @see AtomicFileWriter
+ */
+public class LabelCatalogStore {
+    private static final int FORMAT_VERSION = 1;
+
+    /** The directory that contains the snapshot files. */
+    @Getter
+    private final Path directory;
+
+    /**
+     * Creates a new {@code LabelCatalogStore}.
+     *
+     * @param directory the directory that contains the snapshot files
+     */
+    public LabelCatalogStore(@NonNull final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the saved snapshot for the given label.
+     *
+     * @param labelId the label identifier
+     * @return the snapshot, or {@code null} if none is saved
+     * @throws IOException if an error occurred while reading the snapshot file
+     */
+    public synchronized LabelCatalogSnapshot get(final long labelId) throws IOException {
+        final Path file = getSnapshotFile(labelId);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + version + " in " + file);
+            }
+
+            final long storedLabelId = in.readLong();
+            final int pageSize = in.readInt();
+            final int size = in.readInt();
+            final long[] releaseIds = new long[size];
+            final String[] catalogNumbers = new String[size];
+            final int[] years = new int[size];
+            for (int i = 0; i < size; ++i) {
+                releaseIds[i] = in.readLong();
+                catalogNumbers[i] = in.readBoolean() ? in.readUTF() : null;
+                years[i] = in.readInt();
+            }
+            final long[] pageHashes = new long[in.readInt()];
+            for (int i = 0; i < pageHashes.length; ++i) {
+                pageHashes[i] = in.readLong();
+            }
+
+            return new LabelCatalogSnapshot(storedLabelId, pageSize, releaseIds, catalogNumbers, years, pageHashes);
+        }
+    }
+
+    /**
+     * Saves the given snapshot, replacing any previously saved snapshot for the label.
+     *
+     * @param snapshot the snapshot
+     * @throws IOException if an error occurred while writing the snapshot file
+     */
+    public synchronized void put(@NonNull final LabelCatalogSnapshot snapshot) throws IOException {
+        Files.createDirectories(directory);
+        final Path file = getSnapshotFile(snapshot.getLabelId());
+        AtomicFileWriter.write(file, output -> {
+            try (final DataOutputStream out = new DataOutputStream(output)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.getLabelId());
+                out.writeInt(snapshot.getPageSize());
+                out.writeInt(snapshot.size());
+                for (int i = 0; i < snapshot.size(); ++i) {
+                    out.writeLong(snapshot.getReleaseId(i));
+                    final String catalogNumber = snapshot.getCatalogNumber(i);
+                    out.writeBoolean(Objects.nonNull(catalogNumber));
+                    if (Objects.nonNull(catalogNumber)) {
+                        out.writeUTF(catalogNumber);
+                    }
+                    out.writeInt(snapshot.getYear(i));
+                }
+                out.writeInt(snapshot.getPageCount());
+                for (int i = 0; i < snapshot.getPageCount(); ++i) {
+                    out.writeLong(snapshot.getPageHash(i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the saved snapshot for the given label.
+     *
+     * @param labelId the label identifier
+     * @throws IOException if an error occurred while deleting the snapshot file
+     */
+    public synchronized void remove(final long labelId) throws IOException {
+        Files.deleteIfExists(getSnapshotFile(labelId));
+    }
+
+    private Path getSnapshotFile(final long labelId) {
+        Validate.isTrue(labelId > 0L, "labelId must be > 0");
+        return directory.resolve("label-" + labelId + ".catalog");
+    }
+}
@@ -17,9 +17,11 @@
  */
 package com.amilesend.discogs.csv;
 
+import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
 import com.amilesend.discogs.csv.type.InventoryHeader;
 import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.csv.type.InventoryRecordBatch;
 import com.amilesend.discogs.csv.type.InventoryRecordType;
 import com.amilesend.discogs.csv.validation.ValidationException;
 import lombok.Builder;
@@ -29,13 +31,25 @@ import lombok.NonNull;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +59,10 @@ import java.util.stream.Collectors;
 @Getter
 @EqualsAndHashCode
 public class InventoryCsvWriter implements AutoCloseable {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final long ENQUEUE_POLL_INTERVAL_MILLIS = 100L;
+    private static final Future<List<String>> END_OF_RECORDS = CompletableFuture.completedFuture(null);
+
     /** The path of the CSV file to write. */
     private final Path csvFile;
     /** Indicator to append an existing file, or to overwrite and create a new CSV file. */
@@ -63,19 +81,53 @@ public class InventoryCsvWriter implements AutoCloseable {
      * @see InventoryRecordType
      */
     private final InventoryRecordType recordType;
+    /**
+     * Indicator to validate records on worker threads and print them on a dedicated writer thread for
+     * {@link #writeAll(Iterable)}.
+     */
+    private final boolean isAsync;
+    /** The number of worker threads used to validate records when {@link #isAsync} is enabled. */
+    private final int workerCount;
+    /** The maximum number of records in flight between the validation workers and the writer thread. */
+    private final int queueCapacity;
 
+    /**
+     * Creates a new {@code InventoryCsvWriter}.
+     *
+     * @param csvFile the path of the CSV file to write (required)
+     * @param headers the headers to include in the CSV file (required)
+     * @param recordType the record type (required)
+     * @param csvFormat the CSV format (optional; default is {@link CSVFormat#RFC4180})
+     * @param isAppended {@code true} to append to an existing file
+     * @param bufferSizeBytes the size of the output buffer (optional; default is the JDK default)
+     * @param isAsync {@code true} to validate and write records concurrently for {@link #writeAll(Iterable)}
+     * @param workerCount the number of validation worker threads (optional; default is the number of processors)
+     * @param queueCapacity the maximum number of in-flight records (optional; default is 1024)
+     * @throws IOException if an error occurred while creating the file
+     * @throws ValidationException if the headers are invalid
+     */
     @Builder
     private InventoryCsvWriter(
             @NonNull final Path csvFile,
             @NonNull final List<InventoryHeader> headers,
             @NonNull final InventoryRecordType recordType,
             final CSVFormat csvFormat,
-            final boolean isAppended) throws IOException, ValidationException {
+            final boolean isAppended,
+            final Integer bufferSizeBytes,
+            final boolean isAsync,
+            final Integer workerCount,
+            final Integer queueCapacity) throws IOException, ValidationException {
         this.headers = new ArrayList<>(headers);
         this.isAppended = isAppended;
         this.recordType = recordType;
+        this.isAsync = isAsync;
+        this.workerCount = Optional.ofNullable(workerCount).orElse(Runtime.getRuntime().availableProcessors());
+        this.queueCapacity = Optional.ofNullable(queueCapacity).orElse(DEFAULT_QUEUE_CAPACITY);
 
         validateRequiredHeaders(headers, recordType);
+        Validate.isTrue(this.workerCount > 0, "workerCount must be > 0");
+        Validate.isTrue(this.queueCapacity > 0, "queueCapacity must be > 0");
+        Validate.isTrue(Objects.isNull(bufferSizeBytes) || bufferSizeBytes > 0, "bufferSizeBytes must be > 0");
 
         if (isAppended) {
             Validate.isTrue(Files.isRegularFile(csvFile), "CSV file must already exist and be regular");
@@ -83,16 +135,47 @@ public class InventoryCsvWriter implements AutoCloseable {
             this.csvFile = csvFile;
         } else {
             Files.deleteIfExists(csvFile);
-            Files.createDirectories(csvFile);
+            final Path parentFolder = csvFile.getParent();
+            if (Objects.nonNull(parentFolder)) {
+                Files.createDirectories(parentFolder);
+            }
             this.csvFile = Files.createFile(csvFile);
         }
 
-        this.csvPrinter = Optional.ofNullable(csvFormat)
+        final CSVFormat format = Optional.ofNullable(csvFormat)
                 .orElse(CSVFormat.RFC4180)
                 .builder()
                 .setHeader(toCsvHeaders(this.headers))
-                .get()
-                .print(this.csvFile, StandardCharsets.UTF_8);
+                .get();
+        this.csvPrinter = Objects.isNull(bufferSizeBytes)
+                ? format.print(this.csvFile, StandardCharsets.UTF_8)
+                : format.print(new BufferedWriter(
+                        new OutputStreamWriter(Files.newOutputStream(this.csvFile), StandardCharsets.UTF_8),
+                        bufferSizeBytes));
+    }
+
+    /**
+     * Creates a new CSV file with the given writer configuration, writes its contents with the given action, and
+     * closes the file.
+     *
+     * @param builder the configured writer builder
+     * @param action the action that writes records with the created writer
+     * @return the path of the written CSV file
+     * @throws IOException if an error occurred while writing or closing the file
+     * @throws ValidationException if the headers or a record are invalid
+     */
+    public static Path writeFile(@NonNull final InventoryCsvWriterBuilder builder, @NonNull final WriteAction action)
+            throws IOException, ValidationException {
+        final InventoryCsvWriter csvWriter = builder.build();
+        try (csvWriter) {
+            action.write(csvWriter);
+        } catch (final IOException | ValidationException | RuntimeException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new IOException("Unable to close CSV file: " + csvWriter.getCsvFile(), ex);
+        }
+
+        return csvWriter.getCsvFile();
     }
 
     /**
@@ -107,6 +190,54 @@ public class InventoryCsvWriter implements AutoCloseable {
         csvPrinter.printRecord(record.toCsvRow(headers, recordType));
     }
 
+    /**
+     * Writes all records to the CSV file in iteration order. When {@link #isAsync()} is enabled, records are
+     * validated and formatted on worker threads while a single writer thread prints them in order, so that record
+     * generation by the caller overlaps with file I/O. In either mode, processing stops at the first invalid
+     * record and all records that precede it are written.
+     *
+     * @param records the records to write
+     * @return the number of records written
+     * @throws ValidationException if there is an error with a record
+     * @throws IOException if there is an issue writing the records to the file
+     */
+    public long writeAll(@NonNull final Iterable<InventoryRecord> records) throws ValidationException, IOException {
+        if (!isAsync) {
+            long count = 0L;
+            for (final InventoryRecord record : records) {
+                write(record);
+                ++count;
+            }
+
+            return count;
+        }
+
+        return writeAllAsync(records);
+    }
+
+    /**
+     * Writes all rows of a columnar batch to the CSV file. The batch is validated in full before any row is
+     * written, and rows are emitted directly from the columnar values without allocating a row collection per
+     * record.
+     *
+     * @param batch the batch of records to write
+     * @throws ValidationException if one or more rows in the batch are invalid
+     * @throws IOException if there is an issue writing the records to the file
+     * @see InventoryRecordBatch
+     */
+    public void writeBatch(@NonNull final InventoryRecordBatch batch) throws ValidationException, IOException {
+        batch.validate(recordType);
+
+        final InventoryHeader[] columns = headers.toArray(new InventoryHeader[0]);
+        final StringBuilder scratch = new StringBuilder(32);
+        for (int row = 0; row < batch.size(); ++row) {
+            for (final InventoryHeader column : columns) {
+                csvPrinter.print(toCsvValue(batch, row, column, scratch));
+            }
+            csvPrinter.println();
+        }
+    }
+
     @Override
     public void close() throws Exception {
         csvPrinter.close();
@@ -131,6 +262,119 @@ public class InventoryCsvWriter implements AutoCloseable {
         }
     }
 
+    private long writeAllAsync(final Iterable<InventoryRecord> records) throws ValidationException, IOException {
+        final BlockingQueue<Future<List<String>>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> writeResult = writer.submit(() -> drainInOrder(queue));
+            for (final InventoryRecord record : records) {
+                Validate.notNull(record, "records must not contain null values");
+                if (writeResult.isDone()
+                        || !enqueue(queue, workers.submit(() -> toValidatedCsvRow(record)), writeResult)) {
+                    // The writer stopped early due to a failure; no further records will be consumed
+                    break;
+                }
+            }
+            enqueue(queue, END_OF_RECORDS, writeResult);
+
+            return writeResult.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing records");
+        } catch (final ExecutionException ex) {
+            throw unwrap(ex);
+        } finally {
+            workers.shutdownNow();
+            writer.shutdownNow();
+        }
+    }
+
+    private static boolean enqueue(
+            final BlockingQueue<Future<List<String>>> queue,
+            final Future<List<String>> row,
+            final Future<Long> writeResult) throws InterruptedException {
+        while (!queue.offer(row, ENQUEUE_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writeResult.isDone()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private long drainInOrder(final BlockingQueue<Future<List<String>>> queue) throws Exception {
+        long count = 0L;
+        for (Future<List<String>> next = queue.take(); next != END_OF_RECORDS; next = queue.take()) {
+            try {
+                csvPrinter.printRecord(next.get());
+                ++count;
+            } catch (final ExecutionException ex) {
+                throw unwrap(ex);
+            }
+        }
+
+        return count;
+    }
+
+    private List<String> toValidatedCsvRow(final InventoryRecord record) throws ValidationException {
+        record.validate(recordType);
+        return record.toCsvRow(headers, recordType);
+    }
+
+    private static IOException unwrap(final ExecutionException ex) throws ValidationException, IOException {
+        final Throwable cause = ex.getCause();
+        if (cause instanceof ValidationException) {
+            throw (ValidationException) cause;
+        } else if (cause instanceof IOException) {
+            throw (IOException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new IOException("Unable to write records: " + cause.getMessage(), cause);
+    }
+
+    private static CharSequence toCsvValue(
+            final InventoryRecordBatch batch,
+            final int row,
+            final InventoryHeader column,
+            final StringBuilder scratch) {
+        if (!batch.isDefined(row, column)) {
+            return StringUtils.EMPTY;
+        }
+
+        scratch.setLength(0);
+        switch (column) {
+            case RELEASE_ID:
+                return scratch.append(batch.getReleaseId(row));
+            case PRICE:
+                return scratch.append(batch.getPrice(row));
+            case MEDIA_CONDITION:
+                return batch.getMediaCondition(row).getValue();
+            case SLEEVE_CONDITION:
+                return batch.getSleeveCondition(row).getValue();
+            case COMMENTS:
+                return batch.getComments(row);
+            case ACCEPT_OFFER:
+                return batch.getAcceptOffer(row);
+            case LOCATION:
+                return batch.getLocation(row);
+            case EXTERNAL_ID:
+                return batch.getExternalId(row);
+            case WEIGHT:
+                return scratch.append(batch.getWeight(row));
+            case FORMAT_QUANTITY:
+                return scratch.append(batch.getFormatQuantity(row));
+            case LISTING_ID:
+                return scratch.append(batch.getListingId(row));
+            default:
+                throw new IllegalArgumentException("Unrecognized header value: " + column);
+        }
+    }
+
     private static String[] toCsvHeaders(final List<InventoryHeader> headers) {
         final List<String> strHeaders = headers.stream()
                 .map(InventoryHeader::getHeader)
@@ -138,4 +382,17 @@ public class InventoryCsvWriter implements AutoCloseable {
         final String[] csvHeaders = new String[headers.size()];
         return strHeaders.toArray(csvHeaders);
     }
+
+    /** Writes records with an open {@link InventoryCsvWriter}. */
+    @FunctionalInterface
+    public interface WriteAction {
+        /**
+         * Writes records with the given writer.
+         *
+         * @param csvWriter the writer
+         * @throws IOException if there is an issue writing the records to the file
+         * @throws ValidationException if there is an error with a record
+         */
+        void write(InventoryCsvWriter csvWriter) throws IOException, ValidationException;
+    }
 }
@@ -0,0 +1,456 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.csv;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.csv.type.InventoryHeader;
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.csv.type.InventoryRecordBatch;
+import com.amilesend.discogs.csv.type.InventoryRecordType;
+import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.GetInventoryRequest;
+import com.amilesend.discogs.model.marketplace.GetInventoryResponse;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the minimal set of inventory uploads needed to move the current Discogs inventory to a desired state.
+ * The current inventory is loaded into a compact in-memory map (one fingerprint per column) keyed by the external
+ * identifier, release identifier, or listing identifier, and the desired records are then streamed against it to
+ * produce separate add, change, and delete CSV files for the {@link com.amilesend.discogs.api.InventoryUploadApi}.
+ * <p>
+ * A desired record is considered changed when any value that it defines differs from the current inventory;
+ * values that the desired record leaves undefined are not compared, matching the semantics of a change upload.
+ * Current items without a key, or that share a key with another current item, cannot be correlated: they are
+ * excluded from the generated files and reported in the {@link InventoryDiffResult}. The listing identifier of each
+ * current item is retained so that the delete file identifies listings by it, whichever key is used.
+ * Example:
+ * <pre>
+ * final InventoryDiffEngine engine = InventoryDiffEngine.builder().build();
+ * engine.loadCurrentFromInventory(discogs.getMarketplaceApi(), "username");
+ * final InventoryDiffResult result = engine.diff(desiredRecords, Path.of("uploads"));
+ * </pre>
+ *
+ * @see InventoryDiffResult
+ */
+@Slf4j
+@Getter
+public class InventoryDiffEngine {
+    /** The file name of the generated CSV with items to add. */
+    public static final String ADD_CSV_FILE_NAME = "inventory-add.csv";
+    /** The file name of the generated CSV with items to change. */
+    public static final String CHANGE_CSV_FILE_NAME = "inventory-change.csv";
+    /** The file name of the generated CSV with items to delete. */
+    public static final String DELETE_CSV_FILE_NAME = "inventory-delete.csv";
+
+    private static final int INVENTORY_PAGE_SIZE = 100;
+    private static final long UNDEFINED_HASH = 0L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final InventoryHeader[] ALL_HEADERS = InventoryHeader.values();
+
+    /**
+     * The attribute used to correlate desired records with current inventory items.
+     *
+     * @see Key
+     */
+    private final Key key;
+    /** The format used to read exported inventory files and to write the generated CSV files. */
+    private final CSVFormat csvFormat;
+    /** The current inventory state by key. */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Snapshot> current = new HashMap<>();
+    /** The keys shared by more than one current item. */
+    @Getter(AccessLevel.NONE)
+    private final Set<String> duplicateKeys = new HashSet<>();
+    /** The number of current items without a key. */
+    @Getter(AccessLevel.NONE)
+    private int unkeyedCount;
+
+    /**
+     * Creates a new {@code InventoryDiffEngine}.
+     *
+     * @param key the attribute used to correlate records (optional; default is {@link Key#EXTERNAL_ID})
+     * @param csvFormat the CSV format (optional; default is {@link CSVFormat#RFC4180})
+     */
+    @Builder
+    private InventoryDiffEngine(final Key key, final CSVFormat csvFormat) {
+        this.key = Optional.ofNullable(key).orElse(Key.EXTERNAL_ID);
+        this.csvFormat = Optional.ofNullable(csvFormat).orElse(CSVFormat.RFC4180);
+    }
+
+    /**
+     * Gets the number of items loaded for the current inventory.
+     *
+     * @return the number of current items
+     */
+    public int getCurrentSize() {
+        return current.size();
+    }
+
+    /**
+     * Adds the given records to the current inventory state.
+     *
+     * @param records the current inventory records
+     */
+    public void loadCurrent(@NonNull final Iterable<InventoryRecord> records) {
+        for (final InventoryRecord record : records) {
+            addCurrent(record);
+        }
+    }
+
+    /**
+     * Loads the current inventory state by paging through the user's marketplace inventory.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param username the inventory owner's username
+     * @see MarketplaceApi#getInventory(GetInventoryRequest)
+     */
+    public void loadCurrentFromInventory(@NonNull final MarketplaceApi marketplaceApi, final String username) {
+        Validate.notBlank(username, "username must not be blank");
+
+        GetInventoryResponse page = marketplaceApi.getInventory(GetInventoryRequest.builder()
+                .username(username)
+                .perPage(INVENTORY_PAGE_SIZE)
+                .build());
+        while (Objects.nonNull(page)) {
+            Optional.ofNullable(page.getListings())
+                    .ifPresent(listings -> listings.forEach(l -> addCurrent(InventoryRecord.fromListing(l))));
+            page = Objects.nonNull(page.getPagination()) && page.hasNext() ? page.getNext() : null;
+        }
+
+        log.debug("Loaded {} current inventory items for {}", current.size(), username);
+    }
+
+    /**
+     * Loads the current inventory state from a downloaded inventory export CSV file. Columns that do not map to an
+     * {@link InventoryHeader} are ignored.
+     *
+     * @param exportCsvFile the inventory export file
+     * @throws IOException if an error occurred while reading the file
+     * @see com.amilesend.discogs.api.InventoryExportApi
+     */
+    public void loadCurrentFromExport(@NonNull final Path exportCsvFile) throws IOException {
+        Validate.isTrue(Files.isRegularFile(exportCsvFile), "exportCsvFile must be a regular file");
+
+        final CSVFormat format = csvFormat.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .get();
+        try (final CSVParser parser = format.parse(
+                new BufferedReader(new FileReader(exportCsvFile.toFile(), StandardCharsets.UTF_8)))) {
+            final List<InventoryHeader> headers = new ArrayList<>();
+            for (final String headerName : parser.getHeaderNames()) {
+                Optional.ofNullable(InventoryHeader.fromValue(headerName)).ifPresent(headers::add);
+            }
+            Validate.isTrue(headers.contains(InventoryHeader.RELEASE_ID),
+                    "exportCsvFile must define the " + InventoryHeader.RELEASE_ID + " column");
+
+            for (final CSVRecord csvRecord : parser) {
+                addCurrent(toInventoryRecord(csvRecord, headers));
+            }
+        }
+    }
+
+    /**
+     * Compares the desired records with the loaded current inventory state and writes the add, change, and delete
+     * CSV files to the given folder. Any existing files with the same names are replaced.
+     *
+     * @param desired the desired inventory records
+     * @param outputFolder the folder to write the generated CSV files to
+     * @return the diff result
+     * @throws IOException if an error occurred while writing the CSV files
+     * @throws ValidationException if an added or changed record is invalid
+     * @see InventoryDiffResult
+     */
+    public InventoryDiffResult diff(@NonNull final Iterable<InventoryRecord> desired, @NonNull final Path outputFolder)
+            throws IOException, ValidationException {
+        final Set<String> matchedKeys = new HashSet<>();
+        final InventoryRecordBatch adds = new InventoryRecordBatch();
+        final InventoryRecordBatch changes = new InventoryRecordBatch();
+        final Set<InventoryHeader> addHeaders =
+                EnumSet.copyOf(InventoryHeader.getRequiredHeaders(InventoryRecordType.NEW));
+        final Set<InventoryHeader> changeHeaders = EnumSet.copyOf(getKeyHeaders());
+        int unchangedCount = 0;
+        int ambiguousCount = 0;
+
+        for (final InventoryRecord record : desired) {
+            final String recordKey = toKey(record);
+            if (Objects.isNull(recordKey)) {
+                Validate.isTrue(key == Key.LISTING_ID,
+                        "externalId must not be blank for release id " + record.getReleaseId());
+                // A desired record without a listing identifier describes a new listing
+                adds.add(record);
+                addHeaders.addAll(record.getDefinedHeaders());
+                continue;
+            }
+            Validate.isTrue(matchedKeys.add(recordKey), "Duplicate desired record for key: " + recordKey);
+
+            final Snapshot snapshot = current.get(recordKey);
+            if (duplicateKeys.contains(recordKey)) {
+                ++ambiguousCount;
+            } else if (Objects.isNull(snapshot)) {
+                adds.add(record);
+                addHeaders.addAll(record.getDefinedHeaders());
+            } else if (snapshot.isChanged(record)) {
+                changes.add(record);
+                changeHeaders.addAll(record.getDefinedHeaders());
+            } else {
+                ++unchangedCount;
+            }
+        }
+
+        final InventoryRecordBatch deletes = new InventoryRecordBatch();
+        final Set<InventoryHeader> deleteHeaders = EnumSet.copyOf(getKeyHeaders());
+        deleteHeaders.add(InventoryHeader.LISTING_ID);
+        for (final Map.Entry<String, Snapshot> entry : current.entrySet()) {
+            if (!matchedKeys.contains(entry.getKey()) && !duplicateKeys.contains(entry.getKey())) {
+                final Snapshot snapshot = entry.getValue();
+                final int row = deletes.addRow(snapshot.getReleaseId());
+                if (snapshot.getListingId() > 0L) {
+                    deletes.setListingId(row, snapshot.getListingId());
+                }
+                if (key == Key.EXTERNAL_ID) {
+                    deletes.setExternalId(row, entry.getKey());
+                }
+            }
+        }
+        // New listings are identified by Discogs upon upload
+        addHeaders.remove(InventoryHeader.LISTING_ID);
+
+        Files.createDirectories(outputFolder);
+        final InventoryDiffResult result = InventoryDiffResult.builder()
+                .addCount(adds.size())
+                .changeCount(changes.size())
+                .deleteCount(deletes.size())
+                .unchangedCount(unchangedCount)
+                .ambiguousCount(ambiguousCount)
+                .duplicateKeys(duplicateKeys.stream().sorted().collect(Collectors.toList()))
+                .unkeyedCount(unkeyedCount)
+                .addCsvFile(writeCsv(outputFolder.resolve(ADD_CSV_FILE_NAME),
+                        adds, addHeaders, InventoryRecordType.NEW))
+                .changeCsvFile(writeCsv(outputFolder.resolve(CHANGE_CSV_FILE_NAME),
+                        changes, changeHeaders, InventoryRecordType.UPDATE))
+                .deleteCsvFile(writeCsv(outputFolder.resolve(DELETE_CSV_FILE_NAME),
+                        deletes, deleteHeaders, InventoryRecordType.UPDATE))
+                .build();
+
+        log.debug("Inventory diff: {}", result);
+        return result;
+    }
+
+    private Path writeCsv(
+            final Path csvFile,
+            final InventoryRecordBatch batch,
+            final Set<InventoryHeader> headers,
+            final InventoryRecordType type) throws IOException, ValidationException {
+        Files.deleteIfExists(csvFile);
+        if (batch.size() == 0) {
+            return null;
+        }
+
+        return InventoryCsvWriter.writeFile(InventoryCsvWriter.builder()
+                        .csvFile(csvFile)
+                        .headers(new ArrayList<>(headers))
+                        .recordType(type)
+                        .csvFormat(csvFormat),
+                writer -> writer.writeBatch(batch));
+    }
+
+    private void addCurrent(final InventoryRecord record) {
+        final String recordKey = toKey(record);
+        if (Objects.isNull(recordKey)) {
+            ++unkeyedCount;
+            log.debug("Skipping current inventory item without a key for release id {}", record.getReleaseId());
+            return;
+        }
+
+        if (Objects.nonNull(current.putIfAbsent(recordKey, Snapshot.of(record)))) {
+            duplicateKeys.add(recordKey);
+        }
+    }
+
+    private Set<InventoryHeader> getKeyHeaders() {
+        switch (key) {
+            case EXTERNAL_ID:
+                return EnumSet.of(InventoryHeader.RELEASE_ID, InventoryHeader.EXTERNAL_ID);
+            case LISTING_ID:
+                return EnumSet.of(InventoryHeader.RELEASE_ID, InventoryHeader.LISTING_ID);
+            default:
+                return EnumSet.of(InventoryHeader.RELEASE_ID);
+        }
+    }
+
+    /** Gets the key of the given record, or {@code null} if the record does not define it. */
+    private String toKey(final InventoryRecord record) {
+        switch (key) {
+            case RELEASE_ID:
+                return record.getReleaseId().toString();
+            case LISTING_ID:
+                return Optional.ofNullable(record.getListingId()).map(Object::toString).orElse(null);
+            default:
+                return StringUtils.isBlank(record.getExternalId()) ? null : record.getExternalId();
+        }
+    }
+
+    @VisibleForTesting
+    static InventoryRecord toInventoryRecord(final CSVRecord csvRecord, final List<InventoryHeader> headers) {
+        final InventoryRecord.InventoryRecordBuilder builder = InventoryRecord.builder();
+        for (final InventoryHeader header : headers) {
+            final String value = csvRecord.get(header.getHeader());
+            if (StringUtils.isBlank(value)) {
+                continue;
+            }
+
+            switch (header) {
+                case RELEASE_ID:
+                    builder.releaseId(Integer.parseInt(value.trim()));
+                    break;
+                case PRICE:
+                    builder.price(Double.parseDouble(value.trim()));
+                    break;
+                case MEDIA_CONDITION:
+                    builder.mediaCondition(Condition.fromValue(value));
+                    break;
+                case SLEEVE_CONDITION:
+                    builder.sleeveCondition(SleeveCondition.fromValue(value));
+                    break;
+                case COMMENTS:
+                    builder.comments(value);
+                    break;
+                case ACCEPT_OFFER:
+                    builder.acceptOffer(value);
+                    break;
+                case LOCATION:
+                    builder.location(value);
+                    break;
+                case EXTERNAL_ID:
+                    builder.externalId(value);
+                    break;
+                case WEIGHT:
+                    builder.weight(Integer.parseInt(value.trim()));
+                    break;
+                case FORMAT_QUANTITY:
+                    builder.formatQuantity(Integer.parseInt(value.trim()));
+                    break;
+                case LISTING_ID:
+                    builder.listingId(Long.parseLong(value.trim()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unrecognized header value: " + header);
+            }
+        }
+
+        return builder.build();
+    }
+
+    @VisibleForTesting
+    static long hash(final String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); ++i) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        // Reserve zero to indicate an undefined value
+        return hash == UNDEFINED_HASH ? 1L : hash;
+    }
+
+    /** Defines the attribute used to correlate desired records with current inventory items. */
+    public enum Key {
+        /** Correlates by {@link InventoryRecord#getExternalId()}, which must be defined for all records. */
+        EXTERNAL_ID,
+        /**
+         * Correlates by {@link InventoryRecord#getReleaseId()}; releases with more than one current listing are
+         * reported as duplicate keys.
+         */
+        RELEASE_ID,
+        /**
+         * Correlates by {@link InventoryRecord#getListingId()}. Desired records without a listing identifier are
+         * added as new listings.
+         */
+        LISTING_ID
+    }
+
+    /**
+     * A compact fingerprint of a current inventory item with one 64-bit hash per defined column, and the identifiers
+     * needed to delete it.
+     */
+    @Getter
+    private static class Snapshot {
+        private final int releaseId;
+        // The listing identifier, or 0 if it is not known
+        private final long listingId;
+        private final long[] valueHashes;
+
+        private Snapshot(final int releaseId, final long listingId, final long[] valueHashes) {
+            this.releaseId = releaseId;
+            this.listingId = listingId;
+            this.valueHashes = valueHashes;
+        }
+
+        static Snapshot of(final InventoryRecord record) {
+            final long[] valueHashes = new long[ALL_HEADERS.length];
+            for (final InventoryHeader header : record.getDefinedHeaders()) {
+                valueHashes[header.ordinal()] = hash(record.getValue(header));
+            }
+
+            return new Snapshot(record.getReleaseId(),
+                    Optional.ofNullable(record.getListingId()).orElse(0L),
+                    valueHashes);
+        }
+
+        boolean isChanged(final InventoryRecord desired) {
+            for (final InventoryHeader header : desired.getDefinedHeaders()) {
+                if (valueHashes[header.ordinal()] != hash(desired.getValue(header))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.csv;
+
+import com.amilesend.discogs.api.InventoryUploadApi;
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the outcome of an {@link InventoryDiffEngine#diff(Iterable, Path)} invocation. The CSV file paths are
+ * only defined when there is at least one row for the corresponding operation.
+ *
+ * @see InventoryUploadApi
+ */
+@Builder
+@Data
+public class InventoryDiffResult {
+    /** The number of records that do not exist in the current inventory. */
+    private final int addCount;
+    /** The number of records that exist in the current inventory with different values. */
+    private final int changeCount;
+    /** The number of current inventory items that are not present in the desired state. */
+    private final int deleteCount;
+    /** The number of records that match the current inventory. */
+    private final int unchangedCount;
+    /** The number of records skipped because their key matches more than one current inventory item. */
+    private final int ambiguousCount;
+    /**
+     * The keys shared by more than one current inventory item. Items with these keys are neither changed nor
+     * deleted.
+     */
+    private final List<String> duplicateKeys;
+    /** The number of current inventory items without a key, which are neither changed nor deleted. */
+    private final int unkeyedCount;
+    /** The CSV file to use with {@link InventoryUploadApi#addInventory}, or {@code null} if there are no adds. */
+    private final Path addCsvFile;
+    /**
+     * The CSV file to use with {@link InventoryUploadApi#changeInventory}, or {@code null} if there are no
+     * changes.
+     */
+    private final Path changeCsvFile;
+    /**
+     * The CSV file to use with {@link InventoryUploadApi#deleteInventory}, or {@code null} if there are no
+     * deletes.
+     */
+    private final Path deleteCsvFile;
+
+    /**
+     * Determines if any add, change, or delete operations are required.
+     *
+     * @return {@code true} if the current inventory differs from the desired state; else, {@code false}
+     */
+    public boolean hasChanges() {
+        return Objects.nonNull(addCsvFile) || Objects.nonNull(changeCsvFile) || Objects.nonNull(deleteCsvFile);
+    }
+}
@@ -21,6 +21,7 @@ import com.amilesend.client.util.StringUtils;
 import com.amilesend.discogs.csv.validation.MediaConditionValidator;
 import com.amilesend.discogs.csv.validation.NoOpValidator;
 import com.amilesend.discogs.csv.validation.PositiveIntValidator;
+import com.amilesend.discogs.csv.validation.PositiveLongValidator;
 import com.amilesend.discogs.csv.validation.PriceValidator;
 import com.amilesend.discogs.csv.validation.SleeveConditionValidator;
 import com.amilesend.discogs.csv.validation.ValueValidator;
@@ -47,7 +48,8 @@ public enum InventoryHeader {
     LOCATION("location", false, new NoOpValidator()),
     EXTERNAL_ID("external_id", false, new NoOpValidator()),
     WEIGHT("weight", false, new ZeroOrPositiveIntValidator(true)),
-    FORMAT_QUANTITY("format_quantity", false, new ZeroOrPositiveIntValidator(true));
+    FORMAT_QUANTITY("format_quantity", false, new ZeroOrPositiveIntValidator(true)),
+    LISTING_ID("listing_id", false, new PositiveLongValidator(true));
 
     /** The map of CSV header values to enum references. */
     private static Map<String, InventoryHeader> VALUE_TO_ENUM = getValueToEnumMap();
@@ -20,7 +20,11 @@ package com.amilesend.discogs.csv.type;
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
 import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
 import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.Listing;
+import com.amilesend.discogs.model.marketplace.type.Price;
 import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -28,7 +32,9 @@ import lombok.Getter;
 import lombok.NonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -76,28 +82,74 @@ public class InventoryRecord {
     private final Integer weight;
     /** The item format quantity (optional). */
     private final Integer formatQuantity;
+    /** The identifier of an existing listing (optional; only applicable to change and delete uploads). */
+    private final Long listingId;
+    /** The list of headers based on the populated fields, computed once upon first access. */
+    @Getter(lazy = true)
+    @EqualsAndHashCode.Exclude
+    private final List<InventoryHeader> definedHeaders = computeDefinedHeaders();
 
     /**
-     * Gets the list of headers based on the populated fields.
+     * Creates a new record from the current state of a marketplace listing.
      *
-     * @return the list of defined headers
+     * @param listing the listing
+     * @return the record
+     * @see Listing
      */
-    public List<InventoryHeader> getDefinedHeaders() {
-        final List<InventoryHeader> headers = new ArrayList<>(10);
-        headers.add(InventoryHeader.RELEASE_ID);
+    public static InventoryRecord fromListing(@NonNull final Listing listing) {
+        Validate.notNull(listing.getRelease(), "listing release must not be null");
+        Validate.notNull(listing.getRelease().getId(), "listing release id must not be null");
 
-        Optional.ofNullable(price).ifPresent(p -> headers.add(InventoryHeader.PRICE));
-        Optional.ofNullable(mediaCondition).ifPresent(mc -> headers.add(InventoryHeader.MEDIA_CONDITION));
-        Optional.ofNullable(sleeveCondition)
-                .ifPresent(c -> headers.add(InventoryHeader.SLEEVE_CONDITION));
-        Optional.ofNullable(comments).ifPresent(c -> headers.add(InventoryHeader.COMMENTS));
-        Optional.ofNullable(acceptOffer).ifPresent(o -> headers.add(InventoryHeader.ACCEPT_OFFER));
-        Optional.ofNullable(location).ifPresent(l -> headers.add(InventoryHeader.LOCATION));
-        Optional.ofNullable(externalId).ifPresent(e -> headers.add(InventoryHeader.EXTERNAL_ID));
-        Optional.ofNullable(weight).ifPresent(w -> headers.add(InventoryHeader.WEIGHT));
-        Optional.ofNullable(formatQuantity).ifPresent(q -> headers.add(InventoryHeader.FORMAT_QUANTITY));
+        return InventoryRecord.builder()
+                .releaseId(Math.toIntExact(listing.getRelease().getId()))
+                .price(Optional.ofNullable(listing.getPrice()).map(Price::getValue).orElse(null))
+                .mediaCondition(listing.getCondition())
+                .sleeveCondition(listing.getSleeveCondition())
+                .comments(listing.getComments())
+                .acceptOffer(Optional.ofNullable(listing.getAllowOffers()).map(a -> a ? YES : NO).orElse(null))
+                .location(listing.getLocation())
+                .externalId(listing.getExternalId())
+                .weight(listing.getWeight())
+                .formatQuantity(listing.getFormatQuantity())
+                .listingId(listing.getId())
+                .build();
+    }
 
-        return headers;
+    /**
+     * Creates a new record from a create or update listing request. Records created from an update request define
+     * the listing identifier of the listing to change.
+     *
+     * @param request the listing request
+     * @return the record
+     * @throws IllegalArgumentException if the weight or format quantity is not a whole number
+     * @see CreateListingRequest
+     */
+    public static InventoryRecord fromListingRequest(@NonNull final CreateListingRequest request) {
+        final Integer weight;
+        try {
+            weight = StringUtils.isBlank(request.getWeight()) ? null : Integer.valueOf(request.getWeight().trim());
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException("weight must be a whole number: " + request.getWeight(), ex);
+        }
+        final Double formatQuantity = request.getFormatQuantity();
+        Validate.isTrue(Objects.isNull(formatQuantity) || formatQuantity == Math.rint(formatQuantity),
+                "formatQuantity must be a whole number");
+
+        return InventoryRecord.builder()
+                .releaseId(Math.toIntExact(request.getReleaseId()))
+                .price(request.getPrice())
+                .mediaCondition(request.getCondition())
+                .sleeveCondition(request.getSleeveCondition())
+                .comments(request.getComments())
+                .acceptOffer(Optional.ofNullable(request.getAllowOffers()).map(a -> a ? YES : NO).orElse(null))
+                .location(request.getLocation())
+                .externalId(request.getExternalId())
+                .weight(weight)
+                .formatQuantity(Optional.ofNullable(formatQuantity).map(Double::intValue).orElse(null))
+                .listingId(request instanceof UpdateListingRequest
+                        ? ((UpdateListingRequest) request).getListingId()
+                        : null)
+                .build();
     }
 
     /**
@@ -145,9 +197,12 @@ public class InventoryRecord {
         Validate.isTrue(docCsvHeaders.containsAll(InventoryHeader.getRequiredHeaders(type)),
                 "docCsvHeaders is missing required headers for type: " + type.name());
 
-        return docCsvHeaders.stream()
-                .map(this::getValue)
-                .collect(Collectors.toList());
+        final List<String> row = new ArrayList<>(docCsvHeaders.size());
+        for (final InventoryHeader header : docCsvHeaders) {
+            row.add(getValue(header));
+        }
+
+        return row;
     }
 
     @Override
@@ -157,7 +212,33 @@ public class InventoryRecord {
                 .collect(Collectors.joining(","));
     }
 
-    private String getValue(final InventoryHeader header) {
+    private List<InventoryHeader> computeDefinedHeaders() {
+        final List<InventoryHeader> headers = new ArrayList<>(10);
+        headers.add(InventoryHeader.RELEASE_ID);
+
+        Optional.ofNullable(price).ifPresent(p -> headers.add(InventoryHeader.PRICE));
+        Optional.ofNullable(mediaCondition).ifPresent(mc -> headers.add(InventoryHeader.MEDIA_CONDITION));
+        Optional.ofNullable(sleeveCondition)
+                .ifPresent(c -> headers.add(InventoryHeader.SLEEVE_CONDITION));
+        Optional.ofNullable(comments).ifPresent(c -> headers.add(InventoryHeader.COMMENTS));
+        Optional.ofNullable(acceptOffer).ifPresent(o -> headers.add(InventoryHeader.ACCEPT_OFFER));
+        Optional.ofNullable(location).ifPresent(l -> headers.add(InventoryHeader.LOCATION));
+        Optional.ofNullable(externalId).ifPresent(e -> headers.add(InventoryHeader.EXTERNAL_ID));
+        Optional.ofNullable(weight).ifPresent(w -> headers.add(InventoryHeader.WEIGHT));
+        Optional.ofNullable(formatQuantity).ifPresent(q -> headers.add(InventoryHeader.FORMAT_QUANTITY));
+        Optional.ofNullable(listingId).ifPresent(l -> headers.add(InventoryHeader.LISTING_ID));
+
+        return Collections.unmodifiableList(headers);
+    }
+
+    /**
+     * Gets the CSV-formatted value for the given header.
+     *
+     * @param header the header
+     * @return the formatted value, or an empty string for optional values that are not defined
+     * @see InventoryHeader
+     */
+    public String getValue(@NonNull final InventoryHeader header) {
         switch (header) {
             case RELEASE_ID:
                 return releaseId.toString();
@@ -185,6 +266,10 @@ public class InventoryRecord {
                 return Optional.ofNullable(formatQuantity)
                         .map(Object::toString)
                         .orElse(StringUtils.EMPTY);
+            case LISTING_ID:
+                return Optional.ofNullable(listingId)
+                        .map(Object::toString)
+                        .orElse(StringUtils.EMPTY);
             default:
                 throw new IllegalArgumentException("Unrecognized header value: " + header);
         }
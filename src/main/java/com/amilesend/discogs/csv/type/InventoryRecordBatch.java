@@ -0,0 +1,529 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.csv.type;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.amilesend.discogs.csv.validation.ValueValidator.formatMessage;
+
+/**
+ * A columnar, mutable collection of inventory records intended for high-volume CSV generation. Numeric attributes
+ * are stored in primitive arrays and conditions are dictionary-encoded by their enum ordinal, so that rows can be
+ * added, validated, and written without allocating an object per row.
+ * <p>
+ * Rows are appended with {@link #addRow(int)} (or {@link #add(InventoryRecord)}) and optional attributes are set
+ * by row index. A batch can be reused after {@link #clear()}. Instances are not thread-safe.
+ *
+ * @see InventoryRecord
+ */
+public class InventoryRecordBatch {
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+    private static final long UNSET_LONG = Long.MIN_VALUE;
+    private static final byte UNSET_CONDITION = 0;
+    private static final Condition[] MEDIA_CONDITIONS = Condition.values();
+    private static final SleeveCondition[] SLEEVE_CONDITIONS = SleeveCondition.values();
+
+    private int size;
+    private int[] releaseIds;
+    private double[] prices;
+    private byte[] mediaConditions;
+    private byte[] sleeveConditions;
+    private String[] comments;
+    private String[] acceptOffers;
+    private String[] locations;
+    private String[] externalIds;
+    private int[] weights;
+    private int[] formatQuantities;
+    private long[] listingIds;
+
+    /** Creates a new {@code InventoryRecordBatch} with the default initial capacity. */
+    public InventoryRecordBatch() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@code InventoryRecordBatch}.
+     *
+     * @param initialCapacity the number of rows to allocate storage for up front
+     */
+    public InventoryRecordBatch(final int initialCapacity) {
+        Validate.isTrue(initialCapacity > 0, "initialCapacity must be > 0");
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Gets the number of rows in the batch.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a new row with only the release identifier defined.
+     *
+     * @param releaseId the release identifier
+     * @return the index of the new row
+     */
+    public int addRow(final int releaseId) {
+        if (size == releaseIds.length) {
+            grow();
+        }
+
+        final int row = size++;
+        releaseIds[row] = releaseId;
+        prices[row] = Double.NaN;
+        mediaConditions[row] = UNSET_CONDITION;
+        sleeveConditions[row] = UNSET_CONDITION;
+        comments[row] = null;
+        acceptOffers[row] = null;
+        locations[row] = null;
+        externalIds[row] = null;
+        weights[row] = UNSET_INT;
+        formatQuantities[row] = UNSET_INT;
+        listingIds[row] = UNSET_LONG;
+        return row;
+    }
+
+    /**
+     * Appends a new row populated from the given {@code record}.
+     *
+     * @param record the record
+     * @return the index of the new row
+     */
+    public int add(@NonNull final InventoryRecord record) {
+        final int row = addRow(record.getReleaseId());
+        if (record.getPrice() != null) {
+            setPrice(row, record.getPrice());
+        }
+        setMediaCondition(row, record.getMediaCondition());
+        setSleeveCondition(row, record.getSleeveCondition());
+        setComments(row, record.getComments());
+        setAcceptOffer(row, record.getAcceptOffer());
+        setLocation(row, record.getLocation());
+        setExternalId(row, record.getExternalId());
+        if (record.getWeight() != null) {
+            setWeight(row, record.getWeight());
+        }
+        if (record.getFormatQuantity() != null) {
+            setFormatQuantity(row, record.getFormatQuantity());
+        }
+        if (record.getListingId() != null) {
+            setListingId(row, record.getListingId());
+        }
+
+        return row;
+    }
+
+    /** Removes all rows while retaining the allocated storage for reuse. */
+    public void clear() {
+        Arrays.fill(comments, 0, size, null);
+        Arrays.fill(acceptOffers, 0, size, null);
+        Arrays.fill(locations, 0, size, null);
+        Arrays.fill(externalIds, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Sets the price for a row.
+     *
+     * @param row the row index
+     * @param price the price
+     */
+    public void setPrice(final int row, final double price) {
+        prices[checkRow(row)] = price;
+    }
+
+    /**
+     * Sets the media condition for a row.
+     *
+     * @param row the row index
+     * @param condition the media condition, or {@code null} to unset
+     */
+    public void setMediaCondition(final int row, final Condition condition) {
+        mediaConditions[checkRow(row)] = condition == null ? UNSET_CONDITION : (byte) (condition.ordinal() + 1);
+    }
+
+    /**
+     * Sets the sleeve condition for a row.
+     *
+     * @param row the row index
+     * @param condition the sleeve condition, or {@code null} to unset
+     */
+    public void setSleeveCondition(final int row, final SleeveCondition condition) {
+        sleeveConditions[checkRow(row)] = condition == null ? UNSET_CONDITION : (byte) (condition.ordinal() + 1);
+    }
+
+    /**
+     * Sets the comments for a row.
+     *
+     * @param row the row index
+     * @param value the comments, or {@code null} to unset
+     */
+    public void setComments(final int row, final String value) {
+        comments[checkRow(row)] = value;
+    }
+
+    /**
+     * Sets the accept offer flag for a row.
+     *
+     * @param row the row index
+     * @param value the flag value ({@link InventoryRecord#YES} or {@link InventoryRecord#NO}), or {@code null} to
+     *              unset
+     */
+    public void setAcceptOffer(final int row, final String value) {
+        acceptOffers[checkRow(row)] = value;
+    }
+
+    /**
+     * Sets the location for a row.
+     *
+     * @param row the row index
+     * @param value the location, or {@code null} to unset
+     */
+    public void setLocation(final int row, final String value) {
+        locations[checkRow(row)] = value;
+    }
+
+    /**
+     * Sets the external identifier for a row.
+     *
+     * @param row the row index
+     * @param value the external identifier, or {@code null} to unset
+     */
+    public void setExternalId(final int row, final String value) {
+        externalIds[checkRow(row)] = value;
+    }
+
+    /**
+     * Sets the weight in grams for a row.
+     *
+     * @param row the row index
+     * @param weight the weight
+     */
+    public void setWeight(final int row, final int weight) {
+        Validate.isTrue(weight != UNSET_INT, "weight is out of range");
+        weights[checkRow(row)] = weight;
+    }
+
+    /**
+     * Sets the format quantity for a row.
+     *
+     * @param row the row index
+     * @param quantity the format quantity
+     */
+    public void setFormatQuantity(final int row, final int quantity) {
+        Validate.isTrue(quantity != UNSET_INT, "quantity is out of range");
+        formatQuantities[checkRow(row)] = quantity;
+    }
+
+    /**
+     * Sets the listing identifier for a row.
+     *
+     * @param row the row index
+     * @param listingId the listing identifier
+     */
+    public void setListingId(final int row, final long listingId) {
+        Validate.isTrue(listingId != UNSET_LONG, "listingId is out of range");
+        listingIds[checkRow(row)] = listingId;
+    }
+
+    /**
+     * Gets the release identifier for a row.
+     *
+     * @param row the row index
+     * @return the release identifier
+     */
+    public int getReleaseId(final int row) {
+        return releaseIds[checkRow(row)];
+    }
+
+    /**
+     * Gets the price for a row.
+     *
+     * @param row the row index
+     * @return the price, or {@link Double#NaN} if not defined
+     */
+    public double getPrice(final int row) {
+        return prices[checkRow(row)];
+    }
+
+    /**
+     * Gets the media condition for a row.
+     *
+     * @param row the row index
+     * @return the media condition, or {@code null} if not defined
+     */
+    public Condition getMediaCondition(final int row) {
+        final byte code = mediaConditions[checkRow(row)];
+        return code == UNSET_CONDITION ? null : MEDIA_CONDITIONS[code - 1];
+    }
+
+    /**
+     * Gets the sleeve condition for a row.
+     *
+     * @param row the row index
+     * @return the sleeve condition, or {@code null} if not defined
+     */
+    public SleeveCondition getSleeveCondition(final int row) {
+        final byte code = sleeveConditions[checkRow(row)];
+        return code == UNSET_CONDITION ? null : SLEEVE_CONDITIONS[code - 1];
+    }
+
+    /**
+     * Gets the comments for a row.
+     *
+     * @param row the row index
+     * @return the comments, or {@code null} if not defined
+     */
+    public String getComments(final int row) {
+        return comments[checkRow(row)];
+    }
+
+    /**
+     * Gets the accept offer flag for a row.
+     *
+     * @param row the row index
+     * @return the accept offer flag, or {@code null} if not defined
+     */
+    public String getAcceptOffer(final int row) {
+        return acceptOffers[checkRow(row)];
+    }
+
+    /**
+     * Gets the location for a row.
+     *
+     * @param row the row index
+     * @return the location, or {@code null} if not defined
+     */
+    public String getLocation(final int row) {
+        return locations[checkRow(row)];
+    }
+
+    /**
+     * Gets the external identifier for a row.
+     *
+     * @param row the row index
+     * @return the external identifier, or {@code null} if not defined
+     */
+    public String getExternalId(final int row) {
+        return externalIds[checkRow(row)];
+    }
+
+    /**
+     * Gets the weight for a row. Use {@link #isDefined(int, InventoryHeader)} to determine if the value is set.
+     *
+     * @param row the row index
+     * @return the weight
+     */
+    public int getWeight(final int row) {
+        return weights[checkRow(row)];
+    }
+
+    /**
+     * Gets the format quantity for a row. Use {@link #isDefined(int, InventoryHeader)} to determine if the value
+     * is set.
+     *
+     * @param row the row index
+     * @return the format quantity
+     */
+    public int getFormatQuantity(final int row) {
+        return formatQuantities[checkRow(row)];
+    }
+
+    /**
+     * Gets the listing identifier for a row. Use {@link #isDefined(int, InventoryHeader)} to determine if the value
+     * is set.
+     *
+     * @param row the row index
+     * @return the listing identifier
+     */
+    public long getListingId(final int row) {
+        return listingIds[checkRow(row)];
+    }
+
+    /**
+     * Determines if a value is defined for the given row and header.
+     *
+     * @param row the row index
+     * @param header the header
+     * @return {@code true} if the value is defined; else, {@code false}
+     */
+    public boolean isDefined(final int row, @NonNull final InventoryHeader header) {
+        checkRow(row);
+        switch (header) {
+            case RELEASE_ID:
+                return true;
+            case PRICE:
+                return !Double.isNaN(prices[row]);
+            case MEDIA_CONDITION:
+                return mediaConditions[row] != UNSET_CONDITION;
+            case SLEEVE_CONDITION:
+                return sleeveConditions[row] != UNSET_CONDITION;
+            case COMMENTS:
+                return comments[row] != null;
+            case ACCEPT_OFFER:
+                return acceptOffers[row] != null;
+            case LOCATION:
+                return locations[row] != null;
+            case EXTERNAL_ID:
+                return externalIds[row] != null;
+            case WEIGHT:
+                return weights[row] != UNSET_INT;
+            case FORMAT_QUANTITY:
+                return formatQuantities[row] != UNSET_INT;
+            case LISTING_ID:
+                return listingIds[row] != UNSET_LONG;
+            default:
+                throw new IllegalArgumentException("Unrecognized header value: " + header);
+        }
+    }
+
+    /**
+     * Validates all rows based on the defined record type. This applies the same rules as
+     * {@link InventoryRecord#validate(InventoryRecordType)} directly against the columnar values, and reports the
+     * errors for all rows at once.
+     *
+     * @param type the record type
+     * @throws ValidationException if one or more rows are invalid
+     * @see InventoryRecordType
+     */
+    public void validate(@NonNull final InventoryRecordType type) throws ValidationException {
+        final boolean isNewRecord = type == InventoryRecordType.NEW;
+        List<ValidationException.Descriptor> errors = null;
+        for (int row = 0; row < size; ++row) {
+            if (releaseIds[row] < 1) {
+                errors = addError(errors, InventoryHeader.RELEASE_ID, row, "value must be > 0");
+            }
+            if (isNewRecord && Double.isNaN(prices[row])) {
+                errors = addError(errors, InventoryHeader.PRICE, row, "value must not be blank");
+            }
+            if (isNewRecord && mediaConditions[row] == UNSET_CONDITION) {
+                errors = addError(errors, InventoryHeader.MEDIA_CONDITION, row, "value must not be blank");
+            }
+            if (!isValidAcceptOffer(acceptOffers[row])) {
+                errors = addError(errors, InventoryHeader.ACCEPT_OFFER, row, "value must be \"Y\" or \"N\"");
+            }
+            if (weights[row] != UNSET_INT && weights[row] < 0) {
+                errors = addError(errors, InventoryHeader.WEIGHT, row, "value must be >= 0");
+            }
+            if (formatQuantities[row] != UNSET_INT && formatQuantities[row] < 0) {
+                errors = addError(errors, InventoryHeader.FORMAT_QUANTITY, row, "value must be >= 0");
+            }
+            if (listingIds[row] != UNSET_LONG && listingIds[row] < 1L) {
+                errors = addError(errors, InventoryHeader.LISTING_ID, row, "value must be > 0");
+            }
+        }
+
+        if (errors != null) {
+            throw new ValidationException("Batch failed validation", errors);
+        }
+    }
+
+    private static boolean isValidAcceptOffer(final String value) {
+        return StringUtils.isBlank(value)
+                || Objects.equals(InventoryRecord.YES, value)
+                || Objects.equals(InventoryRecord.NO, value);
+    }
+
+    private List<ValidationException.Descriptor> addError(
+            final List<ValidationException.Descriptor> errors,
+            final InventoryHeader header,
+            final int row,
+            final String message) {
+        final List<ValidationException.Descriptor> errorList = errors == null ? new ArrayList<>() : errors;
+        final String msg = formatMessage(header, message);
+        errorList.add(ValidationException.Descriptor.builder()
+                .message(msg)
+                .header(header)
+                .row(row)
+                .value(toDisplayValue(row, header))
+                .build());
+        return errorList;
+    }
+
+    private String toDisplayValue(final int row, final InventoryHeader header) {
+        if (!isDefined(row, header)) {
+            return null;
+        }
+
+        switch (header) {
+            case RELEASE_ID:
+                return String.valueOf(releaseIds[row]);
+            case ACCEPT_OFFER:
+                return acceptOffers[row];
+            case WEIGHT:
+                return String.valueOf(weights[row]);
+            case FORMAT_QUANTITY:
+                return String.valueOf(formatQuantities[row]);
+            case LISTING_ID:
+                return String.valueOf(listingIds[row]);
+            default:
+                return null;
+        }
+    }
+
+    private int checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for size " + size);
+        }
+
+        return row;
+    }
+
+    private void allocate(final int capacity) {
+        releaseIds = new int[capacity];
+        prices = new double[capacity];
+        mediaConditions = new byte[capacity];
+        sleeveConditions = new byte[capacity];
+        comments = new String[capacity];
+        acceptOffers = new String[capacity];
+        locations = new String[capacity];
+        externalIds = new String[capacity];
+        weights = new int[capacity];
+        formatQuantities = new int[capacity];
+        listingIds = new long[capacity];
+    }
+
+    private void grow() {
+        final int capacity = releaseIds.length << 1;
+        releaseIds = Arrays.copyOf(releaseIds, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        mediaConditions = Arrays.copyOf(mediaConditions, capacity);
+        sleeveConditions = Arrays.copyOf(sleeveConditions, capacity);
+        comments = Arrays.copyOf(comments, capacity);
+        acceptOffers = Arrays.copyOf(acceptOffers, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+        externalIds = Arrays.copyOf(externalIds, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        formatQuantities = Arrays.copyOf(formatQuantities, capacity);
+        listingIds = Arrays.copyOf(listingIds, capacity);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Iterates over a page and each of its subsequent pages, optionally requesting the next page in the background
+ * while the current page is consumed.
+ *
+ * @param <T> the response implementation type
+ * @see PaginatedResponseBase#streamPages(boolean)
+ */
+class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final ExecutorService prefetchExecutor;
+    /** The page to return next, or {@code null} if it has not been retrieved yet. */
+    private T nextPage;
+    /** The last returned page when its next page has not been requested yet. */
+    private PaginatedResponseBase<T> lastPage;
+    /** The next page being requested in the background. */
+    private Future<T> pendingPage;
+
+    /**
+     * Creates a new {@code PageIterator}.
+     *
+     * @param firstPage the first page
+     * @param prefetch {@code true} to request the next page in the background; else, {@code false}
+     */
+    PageIterator(final T firstPage, final boolean prefetch) {
+        this.nextPage = firstPage;
+        this.prefetchExecutor = prefetch ? Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "discogs-page-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(nextPage)) {
+            if (Objects.nonNull(pendingPage)) {
+                final Future<T> future = pendingPage;
+                pendingPage = null;
+                nextPage = await(future);
+            } else if (Objects.nonNull(lastPage)) {
+                final PaginatedResponseBase<T> page = lastPage;
+                lastPage = null;
+                nextPage = page.getNext();
+            }
+        }
+
+        if (Objects.isNull(nextPage)) {
+            close();
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final T page = nextPage;
+        nextPage = null;
+        final PaginatedResponseBase<T> current = (PaginatedResponseBase<T>) page;
+        if (Objects.nonNull(current.getPagination()) && current.hasNext()) {
+            if (Objects.nonNull(prefetchExecutor)) {
+                pendingPage = prefetchExecutor.submit(current::getNext);
+            } else {
+                lastPage = current;
+            }
+        }
+
+        return page;
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(pendingPage)) {
+            pendingPage.cancel(true);
+            pendingPage = null;
+        }
+        if (Objects.nonNull(prefetchExecutor)) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    private T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            close();
+            throw new IllegalStateException("Interrupted while waiting for the next page", ex);
+        } catch (final ExecutionException ex) {
+            close();
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+}
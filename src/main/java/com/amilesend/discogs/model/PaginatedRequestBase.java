@@ -29,7 +29,7 @@ import static com.amilesend.discogs.model.QueryParameterBasedRequest.appendIfNot
  *
  * @see QueryParameterBasedRequest
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Data
 public abstract class PaginatedRequestBase implements QueryParameterBasedRequest {
     /** The page specifier. */
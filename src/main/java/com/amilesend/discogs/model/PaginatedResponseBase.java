@@ -29,6 +29,10 @@ import okhttp3.HttpUrl;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Defines a paginated response with a limited set of results.
@@ -123,6 +127,32 @@ public abstract class PaginatedResponseBase<T> {
         return Objects.nonNull(getPagination().getLastUrl());
     }
 
+    /**
+     * Lazily streams this page followed by each subsequent page. A page is only requested once the stream advances
+     * to it.
+     *
+     * @return the stream of pages
+     */
+    public Stream<T> streamPages() {
+        return streamPages(false);
+    }
+
+    /**
+     * Lazily streams this page followed by each subsequent page. When {@code prefetch} is enabled, the next page is
+     * requested in the background while the current page is consumed. A stream that is not fully consumed should be
+     * closed to release the background thread.
+     *
+     * @param prefetch {@code true} to request the next page while the current page is consumed; else,
+     *                 {@code false} to request it once the stream advances to it
+     * @return the stream of pages
+     */
+    public Stream<T> streamPages(final boolean prefetch) {
+        final PageIterator<T> iterator = new PageIterator<>(getType().cast(this), prefetch);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
     // Helper method to navigate pages
     private T navigatePage(final String url) {
         if (StringUtils.isBlank(url)) {
@@ -35,7 +35,7 @@ import static com.amilesend.discogs.model.QueryParameterBasedRequest.appendIfNot
  *
  * @see PaginatedRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
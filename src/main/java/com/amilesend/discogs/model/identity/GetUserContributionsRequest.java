@@ -18,27 +18,30 @@
 package com.amilesend.discogs.model.identity;
 
 import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.model.PaginatedRequestBase;
 import com.amilesend.discogs.model.PathParameter;
 import com.amilesend.discogs.model.QueryParameter;
-import com.amilesend.discogs.model.QueryParameterBasedRequest;
 import com.amilesend.discogs.model.type.SortOrder;
-import lombok.Builder;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
 import static com.amilesend.discogs.model.QueryParameterBasedRequest.appendIfNotNull;
 
 /**
- * Defines the request to fetch user contributions.
+ * Defines the request to fetch the paginated list of user contributions.
  *
- * @see QueryParameterBasedRequest
+ * @see PaginatedRequestBase
  */
-@Builder
-@Data
-public class GetUserContributionsRequest implements QueryParameterBasedRequest {
+@SuperBuilder
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class GetUserContributionsRequest extends PaginatedRequestBase {
     /** The username (required). */
     @PathParameter
     private final String username;
@@ -56,7 +59,7 @@ public class GetUserContributionsRequest implements QueryParameterBasedRequest {
         appendIfNotNull(urlBuilder, Sort.QUERY_PARAM_NAME, getSort());
         appendIfNotNull(urlBuilder, SortOrder.QUERY_PARAM_NAME, getSortOrder());
 
-        return urlBuilder;
+        return super.populateQueryParameters(urlBuilder);
     }
 
     /** Defines the supported attributes to sort on for requests. */
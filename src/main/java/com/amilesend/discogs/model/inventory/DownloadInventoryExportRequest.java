@@ -51,14 +51,28 @@ public class DownloadInventoryExportRequest implements QueryParameterBasedReques
      * @see LogProgressCallback
      */
     private final TransferProgressCallback callback;
+    /**
+     * Flag indicator to download with HTTP range requests so that an interrupted download can be resumed by
+     * issuing the same request again (optional).
+     */
+    private final boolean isResumable;
+    /**
+     * The number of ranged segments to fetch concurrently when {@link #isResumable} is set (optional; default
+     * is 1).
+     */
+    private final int segmentCount;
 
     @Builder
     private DownloadInventoryExportRequest(
             final long exportId,
             @NonNull final Path folderPath,
-            final TransferProgressCallback callback) {
+            final TransferProgressCallback callback,
+            final boolean isResumable,
+            final Integer segmentCount) {
         this.exportId = exportId;
         this.folderPath = folderPath;
+        this.isResumable = isResumable;
+        this.segmentCount = Optional.ofNullable(segmentCount).orElse(1);
         this.callback = Optional.ofNullable(callback)
                 .orElseGet(() -> LogProgressCallback.builder()
                         .prefix(new StringBuilder("[Discogs ->")
@@ -75,6 +89,7 @@ public class DownloadInventoryExportRequest implements QueryParameterBasedReques
         Validate.isTrue(Files.exists(folderPath), "folderPath must exist");
         Validate.isTrue(Files.isDirectory(folderPath), "folderPath must be a directory");
         Validate.isTrue(Files.isWritable(folderPath), "folderPath must be writable");
+        Validate.isTrue(segmentCount > 0, "segmentCount must be > 0");
         return urlBuilder;
     }
 }
@@ -75,6 +75,24 @@ public class GsonFactory extends GsonFactoryBase<DiscogsConnection> {
     private static final Gson AUTH_INSTANCE = new GsonBuilder()
             .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
             .create();
+    private static final Gson STORAGE_INSTANCE = new GsonBuilder()
+            .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+            .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+            .registerTypeAdapter(Condition.class, new ConditionAdapter())
+            .registerTypeAdapter(SleeveCondition.class, new SleeveConditionAdapter())
+            .registerTypeAdapter(ListingStatus.class, new ListingStatusAdapter())
+            .create();
+
+    /**
+     * Gets the {@link Gson} instance used to persist model objects to local storage. Unlike the instances vended
+     * for a connection, paginated responses are not supported as they require a connection to navigate pages.
+     *
+     * @return the configured Gson instance
+     */
+    public static Gson getGsonForStorage() {
+        return STORAGE_INSTANCE;
+    }
 
     /**
      * Gets the {@link Gson} instance used for authentication.
@@ -0,0 +1,62 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes a row from an external catalog (e.g., a supplier spreadsheet) that does not define a Discogs release
+ * identifier. The identifying fields are used to match the row to a release, and the inventory fields are carried
+ * through to the {@link InventoryRecord} of the match.
+ *
+ * @see ReleaseMatcher
+ */
+@Builder
+@Data
+public class CatalogRow {
+    /** The external identifier of the row (e.g., the supplier SKU). */
+    private final String externalId;
+    /** The artist name. */
+    private final String artist;
+    /** The release title. */
+    private final String title;
+    /** The catalog number. */
+    private final String catalogNumber;
+    /** The barcode. */
+    private final String barcode;
+    /** The listing price (optional). */
+    private final Double price;
+    /**
+     * The media condition (optional).
+     *
+     * @see Condition
+     */
+    private final Condition mediaCondition;
+    /**
+     * The sleeve condition (optional).
+     *
+     * @see SleeveCondition
+     */
+    private final SleeveCondition sleeveCondition;
+    /** Free-form listing comments (optional). */
+    private final String comments;
+}
@@ -0,0 +1,569 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchType;
+import com.amilesend.discogs.model.type.Artist;
+import com.amilesend.discogs.model.type.CatalogEntity;
+import com.amilesend.discogs.model.type.Format;
+import com.amilesend.discogs.model.type.Release;
+import com.amilesend.discogs.model.type.ReleaseIdentifier;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An embeddable inverted index of search results and releases that answers common searches locally and only falls
+ * back to {@link DatabaseApi#search(SearchRequest)} when there is no local match. The title, artist, label, catalog
+ * number, barcode, genre, and style of each document are indexed. Documents added at runtime are held in memory and
+ * {@link #save()} merges them into a memory-mapped segment file that is reopened when the index is next created.
+ * <p>
+ * The following {@link SearchRequest} fields are answered locally: {@code query}, {@code title},
+ * {@code releaseTitle}, {@code artist}, {@code label}, {@code catalogNumber}, {@code barcode}, {@code genre},
+ * {@code style}, {@code type}, {@code year}, {@code country}, and {@code format}. Requests that specify any other
+ * field, or that only specify filters without any indexed text, are always sent to the API. Note that a local
+ * result only reflects the documents that have been indexed.
+ * Example:
+ * <pre>
+ * final LocalSearchIndex index = LocalSearchIndex.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .segmentFile(Paths.get("search.segment"))
+ *         .build();
+ * final SearchResponse response = index.search(SearchRequest.builder().catalogNumber("SST 001").build());
+ * index.save();
+ * </pre>
+ */
+@Getter
+public class LocalSearchIndex {
+    private static final int DEFAULT_PER_PAGE = 50;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String TITLE_SEPARATOR = " - ";
+    private static final String BARCODE_IDENTIFIER_TYPE = "Barcode";
+    private static final String TITLE_FIELD = "t:";
+    private static final String ARTIST_FIELD = "a:";
+    private static final String LABEL_FIELD = "l:";
+    private static final String CATALOG_NUMBER_FIELD = "c:";
+    private static final String BARCODE_FIELD = "b:";
+    private static final String GENRE_FIELD = "g:";
+    private static final String STYLE_FIELD = "s:";
+
+    /** The database API used when there is no local match, or {@code null} to only search locally. */
+    private final DatabaseApi databaseApi;
+    /** The segment file, or {@code null} if the index is only held in memory. */
+    private final Path segmentFile;
+    @Getter(AccessLevel.NONE)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    @Getter(AccessLevel.NONE)
+    private final List<SearchResult> documents = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, Integer> documentNumbers = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BitSet> postings = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private SearchIndexSegment segment;
+
+    /**
+     * Creates a new {@code LocalSearchIndex}, opening the segment file if it exists.
+     *
+     * @param databaseApi the database API used when there is no local match (optional)
+     * @param segmentFile the segment file (optional)
+     * @throws IOException if an error occurred while opening the segment file
+     */
+    @Builder
+    private LocalSearchIndex(final DatabaseApi databaseApi, final Path segmentFile) throws IOException {
+        this.databaseApi = databaseApi;
+        this.segmentFile = segmentFile;
+        this.segment = Objects.nonNull(segmentFile) && Files.isRegularFile(segmentFile)
+                ? SearchIndexSegment.open(segmentFile)
+                : null;
+    }
+
+    /**
+     * Adds the given search result to the index, replacing any previously added result with the same type and
+     * identifier.
+     *
+     * @param result the search result
+     */
+    public void add(@NonNull final SearchResult result) {
+        Validate.notNull(result.getId(), "result id must not be null");
+
+        lock.writeLock().lock();
+        try {
+            final long key = toKey(result);
+            Integer doc = documentNumbers.get(key);
+            if (Objects.isNull(doc)) {
+                doc = documents.size();
+                documents.add(result);
+                documentNumbers.put(key, doc);
+            } else {
+                // Postings for terms that no longer apply are filtered out when the document is matched
+                documents.set(doc, result);
+            }
+            for (final String term : toTerms(result)) {
+                postings.computeIfAbsent(term, t -> new BitSet()).set(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the given search results to the index.
+     *
+     * @param results the search results
+     * @see #add(SearchResult)
+     */
+    public void addAll(@NonNull final Iterable<SearchResult> results) {
+        results.forEach(this::add);
+    }
+
+    /**
+     * Adds the given release to the index as a {@link SearchType#RELEASE} search result.
+     *
+     * @param release the release
+     * @see #toSearchResult(Release)
+     */
+    public void add(@NonNull final Release release) {
+        add(toSearchResult(release));
+    }
+
+    /**
+     * Searches the index. Results from the API are added to the index.
+     *
+     * @param request the search request
+     * @return the local results if there is a match; else, the API response, or an empty response if the index
+     *         has no database API
+     * @see #find(SearchRequest)
+     */
+    public SearchResponse search(@NonNull final SearchRequest request) {
+        final Optional<List<SearchResult>> localResults = find(request).filter(r -> !r.isEmpty());
+        if (localResults.isPresent()) {
+            return toResponse(request, localResults.get());
+        }
+        if (Objects.isNull(databaseApi)) {
+            return toResponse(request, Collections.emptyList());
+        }
+
+        final SearchResponse response = databaseApi.search(request);
+        Optional.ofNullable(response)
+                .map(SearchResponse::getResults)
+                .ifPresent(results -> results.stream().filter(r -> Objects.nonNull(r.getId())).forEach(this::add));
+        return response;
+    }
+
+    /**
+     * Searches only the local index.
+     *
+     * @param request the search request
+     * @return the matching documents, or empty if the request cannot be answered locally
+     */
+    public Optional<List<SearchResult>> find(@NonNull final SearchRequest request) {
+        final Query query = Query.from(request);
+        if (Objects.isNull(query)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            final List<SearchResult> results = new ArrayList<>();
+            final BitSet memoryDocs = query.evaluate((term, docs) -> {
+                final BitSet termDocs = postings.get(term);
+                if (Objects.nonNull(termDocs)) {
+                    docs.or(termDocs);
+                }
+            });
+            memoryDocs.stream()
+                    .mapToObj(documents::get)
+                    .filter(query::matches)
+                    .forEach(results::add);
+
+            if (Objects.nonNull(segment)) {
+                final BitSet segmentDocs = query.evaluate(segment::collect);
+                segmentDocs.stream()
+                        .filter(doc -> !documentNumbers.containsKey(segment.getKey(doc)))
+                        .mapToObj(segment::getDocument)
+                        .filter(query::matches)
+                        .forEach(results::add);
+            }
+
+            return Optional.of(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the documents held in memory into the segment file and reopens it.
+     *
+     * @throws IOException if an error occurred while writing or opening the segment file
+     * @throws IllegalStateException if the index does not have a segment file
+     */
+    public void save() throws IOException {
+        if (Objects.isNull(segmentFile)) {
+            throw new IllegalStateException("segmentFile must be defined to save the index");
+        }
+
+        lock.writeLock().lock();
+        try {
+            final List<SearchResult> merged = new ArrayList<>(getDocumentCountInternal());
+            if (Objects.nonNull(segment)) {
+                for (int doc = 0; doc < segment.getDocumentCount(); ++doc) {
+                    if (!documentNumbers.containsKey(segment.getKey(doc))) {
+                        merged.add(segment.getDocument(doc));
+                    }
+                }
+            }
+            merged.addAll(documents);
+
+            SearchIndexSegment.write(segmentFile, merged);
+            segment = SearchIndexSegment.open(segmentFile);
+            documents.clear();
+            documentNumbers.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed documents.
+     *
+     * @return the document count
+     */
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return getDocumentCountInternal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Converts the given release to a search result as it would be returned by the API.
+     *
+     * @param release the release
+     * @return the search result
+     */
+    public static SearchResult toSearchResult(@NonNull final Release release) {
+        Validate.notNull(release.getId(), "release id must not be null");
+
+        final String artists = Optional.ofNullable(release.getArtistsSort())
+                .orElseGet(() -> stream(release.getArtists())
+                        .map(Artist::getName)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining(", ")));
+        final String title = StringUtils.isBlank(artists)
+                ? release.getTitle()
+                : artists + TITLE_SEPARATOR + Optional.ofNullable(release.getTitle()).orElse(StringUtils.EMPTY);
+        final List<CatalogEntity> labels = Optional.ofNullable(release.getLabels()).orElse(List.of());
+
+        return SearchResult.builder()
+                .id(release.getId())
+                .resourceUrl(release.getResourceUrl())
+                .type(SearchType.RELEASE)
+                .title(title)
+                .year(Optional.ofNullable(release.getYear()).map(Object::toString).orElse(null))
+                .country(release.getCountry())
+                .uri(release.getUri())
+                .thumb(release.getThumb())
+                .masterId(release.getMasterId())
+                .masterUrl(release.getMasterUrl())
+                .label(toDistinctList(labels, CatalogEntity::getName))
+                .catalogNumber(labels.stream()
+                        .map(CatalogEntity::getCatalogNumber)
+                        .filter(StringUtils::isNotBlank)
+                        .findFirst()
+                        .orElse(null))
+                .barcode(stream(release.getIdentifiers())
+                        .filter(i -> BARCODE_IDENTIFIER_TYPE.equalsIgnoreCase(i.getType()))
+                        .map(ReleaseIdentifier::getValue)
+                        .filter(StringUtils::isNotBlank)
+                        .collect(Collectors.toList()))
+                .genre(release.getGenres())
+                .style(release.getStyles())
+                .format(toDistinctList(release.getFormats(), Format::getName))
+                .build();
+    }
+
+    /**
+     * Gets the indexed terms for the given document.
+     *
+     * @param document the document
+     * @return the terms
+     */
+    static Set<String> toTerms(final SearchResult document) {
+        final Set<String> terms = new LinkedHashSet<>();
+        final String title = Optional.ofNullable(document.getTitle()).orElse(StringUtils.EMPTY);
+        if (document.getType() == SearchType.ARTIST) {
+            addTokens(terms, ARTIST_FIELD, title);
+        } else if (document.getType() == SearchType.LABEL) {
+            addTokens(terms, LABEL_FIELD, title);
+        } else {
+            // Release and master titles are formatted as "Artist - Title"
+            final int separator = title.indexOf(TITLE_SEPARATOR);
+            if (separator >= 0) {
+                addTokens(terms, ARTIST_FIELD, title.substring(0, separator));
+            }
+            addTokens(terms, TITLE_FIELD, title.substring(separator < 0 ? 0 : separator + TITLE_SEPARATOR.length()));
+        }
+        stream(document.getLabel()).forEach(l -> addTokens(terms, LABEL_FIELD, l));
+        addExact(terms, CATALOG_NUMBER_FIELD, document.getCatalogNumber());
+        stream(document.getBarcode()).forEach(b -> addExact(terms, BARCODE_FIELD, b));
+        stream(document.getGenre()).forEach(g -> addExact(terms, GENRE_FIELD, g));
+        stream(document.getStyle()).forEach(s -> addExact(terms, STYLE_FIELD, s));
+        return terms;
+    }
+
+    private int getDocumentCountInternal() {
+        int count = documents.size();
+        if (Objects.nonNull(segment)) {
+            for (int doc = 0; doc < segment.getDocumentCount(); ++doc) {
+                if (!documentNumbers.containsKey(segment.getKey(doc))) {
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static SearchResponse toResponse(final SearchRequest request, final List<SearchResult> results) {
+        final int perPage = Optional.ofNullable(request.getPerPage()).orElse(DEFAULT_PER_PAGE);
+        final int page = Optional.ofNullable(request.getPage()).orElse(1);
+        final int fromIndex = Math.min(results.size(), (page - 1) * perPage);
+        final int toIndex = Math.min(results.size(), fromIndex + perPage);
+        return SearchResponse.builder()
+                .results(new ArrayList<>(results.subList(fromIndex, toIndex)))
+                .pagination(PaginatedResponseBase.Pagination.builder()
+                        .page(page)
+                        .pages((results.size() + perPage - 1) / perPage)
+                        .perPage(perPage)
+                        .items(results.size())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Gets the key that identifies the given document by its type and identifier.
+     *
+     * @param result the document
+     * @return the key
+     */
+    static long toKey(final SearchResult result) {
+        final long typeCode = Objects.isNull(result.getType()) ? 0L : result.getType().ordinal() + 1L;
+        return result.getId() * 8L + typeCode;
+    }
+
+    private static void addTokens(final Set<String> terms, final String field, final String value) {
+        tokenize(value).forEach(token -> terms.add(field + token));
+    }
+
+    private static void addExact(final Set<String> terms, final String field, final String value) {
+        Optional.ofNullable(normalize(value)).ifPresent(v -> terms.add(field + v));
+    }
+
+    /**
+     * Splits the given value into lower-case tokens of letters and digits.
+     *
+     * @param value the value
+     * @return the tokens
+     */
+    static List<String> tokenize(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return Collections.emptyList();
+        }
+
+        final List<String> tokens = new ArrayList<>();
+        for (final String token : TOKEN_SEPARATOR.split(value.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Normalizes the given exact-match value (e.g., a catalog number or barcode) by lower-casing it and removing
+     * all characters other than letters and digits.
+     *
+     * @param value the value
+     * @return the normalized value, or {@code null} if there is none
+     */
+    static String normalize(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+
+        final String normalized = TOKEN_SEPARATOR.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(StringUtils.EMPTY);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static <T> Stream<T> stream(final List<T> values) {
+        return Optional.ofNullable(values).map(List::stream).orElseGet(Stream::empty);
+    }
+
+    private static <T> List<String> toDistinctList(final List<T> values, final Function<T, String> mapper) {
+        return stream(values)
+                .map(mapper)
+                .filter(StringUtils::isNotBlank)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /** Collects the documents for a term into a set of document numbers. */
+    @FunctionalInterface
+    private interface PostingsSource {
+        void collect(String term, BitSet docs);
+    }
+
+    /**
+     * A query as a conjunction of clauses where each clause matches any of its terms, plus attribute filters.
+     */
+    private static class Query {
+        private final List<Set<String>> clauses = new ArrayList<>();
+        private SearchType type;
+        private String year;
+        private String country;
+        private String format;
+
+        /**
+         * Creates the query for the given request.
+         *
+         * @param request the request
+         * @return the query, or {@code null} if the request cannot be answered locally
+         */
+        static Query from(final SearchRequest request) {
+            if (StringUtils.isNotBlank(request.getCredit())
+                    || StringUtils.isNotBlank(request.getAnv())
+                    || StringUtils.isNotBlank(request.getTrack())
+                    || StringUtils.isNotBlank(request.getSubmitter())
+                    || StringUtils.isNotBlank(request.getContributor())) {
+                return null;
+            }
+
+            final Query query = new Query();
+            for (final String token : tokenize(request.getQuery())) {
+                query.addClause(TITLE_FIELD + token, ARTIST_FIELD + token, LABEL_FIELD + token,
+                        CATALOG_NUMBER_FIELD + token, BARCODE_FIELD + token);
+            }
+            for (final String token : tokenize(request.getTitle())) {
+                query.addClause(TITLE_FIELD + token, ARTIST_FIELD + token);
+            }
+            tokenize(request.getReleaseTitle()).forEach(token -> query.addClause(TITLE_FIELD + token));
+            tokenize(request.getArtist()).forEach(token -> query.addClause(ARTIST_FIELD + token));
+            tokenize(request.getLabel()).forEach(token -> query.addClause(LABEL_FIELD + token));
+            query.addExactClause(CATALOG_NUMBER_FIELD, request.getCatalogNumber());
+            query.addExactClause(BARCODE_FIELD, request.getBarcode());
+            query.addExactClause(GENRE_FIELD, request.getGenre());
+            query.addExactClause(STYLE_FIELD, request.getStyle());
+            if (query.clauses.isEmpty()) {
+                return null;
+            }
+
+            query.type = request.getType();
+            query.year = Optional.ofNullable(request.getYear()).map(Object::toString).orElse(null);
+            query.country = StringUtils.isBlank(request.getCountry()) ? null : request.getCountry().trim();
+            query.format = StringUtils.isBlank(request.getFormat()) ? null : request.getFormat().trim();
+            return query;
+        }
+
+        /**
+         * Gets the candidate documents from the given postings source.
+         *
+         * @param source the postings source
+         * @return the candidate document numbers
+         */
+        BitSet evaluate(final PostingsSource source) {
+            BitSet result = null;
+            for (final Set<String> clause : clauses) {
+                final BitSet clauseDocs = new BitSet();
+                clause.forEach(term -> source.collect(term, clauseDocs));
+                if (Objects.isNull(result)) {
+                    result = clauseDocs;
+                } else {
+                    result.and(clauseDocs);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Determines if the given document matches all clauses and filters.
+         *
+         * @param document the document
+         * @return {@code true} if the document matches; else, {@code false}
+         */
+        boolean matches(final SearchResult document) {
+            if (Objects.nonNull(type) && type != document.getType()) {
+                return false;
+            }
+            if (Objects.nonNull(year) && !year.equals(document.getYear())) {
+                return false;
+            }
+            if (Objects.nonNull(country) && !country.equalsIgnoreCase(document.getCountry())) {
+                return false;
+            }
+            if (Objects.nonNull(format) && stream(document.getFormat()).noneMatch(format::equalsIgnoreCase)) {
+                return false;
+            }
+
+            final Set<String> terms = toTerms(document);
+            return clauses.stream().allMatch(clause -> clause.stream().anyMatch(terms::contains));
+        }
+
+        private void addClause(final String... terms) {
+            clauses.add(new LinkedHashSet<>(List.of(terms)));
+        }
+
+        private void addExactClause(final String field, final String value) {
+            Optional.ofNullable(normalize(value)).ifPresent(v -> addClause(field + v));
+        }
+    }
+}
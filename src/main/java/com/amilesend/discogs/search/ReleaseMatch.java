@@ -0,0 +1,85 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Describes the outcome of matching a {@link CatalogRow} to a Discogs release.
+ *
+ * @see ReleaseMatcher
+ */
+@Builder
+@Data
+public class ReleaseMatch {
+    /**
+     * The catalog row.
+     *
+     * @see CatalogRow
+     */
+    private final CatalogRow row;
+    /**
+     * The best scoring candidate, or {@code null} if the searches returned no candidates.
+     *
+     * @see SearchResult
+     */
+    private final SearchResult candidate;
+    /** The confidence score of the candidate between 0 and 1. */
+    private final double confidence;
+    /** Flag indicator if the confidence meets the matcher's minimum confidence. */
+    private final boolean matched;
+    /** Flag indicator if the row is not matched after one or more of its searches failed, and may be retried. */
+    private final boolean failed;
+
+    /**
+     * Gets the matched release identifier.
+     *
+     * @return the release identifier, or {@code null} if the row is not matched
+     */
+    public Long getReleaseId() {
+        return matched && Objects.nonNull(candidate) ? candidate.getId() : null;
+    }
+
+    /**
+     * Creates the inventory record for the matched release from the row's inventory fields.
+     *
+     * @return the inventory record
+     * @throws IllegalStateException if the row is not matched
+     * @see InventoryRecord
+     */
+    public InventoryRecord toInventoryRecord() {
+        final Long releaseId = getReleaseId();
+        if (Objects.isNull(releaseId)) {
+            throw new IllegalStateException("row is not matched: " + row);
+        }
+
+        return InventoryRecord.builder()
+                .releaseId(Math.toIntExact(releaseId))
+                .price(row.getPrice())
+                .mediaCondition(row.getMediaCondition())
+                .sleeveCondition(row.getSleeveCondition())
+                .comments(row.getComments())
+                .externalId(row.getExternalId())
+                .build();
+    }
+}
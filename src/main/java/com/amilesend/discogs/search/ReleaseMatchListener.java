@@ -0,0 +1,34 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+/**
+ * Listener that is notified of the match outcome of each catalog row. Invocations are serialized and follow the
+ * order of the rows.
+ *
+ * @see ReleaseMatcher
+ */
+@FunctionalInterface
+public interface ReleaseMatchListener {
+    /**
+     * Invoked when a row has been matched, or when all searches for the row have been exhausted without a match.
+     *
+     * @param match the match outcome
+     */
+    void onMatch(ReleaseMatch match);
+}
@@ -0,0 +1,45 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes the outcome of a {@link ReleaseMatcher#match} invocation.
+ */
+@Builder
+@Data
+public class ReleaseMatchSummary {
+    /** The number of rows read. */
+    private final int rowCount;
+    /** The number of rows matched with at least the minimum confidence. */
+    private final int matchedCount;
+    /** The number of rows that were not matched by searches that all succeeded. */
+    private final int unmatchedCount;
+    /** The number of rows that were not matched after one or more of their searches failed. */
+    private final int failedCount;
+    /** The number of unique searches that were resolved. */
+    private final int queryCount;
+    /** The number of unique searches that were answered by the local index. */
+    private final int localHitCount;
+    /** The number of API requests issued, excluding retries. */
+    private final int requestCount;
+    /** The number of API requests that failed after retries. */
+    private final int failedRequestCount;
+}
@@ -0,0 +1,421 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Matches rows from an external catalog to Discogs releases. Rows are read in batches, and each row is searched by
+ * its most selective identifier first: the barcode, then the catalog number, and then the artist and title. A row
+ * only moves on to its next search when the candidates of the current one do not meet the minimum confidence.
+ * Identical searches are deduplicated across the run, searches that can be answered by a {@link LocalSearchIndex}
+ * are answered locally, and the remaining searches of each batch are issued concurrently through a
+ * {@link BulkExecutor}, which keeps the run within its rate budget. Results from the API are added to the local
+ * index so that later runs can match locally.
+ * <p>
+ * Candidates are scored on an exact barcode or catalog number match (ignoring case and separators) when both the
+ * row and the candidate define the identifier, and on the token similarity of the artist and title when the row
+ * defines them. The confidence is the weighted score divided by the total weight of the scored fields, but at least
+ * by the combined artist and title weight, so that a candidate scored on the artist or title alone is discounted.
+ * <p>
+ * Failed searches are not remembered, so later batches that need the same search issue it again. Rows that are not
+ * matched after one of their searches failed are reported as failed rather than unmatched.
+ * Example:
+ * <pre>
+ * final ReleaseMatcher matcher = ReleaseMatcher.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .localIndex(index)
+ *         .build();
+ * try (final InventoryCsvWriter writer = ...) {
+ *     matcher.match(rows, match -&gt; {
+ *         if (match.isMatched()) {
+ *             writer.write(match.toInventoryRecord());
+ *         }
+ *     });
+ * }
+ * </pre>
+ *
+ * @see CatalogRow
+ * @see ReleaseMatch
+ * @see ReleaseMatchSummary
+ */
+@Slf4j
+@Getter
+public class ReleaseMatcher {
+    private static final double DEFAULT_MIN_CONFIDENCE = 0.75D;
+    private static final int DEFAULT_CANDIDATE_COUNT = 25;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final double BARCODE_WEIGHT = 0.4D;
+    private static final double CATALOG_NUMBER_WEIGHT = 0.3D;
+    private static final double ARTIST_WEIGHT = 0.15D;
+    private static final double TITLE_WEIGHT = 0.15D;
+    private static final double MIN_EVIDENCE_WEIGHT = ARTIST_WEIGHT + TITLE_WEIGHT;
+    private static final String TITLE_SEPARATOR = " - ";
+
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The executor used to issue the searches. */
+    private final BulkExecutor bulkExecutor;
+    /** The local index to search before the API, or {@code null} to always use the API. */
+    private final LocalSearchIndex localIndex;
+    /** The minimum confidence for a candidate to match a row. */
+    private final double minConfidence;
+    /** The number of candidates to request per search. */
+    private final int candidateCount;
+    /** The number of rows matched per batch. */
+    private final int batchSize;
+
+    /**
+     * Creates a new {@code ReleaseMatcher}.
+     *
+     * @param databaseApi the database API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param localIndex the local index to search before the API (optional)
+     * @param minConfidence the minimum confidence for a candidate to match a row (optional; default is 0.75)
+     * @param candidateCount the number of candidates to request per search (optional; default is 25)
+     * @param batchSize the number of rows matched per batch (optional; default is 100)
+     */
+    @Builder
+    private ReleaseMatcher(
+            @NonNull final DatabaseApi databaseApi,
+            final BulkExecutor bulkExecutor,
+            final LocalSearchIndex localIndex,
+            final Double minConfidence,
+            final Integer candidateCount,
+            final Integer batchSize) {
+        this.databaseApi = databaseApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.localIndex = localIndex;
+        this.minConfidence = Optional.ofNullable(minConfidence).orElse(DEFAULT_MIN_CONFIDENCE);
+        this.candidateCount = Optional.ofNullable(candidateCount).orElse(DEFAULT_CANDIDATE_COUNT);
+        this.batchSize = Optional.ofNullable(batchSize).orElse(DEFAULT_BATCH_SIZE);
+        Validate.isTrue(this.minConfidence > 0.0D && this.minConfidence <= 1.0D,
+                "minConfidence must be > 0 and <= 1");
+        Validate.isTrue(this.candidateCount > 0 && this.candidateCount <= SearchPlanner.MAX_PAGE_SIZE,
+                "candidateCount must be > 0 and <= " + SearchPlanner.MAX_PAGE_SIZE);
+        Validate.isTrue(this.batchSize > 0, "batchSize must be > 0");
+    }
+
+    /**
+     * Matches the given rows and notifies the listener of the outcome of each row, in row order.
+     *
+     * @param rows the catalog rows
+     * @param listener the listener to notify with each outcome
+     * @return the summary
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public ReleaseMatchSummary match(
+            @NonNull final Iterable<CatalogRow> rows,
+            @NonNull final ReleaseMatchListener listener) throws InterruptedException {
+        final MatchRun run = new MatchRun(listener);
+        final List<CatalogRow> batch = new ArrayList<>(batchSize);
+        for (final CatalogRow row : rows) {
+            Validate.notNull(row, "rows must not contain null values");
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                run.matchBatch(batch);
+                batch.clear();
+            }
+        }
+        run.matchBatch(batch);
+
+        final ReleaseMatchSummary summary = ReleaseMatchSummary.builder()
+                .rowCount(run.rowCount)
+                .matchedCount(run.matchedCount)
+                .unmatchedCount(run.rowCount - run.matchedCount - run.failedCount)
+                .failedCount(run.failedCount)
+                .queryCount(run.candidates.size())
+                .localHitCount(run.localHitCount)
+                .requestCount(run.requestCount)
+                .failedRequestCount(run.failedRequestCount)
+                .build();
+        log.debug("Matched catalog rows: {}", summary);
+        return summary;
+    }
+
+    /**
+     * Scores how well the given candidate matches the row.
+     *
+     * @param row the catalog row
+     * @param candidate the candidate
+     * @return the confidence between 0 and 1
+     */
+    double score(final CatalogRow row, final SearchResult candidate) {
+        double score = 0.0D;
+        double weight = 0.0D;
+
+        // Identifiers are only weighed when the candidate defines them, as many releases do not list a barcode
+        final String barcode = LocalSearchIndex.normalize(row.getBarcode());
+        final List<String> candidateBarcodes = Optional.ofNullable(candidate.getBarcode()).orElse(List.of());
+        if (Objects.nonNull(barcode) && !candidateBarcodes.isEmpty()) {
+            weight += BARCODE_WEIGHT;
+            if (candidateBarcodes.stream().anyMatch(b -> barcode.equals(LocalSearchIndex.normalize(b)))) {
+                score += BARCODE_WEIGHT;
+            }
+        }
+
+        final String catalogNumber = LocalSearchIndex.normalize(row.getCatalogNumber());
+        final String candidateCatalogNumber = LocalSearchIndex.normalize(candidate.getCatalogNumber());
+        if (Objects.nonNull(catalogNumber) && Objects.nonNull(candidateCatalogNumber)) {
+            weight += CATALOG_NUMBER_WEIGHT;
+            if (catalogNumber.equals(candidateCatalogNumber)) {
+                score += CATALOG_NUMBER_WEIGHT;
+            }
+        }
+
+        // Release titles are formatted as "Artist - Title"
+        final String title = Optional.ofNullable(candidate.getTitle()).orElse(StringUtils.EMPTY);
+        final int separator = title.indexOf(TITLE_SEPARATOR);
+        if (StringUtils.isNotBlank(row.getArtist())) {
+            weight += ARTIST_WEIGHT;
+            score += ARTIST_WEIGHT * similarity(row.getArtist(), separator < 0 ? null : title.substring(0, separator));
+        }
+        if (StringUtils.isNotBlank(row.getTitle())) {
+            weight += TITLE_WEIGHT;
+            score += TITLE_WEIGHT * similarity(row.getTitle(),
+                    separator < 0 ? title : title.substring(separator + TITLE_SEPARATOR.length()));
+        }
+
+        // A single weak field (e.g., a title alone) is not enough evidence for a confident match
+        return weight == 0.0D ? 0.0D : score / Math.max(weight, MIN_EVIDENCE_WEIGHT);
+    }
+
+    /**
+     * Gets the searches for the given row, from the most to the least selective.
+     *
+     * @param row the catalog row
+     * @return the searches
+     */
+    List<SearchRequest> toSearchRequests(final CatalogRow row) {
+        final List<SearchRequest> requests = new ArrayList<>(3);
+        final String artist = clean(row.getArtist());
+        final String title = clean(row.getTitle());
+        Optional.ofNullable(LocalSearchIndex.normalize(row.getBarcode()))
+                .ifPresent(barcode -> requests.add(newRequest().barcode(barcode).build()));
+        Optional.ofNullable(clean(row.getCatalogNumber()))
+                .ifPresent(catalogNumber -> requests.add(newRequest()
+                        .catalogNumber(catalogNumber)
+                        .artist(artist)
+                        .build()));
+        if (Objects.nonNull(title)) {
+            requests.add(newRequest().artist(artist).releaseTitle(title).build());
+        }
+        return requests;
+    }
+
+    private SearchRequest.SearchRequestBuilder<?, ?> newRequest() {
+        return SearchRequest.builder()
+                .type(SearchType.RELEASE)
+                .perPage(candidateCount);
+    }
+
+    private static String clean(final String value) {
+        return StringUtils.isBlank(value) ? null : value.trim().replaceAll("\\s+", " ");
+    }
+
+    /** Gets the Dice coefficient of the tokens of the given values. */
+    private static double similarity(final String expected, final String actual) {
+        final Set<String> expectedTokens = new HashSet<>(LocalSearchIndex.tokenize(expected));
+        final Set<String> actualTokens = new HashSet<>(LocalSearchIndex.tokenize(actual));
+        if (expectedTokens.isEmpty() || actualTokens.isEmpty()) {
+            return 0.0D;
+        }
+
+        final long common = expectedTokens.stream().filter(actualTokens::contains).count();
+        return 2.0D * common / (expectedTokens.size() + actualTokens.size());
+    }
+
+    /** Holds the state of a single {@link #match} invocation. */
+    @RequiredArgsConstructor
+    private class MatchRun {
+        private final ReleaseMatchListener listener;
+        // Candidates by canonical search key; failed searches are left out so that later batches retry them
+        private final Map<String, List<SearchResult>> candidates = new HashMap<>();
+        private int rowCount;
+        private int matchedCount;
+        private int failedCount;
+        private int localHitCount;
+        private int requestCount;
+        private int failedRequestCount;
+
+        void matchBatch(final List<CatalogRow> rows) throws InterruptedException {
+            final List<PendingRow> pendingRows = new ArrayList<>(rows.size());
+            for (final CatalogRow row : rows) {
+                pendingRows.add(new PendingRow(row, toSearchRequests(row)));
+            }
+
+            List<PendingRow> active = pendingRows;
+            while (!active.isEmpty()) {
+                // Rows waiting on each search that has not been resolved by an earlier batch or round
+                final Map<String, List<PendingRow>> unresolved = new LinkedHashMap<>();
+                for (final PendingRow pendingRow : active) {
+                    if (pendingRow.hasSearch() && !candidates.containsKey(pendingRow.getSearchKey())) {
+                        unresolved.computeIfAbsent(pendingRow.getSearchKey(), k -> new ArrayList<>()).add(pendingRow);
+                    }
+                }
+                resolve(unresolved);
+
+                final List<PendingRow> nextActive = new ArrayList<>();
+                for (final PendingRow pendingRow : active) {
+                    if (!pendingRow.hasSearch()) {
+                        continue;
+                    }
+
+                    final List<SearchResult> results = candidates.get(pendingRow.getSearchKey());
+                    if (Objects.isNull(results)) {
+                        pendingRow.isFailed = true;
+                    } else {
+                        for (final SearchResult candidate : results) {
+                            pendingRow.consider(candidate, score(pendingRow.row, candidate));
+                        }
+                    }
+                    if (pendingRow.confidence < minConfidence && pendingRow.advance()) {
+                        nextActive.add(pendingRow);
+                    }
+                }
+                active = nextActive;
+            }
+
+            for (final PendingRow pendingRow : pendingRows) {
+                final boolean isMatched =
+                        Objects.nonNull(pendingRow.candidate) && pendingRow.confidence >= minConfidence;
+                final boolean isFailed = !isMatched && pendingRow.isFailed;
+                ++rowCount;
+                if (isMatched) {
+                    ++matchedCount;
+                } else if (isFailed) {
+                    ++failedCount;
+                }
+                listener.onMatch(ReleaseMatch.builder()
+                        .row(pendingRow.row)
+                        .candidate(pendingRow.candidate)
+                        .confidence(pendingRow.confidence)
+                        .matched(isMatched)
+                        .failed(isFailed)
+                        .build());
+            }
+        }
+
+        private void resolve(final Map<String, List<PendingRow>> unresolved) throws InterruptedException {
+            final Map<String, SearchRequest> remoteSearches = new LinkedHashMap<>();
+            for (final Map.Entry<String, List<PendingRow>> entry : unresolved.entrySet()) {
+                // The local index only holds results seen before, so a search is answered locally only when it
+                // yields a confident candidate for every waiting row; otherwise the API may know a better one
+                final List<PendingRow> waitingRows = entry.getValue();
+                final Optional<List<SearchResult>> localResults = Optional.ofNullable(localIndex)
+                        .flatMap(index -> index.find(waitingRows.get(0).getSearch()))
+                        .filter(results -> waitingRows.stream().allMatch(pendingRow -> results.stream()
+                                .anyMatch(result -> score(pendingRow.row, result) >= minConfidence)));
+                if (localResults.isPresent()) {
+                    ++localHitCount;
+                    candidates.put(entry.getKey(), localResults.get());
+                } else {
+                    remoteSearches.put(entry.getKey(), waitingRows.get(0).getSearch());
+                }
+            }
+            if (remoteSearches.isEmpty()) {
+                return;
+            }
+
+            final List<String> remoteKeys = new ArrayList<>(remoteSearches.keySet());
+            requestCount += remoteKeys.size();
+            bulkExecutor.execute(remoteKeys, key -> databaseApi.search(remoteSearches.get(key)), result -> {
+                if (result.getStatus() == BulkItemResult.Status.FAILED) {
+                    ++failedRequestCount;
+                    log.debug("Unable to search {}: {}", result.getItem(), result.getErrorMessage());
+                    return;
+                }
+
+                final List<SearchResult> results = Optional.ofNullable(result.getResult())
+                        .map(SearchResponse::getResults)
+                        .orElse(List.of());
+                candidates.put(result.getItem(), results);
+                if (Objects.nonNull(localIndex)) {
+                    results.stream().filter(r -> Objects.nonNull(r.getId())).forEach(localIndex::add);
+                }
+            });
+        }
+    }
+
+    /** Holds the search progress and best candidate of a row within a batch. */
+    private static class PendingRow {
+        private final CatalogRow row;
+        private final List<SearchRequest> searches;
+        private int searchIndex;
+        private String searchKey;
+        private SearchResult candidate;
+        private double confidence;
+        private boolean isFailed;
+
+        PendingRow(final CatalogRow row, final List<SearchRequest> searches) {
+            this.row = row;
+            this.searches = searches;
+        }
+
+        boolean hasSearch() {
+            return searchIndex < searches.size();
+        }
+
+        SearchRequest getSearch() {
+            return searches.get(searchIndex);
+        }
+
+        String getSearchKey() {
+            if (Objects.isNull(searchKey)) {
+                searchKey = SearchCache.toCacheKey(getSearch());
+            }
+            return searchKey;
+        }
+
+        void consider(final SearchResult result, final double score) {
+            if (score > confidence) {
+                candidate = result;
+                confidence = score;
+            }
+        }
+
+        boolean advance() {
+            ++searchIndex;
+            searchKey = null;
+            return hasSearch();
+        }
+    }
+}
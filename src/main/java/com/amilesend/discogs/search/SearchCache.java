@@ -0,0 +1,299 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.cache.TtlCache;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A short-lived cache of search responses for latency-sensitive callers that issue the same searches repeatedly.
+ * Responses are keyed by the request's query parameters after normalization (i.e., parameter order, letter case,
+ * and redundant whitespace are ignored), so equivalent requests share a cached response. Concurrent requests for
+ * the same key share a single API call. Once a caller pages past the first page, the following pages are prefetched
+ * in the background so that paging forward is served from the cache; most searches never go past the first page,
+ * so it is not prefetched from.
+ * Example:
+ * <pre>
+ * try (final SearchCache cache = SearchCache.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .build()) {
+ *     final SearchResponse response = cache.search(SearchRequest.builder().query("Nirvana").build());
+ * }
+ * </pre>
+ *
+ * @see TtlCache
+ */
+@Slf4j
+@Getter
+public class SearchCache implements AutoCloseable {
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30L);
+    private static final int DEFAULT_PREFETCH_PAGES = 1;
+    private static final int PREFETCH_THREADS = 2;
+    private static final HttpUrl KEY_BASE_URL = HttpUrl.get("https://api.discogs.com/database/search");
+
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The rate limiter for search requests. */
+    private final RateLimiter rateLimiter;
+    /** The number of following pages to prefetch when a page after the first is returned. */
+    private final int prefetchPages;
+    @Getter(AccessLevel.NONE)
+    private final TtlCache<String, SearchResponse> cache;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CompletableFuture<SearchResponse>> inFlight = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService prefetchExecutor;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong hitCount = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong sharedCount = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong requestCount = new AtomicLong();
+
+    /**
+     * Creates a new {@code SearchCache}.
+     *
+     * @param databaseApi the database API
+     * @param rateLimiter the rate limiter (optional; default is {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param ttl the duration that responses are cached (optional; default is 30 seconds)
+     * @param maxSize the maximum number of cached responses (optional; default is 10000)
+     * @param prefetchPages the number of following pages to prefetch when a page after the first is returned
+     *                      (optional; default is 1; 0 disables prefetching)
+     */
+    @Builder
+    private SearchCache(
+            @NonNull final DatabaseApi databaseApi,
+            final RateLimiter rateLimiter,
+            final Duration ttl,
+            final Integer maxSize,
+            final Integer prefetchPages) {
+        this.databaseApi = databaseApi;
+        this.rateLimiter = Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+        this.prefetchPages = Optional.ofNullable(prefetchPages).orElse(DEFAULT_PREFETCH_PAGES);
+        Validate.isTrue(this.prefetchPages >= 0, "prefetchPages must be >= 0");
+        this.cache = TtlCache.<String, SearchResponse>builder()
+                .ttl(Optional.ofNullable(ttl).orElse(DEFAULT_TTL))
+                .maxSize(maxSize)
+                .build();
+        this.prefetchExecutor = this.prefetchPages == 0 ? null : Executors.newFixedThreadPool(PREFETCH_THREADS, r -> {
+            final Thread thread = new Thread(r, "search-cache-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the search response for the given request from the cache, or from the API if it is not cached.
+     *
+     * @param request the search request
+     * @return the search response
+     * @throws InterruptedException if the thread was interrupted while waiting
+     * @see DatabaseApi#search(SearchRequest)
+     */
+    public SearchResponse search(@NonNull final SearchRequest request) throws InterruptedException {
+        final SearchResponse response = load(toCacheKey(request), request);
+        prefetch(request, response);
+        return response;
+    }
+
+    /**
+     * Gets the number of searches that were served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of searches that waited for an identical search that was already in flight.
+     *
+     * @return the shared count
+     */
+    public long getSharedCount() {
+        return sharedCount.get();
+    }
+
+    /**
+     * Gets the number of search requests issued to the API, including prefetches.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /** Removes all cached responses. */
+    public void clear() {
+        cache.clear();
+    }
+
+    /** Stops prefetching. */
+    @Override
+    public void close() {
+        if (Objects.nonNull(prefetchExecutor)) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the canonical cache key for the given request, which is the sorted and URL-encoded query string of its
+     * query parameter values after trimming, collapsing whitespace, and lower-casing. Values are compared in their
+     * form-encoded representation (i.e., whitespace as {@code +}) and are never decoded, so that literal {@code +}
+     * and {@code %} characters remain distinct.
+     *
+     * @param request the search request
+     * @return the cache key
+     */
+    @VisibleForTesting
+    static String toCacheKey(final SearchRequest request) {
+        final HttpUrl url = request.populateQueryParameters(KEY_BASE_URL.newBuilder()).build();
+        final Map<String, String> parameters = new TreeMap<>();
+        for (final String name : url.queryParameterNames()) {
+            final String value = Optional.ofNullable(url.queryParameter(name))
+                    .map(v -> v.replaceAll("\\++", "+")
+                            .replaceAll("^\\+|\\+$", "")
+                            .toLowerCase(Locale.ROOT))
+                    .orElse("");
+            if (!value.isEmpty()) {
+                parameters.put(name.toLowerCase(Locale.ROOT), value);
+            }
+        }
+        parameters.putIfAbsent("page", "1");
+
+        final HttpUrl.Builder keyBuilder = KEY_BASE_URL.newBuilder();
+        parameters.forEach(keyBuilder::addQueryParameter);
+        return keyBuilder.build().encodedQuery();
+    }
+
+    private SearchResponse load(final String key, final SearchRequest request) throws InterruptedException {
+        final SearchResponse cached = cache.get(key);
+        if (Objects.nonNull(cached)) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        final CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+        final CompletableFuture<SearchResponse> existing = inFlight.putIfAbsent(key, future);
+        if (Objects.nonNull(existing)) {
+            sharedCount.incrementAndGet();
+            return await(existing);
+        }
+
+        try {
+            // Another caller may have completed the same search between the cache miss and claiming the key
+            SearchResponse response = cache.get(key);
+            if (Objects.isNull(response)) {
+                rateLimiter.acquire();
+                requestCount.incrementAndGet();
+                response = databaseApi.search(request);
+                if (Objects.nonNull(response)) {
+                    cache.put(key, response);
+                }
+            }
+            future.complete(response);
+            return response;
+        } catch (final Throwable ex) {
+            // Complete for any failure (including errors) so that callers sharing the search are never left waiting
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void prefetch(final SearchRequest request, final SearchResponse response) {
+        if (Objects.isNull(prefetchExecutor) || Objects.isNull(response)) {
+            return;
+        }
+
+        // Only callers that have already paged forward are likely to request the following pages
+        final int page = Optional.ofNullable(request.getPage()).orElse(1);
+        if (page < 2) {
+            return;
+        }
+
+        final int lastPage = Optional.ofNullable(response.getPagination())
+                .map(PaginatedResponseBase.Pagination::getPages)
+                .orElse(page);
+        for (int nextPage = page + 1; nextPage <= Math.min(lastPage, page + prefetchPages); ++nextPage) {
+            final SearchRequest nextRequest = request.toBuilder().page(nextPage).build();
+            final String key = toCacheKey(nextRequest);
+            if (Objects.nonNull(cache.get(key)) || inFlight.containsKey(key)) {
+                continue;
+            }
+
+            try {
+                prefetchExecutor.execute(() -> {
+                    try {
+                        load(key, nextRequest);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } catch (final RuntimeException ex) {
+                        log.debug("Unable to prefetch search page {}: {}", key, ex.getMessage());
+                    }
+                });
+            } catch (final RejectedExecutionException ex) {
+                log.debug("Skipping prefetch after close: {}", key);
+                return;
+            }
+        }
+    }
+
+    private static SearchResponse await(final CompletableFuture<SearchResponse> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.connection.AtomicFileWriter;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchResultFormat;
+import com.amilesend.discogs.model.database.type.SearchResultStat;
+import com.amilesend.discogs.model.database.type.SearchResultUserData;
+import com.amilesend.discogs.model.database.type.SearchType;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * An immutable, memory-mapped segment of a {@link LocalSearchIndex}. Only the term dictionary is read onto the heap
+ * when the segment is opened; postings lists and stored documents are read from the mapped file on demand.
+ * <p>
+ * The segment file layout is:
+ * <pre>
+ * header:     version, document count, term count, postings count, documents length (int)
+ * keys:       document count x long document key
+ * offsets:    document count x int offset into the documents section
+ * dictionary: term count x (int length, UTF-8 term, int postings start, int postings count)
+ * postings:   postings count x int document number, sorted per term
+ * documents:  the stored search results with every field, including nested formats, community stats, and user
+ *             data
+ * </pre>
+ */
+final class SearchIndexSegment {
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_LENGTH = 5 * Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+    private static final byte NULL_VALUE = -1;
+
+    /** The number of documents in the segment. */
+    @Getter
+    private final int documentCount;
+    private final ByteBuffer buffer;
+    private final Map<String, Long> dictionary;
+    private final int offsetsOffset;
+    private final int postingsOffset;
+    private final int documentsOffset;
+
+    private SearchIndexSegment(
+            final ByteBuffer buffer,
+            final int documentCount,
+            final Map<String, Long> dictionary,
+            final int postingsOffset,
+            final int documentsOffset) {
+        this.buffer = buffer;
+        this.documentCount = documentCount;
+        this.dictionary = dictionary;
+        this.offsetsOffset = HEADER_LENGTH + documentCount * Long.BYTES;
+        this.postingsOffset = postingsOffset;
+        this.documentsOffset = documentsOffset;
+    }
+
+    /**
+     * Writes the given documents to a new segment file, atomically replacing any existing file.
+     *
+     * @param file the segment file
+     * @param documents the documents
+     * @throws IOException if an error occurred while writing the file
+     * @see AtomicFileWriter
+     */
+    static void write(final Path file, final List<SearchResult> documents) throws IOException {
+        final Map<String, List<Integer>> postings = new TreeMap<>();
+        final ByteArrayOutputStream documentBytes = new ByteArrayOutputStream();
+        final DataOutputStream documentOut = new DataOutputStream(documentBytes);
+        final int[] offsets = new int[documents.size()];
+        for (int doc = 0; doc < documents.size(); ++doc) {
+            final SearchResult document = documents.get(doc);
+            for (final String term : LocalSearchIndex.toTerms(document)) {
+                postings.computeIfAbsent(term, t -> new ArrayList<>()).add(doc);
+            }
+            offsets[doc] = documentOut.size();
+            writeDocument(documentOut, document);
+        }
+        documentOut.flush();
+
+        final int postingsCount = postings.values().stream().mapToInt(List::size).sum();
+        AtomicFileWriter.write(file, output -> {
+            try (final DataOutputStream out = new DataOutputStream(output)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(documents.size());
+                out.writeInt(postings.size());
+                out.writeInt(postingsCount);
+                out.writeInt(documentBytes.size());
+                for (final SearchResult document : documents) {
+                    out.writeLong(LocalSearchIndex.toKey(document));
+                }
+                for (final int offset : offsets) {
+                    out.writeInt(offset);
+                }
+                int start = 0;
+                for (final Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+                    writeString(out, entry.getKey());
+                    out.writeInt(start);
+                    out.writeInt(entry.getValue().size());
+                    start += entry.getValue().size();
+                }
+                for (final List<Integer> docs : postings.values()) {
+                    for (final int doc : docs) {
+                        out.writeInt(doc);
+                    }
+                }
+                documentBytes.writeTo(out);
+            }
+        });
+    }
+
+    /**
+     * Opens and memory-maps the given segment file.
+     *
+     * @param file the segment file
+     * @return the segment
+     * @throws IOException if an error occurred while reading the file or the file is not a valid segment
+     */
+    static SearchIndexSegment open(final Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Segment file is too large to map: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+
+        try {
+            final int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported segment format version " + version + " in " + file);
+            }
+
+            final int documentCount = buffer.getInt();
+            final int termCount = buffer.getInt();
+            final int postingsCount = buffer.getInt();
+            final int documentsLength = buffer.getInt();
+            buffer.position(HEADER_LENGTH + documentCount * (Long.BYTES + Integer.BYTES));
+            final Map<String, Long> dictionary = new HashMap<>(Math.max(16, termCount * 2));
+            for (int i = 0; i < termCount; ++i) {
+                final String term = readString(buffer);
+                final long start = buffer.getInt();
+                final long count = buffer.getInt();
+                dictionary.put(term, (start << Integer.SIZE) | count);
+            }
+
+            final int postingsOffset = buffer.position();
+            final int documentsOffset = postingsOffset + postingsCount * Integer.BYTES;
+            if (documentsOffset + documentsLength != buffer.limit()) {
+                throw new IOException("Truncated segment file: " + file);
+            }
+
+            return new SearchIndexSegment(buffer, documentCount, dictionary, postingsOffset, documentsOffset);
+        } catch (final RuntimeException ex) {
+            throw new IOException("Invalid segment file: " + file, ex);
+        }
+    }
+
+    /**
+     * Adds the documents that contain the given term to the given set of document numbers.
+     *
+     * @param term the term
+     * @param docs the set of document numbers to add to
+     */
+    void collect(final String term, final BitSet docs) {
+        final Long entry = dictionary.get(term);
+        if (Objects.isNull(entry)) {
+            return;
+        }
+
+        final int start = (int) (entry >>> Integer.SIZE);
+        final int count = (int) (entry & 0xFFFFFFFFL);
+        for (int i = 0; i < count; ++i) {
+            docs.set(buffer.getInt(postingsOffset + (start + i) * Integer.BYTES));
+        }
+    }
+
+    /**
+     * Gets the key of the stored document.
+     *
+     * @param doc the document number
+     * @return the key
+     * @see LocalSearchIndex#toKey(SearchResult)
+     */
+    long getKey(final int doc) {
+        return buffer.getLong(HEADER_LENGTH + doc * Long.BYTES);
+    }
+
+    /**
+     * Reads the stored document.
+     *
+     * @param doc the document number
+     * @return the document
+     */
+    SearchResult getDocument(final int doc) {
+        final ByteBuffer in = buffer.duplicate();
+        in.position(documentsOffset + buffer.getInt(offsetsOffset + doc * Integer.BYTES));
+        final long id = in.getLong();
+        final String type = readString(in);
+        final long masterId = in.getLong();
+        return SearchResult.builder()
+                .id(id)
+                .type(SearchType.fromValue(type))
+                .masterId(masterId == 0L ? null : masterId)
+                .resourceUrl(readString(in))
+                .title(readString(in))
+                .year(readString(in))
+                .country(readString(in))
+                .catalogNumber(readString(in))
+                .uri(readString(in))
+                .thumb(readString(in))
+                .coverImage(readString(in))
+                .masterUrl(readString(in))
+                .label(readStrings(in))
+                .barcode(readStrings(in))
+                .genre(readStrings(in))
+                .style(readStrings(in))
+                .format(readStrings(in))
+                .formatQuantity(readInteger(in))
+                .formats(readFormats(in))
+                .community(readCommunity(in))
+                .userData(readUserData(in))
+                .build();
+    }
+
+    private static void writeDocument(final DataOutputStream out, final SearchResult document) throws IOException {
+        out.writeLong(document.getId());
+        writeString(out, Objects.isNull(document.getType()) ? null : document.getType().getValue());
+        out.writeLong(Objects.isNull(document.getMasterId()) ? 0L : document.getMasterId());
+        writeString(out, document.getResourceUrl());
+        writeString(out, document.getTitle());
+        writeString(out, document.getYear());
+        writeString(out, document.getCountry());
+        writeString(out, document.getCatalogNumber());
+        writeString(out, document.getUri());
+        writeString(out, document.getThumb());
+        writeString(out, document.getCoverImage());
+        writeString(out, document.getMasterUrl());
+        writeStrings(out, document.getLabel());
+        writeStrings(out, document.getBarcode());
+        writeStrings(out, document.getGenre());
+        writeStrings(out, document.getStyle());
+        writeStrings(out, document.getFormat());
+        writeInteger(out, document.getFormatQuantity());
+        writeFormats(out, document.getFormats());
+        writeCommunity(out, document.getCommunity());
+        writeUserData(out, document.getUserData());
+    }
+
+    private static void writeFormats(final DataOutputStream out, final List<SearchResultFormat> formats)
+            throws IOException {
+        if (Objects.isNull(formats)) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        out.writeInt(formats.size());
+        for (final SearchResultFormat format : formats) {
+            out.writeBoolean(Objects.nonNull(format));
+            if (Objects.nonNull(format)) {
+                writeString(out, format.getName());
+                writeString(out, format.getQty());
+                writeString(out, format.getText());
+                writeStrings(out, format.getDescriptions());
+            }
+        }
+    }
+
+    private static void writeCommunity(final DataOutputStream out, final SearchResultStat community)
+            throws IOException {
+        out.writeBoolean(Objects.nonNull(community));
+        if (Objects.nonNull(community)) {
+            writeInteger(out, community.getWant());
+            writeInteger(out, community.getHave());
+        }
+    }
+
+    private static void writeUserData(final DataOutputStream out, final SearchResultUserData userData)
+            throws IOException {
+        out.writeBoolean(Objects.nonNull(userData));
+        if (Objects.nonNull(userData)) {
+            writeBoolean(out, userData.getInWantList());
+            writeBoolean(out, userData.getInCollection());
+        }
+    }
+
+    private static void writeInteger(final DataOutputStream out, final Integer value) throws IOException {
+        out.writeBoolean(Objects.nonNull(value));
+        if (Objects.nonNull(value)) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeBoolean(final DataOutputStream out, final Boolean value) throws IOException {
+        out.writeByte(Objects.isNull(value) ? NULL_VALUE : value ? 1 : 0);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(final DataOutputStream out, final List<String> values) throws IOException {
+        if (Objects.isNull(values)) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        out.writeInt(values.size());
+        for (final String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<SearchResultFormat> readFormats(final ByteBuffer in) {
+        final int size = in.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        final List<SearchResultFormat> formats = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            formats.add(in.get() == 0
+                    ? null
+                    : SearchResultFormat.builder()
+                            .name(readString(in))
+                            .qty(readString(in))
+                            .text(readString(in))
+                            .descriptions(readStrings(in))
+                            .build());
+        }
+        return formats;
+    }
+
+    private static SearchResultStat readCommunity(final ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+
+        return SearchResultStat.builder()
+                .want(readInteger(in))
+                .have(readInteger(in))
+                .build();
+    }
+
+    private static SearchResultUserData readUserData(final ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+
+        return SearchResultUserData.builder()
+                .inWantList(readBoolean(in))
+                .inCollection(readBoolean(in))
+                .build();
+    }
+
+    private static Integer readInteger(final ByteBuffer in) {
+        return in.get() == 0 ? null : in.getInt();
+    }
+
+    private static Boolean readBoolean(final ByteBuffer in) {
+        final byte value = in.get();
+        return value == NULL_VALUE ? null : value == 1;
+    }
+
+    private static List<String> readStrings(final ByteBuffer in) {
+        final int size = in.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes the outcome of a {@link SearchPlanner#search} invocation.
+ */
+@Builder
+@Data
+public class SearchPlanSummary {
+    /** The number of sub-queries whose results were fetched. */
+    private final int queryCount;
+    /** The number of fetched sub-queries that still exceeded the result limit after all shards were applied. */
+    private final int truncatedQueryCount;
+    /** The number of API requests issued, excluding retries. */
+    private final int requestCount;
+    /** The number of API requests that failed after retries. */
+    private final int failedRequestCount;
+    /** The number of unique results emitted to the listener. */
+    private final int resultCount;
+    /** The number of results that were dropped because they were already emitted by another sub-query. */
+    private final int duplicateCount;
+}
@@ -0,0 +1,311 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.collect.LongHashSet;
+import com.amilesend.discogs.concurrent.BatchedRequests;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.PageKey;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs broad searches whose results exceed the depth that the API can page through by splitting them into
+ * sub-queries. A query is probed with its first page, and when it matches more than {@code maxResultsPerQuery}
+ * results it is split on the next unset shard {@link Dimension} (e.g., one sub-query per year). Sub-queries are
+ * probed and paged concurrently with a {@link BulkExecutor} within the rate limit, and results are deduplicated by
+ * type and identifier and streamed to a {@link SearchResultListener}.
+ * <p>
+ * Splitting on {@link Dimension#TYPE} covers every result. The other dimensions are release attributes, so they
+ * only split queries for {@link SearchType#RELEASE} or {@link SearchType#MASTER} results; artist, label, and untyped
+ * queries are paged as deep as allowed and counted as truncated instead. They also only cover the configured years,
+ * formats, and countries, so results without one of the configured values are not reached once a query is split
+ * on that dimension.
+ * Example:
+ * <pre>
+ * final SearchPlanner planner = SearchPlanner.builder()
+ *         .databaseApi(discogs.getDatabaseApi())
+ *         .formats(List.of("Vinyl", "CD", "Cassette"))
+ *         .build();
+ * final SearchPlanSummary summary = planner.search(SearchRequest.builder().genre("Jazz").build(), this::index);
+ * </pre>
+ *
+ * @see SearchResultListener
+ * @see SearchPlanSummary
+ */
+@Slf4j
+@Getter
+public class SearchPlanner {
+    /** The maximum number of results returned per page. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final int DEFAULT_MAX_RESULTS_PER_QUERY = 10000;
+    private static final int DEFAULT_MIN_YEAR = 1900;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final List<Dimension> DEFAULT_DIMENSIONS =
+            List.of(Dimension.TYPE, Dimension.YEAR, Dimension.FORMAT, Dimension.COUNTRY);
+
+    /** The database API. */
+    private final DatabaseApi databaseApi;
+    /** The executor used to issue the requests. */
+    private final BulkExecutor bulkExecutor;
+    /** The maximum number of results that can be paged through for a single query. */
+    private final int maxResultsPerQuery;
+    /** The number of results to request per page. */
+    private final int pageSize;
+    /** The dimensions to split on, in order. */
+    private final List<Dimension> dimensions;
+    /** The first year used when splitting on {@link Dimension#YEAR}. */
+    private final int minYear;
+    /** The last year used when splitting on {@link Dimension#YEAR}. */
+    private final int maxYear;
+    /** The formats used when splitting on {@link Dimension#FORMAT}. */
+    private final List<String> formats;
+    /** The countries used when splitting on {@link Dimension#COUNTRY}. */
+    private final List<String> countries;
+    /** The maximum number of requests submitted to the executor at once. */
+    private final int batchSize;
+
+    /**
+     * Creates a new {@code SearchPlanner}.
+     *
+     * @param databaseApi the database API
+     * @param bulkExecutor the executor (optional; default is {@link BulkExecutor} with default settings)
+     * @param maxResultsPerQuery the maximum number of results that can be paged through for a single query
+     *                           (optional; default is 10000)
+     * @param pageSize the number of results to request per page (optional; default is {@link #MAX_PAGE_SIZE})
+     * @param dimensions the dimensions to split on, in order (optional; default is type, year, format, and country)
+     * @param minYear the first year used when splitting on year (optional; default is 1900)
+     * @param maxYear the last year used when splitting on year (optional; default is the current year)
+     * @param formats the formats used when splitting on format (optional; default does not split on format)
+     * @param countries the countries used when splitting on country (optional; default does not split on country)
+     * @param batchSize the maximum number of requests submitted to the executor at once (optional; default is 100)
+     */
+    @Builder
+    private SearchPlanner(
+            @NonNull final DatabaseApi databaseApi,
+            final BulkExecutor bulkExecutor,
+            final Integer maxResultsPerQuery,
+            final Integer pageSize,
+            final List<Dimension> dimensions,
+            final Integer minYear,
+            final Integer maxYear,
+            final List<String> formats,
+            final List<String> countries,
+            final Integer batchSize) {
+        this.databaseApi = databaseApi;
+        this.bulkExecutor = Optional.ofNullable(bulkExecutor).orElseGet(() -> BulkExecutor.builder().build());
+        this.maxResultsPerQuery = Optional.ofNullable(maxResultsPerQuery).orElse(DEFAULT_MAX_RESULTS_PER_QUERY);
+        this.pageSize = Optional.ofNullable(pageSize).orElse(MAX_PAGE_SIZE);
+        this.dimensions = List.copyOf(Optional.ofNullable(dimensions).orElse(DEFAULT_DIMENSIONS));
+        this.minYear = Optional.ofNullable(minYear).orElse(DEFAULT_MIN_YEAR);
+        this.maxYear = Optional.ofNullable(maxYear).orElseGet(() -> Year.now().getValue());
+        this.formats = List.copyOf(Optional.ofNullable(formats).orElse(List.of()));
+        this.countries = List.copyOf(Optional.ofNullable(countries).orElse(List.of()));
+        this.batchSize = Optional.ofNullable(batchSize).orElse(DEFAULT_BATCH_SIZE);
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be > 0 and <= " + MAX_PAGE_SIZE);
+        Validate.isTrue(this.maxResultsPerQuery >= this.pageSize, "maxResultsPerQuery must be >= pageSize");
+        Validate.isTrue(this.minYear <= this.maxYear, "minYear must be <= maxYear");
+        Validate.isTrue(this.batchSize > 0, "batchSize must be > 0");
+    }
+
+    /**
+     * Runs the search, splitting it into sub-queries as needed, and streams each unique result to the listener.
+     *
+     * @param request the search request; its page and per-page values are ignored
+     * @param listener notified with each unique result
+     * @return the search summary
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public SearchPlanSummary search(@NonNull final SearchRequest request, @NonNull final SearchResultListener listener)
+            throws InterruptedException {
+        final SearchRun run = new SearchRun(listener);
+        List<SearchRequest> frontier = List.of(request);
+        while (!frontier.isEmpty()) {
+            frontier = run.searchLevel(frontier);
+        }
+
+        final SearchPlanSummary summary = SearchPlanSummary.builder()
+                .queryCount(run.queryCount)
+                .truncatedQueryCount(run.truncatedQueryCount)
+                .requestCount(run.requests.getRequestCount())
+                .failedRequestCount(run.requests.getFailedRequestCount())
+                .resultCount(run.resultCount)
+                .duplicateCount(run.duplicateCount)
+                .build();
+        log.debug("Completed planned search: {}", summary);
+        return summary;
+    }
+
+    // Splits on the first configured dimension that the request does not define
+    private List<SearchRequest> split(final SearchRequest request) {
+        for (final Dimension dimension : dimensions) {
+            if (dimension != Dimension.TYPE && !isReleaseQuery(request)) {
+                // Artists and labels do not have a year, format, or country, so they would not match any shard
+                continue;
+            }
+
+            switch (dimension) {
+                case TYPE:
+                    if (Objects.isNull(request.getType())) {
+                        return Arrays.stream(SearchType.values())
+                                .map(type -> request.toBuilder().type(type).build())
+                                .collect(Collectors.toList());
+                    }
+                    break;
+                case YEAR:
+                    if (Objects.isNull(request.getYear())) {
+                        return IntStream.rangeClosed(minYear, maxYear)
+                                .mapToObj(year -> request.toBuilder().year(year).build())
+                                .collect(Collectors.toList());
+                    }
+                    break;
+                case FORMAT:
+                    if (StringUtils.isBlank(request.getFormat()) && !formats.isEmpty()) {
+                        return formats.stream()
+                                .map(format -> request.toBuilder().format(format).build())
+                                .collect(Collectors.toList());
+                    }
+                    break;
+                case COUNTRY:
+                    if (StringUtils.isBlank(request.getCountry()) && !countries.isEmpty()) {
+                        return countries.stream()
+                                .map(country -> request.toBuilder().country(country).build())
+                                .collect(Collectors.toList());
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported dimension: " + dimension);
+            }
+        }
+
+        return List.of();
+    }
+
+    private static boolean isReleaseQuery(final SearchRequest request) {
+        return request.getType() == SearchType.RELEASE || request.getType() == SearchType.MASTER;
+    }
+
+    private SearchRequest toPageRequest(final SearchRequest request, final int page) {
+        return request.toBuilder()
+                .page(page)
+                .perPage(pageSize)
+                .build();
+    }
+
+    /** Defines the request attributes that a query can be split on. */
+    public enum Dimension {
+        /** The resource type. */
+        TYPE,
+        /** The release year. */
+        YEAR,
+        /** The release format. */
+        FORMAT,
+        /** The release country. */
+        COUNTRY
+    }
+
+    /** Holds the state of a single {@link #search} invocation. */
+    @RequiredArgsConstructor
+    private class SearchRun {
+        private final SearchResultListener listener;
+        // Keys combine the identifier and type as results of different types can share an identifier
+        // (see LocalSearchIndex#toKey)
+        private final LongHashSet emittedKeys = new LongHashSet();
+        private final BatchedRequests requests = new BatchedRequests(bulkExecutor, batchSize);
+        private int queryCount;
+        private int truncatedQueryCount;
+        private int resultCount;
+        private int duplicateCount;
+
+        /**
+         * Probes the given queries, pages through those within the result limit, and returns the sub-queries of
+         * those that exceed it.
+         */
+        List<SearchRequest> searchLevel(final List<SearchRequest> queries) throws InterruptedException {
+            final List<SearchRequest> nextQueries = new ArrayList<>();
+            final List<PageKey<SearchRequest>> remainingPages = new ArrayList<>();
+            requests.execute(queries, query -> databaseApi.search(toPageRequest(query, 1)), (query, response) -> {
+                final PaginatedResponseBase.Pagination pagination = response.getPagination();
+                final int items = Optional.ofNullable(pagination)
+                        .map(PaginatedResponseBase.Pagination::getItems)
+                        .orElse(0);
+                if (items > maxResultsPerQuery) {
+                    final List<SearchRequest> shards = split(query);
+                    if (!shards.isEmpty()) {
+                        nextQueries.addAll(shards);
+                        return;
+                    }
+
+                    ++truncatedQueryCount;
+                    log.debug("Search is truncated to {} of {} results: {}", maxResultsPerQuery, items, query);
+                }
+
+                ++queryCount;
+                emit(response);
+                final int pages = Math.min(
+                        Optional.ofNullable(pagination).map(PaginatedResponseBase.Pagination::getPages).orElse(1),
+                        maxResultsPerQuery / pageSize);
+                for (int page = 2; page <= pages; ++page) {
+                    remainingPages.add(new PageKey<>(query, page));
+                }
+            });
+            requests.execute(remainingPages,
+                    key -> databaseApi.search(toPageRequest(key.getRequest(), key.getPage())),
+                    (key, response) -> emit(response));
+
+            return nextQueries;
+        }
+
+        private void emit(final SearchResponse response) {
+            for (final SearchResult result : Optional.ofNullable(response.getResults()).orElse(List.of())) {
+                if (Objects.isNull(result) || Objects.isNull(result.getId()) || result.getId() <= 0L) {
+                    continue;
+                }
+
+                if (emittedKeys.add(LocalSearchIndex.toKey(result))) {
+                    ++resultCount;
+                    listener.onResult(result);
+                } else {
+                    ++duplicateCount;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes where a release is held in a collection.
+ *
+ * @see CollectionReleaseIndex
+ */
+@Builder
+@Data
+public class CollectionInstance {
+    /** The release identifier. */
+    private final long releaseId;
+    /** The instance identifier. */
+    private final long instanceId;
+    /** The identifier of the folder that contains the instance. */
+    private final long folderId;
+    /** The rating, or {@code 0} if not rated. */
+    private final int rating;
+}
@@ -0,0 +1,290 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.collect.LongHashIndex;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByReleaseRequest;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByReleaseResponse;
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A thread-safe reverse index from release identifier to the collection instances that hold the release, intended
+ * to answer "do I own this, and where?" for many releases without a network call per release. The index is
+ * typically loaded from a {@link CollectionStore} after a {@link CollectionSyncer} run.
+ * <p>
+ * Release identifiers are kept in a {@link LongHashIndex}, and the instances of each release are chained through
+ * primitive arrays, so that lookups are constant-time and the index does not
+ * allocate an object per instance. When configured with a {@link UserCollectionApi}, a lookup of a release that is
+ * not indexed fetches the release's instances and indexes the outcome, including when the release is not owned.
+ * Example:
+ * <pre>
+ * final CollectionReleaseIndex index = CollectionReleaseIndex.builder()
+ *         .userCollectionApi(discogs.getUserCollectionApi())
+ *         .username("username")
+ *         .build();
+ * index.load(collectionStore.getAll());
+ * final List&lt;CollectionInstance&gt; instances = index.get(releaseId);
+ * </pre>
+ *
+ * @see CollectionInstance
+ */
+@Slf4j
+@Getter
+public class CollectionReleaseIndex {
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    private static final int NO_ENTRY = -1;
+
+    /** The user collection API used to refresh missing releases, or {@code null} if disabled. */
+    private final UserCollectionApi userCollectionApi;
+    /** The username of the collection owner, or {@code null} if refresh is disabled. */
+    private final String username;
+    /** The rate limiter for refresh calls, or {@code null} if refresh is disabled. */
+    private final RateLimiter rateLimiter;
+
+    // Release identifiers, and the first instance entry (or NO_ENTRY if not owned) by release index
+    @Getter(AccessLevel.NONE)
+    private LongHashIndex releaseIndex;
+    @Getter(AccessLevel.NONE)
+    private int[] heads;
+    // Instance entries chained per release
+    @Getter(AccessLevel.NONE)
+    private long[] instanceIds;
+    @Getter(AccessLevel.NONE)
+    private long[] folderIds;
+    @Getter(AccessLevel.NONE)
+    private int[] ratings;
+    @Getter(AccessLevel.NONE)
+    private int[] nextEntries;
+    @Getter(AccessLevel.NONE)
+    private int entryCount;
+
+    /**
+     * Creates a new {@code CollectionReleaseIndex}.
+     *
+     * @param userCollectionApi the user collection API used to refresh missing releases (optional)
+     * @param username the username of the collection owner (required if {@code userCollectionApi} is defined)
+     * @param rateLimiter the rate limiter for refresh calls (optional; default is
+     *                    {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param initialCapacity the number of instances to allocate storage for up front (optional; default is 1024)
+     */
+    @Builder
+    private CollectionReleaseIndex(
+            final UserCollectionApi userCollectionApi,
+            final String username,
+            final RateLimiter rateLimiter,
+            final Integer initialCapacity) {
+        final int capacity = Optional.ofNullable(initialCapacity).orElse(DEFAULT_INITIAL_CAPACITY);
+        Validate.isTrue(capacity > 0, "initialCapacity must be > 0");
+        if (Objects.nonNull(userCollectionApi)) {
+            Validate.notBlank(username, "username must not be blank");
+        }
+
+        this.userCollectionApi = userCollectionApi;
+        this.username = username;
+        this.rateLimiter = Objects.isNull(userCollectionApi)
+                ? null
+                : Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+        allocate(capacity);
+    }
+
+    /**
+     * Replaces the contents of the index with the given collection items.
+     *
+     * @param releases the collection items
+     */
+    public synchronized void load(@NonNull final Collection<CollectionRelease> releases) {
+        allocate(Math.max(releases.size(), 1));
+        releases.forEach(this::add);
+    }
+
+    /**
+     * Adds or updates the instance described by the given collection item.
+     *
+     * @param release the collection item
+     */
+    public synchronized void add(@NonNull final CollectionRelease release) {
+        Validate.notNull(release.getId(), "release id must not be null");
+        Validate.notNull(release.getInstanceId(), "release instanceId must not be null");
+        Validate.isTrue(release.getId() > 0L, "release id must be > 0");
+
+        final int releaseIdx = addRelease(release.getId());
+        final long instanceId = release.getInstanceId();
+        int entry = heads[releaseIdx];
+        while (entry != NO_ENTRY && instanceIds[entry] != instanceId) {
+            entry = nextEntries[entry];
+        }
+
+        if (entry == NO_ENTRY) {
+            if (entryCount == instanceIds.length) {
+                growEntries();
+            }
+            entry = entryCount++;
+            instanceIds[entry] = instanceId;
+            nextEntries[entry] = heads[releaseIdx];
+            heads[releaseIdx] = entry;
+        }
+        folderIds[entry] = Optional.ofNullable(release.getFolderId()).orElse(0L);
+        ratings[entry] = Optional.ofNullable(release.getRating()).orElse(0);
+    }
+
+    /**
+     * Gets the instances that hold the given release. If the release is not indexed and refresh is enabled, the
+     * instances are fetched and indexed.
+     *
+     * @param releaseId the release identifier
+     * @return the instances, or an empty list if the release is not owned
+     */
+    public List<CollectionInstance> get(final long releaseId) {
+        Validate.isTrue(releaseId > 0L, "releaseId must be > 0");
+        synchronized (this) {
+            final int releaseIdx = releaseIndex.indexOf(releaseId);
+            if (releaseIdx != LongHashIndex.NOT_FOUND || Objects.isNull(userCollectionApi)) {
+                return toInstances(releaseId, releaseIdx);
+            }
+        }
+
+        final List<CollectionRelease> fetched = fetch(releaseId);
+        synchronized (this) {
+            final int releaseIdx = addRelease(releaseId);
+            fetched.forEach(this::add);
+            return toInstances(releaseId, releaseIdx);
+        }
+    }
+
+    /**
+     * Determines if the given release is owned. If the release is not indexed and refresh is enabled, the instances
+     * are fetched and indexed.
+     *
+     * @param releaseId the release identifier
+     * @return {@code true} if at least one instance holds the release; else, {@code false}
+     */
+    public boolean contains(final long releaseId) {
+        return !get(releaseId).isEmpty();
+    }
+
+    /**
+     * Gets the number of indexed releases, including releases that are known to not be owned.
+     *
+     * @return the number of releases
+     */
+    public synchronized int size() {
+        return releaseIndex.size();
+    }
+
+    /**
+     * Gets the number of indexed instances.
+     *
+     * @return the number of instances
+     */
+    public synchronized int getInstanceCount() {
+        return entryCount;
+    }
+
+    @VisibleForTesting
+    synchronized int getTableCapacity() {
+        return releaseIndex.getTableCapacity();
+    }
+
+    private List<CollectionRelease> fetch(final long releaseId) {
+        try {
+            rateLimiter.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to refresh release " + releaseId, ex);
+        }
+
+        final List<CollectionRelease> fetched = new ArrayList<>();
+        GetCollectionItemsByReleaseResponse page =
+                userCollectionApi.getCollectionItems(GetCollectionItemsByReleaseRequest.builder()
+                        .username(username)
+                        .releaseId(releaseId)
+                        .build());
+        while (Objects.nonNull(page)) {
+            Optional.ofNullable(page.getReleases()).ifPresent(fetched::addAll);
+            page = Objects.nonNull(page.getPagination()) && page.hasNext() ? page.getNext() : null;
+        }
+
+        log.debug("Refreshed release {} with {} instances", releaseId, fetched.size());
+        return fetched;
+    }
+
+    private List<CollectionInstance> toInstances(final long releaseId, final int releaseIdx) {
+        if (releaseIdx == LongHashIndex.NOT_FOUND) {
+            return List.of();
+        }
+
+        final List<CollectionInstance> instances = new ArrayList<>();
+        for (int entry = heads[releaseIdx]; entry != NO_ENTRY; entry = nextEntries[entry]) {
+            instances.add(CollectionInstance.builder()
+                    .releaseId(releaseId)
+                    .instanceId(instanceIds[entry])
+                    .folderId(folderIds[entry])
+                    .rating(ratings[entry])
+                    .build());
+        }
+
+        return instances;
+    }
+
+    private int addRelease(final long releaseId) {
+        final int releaseCount = releaseIndex.size();
+        final int releaseIdx = releaseIndex.add(releaseId);
+        if (releaseIdx == releaseCount) {
+            if (releaseIdx == heads.length) {
+                heads = Arrays.copyOf(heads, heads.length * 2);
+            }
+            heads[releaseIdx] = NO_ENTRY;
+        }
+
+        return releaseIdx;
+    }
+
+    private void allocate(final int capacity) {
+        releaseIndex = new LongHashIndex(capacity);
+        heads = new int[capacity];
+        instanceIds = new long[capacity];
+        folderIds = new long[capacity];
+        ratings = new int[capacity];
+        nextEntries = new int[capacity];
+        entryCount = 0;
+    }
+
+    private void growEntries() {
+        final int newCapacity = instanceIds.length * 2;
+        instanceIds = Arrays.copyOf(instanceIds, newCapacity);
+        folderIds = Arrays.copyOf(folderIds, newCapacity);
+        ratings = Arrays.copyOf(ratings, newCapacity);
+        nextEntries = Arrays.copyOf(nextEntries, newCapacity);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.connection.AtomicFileWriter;
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import com.amilesend.discogs.parse.GsonFactory;
+import com.google.gson.Gson;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe local store of collection items keyed by instance identifier. Note that a release can be in a
+ * collection more than once, so the instance identifier (and not {@link CollectionRelease#equals(Object)}, which
+ * compares release identifiers) is the key. The items are kept in memory and written as one compact JSON document
+ * per line on {@link #save()}.
+ *
+ * @see CollectionSyncer
+ */
+public class CollectionStore {
+    /** The path of the store file. */
+    @Getter
+    private final Path storeFile;
+    private final Map<Long, CollectionRelease> releases = new HashMap<>();
+
+    /**
+     * Creates a new {@code CollectionStore} and loads any previously saved items.
+     *
+     * @param storeFile the path of the store file
+     * @throws IOException if an error occurred while reading an existing store file
+     */
+    public CollectionStore(@NonNull final Path storeFile) throws IOException {
+        this.storeFile = storeFile;
+        if (Files.isRegularFile(storeFile)) {
+            final Gson gson = GsonFactory.getGsonForStorage();
+            try (final BufferedReader reader = Files.newBufferedReader(storeFile, StandardCharsets.UTF_8)) {
+                String line;
+                while (Objects.nonNull(line = reader.readLine())) {
+                    if (StringUtils.isNotBlank(line)) {
+                        put(gson.fromJson(line, CollectionRelease.class));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the item for the given instance identifier.
+     *
+     * @param instanceId the instance identifier
+     * @return the item, or {@code null} if not present
+     */
+    public synchronized CollectionRelease get(final long instanceId) {
+        return releases.get(instanceId);
+    }
+
+    /**
+     * Adds or replaces an item.
+     *
+     * @param release the item
+     * @return the replaced item, or {@code null} if the instance was not present
+     */
+    public synchronized CollectionRelease put(@NonNull final CollectionRelease release) {
+        Validate.notNull(release.getInstanceId(), "release instanceId must not be null");
+        return releases.put(release.getInstanceId(), release);
+    }
+
+    /**
+     * Removes the item for the given instance identifier.
+     *
+     * @param instanceId the instance identifier
+     * @return the removed item, or {@code null} if not present
+     */
+    public synchronized CollectionRelease remove(final long instanceId) {
+        return releases.remove(instanceId);
+    }
+
+    /**
+     * Gets a snapshot of all items.
+     *
+     * @return the items
+     */
+    public synchronized List<CollectionRelease> getAll() {
+        return new ArrayList<>(releases.values());
+    }
+
+    /**
+     * Gets the instance identifiers of all items.
+     *
+     * @return the instance identifiers
+     */
+    public synchronized Set<Long> getInstanceIds() {
+        return new HashSet<>(releases.keySet());
+    }
+
+    /**
+     * Gets the instance identifiers of the items in the given folder.
+     *
+     * @param folderId the folder identifier
+     * @return the instance identifiers
+     */
+    public synchronized Set<Long> getInstanceIds(final long folderId) {
+        final Set<Long> instanceIds = new HashSet<>();
+        for (final CollectionRelease release : releases.values()) {
+            if (Objects.equals(folderId, release.getFolderId())) {
+                instanceIds.add(release.getInstanceId());
+            }
+        }
+
+        return instanceIds;
+    }
+
+    /**
+     * Gets the most recent date that an item was added to the collection.
+     *
+     * @return the most recent date added, or {@code null} if there are no items with a date
+     */
+    public synchronized LocalDateTime getLatestDateAdded() {
+        return getLatestDateAdded(releases.values());
+    }
+
+    /**
+     * Gets the most recent date that an item was added to the given folder.
+     *
+     * @param folderId the folder identifier
+     * @return the most recent date added, or {@code null} if there are no items in the folder with a date
+     */
+    public synchronized LocalDateTime getLatestDateAdded(final long folderId) {
+        return getLatestDateAdded(releases.values().stream()
+                .filter(r -> Objects.equals(folderId, r.getFolderId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the number of items.
+     *
+     * @return the number of items
+     */
+    public synchronized int size() {
+        return releases.size();
+    }
+
+    /**
+     * Persists the items to the store file, atomically replacing any previously saved items.
+     *
+     * @throws IOException if an error occurred while writing the file
+     * @see AtomicFileWriter
+     */
+    public synchronized void save() throws IOException {
+        final Path parent = storeFile.toAbsolutePath().getParent();
+        if (Objects.nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+
+        final Gson gson = GsonFactory.getGsonForStorage();
+        AtomicFileWriter.write(storeFile, out -> {
+            try (final BufferedWriter writer =
+                         new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                for (final CollectionRelease release : releases.values()) {
+                    writer.write(gson.toJson(release));
+                    writer.newLine();
+                }
+            }
+        });
+    }
+
+    private static LocalDateTime getLatestDateAdded(final Collection<CollectionRelease> candidates) {
+        LocalDateTime latest = null;
+        for (final CollectionRelease release : candidates) {
+            final LocalDateTime dateAdded = release.getDateAdded();
+            if (Objects.nonNull(dateAdded) && (Objects.isNull(latest) || dateAdded.isAfter(latest))) {
+                latest = dateAdded;
+            }
+        }
+
+        return latest;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes the outcome of a {@link CollectionSyncer} run.
+ *
+ * @see CollectionSyncer
+ */
+@Builder
+@Data
+public class CollectionSyncResult {
+    /** The number of folders that were synchronized. */
+    private final int folderCount;
+    /** The number of folders that were fetched in full (i.e., initially empty or reconciled). */
+    private final int fullFolderCount;
+    /** The number of API requests made. */
+    private final int requestCount;
+    /** The number of unique items fetched. */
+    private final int fetchedCount;
+    /** The number of items that were not previously in the store. */
+    private final int addedCount;
+    /** The number of items that were removed from the store. */
+    private final int removedCount;
+}
@@ -0,0 +1,430 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByFolderRequest;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByFolderResponse;
+import com.amilesend.discogs.model.collection.GetFoldersRequest;
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import com.amilesend.discogs.model.collection.type.Folder;
+import com.amilesend.discogs.model.type.SortOrder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Synchronizes a user's collection to a local {@link CollectionStore}. Folders are fetched concurrently, and for
+ * folders fetched in full, the page count reported by the first page is used to request all remaining pages
+ * concurrently. All API calls share a {@link RateLimiter} so that the fan-out stays within the rate budget.
+ * <p>
+ * Items are sorted by the date added with the most recent first. On later runs, each folder is only paged until an
+ * item older than the most recent locally stored item is reached. Since removed or moved items cannot be detected
+ * this way, a folder whose item count reported by Discogs differs from the local count afterwards is fetched again
+ * in full and reconciled. Items are deduplicated by instance identifier since pages can shift while being fetched
+ * concurrently. Note that edits to existing items (e.g., rating changes) are only picked up by {@link #fullSync()}.
+ * <p>
+ * Changes are staged while the run is in progress and are only applied to the store, which is then saved, when the
+ * run completes without error, so a failed run leaves the store unchanged.
+ * Example:
+ * <pre>
+ * final CollectionSyncer syncer = CollectionSyncer.builder()
+ *         .userCollectionApi(discogs.getUserCollectionApi())
+ *         .store(new CollectionStore(Path.of("collection.jsonl")))
+ *         .username("username")
+ *         .build();
+ * final CollectionSyncResult result = syncer.sync();
+ * </pre>
+ *
+ * @see CollectionStore
+ * @see CollectionSyncResult
+ */
+@Slf4j
+@Getter
+public class CollectionSyncer {
+    /** The identifier of the folder that contains all items. */
+    static final long ALL_FOLDER_ID = 0L;
+
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** The user collection API. */
+    private final UserCollectionApi userCollectionApi;
+    /** The local store of collection items. */
+    private final CollectionStore store;
+    /** The username of the collection owner. */
+    private final String username;
+    /** The rate limiter shared by all API calls. */
+    private final RateLimiter rateLimiter;
+    /** The maximum number of concurrent requests. */
+    private final int concurrency;
+    /** The number of items to request per page. */
+    private final int pageSize;
+
+    /**
+     * Creates a new {@code CollectionSyncer}.
+     *
+     * @param userCollectionApi the user collection API
+     * @param store the local store of collection items
+     * @param username the username of the collection owner
+     * @param rateLimiter the rate limiter (optional; default is {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param concurrency the maximum number of concurrent requests (optional; default is 4)
+     * @param pageSize the number of items per page (optional; default is 100)
+     */
+    @Builder
+    private CollectionSyncer(
+            @NonNull final UserCollectionApi userCollectionApi,
+            @NonNull final CollectionStore store,
+            final String username,
+            final RateLimiter rateLimiter,
+            final Integer concurrency,
+            final Integer pageSize) {
+        Validate.notBlank(username, "username must not be blank");
+        this.concurrency = Optional.ofNullable(concurrency).orElse(DEFAULT_CONCURRENCY);
+        this.pageSize = Optional.ofNullable(pageSize).orElse(DEFAULT_PAGE_SIZE);
+        Validate.isTrue(this.concurrency > 0, "concurrency must be positive");
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be between 1 and " + MAX_PAGE_SIZE);
+
+        this.userCollectionApi = userCollectionApi;
+        this.store = store;
+        this.username = username;
+        this.rateLimiter = Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+    }
+
+    /**
+     * Synchronizes the collection, only fetching the items added since the last run for folders that have local
+     * items.
+     *
+     * @return the result
+     * @throws IOException if an error occurred while saving the store
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public CollectionSyncResult sync() throws IOException, InterruptedException {
+        return sync(false);
+    }
+
+    /**
+     * Synchronizes the collection by fetching all items of every folder.
+     *
+     * @return the result
+     * @throws IOException if an error occurred while saving the store
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public CollectionSyncResult fullSync() throws IOException, InterruptedException {
+        return sync(true);
+    }
+
+    private CollectionSyncResult sync(final boolean full) throws IOException, InterruptedException {
+        final AtomicInteger requestCount = new AtomicInteger();
+        final List<Folder> folders = getFolders(requestCount);
+        final List<Long> fullFolderIds = new ArrayList<>();
+        final List<Long> incrementalFolderIds = new ArrayList<>();
+        for (final Folder folder : folders) {
+            if (full || Objects.isNull(getLatestDateAdded(folder.getId()))) {
+                fullFolderIds.add(folder.getId());
+            } else {
+                incrementalFolderIds.add(folder.getId());
+            }
+        }
+
+        final Tally tally = new Tally();
+        final StagedChanges changes = new StagedChanges();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final Map<Long, List<CollectionRelease>> fetched = new LinkedHashMap<>();
+            fetched.putAll(fetchNewItems(incrementalFolderIds, executor, requestCount));
+            fetched.putAll(fetchAllItems(fullFolderIds, executor, requestCount));
+            stage(fetched, fullFolderIds, changes, tally);
+
+            // Folders whose counts no longer match have removed or moved items that paging by date cannot detect
+            final List<Long> reconcileFolderIds = folders.stream()
+                    .filter(f -> incrementalFolderIds.contains(f.getId()))
+                    .filter(f -> Objects.nonNull(f.getCount()))
+                    .filter(f -> f.getCount() != changes.getInstanceIds(f.getId()).size())
+                    .map(Folder::getId)
+                    .collect(Collectors.toList());
+            if (!reconcileFolderIds.isEmpty()) {
+                log.debug("Reconciling folders with mismatched counts: {}", reconcileFolderIds);
+                stage(fetchAllItems(reconcileFolderIds, executor, requestCount), reconcileFolderIds, changes, tally);
+                fullFolderIds.addAll(reconcileFolderIds);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        changes.applyTo(store);
+        store.save();
+
+        final CollectionSyncResult result = CollectionSyncResult.builder()
+                .folderCount(folders.size())
+                .fullFolderCount(fullFolderIds.size())
+                .requestCount(requestCount.get())
+                .fetchedCount(tally.fetchedCount)
+                .addedCount(tally.addedCount)
+                .removedCount(tally.removedCount)
+                .build();
+        log.debug("Synchronized collection for {}: {}", username, result);
+        return result;
+    }
+
+    private List<Folder> getFolders(final AtomicInteger requestCount) throws InterruptedException {
+        rateLimiter.acquire();
+        requestCount.incrementAndGet();
+        final List<Folder> folders = Optional.ofNullable(userCollectionApi.getFolders(GetFoldersRequest.builder()
+                        .username(username)
+                        .build()).getFolders())
+                .orElse(List.of());
+
+        // The "All" folder is only needed when it is the only visible folder (i.e., a public collection)
+        final List<Folder> categorized = folders.stream()
+                .filter(f -> Objects.nonNull(f.getId()) && f.getId() != ALL_FOLDER_ID)
+                .collect(Collectors.toList());
+        return categorized.isEmpty()
+                ? folders.stream().filter(f -> Objects.nonNull(f.getId())).collect(Collectors.toList())
+                : categorized;
+    }
+
+    private Map<Long, List<CollectionRelease>> fetchNewItems(
+            final List<Long> folderIds,
+            final ExecutorService executor,
+            final AtomicInteger requestCount) throws IOException, InterruptedException {
+        final Map<Long, Future<List<CollectionRelease>>> futures = new LinkedHashMap<>();
+        for (final Long folderId : folderIds) {
+            futures.put(folderId, executor.submit(() -> fetchNewItems(folderId, requestCount)));
+        }
+
+        final Map<Long, List<CollectionRelease>> fetched = new LinkedHashMap<>();
+        for (final Map.Entry<Long, Future<List<CollectionRelease>>> entry : futures.entrySet()) {
+            fetched.put(entry.getKey(), await(entry.getValue()));
+        }
+
+        return fetched;
+    }
+
+    private List<CollectionRelease> fetchNewItems(final long folderId, final AtomicInteger requestCount)
+            throws InterruptedException {
+        final LocalDateTime watermark = getLatestDateAdded(folderId);
+        final List<CollectionRelease> newItems = new ArrayList<>();
+        for (int page = 1; ; ++page) {
+            final GetCollectionItemsByFolderResponse response = fetchPage(folderId, page, requestCount);
+            for (final CollectionRelease release : getReleases(response)) {
+                if (Objects.nonNull(release.getDateAdded()) && release.getDateAdded().isBefore(watermark)) {
+                    return newItems;
+                }
+                newItems.add(release);
+            }
+
+            if (page >= getPageCount(response)) {
+                return newItems;
+            }
+        }
+    }
+
+    private Map<Long, List<CollectionRelease>> fetchAllItems(
+            final List<Long> folderIds,
+            final ExecutorService executor,
+            final AtomicInteger requestCount) throws IOException, InterruptedException {
+        final Map<Long, Future<GetCollectionItemsByFolderResponse>> firstPages = new LinkedHashMap<>();
+        for (final Long folderId : folderIds) {
+            firstPages.put(folderId, executor.submit(() -> fetchPage(folderId, 1, requestCount)));
+        }
+
+        final Map<Long, List<CollectionRelease>> fetched = new LinkedHashMap<>();
+        final Map<Long, List<Future<GetCollectionItemsByFolderResponse>>> remainingPages = new LinkedHashMap<>();
+        for (final Map.Entry<Long, Future<GetCollectionItemsByFolderResponse>> entry : firstPages.entrySet()) {
+            final long folderId = entry.getKey();
+            final GetCollectionItemsByFolderResponse firstPage = await(entry.getValue());
+            fetched.put(folderId, new ArrayList<>(getReleases(firstPage)));
+
+            final List<Future<GetCollectionItemsByFolderResponse>> futures = new ArrayList<>();
+            for (int page = 2; page <= getPageCount(firstPage); ++page) {
+                final int pageNumber = page;
+                futures.add(executor.submit(() -> fetchPage(folderId, pageNumber, requestCount)));
+            }
+            remainingPages.put(folderId, futures);
+        }
+
+        for (final Map.Entry<Long, List<Future<GetCollectionItemsByFolderResponse>>> entry
+                : remainingPages.entrySet()) {
+            for (final Future<GetCollectionItemsByFolderResponse> future : entry.getValue()) {
+                fetched.get(entry.getKey()).addAll(getReleases(await(future)));
+            }
+        }
+
+        return fetched;
+    }
+
+    private GetCollectionItemsByFolderResponse fetchPage(
+            final long folderId,
+            final int page,
+            final AtomicInteger requestCount) throws InterruptedException {
+        rateLimiter.acquire();
+        requestCount.incrementAndGet();
+        return userCollectionApi.getCollectionItems(GetCollectionItemsByFolderRequest.builder()
+                .username(username)
+                .folderId(folderId)
+                .page(page)
+                .perPage(pageSize)
+                .sort(GetCollectionItemsByFolderRequest.Sort.ADDED)
+                .sortOrder(SortOrder.DESC)
+                .build());
+    }
+
+    private void stage(
+            final Map<Long, List<CollectionRelease>> fetched,
+            final Collection<Long> replacedFolderIds,
+            final StagedChanges changes,
+            final Tally tally) {
+        final Map<Long, Set<Long>> fetchedIdsByFolder = new LinkedHashMap<>();
+        final Map<Long, CollectionRelease> unique = new LinkedHashMap<>();
+        for (final Map.Entry<Long, List<CollectionRelease>> entry : fetched.entrySet()) {
+            final Set<Long> fetchedIds = new HashSet<>();
+            for (final CollectionRelease release : entry.getValue()) {
+                if (Objects.nonNull(release.getInstanceId())) {
+                    fetchedIds.add(release.getInstanceId());
+                    unique.putIfAbsent(release.getInstanceId(), release);
+                }
+            }
+            fetchedIdsByFolder.put(entry.getKey(), fetchedIds);
+        }
+
+        tally.fetchedCount += unique.size();
+        for (final CollectionRelease release : unique.values()) {
+            if (changes.put(release)) {
+                ++tally.addedCount;
+            }
+        }
+
+        // Removals are applied after all puts so that items moved between folders are not removed
+        for (final Long folderId : replacedFolderIds) {
+            final Set<Long> fetchedIds = fetchedIdsByFolder.getOrDefault(folderId, Set.of());
+            for (final Long instanceId : changes.getInstanceIds(folderId)) {
+                if (!fetchedIds.contains(instanceId)) {
+                    changes.remove(instanceId);
+                    ++tally.removedCount;
+                }
+            }
+        }
+    }
+
+    private LocalDateTime getLatestDateAdded(final long folderId) {
+        return folderId == ALL_FOLDER_ID ? store.getLatestDateAdded() : store.getLatestDateAdded(folderId);
+    }
+
+    private static List<CollectionRelease> getReleases(final GetCollectionItemsByFolderResponse response) {
+        return Optional.ofNullable(response.getReleases()).orElse(List.of());
+    }
+
+    private static int getPageCount(final GetCollectionItemsByFolderResponse response) {
+        return Optional.ofNullable(response.getPagination())
+                .map(PaginatedResponseBase.Pagination::getPages)
+                .orElse(1);
+    }
+
+    private static <T> T await(final Future<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    /** Holds the changes of a run until it completes, layered over the items in the store. */
+    private class StagedChanges {
+        private final Map<Long, CollectionRelease> puts = new LinkedHashMap<>();
+        private final Set<Long> removals = new HashSet<>();
+
+        /** Stages the given item and returns {@code true} if it is not in the store or already staged. */
+        boolean put(final CollectionRelease release) {
+            final long instanceId = release.getInstanceId();
+            final boolean isNew = !puts.containsKey(instanceId)
+                    && (removals.contains(instanceId) || Objects.isNull(store.get(instanceId)));
+            removals.remove(instanceId);
+            puts.put(instanceId, release);
+            return isNew;
+        }
+
+        void remove(final long instanceId) {
+            puts.remove(instanceId);
+            removals.add(instanceId);
+        }
+
+        /** Gets the instance identifiers of the items in the given folder as if the changes were applied. */
+        Set<Long> getInstanceIds(final long folderId) {
+            final boolean isAll = folderId == ALL_FOLDER_ID;
+            final Set<Long> instanceIds = isAll ? store.getInstanceIds() : store.getInstanceIds(folderId);
+            for (final CollectionRelease release : puts.values()) {
+                if (isAll || Objects.equals(folderId, release.getFolderId())) {
+                    instanceIds.add(release.getInstanceId());
+                } else {
+                    // The item was moved to another folder
+                    instanceIds.remove(release.getInstanceId());
+                }
+            }
+            instanceIds.removeAll(removals);
+            return instanceIds;
+        }
+
+        void applyTo(final CollectionStore target) {
+            puts.values().forEach(target::put);
+            removals.forEach(target::remove);
+        }
+    }
+
+    /** Accumulates the item counts of a run. */
+    private static class Tally {
+        private int fetchedCount;
+        private int addedCount;
+        private int removedCount;
+    }
+}
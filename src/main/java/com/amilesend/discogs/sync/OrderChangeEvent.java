@@ -0,0 +1,50 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.model.marketplace.type.Order;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes a new or updated order detected by the {@link OrderSyncer}.
+ */
+@Builder
+@Data
+public class OrderChangeEvent {
+    /**
+     * The type of change.
+     *
+     * @see Type
+     */
+    private final Type type;
+    /**
+     * The current state of the order.
+     *
+     * @see Order
+     */
+    private final Order order;
+
+    /** Describes the type of order change. */
+    public enum Type {
+        /** The order was created since the last synchronization. */
+        CREATED,
+        /** An existing order had activity since the last synchronization. */
+        UPDATED
+    }
+}
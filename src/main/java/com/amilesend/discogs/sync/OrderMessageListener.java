@@ -0,0 +1,37 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.model.marketplace.type.OrderMessage;
+
+import java.util.List;
+
+/**
+ * Receives the new order messages detected by the {@link OrderMessageSyncer}.
+ */
+@FunctionalInterface
+public interface OrderMessageListener {
+    /**
+     * Invoked with the new messages for an order. Invocations are serialized, so implementations do not need to be
+     * thread-safe.
+     *
+     * @param orderId the order identifier
+     * @param messages the new messages in ascending timestamp order
+     */
+    void onNewMessages(String orderId, List<OrderMessage> messages);
+}
@@ -0,0 +1,352 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.Checkpoint;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.marketplace.GetOrderMessagesRequest;
+import com.amilesend.discogs.model.marketplace.GetOrderMessagesResponse;
+import com.amilesend.discogs.model.marketplace.type.OrderMessage;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Incrementally synchronizes the messages for a set of orders. A cursor that identifies the newest known message is
+ * persisted per order. Messages are compared with the cursor by timestamp, so the order of the messages within a
+ * page does not matter, but pagination relies on Discogs returning pages with the most recent messages first: it
+ * stops after the first page that reaches a message older than the cursor. Orders are synchronized concurrently
+ * while all API calls share a {@link RateLimiter} so that the fan-out stays within the rate budget.
+ * <p>
+ * Messages without a timestamp cannot be placed relative to the cursor, so the cursor also records their
+ * fingerprints and they are delivered only once. They never stop pagination.
+ * <p>
+ * Cursors are only advanced after the listener accepts an order's messages, and cursors for the orders that
+ * completed are persisted even if another order fails.
+ * Example:
+ * <pre>
+ * final OrderMessageSyncer syncer = OrderMessageSyncer.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .stateStore(new SyncStateStore(Path.of("message-sync.properties")))
+ *         .build();
+ * syncer.sync(openOrderIds, (orderId, messages) -&gt; notifySupport(orderId, messages));
+ * </pre>
+ *
+ * @see OrderMessageListener
+ * @see SyncStateStore
+ */
+@Slf4j
+@Getter
+public class OrderMessageSyncer {
+    /** The state key prefix for the per-order cursors. */
+    static final String CURSOR_KEY_PREFIX = "messages.";
+
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String FINGERPRINT_DELIMITER = ",";
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The store used to persist the per-order cursors. */
+    private final SyncStateStore stateStore;
+    /** The rate limiter shared by all API calls. */
+    private final RateLimiter rateLimiter;
+    /** The maximum number of orders to synchronize concurrently. */
+    private final int concurrency;
+    /** The number of messages to request per page. */
+    private final int pageSize;
+    @Getter(AccessLevel.NONE)
+    private final Object listenerLock = new Object();
+
+    /**
+     * Creates a new {@code OrderMessageSyncer}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param stateStore the store used to persist the per-order cursors
+     * @param rateLimiter the rate limiter (optional; default is {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param concurrency the maximum number of concurrent orders (optional; default is 4)
+     * @param pageSize the number of messages per page (optional; default is 50)
+     */
+    @Builder
+    private OrderMessageSyncer(
+            @NonNull final MarketplaceApi marketplaceApi,
+            @NonNull final SyncStateStore stateStore,
+            final RateLimiter rateLimiter,
+            final Integer concurrency,
+            final Integer pageSize) {
+        this.concurrency = Optional.ofNullable(concurrency).orElse(DEFAULT_CONCURRENCY);
+        this.pageSize = Optional.ofNullable(pageSize).orElse(DEFAULT_PAGE_SIZE);
+        Validate.isTrue(this.concurrency > 0, "concurrency must be positive");
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be between 1 and " + MAX_PAGE_SIZE);
+
+        this.marketplaceApi = marketplaceApi;
+        this.stateStore = stateStore;
+        this.rateLimiter = Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+    }
+
+    /**
+     * Fetches the new messages for the given orders, delivers them to the listener, and persists the advanced
+     * cursors.
+     *
+     * @param orderIds the identifiers of the orders to synchronize
+     * @param listener the listener to notify with each order's new messages
+     * @return the total number of new messages delivered
+     * @throws IOException if an error occurred while persisting the cursors
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public int sync(@NonNull final Collection<String> orderIds, @NonNull final OrderMessageListener listener)
+            throws IOException, InterruptedException {
+        final Set<String> uniqueOrderIds = new LinkedHashSet<>(orderIds);
+        uniqueOrderIds.forEach(id -> Validate.notBlank(id, "orderIds must not contain blank values"));
+        if (uniqueOrderIds.isEmpty()) {
+            return 0;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(uniqueOrderIds.size(), concurrency));
+        int total = 0;
+        Throwable failure = null;
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(uniqueOrderIds.size());
+            for (final String orderId : uniqueOrderIds) {
+                futures.add(executor.submit(() -> syncOrder(orderId, listener)));
+            }
+
+            // Wait for every order so that the cursors of the successful ones are persisted
+            for (final Future<Integer> future : futures) {
+                try {
+                    total += future.get();
+                } catch (final ExecutionException ex) {
+                    if (Objects.isNull(failure)) {
+                        failure = ex.getCause();
+                    }
+                }
+            }
+        } catch (final InterruptedException ex) {
+            if (Objects.nonNull(failure)) {
+                ex.addSuppressed(failure);
+            }
+            failure = ex;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A failure to persist the cursors must not mask the failure of an order
+        try {
+            stateStore.save();
+        } catch (final IOException | RuntimeException ex) {
+            if (Objects.isNull(failure)) {
+                throw ex;
+            }
+            failure.addSuppressed(ex);
+        }
+
+        if (Objects.nonNull(failure)) {
+            rethrow(failure);
+        }
+
+        log.debug("Synchronized {} new messages across {} orders", total, uniqueOrderIds.size());
+        return total;
+    }
+
+    private int syncOrder(final String orderId, final OrderMessageListener listener) throws InterruptedException {
+        final Cursor cursor = Cursor.parse(stateStore.get(CURSOR_KEY_PREFIX + orderId));
+        final List<OrderMessage> newMessages = fetchNewMessages(orderId, cursor);
+        if (newMessages.isEmpty()) {
+            return 0;
+        }
+
+        // Deliver the messages oldest first; the stable sort keeps the reversed page order for equal timestamps
+        Collections.reverse(newMessages);
+        newMessages.sort(Comparator.comparing(
+                OrderMessage::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())));
+        synchronized (listenerLock) {
+            listener.onNewMessages(orderId, Collections.unmodifiableList(newMessages));
+        }
+
+        final Cursor advanced = cursor.advance(newMessages);
+        stateStore.put(CURSOR_KEY_PREFIX + orderId, advanced.toString());
+        return newMessages.size();
+    }
+
+    private List<OrderMessage> fetchNewMessages(final String orderId, final Cursor cursor)
+            throws InterruptedException {
+        final List<OrderMessage> newMessages = new ArrayList<>();
+        rateLimiter.acquire();
+        GetOrderMessagesResponse page = marketplaceApi.getOrderMessages(GetOrderMessagesRequest.builder()
+                .orderId(orderId)
+                .perPage(pageSize)
+                .build());
+        while (Objects.nonNull(page)) {
+            boolean reachedOlder = false;
+            for (final OrderMessage message : Optional.ofNullable(page.getMessages()).orElse(List.of())) {
+                if (cursor.isOlder(message)) {
+                    reachedOlder = true;
+                } else if (!cursor.isKnown(message)) {
+                    newMessages.add(message);
+                }
+            }
+
+            if (reachedOlder || Objects.isNull(page.getPagination()) || !page.hasNext()) {
+                break;
+            }
+            rateLimiter.acquire();
+            page = page.getNext();
+        }
+
+        return newMessages;
+    }
+
+    private static void rethrow(final Throwable cause) throws IOException, InterruptedException {
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof InterruptedException) {
+            throw (InterruptedException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        throw new IOException(cause);
+    }
+
+    /**
+     * Identifies the newest known message of an order by its timestamp and the fingerprints of the messages that
+     * share that timestamp, since order messages do not define an identifier. The fingerprints of the known messages
+     * without a timestamp are kept separately. The persisted form is
+     * {@code [timestamp]|[fingerprints]|[undated fingerprints]}, where the last section is optional.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Cursor {
+        private static final Cursor EMPTY = new Cursor(null, Set.of(), Set.of());
+
+        private final LocalDateTime timestamp;
+        private final Set<String> fingerprints;
+        private final Set<String> undatedFingerprints;
+
+        static Cursor parse(final String value) {
+            if (StringUtils.isBlank(value)) {
+                return EMPTY;
+            }
+
+            final String[] sections = value.split(Pattern.quote(CURSOR_DELIMITER), -1);
+            return new Cursor(
+                    StringUtils.isBlank(sections[0]) ? null : LocalDateTime.parse(sections[0]),
+                    parseFingerprints(sections.length > 1 ? sections[1] : null),
+                    parseFingerprints(sections.length > 2 ? sections[2] : null));
+        }
+
+        private static Set<String> parseFingerprints(final String value) {
+            return StringUtils.isBlank(value)
+                    ? Set.of()
+                    : new HashSet<>(Arrays.asList(value.split(FINGERPRINT_DELIMITER)));
+        }
+
+        static String fingerprint(final OrderMessage message) {
+            return Checkpoint.toDigest(message.getType(), message.getSubject(), message.getMessage());
+        }
+
+        boolean isOlder(final OrderMessage message) {
+            return Objects.nonNull(timestamp)
+                    && Objects.nonNull(message.getTimestamp())
+                    && message.getTimestamp().isBefore(timestamp);
+        }
+
+        boolean isKnown(final OrderMessage message) {
+            if (Objects.isNull(message.getTimestamp())) {
+                return undatedFingerprints.contains(fingerprint(message));
+            }
+
+            return Objects.nonNull(timestamp)
+                    && timestamp.equals(message.getTimestamp())
+                    && fingerprints.contains(fingerprint(message));
+        }
+
+        Cursor advance(final List<OrderMessage> newMessages) {
+            LocalDateTime newest = timestamp;
+            final Set<String> newUndatedFingerprints = new HashSet<>(undatedFingerprints);
+            for (final OrderMessage message : newMessages) {
+                final LocalDateTime messageTimestamp = message.getTimestamp();
+                if (Objects.isNull(messageTimestamp)) {
+                    newUndatedFingerprints.add(fingerprint(message));
+                } else if (Objects.isNull(newest) || messageTimestamp.isAfter(newest)) {
+                    newest = messageTimestamp;
+                }
+            }
+            if (Objects.isNull(newest)) {
+                return new Cursor(null, Set.of(), newUndatedFingerprints);
+            }
+
+            final Set<String> newFingerprints = new HashSet<>();
+            if (newest.equals(timestamp)) {
+                newFingerprints.addAll(fingerprints);
+            }
+            for (final OrderMessage message : newMessages) {
+                if (newest.equals(message.getTimestamp())) {
+                    newFingerprints.add(fingerprint(message));
+                }
+            }
+
+            return new Cursor(newest, newFingerprints, newUndatedFingerprints);
+        }
+
+        @Override
+        public String toString() {
+            if (Objects.isNull(timestamp) && undatedFingerprints.isEmpty()) {
+                return "";
+            }
+
+            final String value = Optional.ofNullable(timestamp).map(LocalDateTime::toString).orElse("")
+                    + CURSOR_DELIMITER + String.join(FINGERPRINT_DELIMITER, fingerprints);
+            return undatedFingerprints.isEmpty()
+                    ? value
+                    : value + CURSOR_DELIMITER + String.join(FINGERPRINT_DELIMITER, undatedFingerprints);
+        }
+    }
+}
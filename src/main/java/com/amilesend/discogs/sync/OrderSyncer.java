@@ -0,0 +1,231 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.model.marketplace.GetOrdersRequest;
+import com.amilesend.discogs.model.marketplace.GetOrdersResponse;
+import com.amilesend.discogs.model.marketplace.type.Order;
+import com.amilesend.discogs.model.marketplace.type.OrderStatus;
+import com.amilesend.discogs.model.type.SortOrder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Incrementally synchronizes marketplace orders. Orders are requested sorted by last activity in descending order
+ * and pagination stops as soon as an order older than the persisted watermark is reached, so a typical run only
+ * requests a single page. The watermark is the most recent last activity timestamp observed along with the
+ * identifiers of the orders with that timestamp, which allows orders that share the boundary timestamp to be
+ * detected without being reported twice.
+ * <p>
+ * The watermark is only advanced after all events have been delivered, so a failed run is retried in full on the
+ * next invocation (i.e., at-least-once delivery).
+ * Example:
+ * <pre>
+ * final OrderSyncer syncer = OrderSyncer.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .stateStore(new SyncStateStore(Path.of("order-sync.properties")))
+ *         .build();
+ * syncer.sync(event -&gt; handle(event.getType(), event.getOrder()));
+ * </pre>
+ *
+ * @see OrderChangeListener
+ * @see SyncStateStore
+ */
+@Slf4j
+@Getter
+public class OrderSyncer {
+    /** The state key for the last activity watermark. */
+    static final String WATERMARK_KEY = "orders.watermark";
+    /** The state key for the identifiers of the orders at the watermark. */
+    static final String WATERMARK_IDS_KEY = "orders.watermark.ids";
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String ID_DELIMITER = ",";
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The store used to persist the watermark. */
+    private final SyncStateStore stateStore;
+    /** The order status to filter on, or {@code null} to include all orders. */
+    private final OrderStatus status;
+    /** The archived flag to filter on, or {@code null} to include all orders. */
+    private final Boolean archived;
+    /** The number of orders to request per page. */
+    private final int pageSize;
+    /** The watermark to use when no state was previously persisted, or {@code null} to fetch all orders. */
+    private final LocalDateTime initialWatermark;
+
+    /**
+     * Creates a new {@code OrderSyncer}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param stateStore the store used to persist the watermark
+     * @param status the order status filter (optional)
+     * @param archived the archived flag filter (optional)
+     * @param pageSize the number of orders per page (optional; default is 50)
+     * @param initialWatermark the watermark to use for the first run (optional; default fetches all orders)
+     */
+    @Builder
+    private OrderSyncer(
+            @NonNull final MarketplaceApi marketplaceApi,
+            @NonNull final SyncStateStore stateStore,
+            final OrderStatus status,
+            final Boolean archived,
+            final Integer pageSize,
+            final LocalDateTime initialWatermark) {
+        this.pageSize = Optional.ofNullable(pageSize).orElse(DEFAULT_PAGE_SIZE);
+        Validate.isTrue(this.pageSize > 0 && this.pageSize <= MAX_PAGE_SIZE,
+                "pageSize must be between 1 and " + MAX_PAGE_SIZE);
+
+        this.marketplaceApi = marketplaceApi;
+        this.stateStore = stateStore;
+        this.status = status;
+        this.archived = archived;
+        this.initialWatermark = initialWatermark;
+    }
+
+    /**
+     * Fetches the orders that changed since the last run, delivers them to the listener, and advances the
+     * persisted watermark.
+     *
+     * @param listener the listener to notify for each new or updated order
+     * @return the number of change events delivered
+     * @throws IOException if an error occurred while persisting the watermark
+     */
+    public int sync(@NonNull final OrderChangeListener listener) throws IOException {
+        final LocalDateTime watermark = getWatermark();
+        final Set<String> boundaryIds = getBoundaryIds();
+        final List<Order> changed = fetchChangedOrders(watermark, boundaryIds);
+        if (changed.isEmpty()) {
+            log.debug("No order changes since {}", watermark);
+            return 0;
+        }
+
+        // Deliver the oldest changes first so that consumers observe activity in chronological order
+        for (int i = changed.size() - 1; i >= 0; --i) {
+            final Order order = changed.get(i);
+            listener.onOrderChange(OrderChangeEvent.builder()
+                    .type(isCreated(order, watermark) ? OrderChangeEvent.Type.CREATED : OrderChangeEvent.Type.UPDATED)
+                    .order(order)
+                    .build());
+        }
+
+        advanceWatermark(changed, watermark, boundaryIds);
+        log.debug("Synchronized {} changed orders", changed.size());
+        return changed.size();
+    }
+
+    /**
+     * Gets the current watermark.
+     *
+     * @return the watermark, or {@code null} if all orders will be fetched
+     */
+    public LocalDateTime getWatermark() {
+        return Optional.ofNullable(stateStore.get(WATERMARK_KEY))
+                .map(LocalDateTime::parse)
+                .orElse(initialWatermark);
+    }
+
+    private Set<String> getBoundaryIds() {
+        final String ids = stateStore.get(WATERMARK_IDS_KEY);
+        return StringUtils.isBlank(ids) ? new HashSet<>() : new HashSet<>(Arrays.asList(ids.split(ID_DELIMITER)));
+    }
+
+    private List<Order> fetchChangedOrders(final LocalDateTime watermark, final Set<String> boundaryIds) {
+        final List<Order> changed = new ArrayList<>();
+        GetOrdersResponse page = marketplaceApi.getOrders(GetOrdersRequest.builder()
+                .status(status)
+                .archived(archived)
+                .sort(GetOrdersRequest.Sort.LAST_ACTIVITY)
+                .sortOrder(SortOrder.DESC)
+                .perPage(pageSize)
+                .build());
+        while (Objects.nonNull(page)) {
+            for (final Order order : Optional.ofNullable(page.getOrders()).orElse(List.of())) {
+                final LocalDateTime activity = getActivity(order);
+                if (Objects.nonNull(watermark) && Objects.nonNull(activity)) {
+                    if (activity.isBefore(watermark)) {
+                        return changed;
+                    }
+                    if (activity.isEqual(watermark) && boundaryIds.contains(order.getId())) {
+                        continue;
+                    }
+                }
+                changed.add(order);
+            }
+            page = Objects.nonNull(page.getPagination()) && page.hasNext() ? page.getNext() : null;
+        }
+
+        return changed;
+    }
+
+    private void advanceWatermark(
+            final List<Order> changed,
+            final LocalDateTime watermark,
+            final Set<String> boundaryIds) throws IOException {
+        LocalDateTime newWatermark = null;
+        for (final Order order : changed) {
+            final LocalDateTime activity = getActivity(order);
+            if (Objects.nonNull(activity) && (Objects.isNull(newWatermark) || activity.isAfter(newWatermark))) {
+                newWatermark = activity;
+            }
+        }
+        if (Objects.isNull(newWatermark)) {
+            return;
+        }
+
+        final Set<String> newBoundaryIds = new HashSet<>();
+        if (newWatermark.equals(watermark)) {
+            newBoundaryIds.addAll(boundaryIds);
+        }
+        for (final Order order : changed) {
+            if (newWatermark.equals(getActivity(order))) {
+                newBoundaryIds.add(order.getId());
+            }
+        }
+
+        stateStore.put(WATERMARK_KEY, newWatermark.toString());
+        stateStore.put(WATERMARK_IDS_KEY, String.join(ID_DELIMITER, newBoundaryIds));
+        stateStore.save();
+    }
+
+    private static boolean isCreated(final Order order, final LocalDateTime watermark) {
+        return Objects.isNull(watermark)
+                || (Objects.nonNull(order.getCreated()) && !order.getCreated().isBefore(watermark));
+    }
+
+    private static LocalDateTime getActivity(final Order order) {
+        return Optional.ofNullable(order.getLastActivity()).orElse(order.getCreated());
+    }
+}
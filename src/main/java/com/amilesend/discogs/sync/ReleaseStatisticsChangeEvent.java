@@ -0,0 +1,36 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Describes a change in the marketplace statistics of a release detected by the {@link ReleaseStatisticsPoller}.
+ */
+@Builder
+@Data
+public class ReleaseStatisticsChangeEvent {
+    /** The release identifier. */
+    private final long releaseId;
+    /** The previously observed statistics. */
+    private final GetReleaseStatisticsResponse previous;
+    /** The current statistics. */
+    private final GetReleaseStatisticsResponse current;
+}
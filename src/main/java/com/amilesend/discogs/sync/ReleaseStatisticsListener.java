@@ -0,0 +1,31 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+/**
+ * Receives the release statistics changes detected by the {@link ReleaseStatisticsPoller}.
+ */
+@FunctionalInterface
+public interface ReleaseStatisticsListener {
+    /**
+     * Invoked when the number for sale or lowest price of a watched release changes.
+     *
+     * @param event the change event
+     */
+    void onChange(ReleaseStatisticsChangeEvent event);
+}
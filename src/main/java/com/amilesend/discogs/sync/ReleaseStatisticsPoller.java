@@ -0,0 +1,330 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsRequest;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Watches the marketplace statistics of many releases and notifies a listener when the number for sale or lowest
+ * price changes. Each release has its own polling interval that adapts to how often it changes: the interval is
+ * halved after a change and grows by half after each unchanged poll, bounded by the configured minimum and maximum.
+ * Releases are kept in a priority queue ordered by their next due time, so a fixed request budget is spent on the
+ * most overdue releases first and frequently changing releases are polled more often than stable ones.
+ * <p>
+ * The first poll of a release records a baseline and does not emit an event. Polls can be driven by the caller with
+ * {@link #pollDue()}, or by a background thread with {@link #start()}.
+ * Example:
+ * <pre>
+ * final ReleaseStatisticsPoller poller = ReleaseStatisticsPoller.builder()
+ *         .marketplaceApi(discogs.getMarketplaceApi())
+ *         .listener(event -&gt; reprice(event.getReleaseId(), event.getCurrent()))
+ *         .build();
+ * poller.watchAll(releaseIds);
+ * poller.start();
+ * </pre>
+ *
+ * @see ReleaseStatisticsListener
+ */
+@Slf4j
+@Getter
+public class ReleaseStatisticsPoller implements AutoCloseable {
+    private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofMinutes(5L);
+    private static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofHours(1L);
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofDays(1L);
+
+    /** The marketplace API. */
+    private final MarketplaceApi marketplaceApi;
+    /** The listener to notify with changes. */
+    private final ReleaseStatisticsListener listener;
+    /** The rate limiter for the statistics requests. */
+    private final RateLimiter rateLimiter;
+    /** The currency for the statistics, or {@code null} to use the user's preference. */
+    private final Currency currency;
+    /** The shortest polling interval. */
+    private final long minIntervalMillis;
+    /** The polling interval assigned to a newly watched release. */
+    private final long initialIntervalMillis;
+    /** The longest polling interval. */
+    private final long maxIntervalMillis;
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier clock;
+    @Getter(AccessLevel.NONE)
+    private final PriorityQueue<WatchedRelease> queue = new PriorityQueue<>(
+            Comparator.comparingLong((WatchedRelease r) -> r.nextDueMillis).thenComparingLong(r -> r.releaseId));
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, WatchedRelease> watched = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private Thread pollingThread;
+
+    /**
+     * Creates a new {@code ReleaseStatisticsPoller}.
+     *
+     * @param marketplaceApi the marketplace API
+     * @param listener the listener to notify with changes
+     * @param rateLimiter the rate limiter (optional; default is {@link RateLimiter#DEFAULT_PERMITS_PER_MINUTE})
+     * @param currency the currency (optional)
+     * @param minInterval the shortest polling interval (optional; default is 5 minutes)
+     * @param initialInterval the interval of a newly watched release (optional; default is 1 hour)
+     * @param maxInterval the longest polling interval (optional; default is 1 day)
+     */
+    @Builder
+    private ReleaseStatisticsPoller(
+            @NonNull final MarketplaceApi marketplaceApi,
+            @NonNull final ReleaseStatisticsListener listener,
+            final RateLimiter rateLimiter,
+            final Currency currency,
+            final Duration minInterval,
+            final Duration initialInterval,
+            final Duration maxInterval) {
+        this(marketplaceApi, listener, rateLimiter, currency, minInterval, initialInterval, maxInterval,
+                System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    ReleaseStatisticsPoller(
+            final MarketplaceApi marketplaceApi,
+            final ReleaseStatisticsListener listener,
+            final RateLimiter rateLimiter,
+            final Currency currency,
+            final Duration minInterval,
+            final Duration initialInterval,
+            final Duration maxInterval,
+            final LongSupplier clock) {
+        this.marketplaceApi = marketplaceApi;
+        this.listener = listener;
+        this.rateLimiter = Optional.ofNullable(rateLimiter).orElseGet(() -> RateLimiter.builder().build());
+        this.currency = currency;
+        this.minIntervalMillis = Optional.ofNullable(minInterval).orElse(DEFAULT_MIN_INTERVAL).toMillis();
+        this.initialIntervalMillis = Optional.ofNullable(initialInterval).orElse(DEFAULT_INITIAL_INTERVAL).toMillis();
+        this.maxIntervalMillis = Optional.ofNullable(maxInterval).orElse(DEFAULT_MAX_INTERVAL).toMillis();
+        Validate.isTrue(this.minIntervalMillis > 0L, "minInterval must be positive");
+        Validate.isTrue(this.minIntervalMillis <= this.initialIntervalMillis
+                        && this.initialIntervalMillis <= this.maxIntervalMillis,
+                "intervals must satisfy minInterval <= initialInterval <= maxInterval");
+        this.clock = clock;
+    }
+
+    /**
+     * Starts watching a release. The release is polled immediately to record its baseline.
+     *
+     * @param releaseId the release identifier
+     */
+    public synchronized void watch(final long releaseId) {
+        Validate.isTrue(releaseId > 0L, "releaseId must be > 0");
+        if (watched.containsKey(releaseId)) {
+            return;
+        }
+
+        final WatchedRelease release = new WatchedRelease(releaseId, initialIntervalMillis, clock.getAsLong());
+        watched.put(releaseId, release);
+        queue.add(release);
+        notifyAll();
+    }
+
+    /**
+     * Starts watching the given releases.
+     *
+     * @param releaseIds the release identifiers
+     */
+    public synchronized void watchAll(@NonNull final Collection<Long> releaseIds) {
+        releaseIds.forEach(this::watch);
+    }
+
+    /**
+     * Stops watching a release.
+     *
+     * @param releaseId the release identifier
+     */
+    public synchronized void unwatch(final long releaseId) {
+        Optional.ofNullable(watched.remove(releaseId)).ifPresent(queue::remove);
+    }
+
+    /**
+     * Gets the number of watched releases.
+     *
+     * @return the number of watched releases
+     */
+    public synchronized int getWatchedCount() {
+        return watched.size();
+    }
+
+    /**
+     * Gets the current polling interval of a release.
+     *
+     * @param releaseId the release identifier
+     * @return the interval in milliseconds, or {@code -1} if the release is not watched
+     */
+    public synchronized long getIntervalMillis(final long releaseId) {
+        return Optional.ofNullable(watched.get(releaseId)).map(r -> r.intervalMillis).orElse(-1L);
+    }
+
+    /**
+     * Polls every release that is currently due, waiting for the rate limiter between requests.
+     *
+     * @return the number of releases polled
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public int pollDue() throws InterruptedException {
+        int count = 0;
+        for (WatchedRelease release = nextDue(); Objects.nonNull(release); release = nextDue()) {
+            rateLimiter.acquire();
+            poll(release);
+            ++count;
+        }
+
+        return count;
+    }
+
+    /** Starts a background thread that polls releases as they become due until {@link #close()} is called. */
+    public synchronized void start() {
+        Validate.isTrue(Objects.isNull(pollingThread), "poller is already started");
+        pollingThread = new Thread(this::runPollingLoop, "release-statistics-poller");
+        pollingThread.setDaemon(true);
+        pollingThread.start();
+    }
+
+    /** Stops the background polling thread, if started. */
+    @Override
+    public void close() {
+        final Thread thread;
+        synchronized (this) {
+            thread = pollingThread;
+            pollingThread = null;
+        }
+        if (Objects.nonNull(thread)) {
+            thread.interrupt();
+        }
+    }
+
+    private void runPollingLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchedRelease release = awaitNextDue();
+                rateLimiter.acquire();
+                poll(release);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized WatchedRelease awaitNextDue() throws InterruptedException {
+        while (true) {
+            final WatchedRelease head = queue.peek();
+            if (Objects.isNull(head)) {
+                wait();
+                continue;
+            }
+
+            final long waitMillis = head.nextDueMillis - clock.getAsLong();
+            if (waitMillis <= 0L) {
+                return queue.poll();
+            }
+            wait(waitMillis);
+        }
+    }
+
+    private synchronized WatchedRelease nextDue() {
+        final WatchedRelease head = queue.peek();
+        return Objects.nonNull(head) && head.nextDueMillis <= clock.getAsLong() ? queue.poll() : null;
+    }
+
+    private void poll(final WatchedRelease release) {
+        GetReleaseStatisticsResponse current = null;
+        try {
+            current = marketplaceApi.getReleaseStatistics(GetReleaseStatisticsRequest.builder()
+                    .releaseId(release.releaseId)
+                    .currency(currency)
+                    .build());
+        } catch (final RuntimeException ex) {
+            log.warn("Unable to poll statistics for release {}: {}", release.releaseId, ex.getMessage());
+        }
+
+        final GetReleaseStatisticsResponse previous = release.statistics;
+        final boolean isChanged = Objects.nonNull(current) && Objects.nonNull(previous) && isChanged(previous, current);
+        if (isChanged) {
+            try {
+                listener.onChange(ReleaseStatisticsChangeEvent.builder()
+                        .releaseId(release.releaseId)
+                        .previous(previous)
+                        .current(current)
+                        .build());
+            } catch (final RuntimeException ex) {
+                log.warn("Listener failed for release {}: {}", release.releaseId, ex.getMessage());
+            }
+        }
+
+        synchronized (this) {
+            if (Objects.nonNull(current)) {
+                release.statistics = current;
+                release.intervalMillis = Objects.isNull(previous)
+                        ? release.intervalMillis
+                        : isChanged
+                                ? Math.max(minIntervalMillis, release.intervalMillis / 2L)
+                                : Math.min(maxIntervalMillis, release.intervalMillis + release.intervalMillis / 2L);
+            }
+            release.nextDueMillis = clock.getAsLong() + release.intervalMillis;
+            // Skip releases that were unwatched while being polled
+            if (watched.get(release.releaseId) == release) {
+                queue.add(release);
+                notifyAll();
+            }
+        }
+    }
+
+    private static boolean isChanged(
+            final GetReleaseStatisticsResponse previous,
+            final GetReleaseStatisticsResponse current) {
+        return !Objects.equals(previous.getNumForSale(), current.getNumForSale())
+                || !Objects.equals(previous.getLowestPrice(), current.getLowestPrice());
+    }
+
+    private static class WatchedRelease {
+        private final long releaseId;
+        private long intervalMillis;
+        private long nextDueMillis;
+        private GetReleaseStatisticsResponse statistics;
+
+        private WatchedRelease(final long releaseId, final long intervalMillis, final long nextDueMillis) {
+            this.releaseId = releaseId;
+            this.intervalMillis = intervalMillis;
+            this.nextDueMillis = nextDueMillis;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.connection.AtomicFileWriter;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * A small, thread-safe key/value store that persists synchronization state (e.g., watermarks and cursors) between
+ * runs. The state is kept in memory and written as a properties file on {@link #save()}.
+ */
+public class SyncStateStore {
+    /** The path of the state file. */
+    @Getter
+    private final Path stateFile;
+    private final Properties properties = new Properties();
+
+    /**
+     * Creates a new {@code SyncStateStore} and loads any previously saved state.
+     *
+     * @param stateFile the path of the state file
+     * @throws IOException if an error occurred while reading an existing state file
+     */
+    public SyncStateStore(@NonNull final Path stateFile) throws IOException {
+        this.stateFile = stateFile;
+        if (Files.isRegularFile(stateFile)) {
+            try (final Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+    }
+
+    /**
+     * Gets the value for the given key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if not defined
+     */
+    public synchronized String get(@NonNull final String key) {
+        return properties.getProperty(key);
+    }
+
+    /**
+     * Sets the value for the given key. A {@code null} value removes the key.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public synchronized void put(@NonNull final String key, final String value) {
+        if (Objects.isNull(value)) {
+            properties.remove(key);
+        } else {
+            properties.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Gets all values whose key starts with the given prefix.
+     *
+     * @param prefix the key prefix
+     * @return the values keyed by the remainder of the key after the prefix
+     */
+    public synchronized Map<String, String> getAllWithPrefix(@NonNull final String prefix) {
+        final Map<String, String> values = new HashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                values.put(key.substring(prefix.length()), properties.getProperty(key));
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Persists the state to the state file, atomically replacing any previously saved state.
+     *
+     * @throws IOException if an error occurred while writing the file
+     * @see AtomicFileWriter
+     */
+    public synchronized void save() throws IOException {
+        final Path parent = stateFile.toAbsolutePath().getParent();
+        if (Objects.nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+
+        AtomicFileWriter.write(stateFile,
+                out -> properties.store(new OutputStreamWriter(out, StandardCharsets.UTF_8), null));
+    }
+}
@@ -52,6 +52,8 @@ import com.amilesend.discogs.model.type.SortOrder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumMap;
+
 import static com.amilesend.discogs.data.MarketplaceApiDataHelper.Responses.ADD_ORDER_MESSAGE;
 import static com.amilesend.discogs.data.MarketplaceApiDataHelper.Responses.CREATE_LISTING_RESPONSE;
 import static com.amilesend.discogs.data.MarketplaceApiDataHelper.Responses.GET_FEE_RESPONSE;
@@ -79,8 +81,10 @@ import static com.amilesend.discogs.data.MarketplaceApiDataValidator.validateGet
 import static com.amilesend.discogs.data.MarketplaceApiDataValidator.validateListing;
 import static com.amilesend.discogs.data.MarketplaceApiDataValidator.validateOrder;
 import static com.amilesend.discogs.data.MarketplaceApiDataValidator.validateOrderMessage;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MarketplaceApiFunctionalTest extends FunctionalTestBase {
     private MarketplaceApi apiUnderTest;
@@ -590,7 +594,9 @@ public class MarketplaceApiFunctionalTest extends FunctionalTestBase {
                         .build());
 
         final GetPriceSuggestionsResponse expected = newGetPriceSuggestionsResponse();
-        assertEquals(expected, actual);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertTrue(actual.getPriceSuggestions() instanceof EnumMap));
     }
 
     @Test
@@ -111,12 +111,16 @@ public class UserIdentityApiRequestValidationTest extends RequestValidationTestB
                 .username("username")
                 .sort(GetUserContributionsRequest.Sort.TITLE)
                 .sortOrder(SortOrder.ASC)
+                .page(2)
+                .perPage(50)
                 .build()
                 .populateQueryParameters(mockHttpUrlBuilder);
 
         assertAll(
                 () -> validateQueryParameter("sort", "title"),
-                () -> validateQueryParameter("sort_order", "asc"));
+                () -> validateQueryParameter("sort_order", "asc"),
+                () -> validateQueryParameter("page", "2"),
+                () -> validateQueryParameter("per_page", "50"));
     }
 
     @Test
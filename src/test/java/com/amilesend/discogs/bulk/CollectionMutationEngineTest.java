@@ -0,0 +1,246 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.collection.ChangeReleaseRatingRequest;
+import com.amilesend.discogs.model.collection.DeleteInstanceRequest;
+import com.amilesend.discogs.model.collection.EditInstanceFieldRequest;
+import com.amilesend.discogs.model.collection.MoveReleaseRequest;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CollectionMutationEngineTest {
+    @TempDir
+    private Path tempDir;
+    private UserCollectionApi mockApi;
+    private Path checkpointFile;
+    private CollectionMutationEngine engineUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(UserCollectionApi.class);
+        checkpointFile = tempDir.resolve("job.checkpoint");
+        engineUnderTest = newEngine(mockApi);
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withMoveBeforeEdit_shouldEditInOriginalFolderBeforeMoving() {
+        final CollectionMutationReport actual = engineUnderTest.execute(List.of(
+                CollectionMutation.move(newMove(1L, 1L, 2L)),
+                CollectionMutation.editField(newEdit(1L, 2L, 3L, "Value")),
+                CollectionMutation.changeRating(newRating(1L, 2L, 5.0D))));
+
+        final InOrder inOrder = inOrder(mockApi);
+        assertAll(
+                () -> assertEquals(3, actual.getSucceededCount()),
+                () -> assertEquals(CollectionMutation.Type.MOVE,
+                        actual.getResults().get(2).getItem().getType()),
+                () -> inOrder.verify(mockApi).editInstanceField(argThat(r -> r != null && r.getFolderId() == 1L)),
+                () -> inOrder.verify(mockApi).moveRelease(argThat(r -> r != null
+                        && r.getFolderId() == 1L
+                        && r.getMoveToFolderId() == 2L)),
+                () -> verify(mockApi).changeReleaseRating(argThat(r -> r != null && r.getFolderId() == 1L)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withRepeatedMutations_shouldCollapse() {
+        final CollectionMutationReport actual = engineUnderTest.execute(List.of(
+                CollectionMutation.editField(newEdit(1L, 1L, 3L, "First")),
+                CollectionMutation.editField(newEdit(1L, 1L, 3L, "Second")),
+                CollectionMutation.move(newMove(1L, 1L, 2L)),
+                CollectionMutation.move(newMove(1L, 2L, 4L)),
+                CollectionMutation.move(newMove(2L, 1L, 2L)),
+                CollectionMutation.move(newMove(2L, 2L, 1L))));
+
+        assertAll(
+                () -> assertEquals(2, actual.getSucceededCount()),
+                () -> assertEquals(4, actual.getCollapsedCount()),
+                () -> verify(mockApi).editInstanceField(argThat(r -> r != null && r.getValue().equals("Second"))),
+                () -> verify(mockApi).moveRelease(argThat(r -> r != null
+                        && r.getInstanceId() == 1L
+                        && r.getFolderId() == 1L
+                        && r.getMoveToFolderId() == 4L)),
+                () -> verify(mockApi, never()).moveRelease(argThat(r -> r != null && r.getInstanceId() == 2L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withDelete_shouldDiscardOtherMutationsOfInstance() {
+        final CollectionMutationReport actual = engineUnderTest.execute(List.of(
+                CollectionMutation.move(newMove(1L, 1L, 2L)),
+                CollectionMutation.changeRating(newRating(1L, 2L, 3.0D)),
+                CollectionMutation.delete(newDelete(1L, 2L))));
+
+        assertAll(
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> assertEquals(2, actual.getCollapsedCount()),
+                () -> verify(mockApi).deleteInstance(argThat(r -> r != null && r.getFolderId() == 1L)),
+                () -> verify(mockApi, never()).moveRelease(any(MoveReleaseRequest.class)),
+                () -> verify(mockApi, never()).changeReleaseRating(any(ChangeReleaseRatingRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withFailedEdit_shouldNotMoveInstanceAndResumeLater() {
+        final List<CollectionMutation> mutations = List.of(
+                CollectionMutation.editField(newEdit(1L, 1L, 3L, "Value")),
+                CollectionMutation.move(newMove(1L, 1L, 2L)),
+                CollectionMutation.changeRating(newRating(2L, 1L, 4.0D)));
+        doThrow(new RequestException("Exception")).when(mockApi).editInstanceField(any(EditInstanceFieldRequest.class));
+
+        final CollectionMutationReport firstRun = engineUnderTest.execute(mutations);
+
+        assertAll(
+                () -> assertEquals(1, firstRun.getSucceededCount()),
+                () -> assertEquals(2, firstRun.getFailedCount()),
+                () -> assertEquals(List.of(CollectionMutation.Type.EDIT_FIELD, CollectionMutation.Type.MOVE),
+                        firstRun.getFailures().stream()
+                                .map(BulkItemResult::getItem)
+                                .map(CollectionMutation::getType)
+                                .collect(Collectors.toList())),
+                () -> verify(mockApi, never()).moveRelease(any(MoveReleaseRequest.class)),
+                () -> assertTrue(Files.exists(checkpointFile)));
+
+        final UserCollectionApi resumedApi = mock(UserCollectionApi.class);
+        final CollectionMutationReport secondRun = newEngine(resumedApi).execute(mutations);
+
+        assertAll(
+                () -> assertEquals(1, secondRun.getSkippedCount()),
+                () -> assertEquals(2, secondRun.getSucceededCount()),
+                () -> verify(resumedApi, never()).changeReleaseRating(any(ChangeReleaseRatingRequest.class)),
+                () -> verify(resumedApi).moveRelease(any(MoveReleaseRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withCheckpointFromPreviousProcess_shouldSkipCompletedMutations() {
+        // Written by a previous process; the identifier must not depend on identity hash codes
+        Files.writeString(checkpointFile,
+                "CHANGE_RATING:2#983f13fc5d08e005658ce142f1c48a35c0a34ed36b5f53ebfaf3da8cfbc7ac0d\n");
+
+        final CollectionMutationReport actual = engineUnderTest.execute(List.of(
+                CollectionMutation.changeRating(newRating(2L, 1L, 4.0D)),
+                CollectionMutation.changeRating(newRating(3L, 1L, 5.0D))));
+
+        assertAll(
+                () -> assertEquals(1, actual.getSkippedCount()),
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> verify(mockApi).changeReleaseRating(any(ChangeReleaseRatingRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    public void mutation_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CollectionMutation.delete(newDelete(0L, 1L))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CollectionMutation.editField(newEdit(1L, 1L, 0L, "Value"))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> CollectionMutation.move(MoveReleaseRequest.builder()
+                                .username("username")
+                                .releaseId(100L)
+                                .instanceId(1L)
+                                .build())),
+                () -> assertThrows(NullPointerException.class, () -> CollectionMutation.changeRating(null)));
+    }
+
+    private CollectionMutationEngine newEngine(final UserCollectionApi api) {
+        return CollectionMutationEngine.builder()
+                .userCollectionApi(api)
+                .bulkExecutor(newBulkExecutor(2))
+                .checkpointFile(checkpointFile)
+                .build();
+    }
+
+    private static EditInstanceFieldRequest newEdit(
+            final long instanceId,
+            final long folderId,
+            final long fieldId,
+            final String value) {
+        return EditInstanceFieldRequest.builder()
+                .username("username")
+                .folderId(folderId)
+                .releaseId(instanceId * 100L)
+                .instanceId(instanceId)
+                .fieldId(fieldId)
+                .value(value)
+                .build();
+    }
+
+    private static ChangeReleaseRatingRequest newRating(
+            final long instanceId,
+            final long folderId,
+            final double rating) {
+        return ChangeReleaseRatingRequest.builder()
+                .username("username")
+                .folderId(folderId)
+                .releaseId(instanceId * 100L)
+                .instanceId(instanceId)
+                .rating(rating)
+                .build();
+    }
+
+    private static MoveReleaseRequest newMove(final long instanceId, final long folderId, final long moveToFolderId) {
+        return MoveReleaseRequest.builder()
+                .username("username")
+                .folderId(folderId)
+                .releaseId(instanceId * 100L)
+                .instanceId(instanceId)
+                .moveToFolderId(moveToFolderId)
+                .build();
+    }
+
+    private static DeleteInstanceRequest newDelete(final long instanceId, final long folderId) {
+        return DeleteInstanceRequest.builder()
+                .username("username")
+                .folderId(folderId)
+                .releaseId(Math.max(instanceId, 1L) * 100L)
+                .instanceId(instanceId)
+                .build();
+    }
+}
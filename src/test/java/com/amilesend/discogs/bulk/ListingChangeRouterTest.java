@@ -0,0 +1,239 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.discogs.api.InventoryUploadApi;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.inventory.AddInventoryRequest;
+import com.amilesend.discogs.model.inventory.ChangeInventoryRequest;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.marketplace.DeleteListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.type.ListingStatus;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ListingChangeRouterTest {
+    @TempDir
+    private Path tempDir;
+    private MarketplaceApi mockMarketplaceApi;
+    private InventoryUploadApi mockUploadApi;
+    private ListingChangeRouter routerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockMarketplaceApi = mock(MarketplaceApi.class);
+        mockUploadApi = mock(InventoryUploadApi.class);
+        final RateLimiter mockRateLimiter = mock(RateLimiter.class);
+        when(mockRateLimiter.getPermitsPerMinute()).thenReturn(60);
+        routerUnderTest = ListingChangeRouter.builder()
+                .marketplaceApi(mockMarketplaceApi)
+                .inventoryUploadApi(mockUploadApi)
+                .mutationEngine(ListingMutationEngine.builder()
+                        .marketplaceApi(mockMarketplaceApi)
+                        .bulkExecutor(newBulkExecutor(mockRateLimiter, 3))
+                        .build())
+                .uploadProcessingMillis(60_000L)
+                .uploadRowMillis(10L)
+                .build();
+    }
+
+    /////////
+    // plan
+    /////////
+
+    @Test
+    public void plan_withSmallChangeSet_shouldSelectApi() {
+        final ListingChangePlan actual = routerUnderTest.plan(List.of(
+                ListingMutation.update(newUpdate(1L, "A", 10.0D)),
+                ListingMutation.update(newUpdate(1L, "A", 11.0D)),
+                ListingMutation.create(newCreate("B"))));
+
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.API, actual.getRoute()),
+                () -> assertEquals(1, actual.getCollapsedCount()),
+                () -> assertEquals(2, actual.getApiMutations().size()),
+                () -> assertEquals(2, actual.getEstimatedRequestCount()),
+                () -> assertEquals(2_000L, actual.getEstimatedApiMillis()),
+                () -> assertEquals(62_020L, actual.getEstimatedUploadMillis()),
+                () -> assertTrue(actual.getReason().contains("2 API calls")));
+    }
+
+    @Test
+    public void plan_withLargeEligibleChangeSet_shouldSelectCsvUpload() {
+        final List<ListingMutation> mutations = new ArrayList<>();
+        IntStream.range(0, 100).forEach(i -> mutations.add(ListingMutation.create(newCreate("N" + i))));
+        IntStream.range(1, 101).forEach(i -> mutations.add(ListingMutation.update(newUpdate(i, "U" + i, 5.0D))));
+
+        final ListingChangePlan actual = routerUnderTest.plan(mutations);
+
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.CSV_UPLOAD, actual.getRoute()),
+                () -> assertEquals(100, actual.getAddRecords().size()),
+                () -> assertEquals(100, actual.getChangeRecords().size()),
+                () -> assertEquals(2, actual.getEstimatedRequestCount()),
+                () -> assertEquals(200_000L, actual.getEstimatedApiMillis()),
+                () -> assertEquals(64_000L, actual.getEstimatedUploadMillis()));
+    }
+
+    @Test
+    public void plan_withIneligibleMutations_shouldSelectHybrid() {
+        final List<ListingMutation> mutations = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> mutations.add(ListingMutation.create(newCreate("N" + i))));
+        mutations.add(ListingMutation.delete(5L));
+        mutations.add(ListingMutation.update(newUpdate(6L, null, 5.0D)));
+        mutations.add(ListingMutation.update(UpdateListingRequest.builder()
+                .listingId(7L)
+                .releaseId(1234L)
+                .condition(Condition.MINT)
+                .price(5.0D)
+                .externalId("Draft")
+                .status(ListingStatus.DRAFT)
+                .build()));
+
+        final ListingChangePlan actual = routerUnderTest.plan(mutations);
+
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.HYBRID, actual.getRoute()),
+                () -> assertEquals(List.of(5L, 7L), actual.getApiMutations().stream()
+                        .map(ListingMutation::getListingId)
+                        .collect(Collectors.toList())),
+                () -> assertEquals(6L, actual.getChangeRecords().get(0).getListingId()),
+                () -> assertEquals(4, actual.getEstimatedRequestCount()),
+                () -> assertTrue(actual.getReason().contains("2 mutations require API calls")));
+    }
+
+    @Test
+    public void plan_withNoEligibleMutations_shouldSelectApi() {
+        final ListingChangePlan actual = routerUnderTest.plan(List.of(ListingMutation.delete(1L)));
+
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.API, actual.getRoute()),
+                () -> assertEquals(-1L, actual.getEstimatedUploadMillis()));
+    }
+
+    ////////////
+    // route
+    ////////////
+
+    @Test
+    @SneakyThrows
+    public void route_withHybridPlan_shouldUploadCsvAndCallApi() {
+        final List<ListingMutation> mutations = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> mutations.add(ListingMutation.create(newCreate("N" + i))));
+        mutations.add(ListingMutation.delete(5L));
+
+        final ListingChangeResult actual = routerUnderTest.route(mutations, tempDir.resolve("uploads"));
+
+        final Path addCsvFile = tempDir.resolve("uploads").resolve(ListingChangeRouter.ADD_CSV_FILE_NAME);
+        final List<String> lines = Files.readAllLines(addCsvFile);
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.HYBRID, actual.getPlan().getRoute()),
+                () -> assertEquals(201, lines.size()),
+                () -> assertEquals("release_id,price,media_condition,external_id", lines.get(0)),
+                () -> assertEquals("1234,10.0,Mint (M),N0", lines.get(1)),
+                () -> assertEquals(1, actual.getMutationReport().getSucceededCount()),
+                () -> assertNull(actual.getChangeUpload()),
+                () -> verify(mockUploadApi).addInventory(any(AddInventoryRequest.class)),
+                () -> verify(mockUploadApi, never()).changeInventory(any(ChangeInventoryRequest.class)),
+                () -> verify(mockMarketplaceApi).deleteListing(DeleteListingRequest.builder().listingId(5L).build()),
+                () -> verify(mockMarketplaceApi, never()).createListing(any(CreateListingRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void route_withUpdatesWithoutExternalIds_shouldUploadChangeCsvWithListingIds() {
+        final List<ListingMutation> mutations = new ArrayList<>();
+        IntStream.range(1, 201).forEach(i -> mutations.add(ListingMutation.update(newUpdate(i, null, 5.0D))));
+
+        final ListingChangeResult actual = routerUnderTest.route(mutations, tempDir.resolve("uploads"));
+
+        final Path changeCsvFile = tempDir.resolve("uploads").resolve(ListingChangeRouter.CHANGE_CSV_FILE_NAME);
+        final List<String> lines = Files.readAllLines(changeCsvFile);
+        assertAll(
+                () -> assertEquals(ListingChangePlan.Route.CSV_UPLOAD, actual.getPlan().getRoute()),
+                () -> assertEquals(201, lines.size()),
+                () -> assertEquals("release_id,price,media_condition,listing_id", lines.get(0)),
+                () -> assertEquals("1234,5.0,Mint (M),1", lines.get(1)),
+                () -> verify(mockUploadApi).changeInventory(any(ChangeInventoryRequest.class)),
+                () -> verifyNoInteractions(mockMarketplaceApi));
+    }
+
+    @Test
+    @SneakyThrows
+    public void route_withApiPlan_shouldNotUpload() {
+        final ListingChangeResult actual =
+                routerUnderTest.route(List.of(ListingMutation.create(newCreate("A"))), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, actual.getMutationReport().getSucceededCount()),
+                () -> verifyNoInteractions(mockUploadApi));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ListingChangeRouter.builder()
+                .marketplaceApi(mockMarketplaceApi)
+                .inventoryUploadApi(mockUploadApi)
+                .apiLatencyMillis(-1L)
+                .build());
+    }
+
+    private static UpdateListingRequest newUpdate(final long listingId, final String externalId, final double price) {
+        return UpdateListingRequest.builder()
+                .listingId(listingId)
+                .releaseId(1234L)
+                .condition(Condition.MINT)
+                .price(price)
+                .externalId(externalId)
+                .build();
+    }
+
+    private static CreateListingRequest newCreate(final String externalId) {
+        return CreateListingRequest.builder()
+                .releaseId(1234L)
+                .condition(Condition.MINT)
+                .price(10.0D)
+                .externalId(externalId)
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.BulkItemResult;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.marketplace.CreateListingResponse;
+import com.amilesend.discogs.model.marketplace.DeleteListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListingMutationEngineTest {
+    @TempDir
+    private Path tempDir;
+    private MarketplaceApi mockApi;
+    private Path checkpointFile;
+    private ListingMutationEngine engineUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        checkpointFile = tempDir.resolve("job.checkpoint");
+        engineUnderTest = ListingMutationEngine.builder()
+                .marketplaceApi(mockApi)
+                .bulkExecutor(newBulkExecutor(2))
+                .checkpointFile(checkpointFile)
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withRepeatedListings_shouldCollapseToLastMutation() {
+        when(mockApi.createListing(any(CreateListingRequest.class)))
+                .thenReturn(CreateListingResponse.builder().listingId(99L).build());
+
+        final ListingMutationReport actual = engineUnderTest.execute(List.of(
+                ListingMutation.update(newUpdate(1L, 10.0D)),
+                ListingMutation.update(newUpdate(2L, 20.0D)),
+                ListingMutation.update(newUpdate(1L, 11.0D)),
+                ListingMutation.delete(2L),
+                ListingMutation.create(newCreate("A"))));
+
+        assertAll(
+                () -> assertEquals(2, actual.getCollapsedCount()),
+                () -> assertEquals(3, actual.getSucceededCount()),
+                () -> assertEquals(List.of(1L, 2L, 99L), actual.getResults().stream()
+                        .map(BulkItemResult::getResult)
+                        .collect(Collectors.toList())),
+                () -> verify(mockApi).updateListing(argThat(r -> r != null && r.getPrice() == 11.0D)),
+                () -> verify(mockApi, times(1)).updateListing(any(UpdateListingRequest.class)),
+                () -> verify(mockApi).deleteListing(DeleteListingRequest.builder().listingId(2L).build()),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_afterPartialFailure_shouldResumeOutstandingMutations() {
+        final List<ListingMutation> mutations = List.of(
+                ListingMutation.update(newUpdate(1L, 10.0D)),
+                ListingMutation.delete(2L));
+        doThrow(new RequestException("Exception")).when(mockApi).deleteListing(any(DeleteListingRequest.class));
+
+        final ListingMutationReport firstRun = engineUnderTest.execute(mutations);
+
+        assertAll(
+                () -> assertEquals(1, firstRun.getSucceededCount()),
+                () -> assertEquals(1, firstRun.getFailedCount()),
+                () -> assertEquals(2, firstRun.getFailures().get(0).getAttempts()),
+                () -> assertTrue(Files.exists(checkpointFile)));
+
+        final MarketplaceApi resumedApi = mock(MarketplaceApi.class);
+        final ListingMutationReport secondRun = ListingMutationEngine.builder()
+                .marketplaceApi(resumedApi)
+                .bulkExecutor(engineUnderTest.getBulkExecutor())
+                .checkpointFile(checkpointFile)
+                .build()
+                .execute(mutations);
+
+        assertAll(
+                () -> assertEquals(1, secondRun.getSkippedCount()),
+                () -> assertEquals(1, secondRun.getSucceededCount()),
+                () -> verify(resumedApi, never()).updateListing(any(UpdateListingRequest.class)),
+                () -> verify(resumedApi).deleteListing(any(DeleteListingRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withCheckpointFromPreviousProcess_shouldSkipCompletedMutations() {
+        // Written by a previous process; the identifier must not depend on identity hash codes
+        Files.writeString(checkpointFile,
+                "listing:1#ec913426be5ae55ca48b2b7b0bca505d3f658f6e01745c8a6661cb979074bcd6\n");
+
+        final ListingMutationReport actual = engineUnderTest.execute(List.of(
+                ListingMutation.update(newUpdate(1L, 10.0D)),
+                ListingMutation.delete(2L)));
+
+        assertAll(
+                () -> assertEquals(1, actual.getSkippedCount()),
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> verify(mockApi, never()).updateListing(any(UpdateListingRequest.class)),
+                () -> verify(mockApi).deleteListing(any(DeleteListingRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withChangedMutationAfterCheckpoint_shouldApplyNewValue() {
+        doThrow(new IllegalArgumentException("Exception")).when(mockApi).deleteListing(any(DeleteListingRequest.class));
+        engineUnderTest.execute(List.of(ListingMutation.update(newUpdate(1L, 10.0D)), ListingMutation.delete(2L)));
+
+        final ListingMutationReport actual =
+                engineUnderTest.execute(List.of(ListingMutation.update(newUpdate(1L, 12.0D))));
+
+        assertAll(
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> verify(mockApi).updateListing(argThat(r -> r != null && r.getPrice() == 12.0D)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withCreateRequestFailure_shouldNotRetryCreate() {
+        when(mockApi.createListing(any(CreateListingRequest.class))).thenThrow(new RequestException("Timeout"));
+
+        final ListingMutationReport actual = engineUnderTest.execute(List.of(ListingMutation.create(newCreate("A"))));
+
+        assertAll(
+                () -> assertEquals(1, actual.getFailedCount()),
+                () -> assertEquals(1, actual.getFailures().get(0).getAttempts()),
+                () -> verify(mockApi, times(1)).createListing(any(CreateListingRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withThrottledCreate_shouldRetryCreate() {
+        final ResponseException mockThrottled = mock(ResponseException.class);
+        when(mockThrottled.getCode()).thenReturn(429);
+        when(mockApi.createListing(any(CreateListingRequest.class)))
+                .thenThrow(mockThrottled)
+                .thenReturn(CreateListingResponse.builder().listingId(99L).build());
+
+        final ListingMutationReport actual = engineUnderTest.execute(List.of(ListingMutation.create(newCreate("A"))));
+
+        assertAll(
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> assertEquals(99L, actual.getResults().get(0).getResult()),
+                () -> verify(mockApi, times(2)).createListing(any(CreateListingRequest.class)));
+    }
+
+    @Test
+    public void mutation_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ListingMutation.delete(0L)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ListingMutation.create(newUpdate(1L, 10.0D))),
+                () -> assertThrows(NullPointerException.class, () -> ListingMutation.update(null)));
+    }
+
+    private static UpdateListingRequest newUpdate(final long listingId, final double price) {
+        return UpdateListingRequest.builder()
+                .listingId(listingId)
+                .releaseId(1234L)
+                .condition(Condition.MINT)
+                .price(price)
+                .build();
+    }
+
+    private static CreateListingRequest newCreate(final String externalId) {
+        return CreateListingRequest.builder()
+                .releaseId(1234L)
+                .condition(Condition.MINT)
+                .price(10.0D)
+                .externalId(externalId)
+                .build();
+    }
+}
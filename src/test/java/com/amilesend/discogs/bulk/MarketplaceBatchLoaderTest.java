@@ -0,0 +1,108 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.model.marketplace.GetPriceSuggestionsRequest;
+import com.amilesend.discogs.model.marketplace.GetPriceSuggestionsResponse;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.Price;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MarketplaceBatchLoaderTest {
+    private MarketplaceApi mockApi;
+    private MarketplaceBatchLoader loaderUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        loaderUnderTest = MarketplaceBatchLoader.builder()
+                .marketplaceApi(mockApi)
+                .bulkExecutor(newBulkExecutor(1))
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getPriceSuggestions_withDuplicateIds_shouldRequestOnceAndCache() {
+        final GetPriceSuggestionsResponse response = newPriceSuggestions();
+        when(mockApi.getPriceSuggestions(any(GetPriceSuggestionsRequest.class))).thenReturn(response);
+
+        final Map<Long, GetPriceSuggestionsResponse> first = loaderUnderTest.getPriceSuggestions(List.of(2L, 1L, 2L));
+        final Map<Long, GetPriceSuggestionsResponse> second = loaderUnderTest.getPriceSuggestions(List.of(1L, 3L));
+
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), List.copyOf(first.keySet())),
+                () -> assertEquals(List.of(1L, 3L), List.copyOf(second.keySet())),
+                () -> assertSame(response, second.get(1L)),
+                () -> verify(mockApi, times(3)).getPriceSuggestions(any(GetPriceSuggestionsRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getReleaseStatistics_withFailure_shouldOmitReleaseAndNotCache() {
+        final GetReleaseStatisticsResponse response = GetReleaseStatisticsResponse.builder().numForSale(5).build();
+        when(mockApi.getReleaseStatistics(argThat(r -> r != null && r.getReleaseId() == 1L))).thenReturn(response);
+        when(mockApi.getReleaseStatistics(argThat(r -> r != null && r.getReleaseId() == 2L)))
+                .thenThrow(new ResponseException("Not found"));
+
+        final Map<Long, GetReleaseStatisticsResponse> actual =
+                loaderUnderTest.getReleaseStatistics(List.of(1L, 2L), Currency.USD);
+        loaderUnderTest.getReleaseStatistics(List.of(1L, 2L), Currency.USD);
+        loaderUnderTest.getReleaseStatistics(List.of(1L), Currency.EUR);
+
+        assertAll(
+                () -> assertEquals(Map.of(1L, response), actual),
+                () -> verify(mockApi, times(2)).getReleaseStatistics(
+                        argThat(r -> r != null && r.getReleaseId() == 1L)),
+                () -> verify(mockApi, times(2)).getReleaseStatistics(
+                        argThat(r -> r != null && r.getReleaseId() == 2L)));
+    }
+
+    @Test
+    public void getPriceSuggestions_withInvalidId_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> loaderUnderTest.getPriceSuggestions(List.of(0L)));
+    }
+
+    private static GetPriceSuggestionsResponse newPriceSuggestions() {
+        final Map<Condition, Price> prices = new EnumMap<>(Condition.class);
+        prices.put(Condition.MINT, Price.builder().currency(Currency.USD).value(10.0D).build());
+        return GetPriceSuggestionsResponse.builder().priceSuggestions(prices).build();
+    }
+}
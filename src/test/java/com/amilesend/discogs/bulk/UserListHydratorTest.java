@@ -0,0 +1,152 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.api.UserListsApi;
+import com.amilesend.discogs.model.database.GetArtistInformationRequest;
+import com.amilesend.discogs.model.database.GetArtistInformationResponse;
+import com.amilesend.discogs.model.database.GetMasterReleaseRequest;
+import com.amilesend.discogs.model.database.GetReleaseRequest;
+import com.amilesend.discogs.model.database.GetReleaseResponse;
+import com.amilesend.discogs.model.lists.GetUserListRequest;
+import com.amilesend.discogs.model.lists.GetUserListResponse;
+import com.amilesend.discogs.model.lists.type.UserListItem;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserListHydratorTest {
+    private UserListsApi mockUserListsApi;
+    private DatabaseApi mockDatabaseApi;
+    private UserListHydrator hydratorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockUserListsApi = mock(UserListsApi.class);
+        mockDatabaseApi = mock(DatabaseApi.class);
+        hydratorUnderTest = UserListHydrator.builder()
+                .userListsApi(mockUserListsApi)
+                .databaseApi(mockDatabaseApi)
+                .bulkExecutor(newBulkExecutor(1))
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getUserList_withMixedItems_shouldResolveEachResourceOnce() {
+        final GetReleaseResponse release = GetReleaseResponse.builder().id(1L).build();
+        final GetArtistInformationResponse artist = GetArtistInformationResponse.builder().id(2L).build();
+        mockList(newItem(1L, "release"), newItem(2L, "artist"), newItem(1L, "release"), newItem(3L, "unknown"));
+        when(mockDatabaseApi.getRelease(any(GetReleaseRequest.class))).thenReturn(release);
+        when(mockDatabaseApi.getArtistInformation(any(GetArtistInformationRequest.class))).thenReturn(artist);
+        final List<HydratedUserListItem> streamed = new ArrayList<>();
+
+        final HydratedUserList actual = hydratorUnderTest.getUserList(10L, streamed::add);
+
+        assertAll(
+                () -> assertEquals(4, actual.getItems().size()),
+                () -> assertEquals(4, streamed.size()),
+                () -> assertSame(release, actual.getItems().get(0).getRelease()),
+                () -> assertSame(artist, actual.getItems().get(1).getArtist()),
+                () -> assertSame(release, actual.getItems().get(2).getRelease()),
+                () -> assertNull(actual.getItems().get(0).getArtist()),
+                () -> assertFalse(actual.getItems().get(3).isResolved()),
+                () -> assertEquals(1, actual.getUnresolvedCount()),
+                () -> verify(mockDatabaseApi, times(1)).getRelease(any(GetReleaseRequest.class)),
+                () -> verify(mockDatabaseApi, times(1)).getArtistInformation(any(GetArtistInformationRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getUserList_withCachedResources_shouldNotRequestAgain() {
+        mockList(newItem(1L, "release"));
+        when(mockDatabaseApi.getRelease(any(GetReleaseRequest.class)))
+                .thenReturn(GetReleaseResponse.builder().id(1L).build());
+
+        hydratorUnderTest.getUserList(10L);
+        final HydratedUserList actual = hydratorUnderTest.getUserList(10L);
+
+        assertAll(
+                () -> assertTrue(actual.getItems().get(0).isResolved()),
+                () -> verify(mockDatabaseApi, times(1)).getRelease(any(GetReleaseRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getUserList_withFailedResource_shouldReportUnresolvedAndNotCache() {
+        mockList(newItem(5L, "master"));
+        when(mockDatabaseApi.getMasterRelease(any(GetMasterReleaseRequest.class)))
+                .thenThrow(new ResponseException("Not found"));
+
+        final HydratedUserList first = hydratorUnderTest.getUserList(10L);
+        final HydratedUserList second = hydratorUnderTest.getUserList(10L);
+
+        assertAll(
+                () -> assertEquals(1, first.getUnresolvedCount()),
+                () -> assertEquals(1, second.getUnresolvedCount()),
+                () -> assertNull(first.getItems().get(0).getMasterRelease()),
+                () -> verify(mockDatabaseApi, times(2)).getMasterRelease(any(GetMasterReleaseRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getUserList_withNoResponse_shouldReturnNull() {
+        assertAll(
+                () -> assertNull(hydratorUnderTest.getUserList(10L)),
+                () -> verify(mockDatabaseApi, never()).getRelease(any(GetReleaseRequest.class)));
+    }
+
+    @Test
+    public void getUserList_withInvalidListId_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> hydratorUnderTest.getUserList(0L));
+    }
+
+    private void mockList(final UserListItem... items) {
+        when(mockUserListsApi.getUserList(any(GetUserListRequest.class))).thenReturn(GetUserListResponse.builder()
+                .id(10L)
+                .items(List.of(items))
+                .build());
+    }
+
+    private static UserListItem newItem(final long id, final String type) {
+        return UserListItem.builder()
+                .id(id)
+                .type(type)
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.discogs.api.UserWantListApi;
+import com.amilesend.discogs.model.wantlist.AddReleaseToWantListRequest;
+import com.amilesend.discogs.model.wantlist.DeleteReleaseFormWantListRequest;
+import com.amilesend.discogs.model.wantlist.GetWantListRequest;
+import com.amilesend.discogs.model.wantlist.GetWantListResponse;
+import com.amilesend.discogs.model.wantlist.UpdateReleaseOnWantListRequest;
+import com.amilesend.discogs.model.wantlist.type.WantListRelease;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static com.amilesend.discogs.data.BulkDataHelper.newPaginationWithNext;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WantListImporterTest {
+    @TempDir
+    private Path tempDir;
+    private UserWantListApi mockApi;
+    private Path checkpointFile;
+    private WantListImporter importerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(UserWantListApi.class);
+        checkpointFile = tempDir.resolve("wantlist.checkpoint");
+        importerUnderTest = newImporter(mockApi);
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withMixedEntries_shouldApplyOnlyRequiredChanges() {
+        final GetWantListResponse lastPage = newPage(List.of(newWant(3L, "C", 3)), null);
+        final GetWantListResponse firstPage =
+                spy(newPage(List.of(newWant(1L, "A", 1), newWant(2L, "B", 2)), "http://next"));
+        doReturn(lastPage).when(firstPage).getNext();
+        when(mockApi.getWantList(any(GetWantListRequest.class))).thenReturn(firstPage);
+
+        final WantListImportReport actual = importerUnderTest.execute("username", List.of(
+                newEntry(1L, null, null),
+                newEntry(2L, "B", 5),
+                newEntry(4L, "D", null)), true);
+
+        assertAll(
+                () -> assertEquals(3, actual.getSucceededCount()),
+                () -> assertEquals(1, actual.getUnchangedCount()),
+                () -> verify(mockApi).addReleaseToWantList(argThat(r -> r != null
+                        && r.getReleaseId() == 4L && "D".equals(r.getNotes()))),
+                () -> verify(mockApi).updateReleaseOnWantList(argThat(r -> r != null
+                        && r.getReleaseId() == 2L && Integer.valueOf(5).equals(r.getRating()))),
+                () -> verify(mockApi).deleteReleaseFromWantList(DeleteReleaseFormWantListRequest.builder()
+                        .username("username")
+                        .releaseId(3L)
+                        .build()),
+                () -> verify(mockApi, times(1)).addReleaseToWantList(any(AddReleaseToWantListRequest.class)),
+                () -> verify(mockApi, times(1))
+                        .updateReleaseOnWantList(any(UpdateReleaseOnWantListRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withoutRemoveMissing_shouldNotDeleteItems() {
+        when(mockApi.getWantList(any(GetWantListRequest.class)))
+                .thenReturn(newPage(List.of(newWant(1L, null, 0)), null));
+
+        final WantListImportReport actual =
+                importerUnderTest.execute("username", List.of(newEntry(2L, null, null)), false);
+
+        assertAll(
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> verify(mockApi, never())
+                        .deleteReleaseFromWantList(any(DeleteReleaseFormWantListRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_afterPartialFailure_shouldResumeOutstandingChanges() {
+        when(mockApi.getWantList(any(GetWantListRequest.class)))
+                .thenReturn(newPage(List.of(newWant(1L, "A", 1)), null));
+        final List<WantListEntry> entries = List.of(newEntry(1L, "Changed", null), newEntry(2L, null, null));
+        doThrow(new RequestException("Exception"))
+                .when(mockApi).addReleaseToWantList(any(AddReleaseToWantListRequest.class));
+
+        final WantListImportReport firstRun = importerUnderTest.execute("username", entries, false);
+
+        assertAll(
+                () -> assertEquals(1, firstRun.getSucceededCount()),
+                () -> assertEquals(1, firstRun.getFailedCount()),
+                () -> assertTrue(Files.exists(checkpointFile)));
+
+        final UserWantListApi resumedApi = mock(UserWantListApi.class);
+        when(resumedApi.getWantList(any(GetWantListRequest.class)))
+                .thenReturn(newPage(List.of(newWant(1L, "A", 1)), null));
+        final WantListImportReport secondRun = newImporter(resumedApi).execute("username", entries, false);
+
+        assertAll(
+                () -> assertEquals(1, secondRun.getSkippedCount()),
+                () -> assertEquals(1, secondRun.getSucceededCount()),
+                () -> verify(resumedApi, never())
+                        .updateReleaseOnWantList(any(UpdateReleaseOnWantListRequest.class)),
+                () -> verify(resumedApi).addReleaseToWantList(any(AddReleaseToWantListRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withCheckpointFromPreviousProcess_shouldSkipCompletedChanges() {
+        Files.writeString(checkpointFile,
+                "ADD:2#7e44e2154c6c9a12bfa84fc7120c907793d1008942d1d1e14c5e20ce52c54283\n");
+        when(mockApi.getWantList(any(GetWantListRequest.class))).thenReturn(newPage(List.of(), null));
+
+        final WantListImportReport actual = importerUnderTest.execute("username",
+                List.of(newEntry(2L, null, null), newEntry(3L, "C", null)), false);
+
+        assertAll(
+                () -> assertEquals(1, actual.getSkippedCount()),
+                () -> assertEquals(1, actual.getSucceededCount()),
+                () -> verify(mockApi).addReleaseToWantList(argThat(r -> r != null && r.getReleaseId() == 3L)),
+                () -> verify(mockApi, times(1)).addReleaseToWantList(any(AddReleaseToWantListRequest.class)),
+                () -> assertFalse(Files.exists(checkpointFile)));
+    }
+
+    @Test
+    public void execute_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> importerUnderTest.execute(
+                        "username", List.of(newEntry(1L, null, null), newEntry(1L, "A", null)), false)),
+                () -> assertThrows(IllegalArgumentException.class, () -> importerUnderTest.execute(
+                        "username", List.of(newEntry(0L, null, null)), false)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> importerUnderTest.execute(" ", List.of(), false)),
+                () -> assertThrows(IllegalArgumentException.class, () -> WantListImporter.builder()
+                        .userWantListApi(mockApi)
+                        .pageSize(101)
+                        .build()));
+    }
+
+    private WantListImporter newImporter(final UserWantListApi api) {
+        return WantListImporter.builder()
+                .userWantListApi(api)
+                .bulkExecutor(newBulkExecutor(2))
+                .checkpointFile(checkpointFile)
+                .build();
+    }
+
+    private static WantListEntry newEntry(final long releaseId, final String notes, final Integer rating) {
+        return WantListEntry.builder()
+                .releaseId(releaseId)
+                .notes(notes)
+                .rating(rating)
+                .build();
+    }
+
+    private static WantListRelease newWant(final long releaseId, final String notes, final int rating) {
+        return WantListRelease.builder()
+                .id(releaseId)
+                .notes(notes)
+                .rating(rating)
+                .build();
+    }
+
+    private static GetWantListResponse newPage(final List<WantListRelease> wants, final String nextUrl) {
+        return GetWantListResponse.builder()
+                .wants(wants)
+                .pagination(newPaginationWithNext(nextUrl))
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.bulk;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.api.UserWantListApi;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsRequest;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.marketplace.type.Price;
+import com.amilesend.discogs.model.type.Currency;
+import com.amilesend.discogs.model.wantlist.GetWantListResponse;
+import com.amilesend.discogs.model.wantlist.type.WantListRelease;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static com.amilesend.discogs.data.BulkDataHelper.newPaginationWithNext;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WantListMatcherTest {
+    private UserWantListApi mockWantListApi;
+    private MarketplaceApi mockMarketplaceApi;
+    private WantListMatcher matcherUnderTest;
+    private final List<WantListMatch> matches = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        mockWantListApi = mock(UserWantListApi.class);
+        mockMarketplaceApi = mock(MarketplaceApi.class);
+        final Map<Long, GetReleaseStatisticsResponse> statistics = Map.of(
+                1L, newStatistics(3, 10.0D, false),
+                2L, newStatistics(1, 50.0D, false),
+                3L, newStatistics(0, null, false),
+                4L, newStatistics(2, 5.0D, true));
+        when(mockMarketplaceApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class)))
+                .thenAnswer(i -> statistics.get(((GetReleaseStatisticsRequest) i.getArgument(0)).getReleaseId()));
+        matcherUnderTest = WantListMatcher.builder()
+                .userWantListApi(mockWantListApi)
+                .batchLoader(MarketplaceBatchLoader.builder()
+                        .marketplaceApi(mockMarketplaceApi)
+                        .bulkExecutor(newBulkExecutor(1))
+                        .build())
+                .currency(Currency.USD)
+                .maxPrice(20.0D)
+                .batchSize(2)
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withSharedReleases_shouldLoadEachReleaseOnceAndEmitMatches() {
+        final GetWantListResponse lastPage = newPage(List.of(newWant(3L), newWant(4L)), null);
+        final GetWantListResponse firstPage = spy(newPage(List.of(newWant(1L), newWant(2L)), "http://next"));
+        doReturn(lastPage).when(firstPage).getNext();
+        mockWantList("alice", firstPage);
+        mockWantList("bob", newPage(List.of(newWant(2L), newWant(1L)), null));
+
+        final WantListMatchSummary actual = matcherUnderTest.match(List.of("alice", "bob"), matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getUserCount()),
+                () -> assertEquals(6, actual.getWantCount()),
+                () -> assertEquals(4, actual.getReleaseCount()),
+                () -> assertEquals(0, actual.getFailedReleaseCount()),
+                () -> assertEquals(2, actual.getMatchCount()),
+                () -> assertEquals(List.of(), actual.getFailedUsernames()),
+                () -> assertEquals(List.of("alice:1", "bob:1"), matches.stream()
+                        .map(m -> m.getUsername() + ":" + m.getWant().getId())
+                        .collect(Collectors.toList())),
+                () -> assertEquals(10.0D, matches.get(0).getStatistics().getLowestPrice().getValue()),
+                () -> verify(mockMarketplaceApi, times(4)).getReleaseStatistics(any(GetReleaseStatisticsRequest.class)),
+                () -> verify(mockMarketplaceApi).getReleaseStatistics(
+                        argThat(r -> r != null && r.getReleaseId() == 1L && r.getCurrency() == Currency.USD)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withUnreadableWantList_shouldSkipUser() {
+        when(mockWantListApi.getWantList(argThat(r -> r != null && r.getUsername().equals("private"))))
+                .thenThrow(new ResponseException("Forbidden"));
+        mockWantList("bob", newPage(List.of(newWant(1L)), null));
+
+        final WantListMatchSummary actual = matcherUnderTest.match(List.of("private", "bob"), matches::add);
+
+        assertAll(
+                () -> assertEquals(1, actual.getUserCount()),
+                () -> assertEquals(List.of("private"), actual.getFailedUsernames()),
+                () -> assertEquals(1, actual.getMatchCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withWantListFailingPartway_shouldNotEmitUserMatches() {
+        final GetWantListResponse firstPage = spy(newPage(List.of(newWant(1L)), "http://next"));
+        doThrow(new ResponseException("Unavailable")).when(firstPage).getNext();
+        mockWantList("alice", firstPage);
+        mockWantList("bob", newPage(List.of(newWant(2L)), null));
+
+        final WantListMatchSummary actual = matcherUnderTest.match(List.of("alice", "bob"), matches::add);
+
+        assertAll(
+                () -> assertEquals(1, actual.getUserCount()),
+                () -> assertEquals(1, actual.getWantCount()),
+                () -> assertEquals(0, actual.getMatchCount()),
+                () -> assertEquals(List.of("alice"), actual.getFailedUsernames()),
+                () -> assertEquals(List.of(), matches));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withFailedStatistics_shouldRetryAndReportRelease() {
+        mockWantList("alice", newPage(List.of(newWant(5L), newWant(1L)), null));
+        mockWantList("bob", newPage(List.of(newWant(5L)), null));
+
+        final WantListMatchSummary actual = matcherUnderTest.match(List.of("alice", "bob"), matches::add);
+
+        assertAll(
+                () -> assertEquals(3, actual.getWantCount()),
+                () -> assertEquals(2, actual.getReleaseCount()),
+                () -> assertEquals(1, actual.getFailedReleaseCount()),
+                () -> assertEquals(1, actual.getMatchCount()),
+                () -> verify(mockMarketplaceApi, times(2)).getReleaseStatistics(
+                        argThat(r -> r != null && r.getReleaseId() == 5L)));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> WantListMatcher.builder()
+                        .userWantListApi(mockWantListApi)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> WantListMatcher.builder()
+                        .userWantListApi(mockWantListApi)
+                        .marketplaceApi(mockMarketplaceApi)
+                        .maxPrice(-1.0D)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> WantListMatcher.builder()
+                        .userWantListApi(mockWantListApi)
+                        .marketplaceApi(mockMarketplaceApi)
+                        .batchSize(0)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> matcherUnderTest.match(
+                        List.of(" "), matches::add)));
+    }
+
+    private void mockWantList(final String username, final GetWantListResponse response) {
+        when(mockWantListApi.getWantList(argThat(r -> r != null && r.getUsername().equals(username))))
+                .thenReturn(response);
+    }
+
+    private static WantListRelease newWant(final long releaseId) {
+        return WantListRelease.builder().id(releaseId).build();
+    }
+
+    private static GetWantListResponse newPage(final List<WantListRelease> wants, final String nextUrl) {
+        return GetWantListResponse.builder()
+                .wants(wants)
+                .pagination(newPaginationWithNext(nextUrl))
+                .build();
+    }
+
+    private static GetReleaseStatisticsResponse newStatistics(
+            final int numForSale,
+            final Double lowestPrice,
+            final boolean blocked) {
+        return GetReleaseStatisticsResponse.builder()
+                .numForSale(numForSale)
+                .lowestPrice(lowestPrice == null
+                        ? null
+                        : Price.builder().currency(Currency.USD).value(lowestPrice).build())
+                .blockedFormSale(blocked)
+                .build();
+    }
+}
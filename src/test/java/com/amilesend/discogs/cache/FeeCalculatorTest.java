@@ -0,0 +1,163 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.cache;
+
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.model.marketplace.GetFeeRequest;
+import com.amilesend.discogs.model.marketplace.GetFeeResponse;
+import com.amilesend.discogs.model.type.Currency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FeeCalculatorTest {
+    private MarketplaceApi mockApi;
+    private FeeCalculator calculatorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        calculatorUnderTest = FeeCalculator.builder()
+                .marketplaceApi(mockApi)
+                .minObservations(3)
+                .verificationInterval(5)
+                .build();
+    }
+
+    @Test
+    public void getFee_withRepeatedPrice_shouldAnswerFromMemo() {
+        mockProportionalFees(0.09D);
+
+        final GetFeeResponse first = calculatorUnderTest.getFee(10.0D, Currency.USD);
+        final GetFeeResponse second = calculatorUnderTest.getFee(10.0D, Currency.USD);
+
+        assertAll(
+                () -> assertEquals(0.9D, first.getValue()),
+                () -> assertEquals(first, second),
+                () -> assertEquals(1L, calculatorUnderTest.getApiCount().get()),
+                () -> assertEquals(1L, calculatorUnderTest.getMemoizedCount().get()));
+    }
+
+    @Test
+    public void getFee_withProportionalFees_shouldLearnScheduleAndComputeLocally() {
+        mockProportionalFees(0.09D);
+        calculatorUnderTest.getFee(10.0D, Currency.USD);
+        calculatorUnderTest.getFee(25.0D, Currency.USD);
+        assertFalse(calculatorUnderTest.isLearned(Currency.USD));
+        calculatorUnderTest.getFee(99.99D, Currency.USD);
+
+        final GetFeeResponse actual = calculatorUnderTest.getFee(42.5D, Currency.USD);
+
+        assertAll(
+                () -> assertTrue(calculatorUnderTest.isLearned(Currency.USD)),
+                () -> assertFalse(calculatorUnderTest.isLearned(Currency.EUR)),
+                () -> assertEquals(3.83D, actual.getValue()),
+                () -> assertEquals(Currency.USD, actual.getCurrency()),
+                () -> assertEquals(3L, calculatorUnderTest.getApiCount().get()),
+                () -> assertEquals(1L, calculatorUnderTest.getComputedCount().get()));
+    }
+
+    @Test
+    public void getFee_withVerificationMismatch_shouldDiscardSchedule() {
+        mockProportionalFees(0.09D);
+        calculatorUnderTest.getFee(10.0D, Currency.USD);
+        calculatorUnderTest.getFee(25.0D, Currency.USD);
+        calculatorUnderTest.getFee(50.0D, Currency.USD);
+        for (int i = 1; i <= 4; ++i) {
+            calculatorUnderTest.getFee(i * 10.0D + 0.5D, Currency.USD);
+        }
+        mockProportionalFees(0.1D);
+
+        final GetFeeResponse actual = calculatorUnderTest.getFee(45.0D, Currency.USD);
+
+        assertAll(
+                () -> assertEquals(4.5D, actual.getValue()),
+                () -> assertFalse(calculatorUnderTest.isLearned(Currency.USD)),
+                () -> assertEquals(4L, calculatorUnderTest.getComputedCount().get()),
+                () -> verify(mockApi, times(4)).getFee(any(GetFeeRequest.class)));
+    }
+
+    @Test
+    public void getFee_withPriceOutsideObservedRange_shouldRequestFromApi() {
+        mockProportionalFees(0.09D);
+        calculatorUnderTest.getFee(10.0D, Currency.USD);
+        calculatorUnderTest.getFee(25.0D, Currency.USD);
+        calculatorUnderTest.getFee(50.0D, Currency.USD);
+        when(mockApi.getFee(any(GetFeeRequest.class))).thenReturn(newFee(2.0D));
+
+        final GetFeeResponse above = calculatorUnderTest.getFee(500.0D, Currency.USD);
+        final GetFeeResponse below = calculatorUnderTest.getFee(1.0D, Currency.USD);
+
+        assertAll(
+                () -> assertEquals(2.0D, above.getValue()),
+                () -> assertEquals(2.0D, below.getValue()),
+                () -> assertFalse(calculatorUnderTest.isLearned(Currency.USD)),
+                () -> assertEquals(0L, calculatorUnderTest.getComputedCount().get()),
+                () -> assertEquals(5L, calculatorUnderTest.getApiCount().get()));
+    }
+
+    @Test
+    public void getFee_withNonProportionalFees_shouldNotLearnSchedule() {
+        when(mockApi.getFee(any(GetFeeRequest.class))).thenAnswer(i -> newFee(
+                Math.min(((GetFeeRequest) i.getArgument(0)).getPrice() * 0.09D, 2.0D)));
+        calculatorUnderTest.getFee(10.0D, Currency.USD);
+        calculatorUnderTest.getFee(50.0D, Currency.USD);
+        calculatorUnderTest.getFee(100.0D, Currency.USD);
+
+        calculatorUnderTest.getFee(200.0D, Currency.USD);
+
+        assertAll(
+                () -> assertFalse(calculatorUnderTest.isLearned(Currency.USD)),
+                () -> assertEquals(4L, calculatorUnderTest.getApiCount().get()));
+    }
+
+    @Test
+    public void clear_shouldDiscardObservations() {
+        mockProportionalFees(0.09D);
+        calculatorUnderTest.getFee(10.0D, null);
+
+        calculatorUnderTest.clear();
+        calculatorUnderTest.getFee(10.0D, null);
+
+        assertEquals(2L, calculatorUnderTest.getApiCount().get());
+    }
+
+    @Test
+    public void getFee_withInvalidPrice_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> calculatorUnderTest.getFee(-1.0D, Currency.USD));
+    }
+
+    private void mockProportionalFees(final double rate) {
+        when(mockApi.getFee(any(GetFeeRequest.class))).thenAnswer(i -> newFee(
+                Math.round(((GetFeeRequest) i.getArgument(0)).getPrice() * rate * 100.0D) / 100.0D));
+    }
+
+    private static GetFeeResponse newFee(final double value) {
+        return GetFeeResponse.builder().currency(Currency.USD).value(value).build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TtlCacheTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void get_beforeAndAfterTtl_shouldExpireEntry() {
+        final TtlCache<String, String> cacheUnderTest = new TtlCache<>(Duration.ofSeconds(10L), 10, now::get);
+        cacheUnderTest.put("Key", "Value");
+
+        now.addAndGet(Duration.ofSeconds(9L).toNanos());
+        assertEquals("Value", cacheUnderTest.get("Key"));
+
+        now.addAndGet(Duration.ofSeconds(1L).toNanos());
+        assertAll(
+                () -> assertNull(cacheUnderTest.get("Key")),
+                () -> assertEquals(0, cacheUnderTest.size()));
+    }
+
+    @Test
+    public void put_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        final TtlCache<String, String> cacheUnderTest = new TtlCache<>(Duration.ofSeconds(10L), 2, now::get);
+        cacheUnderTest.put("A", "1");
+        cacheUnderTest.put("B", "2");
+        cacheUnderTest.get("A");
+
+        cacheUnderTest.put("C", "3");
+
+        assertAll(
+                () -> assertEquals("1", cacheUnderTest.get("A")),
+                () -> assertNull(cacheUnderTest.get("B")),
+                () -> assertEquals("3", cacheUnderTest.get("C")));
+    }
+
+    @Test
+    public void purgeExpired_shouldRemoveOnlyExpiredEntries() {
+        final TtlCache<String, String> cacheUnderTest = new TtlCache<>(Duration.ofSeconds(10L), 10, now::get);
+        cacheUnderTest.put("A", "1");
+        now.addAndGet(Duration.ofSeconds(5L).toNanos());
+        cacheUnderTest.put("B", "2");
+        now.addAndGet(Duration.ofSeconds(5L).toNanos());
+
+        assertAll(
+                () -> assertEquals(1, cacheUnderTest.purgeExpired()),
+                () -> assertEquals(1, cacheUnderTest.size()),
+                () -> assertEquals("2", cacheUnderTest.get("B")));
+    }
+
+    @Test
+    public void invalidate_shouldRemoveEntry() {
+        final TtlCache<String, String> cacheUnderTest = TtlCache.<String, String>builder()
+                .ttl(Duration.ofMinutes(1L))
+                .build();
+        cacheUnderTest.put("A", "1");
+        cacheUnderTest.put("B", "2");
+
+        cacheUnderTest.invalidate("A");
+        assertNull(cacheUnderTest.get("A"));
+
+        cacheUnderTest.clear();
+        assertEquals(0, cacheUnderTest.size());
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> TtlCache.<String, String>builder().build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> TtlCache.<String, String>builder().ttl(Duration.ZERO).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> TtlCache.<String, String>builder().ttl(Duration.ofSeconds(1L)).maxSize(0).build()));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.collect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongHashIndexTest {
+    @Test
+    public void add_withDuplicateKeys_shouldReturnSameIndex() {
+        final LongHashIndex indexUnderTest = new LongHashIndex(4);
+
+        assertAll(
+                () -> assertEquals(0, indexUnderTest.add(5L)),
+                () -> assertEquals(1, indexUnderTest.add(-7L)),
+                () -> assertEquals(0, indexUnderTest.add(5L)),
+                () -> assertEquals(1, indexUnderTest.indexOf(-7L)),
+                () -> assertEquals(LongHashIndex.NOT_FOUND, indexUnderTest.indexOf(6L)),
+                () -> assertEquals(5L, indexUnderTest.getKey(0)),
+                () -> assertEquals(2, indexUnderTest.size()));
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_shouldGrowAndRetainIndexes() {
+        final LongHashIndex indexUnderTest = new LongHashIndex(1);
+        IntStream.range(0, 1000).forEach(i -> indexUnderTest.add(i * 31L));
+
+        assertAll(
+                () -> assertEquals(1000, indexUnderTest.size()),
+                () -> assertTrue(indexUnderTest.getTableCapacity() >= 2000),
+                () -> assertTrue(IntStream.range(0, 1000).allMatch(i -> indexUnderTest.indexOf(i * 31L) == i
+                        && indexUnderTest.getKey(i) == i * 31L)));
+    }
+
+    @Test
+    public void getKey_withInvalidIndex_shouldThrowException() {
+        final LongHashIndex indexUnderTest = new LongHashIndex(4);
+        indexUnderTest.add(1L);
+
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> indexUnderTest.getKey(1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> indexUnderTest.getKey(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new LongHashIndex(0)));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.collect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongHashSetTest {
+    @Test
+    public void add_withDuplicateIds_shouldOnlyAddOnce() {
+        final LongHashSet setUnderTest = new LongHashSet();
+
+        assertAll(
+                () -> assertTrue(setUnderTest.add(5L)),
+                () -> assertFalse(setUnderTest.add(5L)),
+                () -> assertTrue(setUnderTest.contains(5L)),
+                () -> assertFalse(setUnderTest.contains(6L)),
+                () -> assertEquals(1, setUnderTest.getSize()));
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_shouldGrowAndRetainIds() {
+        final LongHashSet setUnderTest = new LongHashSet(2);
+        LongStream.rangeClosed(1L, 1000L).forEach(id -> setUnderTest.add(id * 31L));
+
+        final long[] actual = setUnderTest.toArray();
+        Arrays.sort(actual);
+
+        assertAll(
+                () -> assertEquals(1000, setUnderTest.getSize()),
+                () -> assertTrue(setUnderTest.getTableCapacity() >= 2000),
+                () -> assertArrayEquals(LongStream.rangeClosed(1L, 1000L).map(id -> id * 31L).toArray(), actual));
+    }
+
+    @Test
+    public void add_withInvalidId_shouldThrowException() {
+        final LongHashSet setUnderTest = new LongHashSet();
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> setUnderTest.add(0L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new LongHashSet(0)),
+                () -> assertFalse(setUnderTest.contains(0L)),
+                () -> assertTrue(setUnderTest.isEmpty()));
+    }
+}
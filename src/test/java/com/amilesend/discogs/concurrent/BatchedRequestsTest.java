@@ -0,0 +1,62 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchedRequestsTest {
+    private final BulkExecutor bulkExecutor = newBulkExecutor(1);
+
+    @Test
+    @SneakyThrows
+    public void execute_withFailuresAndNullResults_shouldPassOnlySuccessfulResults() {
+        final BatchedRequests requestsUnderTest = new BatchedRequests(bulkExecutor, 2);
+        final List<Integer> items = IntStream.rangeClosed(1, 5).boxed().collect(Collectors.toList());
+        final List<String> actual = new ArrayList<>();
+
+        requestsUnderTest.execute(items, item -> {
+            if (item == 2) {
+                throw new IllegalStateException("Exception");
+            }
+            return item == 3 ? null : "result" + item;
+        }, (item, result) -> actual.add(item + "=" + result));
+
+        assertAll(
+                () -> assertEquals(Set.of("1=result1", "4=result4", "5=result5"), Set.copyOf(actual)),
+                () -> assertEquals(3, actual.size()),
+                () -> assertEquals(5, requestsUnderTest.getRequestCount()),
+                () -> assertEquals(1, requestsUnderTest.getFailedRequestCount()));
+    }
+
+    @Test
+    public void ctor_withInvalidBatchSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchedRequests(bulkExecutor, 0));
+    }
+}
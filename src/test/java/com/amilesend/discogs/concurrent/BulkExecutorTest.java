@@ -0,0 +1,175 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkExecutorTest {
+    private RateLimiter mockRateLimiter;
+    private BulkExecutor executorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockRateLimiter = mock(RateLimiter.class);
+        executorUnderTest = BulkExecutor.builder()
+                .rateLimiter(mockRateLimiter)
+                .concurrency(3)
+                .maxAttempts(3)
+                .initialBackoffMillis(0L)
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withItems_shouldReturnResultsInOrder() {
+        final List<BulkItemResult<Integer, Integer>> notified = new ArrayList<>();
+
+        final List<BulkItemResult<Integer, Integer>> actual =
+                executorUnderTest.execute(List.of(1, 2, 3, 4, 5), i -> i * 10, notified::add);
+
+        assertAll(
+                () -> assertEquals(List.of(10, 20, 30, 40, 50),
+                        actual.stream().map(BulkItemResult::getResult).collect(Collectors.toList())),
+                () -> assertTrue(actual.stream().allMatch(BulkItemResult::isSuccessful)),
+                () -> assertEquals(5, notified.size()),
+                () -> verify(mockRateLimiter, times(5)).acquire());
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withTransientFailure_shouldRetry() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final List<BulkItemResult<Integer, Integer>> actual = executorUnderTest.execute(List.of(1), i -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new RequestException("Exception");
+            }
+            return i;
+        }, null);
+
+        assertAll(
+                () -> assertEquals(BulkItemResult.Status.SUCCEEDED, actual.get(0).getStatus()),
+                () -> assertEquals(3, actual.get(0).getAttempts()),
+                () -> verify(mockRateLimiter, times(3)).acquire());
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withNonRetryableFailure_shouldRecordFailure() {
+        final List<BulkItemResult<Integer, Integer>> actual = executorUnderTest.execute(List.of(1, 2), i -> {
+            if (i == 1) {
+                throw new IllegalArgumentException("Exception");
+            }
+            return i;
+        }, null);
+
+        assertAll(
+                () -> assertEquals(BulkItemResult.Status.FAILED, actual.get(0).getStatus()),
+                () -> assertEquals(1, actual.get(0).getAttempts()),
+                () -> assertEquals("Exception", actual.get(0).getErrorMessage()),
+                () -> assertEquals(BulkItemResult.Status.SUCCEEDED, actual.get(1).getStatus()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withExhaustedAttempts_shouldRecordFailure() {
+        final List<BulkItemResult<Integer, Integer>> actual = executorUnderTest.execute(List.of(1), i -> {
+            throw new RequestException("Exception");
+        }, null);
+
+        assertAll(
+                () -> assertEquals(BulkItemResult.Status.FAILED, actual.get(0).getStatus()),
+                () -> assertEquals(3, actual.get(0).getAttempts()));
+    }
+
+    @Test
+    public void execute_withListenerException_shouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> executorUnderTest.execute(List.of(1), i -> i, r -> {
+            throw new IllegalStateException("Exception");
+        }));
+    }
+
+    @Test
+    public void isRetryable_withErrors_shouldReturnExpectedValues() {
+        final ResponseException mockThrottled = mock(ResponseException.class);
+        when(mockThrottled.getCode()).thenReturn(429);
+        final ResponseException mockNotFound = mock(ResponseException.class);
+        when(mockNotFound.getCode()).thenReturn(404);
+
+        assertAll(
+                () -> assertTrue(BulkExecutor.isRetryable(mockThrottled)),
+                () -> assertFalse(BulkExecutor.isRetryable(mockNotFound)),
+                () -> assertTrue(BulkExecutor.isRetryable(new RequestException("Exception"))),
+                () -> assertFalse(BulkExecutor.isRetryable(new IllegalStateException("Exception"))));
+    }
+
+    @Test
+    public void isRejected_withErrors_shouldOnlyAcceptThrottledRequests() {
+        final ResponseException mockThrottled = mock(ResponseException.class);
+        when(mockThrottled.getCode()).thenReturn(429);
+        final ResponseException mockServerError = mock(ResponseException.class);
+        when(mockServerError.getCode()).thenReturn(503);
+
+        assertAll(
+                () -> assertTrue(BulkExecutor.isRejected(mockThrottled)),
+                () -> assertFalse(BulkExecutor.isRejected(mockServerError)),
+                () -> assertFalse(BulkExecutor.isRejected(new RequestException("Exception"))));
+    }
+
+    @Test
+    public void getBackoffMillis_withAttempts_shouldGrowExponentially() {
+        final BulkExecutor executor = BulkExecutor.builder().initialBackoffMillis(100L).build();
+
+        final long first = executor.getBackoffMillis(1);
+        final long third = executor.getBackoffMillis(3);
+
+        assertAll(
+                () -> assertTrue(first >= 100L && first <= 120L),
+                () -> assertTrue(third >= 400L && third <= 480L));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BulkExecutor.builder().concurrency(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BulkExecutor.builder().maxAttempts(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BulkExecutor.builder().initialBackoffMillis(-1L).build()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CheckpointTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void markCompleted_withIds_shouldPersistForNextRun() {
+        final Path file = tempDir.resolve("job.checkpoint");
+        try (final Checkpoint checkpoint = Checkpoint.open(file)) {
+            checkpoint.markCompleted("A");
+            checkpoint.markCompleted("B");
+            checkpoint.markCompleted("A");
+        }
+
+        try (final Checkpoint actual = Checkpoint.open(file)) {
+            assertAll(
+                    () -> assertEquals(2, actual.size()),
+                    () -> assertTrue(actual.isCompleted("A")),
+                    () -> assertTrue(actual.isCompleted("B")),
+                    () -> assertFalse(actual.isCompleted("C")),
+                    () -> assertEquals("A\nB\n", Files.readString(file)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withPartialLastLine_shouldIgnorePartialLine() {
+        final Path file = Files.writeString(tempDir.resolve("job.checkpoint"), "A\nB");
+
+        try (final Checkpoint actual = Checkpoint.open(file)) {
+            actual.markCompleted("C");
+
+            assertAll(
+                    () -> assertTrue(actual.isCompleted("A")),
+                    () -> assertFalse(actual.isCompleted("B")),
+                    () -> assertEquals("A\nC\n", Files.readString(file)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void delete_shouldRemoveFile() {
+        final Path file = tempDir.resolve("nested").resolve("job.checkpoint");
+        final Checkpoint checkpoint = Checkpoint.open(file);
+        checkpoint.markCompleted("A");
+
+        checkpoint.delete();
+
+        assertAll(
+                () -> assertFalse(Files.exists(file)),
+                () -> assertThrows(IllegalArgumentException.class, () -> checkpoint.markCompleted("B")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void markCompleted_withInvalidId_shouldThrowException() {
+        try (final Checkpoint checkpoint = Checkpoint.open(tempDir.resolve("job.checkpoint"))) {
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> checkpoint.markCompleted(" ")),
+                    () -> assertThrows(IllegalArgumentException.class, () -> checkpoint.markCompleted("A\nB")));
+        }
+    }
+
+    @Test
+    public void toId_withValues_shouldReturnStableDigest() {
+        final String expected = Checkpoint.toId("item:1", BulkItemResult.Status.SUCCEEDED, 1L, null);
+
+        assertAll(
+                () -> assertTrue(expected.matches("item:1#[0-9a-f]{64}")),
+                () -> assertEquals(expected, Checkpoint.toId("item:1", "SUCCEEDED", 1L, null)),
+                () -> assertNotEquals(expected, Checkpoint.toId("item:1", BulkItemResult.Status.SUCCEEDED, 1L, "null")),
+                () -> assertNotEquals(Checkpoint.toId("item:1", "ab", "c"), Checkpoint.toId("item:1", "a", "bc")));
+    }
+}
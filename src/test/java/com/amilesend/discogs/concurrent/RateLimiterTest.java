@@ -0,0 +1,95 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.concurrent;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterTest {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void reserve_withNoBurst_shouldSpacePermitsEvenly() {
+        final RateLimiter limiterUnderTest = new RateLimiter(60, 1, now::get);
+
+        assertAll(
+                () -> assertEquals(0L, limiterUnderTest.reserve()),
+                () -> assertEquals(ONE_SECOND, limiterUnderTest.reserve()),
+                () -> assertEquals(2 * ONE_SECOND, limiterUnderTest.reserve()));
+    }
+
+    @Test
+    public void reserve_afterIdle_shouldAllowBurstOnly() {
+        final RateLimiter limiterUnderTest = new RateLimiter(60, 3, now::get);
+        limiterUnderTest.reserve();
+        limiterUnderTest.reserve();
+        limiterUnderTest.reserve();
+
+        now.addAndGet(60 * ONE_SECOND);
+
+        assertAll(
+                () -> assertEquals(0L, limiterUnderTest.reserve()),
+                () -> assertEquals(0L, limiterUnderTest.reserve()),
+                () -> assertEquals(0L, limiterUnderTest.reserve()),
+                () -> assertEquals(ONE_SECOND, limiterUnderTest.reserve()));
+    }
+
+    @Test
+    public void tryAcquire_withNoPermits_shouldReturnFalse() {
+        final RateLimiter limiterUnderTest = new RateLimiter(60, 1, now::get);
+
+        assertAll(
+                () -> assertTrue(limiterUnderTest.tryAcquire()),
+                () -> assertFalse(limiterUnderTest.tryAcquire()));
+
+        now.addAndGet(ONE_SECOND);
+        assertTrue(limiterUnderTest.tryAcquire());
+    }
+
+    @Test
+    @SneakyThrows
+    public void acquire_withExhaustedPermits_shouldWaitForNextPermit() {
+        final RateLimiter limiterUnderTest = RateLimiter.builder().permitsPerMinute(600).build();
+
+        final long start = System.nanoTime();
+        limiterUnderTest.acquire();
+        limiterUnderTest.acquire();
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90L));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RateLimiter.builder().permitsPerMinute(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RateLimiter.builder().burst(0).build()));
+    }
+}
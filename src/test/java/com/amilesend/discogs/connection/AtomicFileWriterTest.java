@@ -0,0 +1,79 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AtomicFileWriterTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void write_withExistingFile_shouldReplaceContents() {
+        final Path file = Files.writeString(tempDir.resolve("state.properties"), "previous");
+
+        AtomicFileWriter.write(file, out -> {
+            try (final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                writer.write("current");
+            }
+        });
+
+        assertAll(
+                () -> assertEquals("current", Files.readString(file)),
+                () -> assertFalse(Files.exists(tempDir.resolve("state.properties.tmp"))));
+    }
+
+    @Test
+    @SneakyThrows
+    public void write_withFailedContentWriter_shouldKeepPreviousContents() {
+        final Path file = Files.writeString(tempDir.resolve("state.properties"), "previous");
+
+        final IOException thrown = assertThrows(IOException.class, () -> AtomicFileWriter.write(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Exception");
+        }));
+
+        assertAll(
+                () -> assertEquals("Exception", thrown.getMessage()),
+                () -> assertEquals("previous", Files.readString(file)),
+                () -> assertFalse(Files.exists(tempDir.resolve("state.properties.tmp"))));
+    }
+
+    @Test
+    public void write_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> AtomicFileWriter.write(null, out -> { })),
+                () -> assertThrows(NullPointerException.class,
+                        () -> AtomicFileWriter.write(tempDir.resolve("file"), null)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import com.amilesend.client.connection.file.TransferFileWriter;
+import com.amilesend.discogs.FunctionalTestBase.NoOpTransferProgressCallback;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares download write throughput of {@link TransferFileWriter} and {@link ChannelTransferFileWriter} for
+ * large payloads. Disabled by default; run with {@code mvn test -Dtest=ChannelTransferFileWriterBenchmarkTest
+ * -Ddiscogs.benchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "discogs.benchmark", matches = "true")
+public class ChannelTransferFileWriterBenchmarkTest {
+    private static final int PAYLOAD_SIZE_BYTES = 128 * 1024 * 1024;
+    private static final int CHUNK_SIZE_BYTES = 1024 * 1024;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void write_withLargePayload_shouldReportThroughput() {
+        final byte[] chunk = new byte[CHUNK_SIZE_BYTES];
+        new Random(42L).nextBytes(chunk);
+        final Path output = tempDir.resolve("benchmark.csv");
+
+        final ChannelTransferFileWriter channelWriter = ChannelTransferFileWriter.builder()
+                .isPreallocationEnabled(true)
+                .build();
+        final double transferFileWriterMillis = measure(payload -> TransferFileWriter.builder()
+                .output(output)
+                .callback(new NoOpTransferProgressCallback())
+                .build()
+                .write(payload, PAYLOAD_SIZE_BYTES), chunk, output);
+        final double channelWriterMillis = measure(payload -> channelWriter.write(
+                payload,
+                output,
+                PAYLOAD_SIZE_BYTES,
+                new NoOpTransferProgressCallback()), chunk, output);
+
+        log.info("TransferFileWriter: {} ms ({} MiB/s)", String.format("%.1f", transferFileWriterMillis),
+                String.format("%.1f", toMibPerSecond(transferFileWriterMillis)));
+        log.info("ChannelTransferFileWriter: {} ms ({} MiB/s)", String.format("%.1f", channelWriterMillis),
+                String.format("%.1f", toMibPerSecond(channelWriterMillis)));
+    }
+
+    private static Buffer newPayload(final byte[] chunk) {
+        final Buffer payload = new Buffer();
+        for (int i = 0; i < PAYLOAD_SIZE_BYTES / chunk.length; ++i) {
+            payload.write(chunk);
+        }
+
+        return payload;
+    }
+
+    @SneakyThrows
+    private static double measure(final WriteOperation operation, final byte[] chunk, final Path output) {
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            operation.write(newPayload(chunk));
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            // Build the payload outside of the timed region so that only the write is measured
+            final Buffer payload = newPayload(chunk);
+            final long start = System.nanoTime();
+            final long bytesWritten = operation.write(payload);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            assertEquals(PAYLOAD_SIZE_BYTES, bytesWritten);
+            assertEquals(PAYLOAD_SIZE_BYTES, Files.size(output));
+        }
+
+        return bestNanos / 1_000_000.0D;
+    }
+
+    private static double toMibPerSecond(final double millis) {
+        return (PAYLOAD_SIZE_BYTES / (1024.0D * 1024.0D)) / (millis / 1000.0D);
+    }
+
+    @FunctionalInterface
+    private interface WriteOperation {
+        long write(Buffer payload) throws Exception;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.SneakyThrows;
+import okio.Buffer;
+import okio.BufferedSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChannelTransferFileWriterTest {
+    private static final int CONTENT_SIZE = 64 * 1024;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void write_withValidSource_shouldWriteContentAndReportProgressAtInterval() {
+        final byte[] content = newContent(CONTENT_SIZE);
+        final Path output = tempDir.resolve("output.csv");
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        final ChannelTransferFileWriter writerUnderTest = ChannelTransferFileWriter.builder()
+                .bufferSizeBytes(1024)
+                .progressIntervalBytes(16L * 1024L)
+                .build();
+
+        final long actual = writerUnderTest.write(new Buffer().write(content), output, CONTENT_SIZE, mockCallback);
+
+        assertAll(
+                () -> assertEquals(CONTENT_SIZE, actual),
+                () -> assertArrayEquals(content, Files.readAllBytes(output)),
+                // 4 interval updates plus the final update
+                () -> verify(mockCallback, times(5)).onUpdate(anyLong(), eq((long) CONTENT_SIZE)),
+                () -> verify(mockCallback).onComplete(CONTENT_SIZE),
+                () -> verify(mockCallback, never()).onFailure(any(Throwable.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void write_withPreallocationAndShortSource_shouldTruncateToBytesWritten() {
+        final byte[] content = newContent(CONTENT_SIZE);
+        final Path output = tempDir.resolve("output.csv");
+        Files.write(output, newContent(CONTENT_SIZE * 2));
+        final ChannelTransferFileWriter writerUnderTest = ChannelTransferFileWriter.builder()
+                .isPreallocationEnabled(true)
+                .build();
+
+        final long actual = writerUnderTest.write(
+                new Buffer().write(content),
+                output,
+                CONTENT_SIZE * 4L,
+                mock(TransferProgressCallback.class));
+
+        assertAll(
+                () -> assertEquals(CONTENT_SIZE, actual),
+                () -> assertEquals(CONTENT_SIZE, Files.size(output)),
+                () -> assertArrayEquals(content, Files.readAllBytes(output)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void write_withIOException_shouldNotifyCallbackAndThrowException() {
+        final BufferedSource mockSource = mock(BufferedSource.class);
+        when(mockSource.read(any(ByteBuffer.class))).thenThrow(new IOException("Exception"));
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertThrows(IOException.class, () -> ChannelTransferFileWriter.builder().build()
+                .write(mockSource, tempDir.resolve("output.csv"), CONTENT_SIZE, mockCallback));
+        verify(mockCallback).onFailure(isA(IOException.class));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ChannelTransferFileWriter.builder().bufferSizeBytes(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ChannelTransferFileWriter.builder().progressIntervalBytes(0L).build()));
+    }
+
+    private static byte[] newContent(final int size) {
+        final byte[] content = new byte[size];
+        new Random(42L).nextBytes(content);
+        return content;
+    }
+}
@@ -375,4 +375,49 @@ public class DiscogsConnectionDownloadTest extends DiscogsConnectionTestBase {
                     mock(TransferProgressCallback.class)));
         }
     }
+
+    @Test
+    @SneakyThrows
+    public void processDownloadResponse_withChannelTransferFileWriter_shouldWriteBytesWithChannelWriter() {
+        final ChannelTransferFileWriter mockWriter = mock(ChannelTransferFileWriter.class);
+        when(mockWriter.write(
+                any(BufferedSource.class),
+                any(Path.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(BYTES_TRANSFERRED);
+        final DiscogsConnection connection = DiscogsConnection.builder()
+                .httpClient(mockHttpClient)
+                .gsonFactory(mockGsonFactory)
+                .authManager(mockAuthManager)
+                .baseUrl("http://baseurl")
+                .userAgent(USER_AGENT_VALUE)
+                .channelTransferFileWriter(mockWriter)
+                .build();
+
+        final BufferedSource mockSource = mock(BufferedSource.class);
+        final ResponseBody mockResponseBody = mock(ResponseBody.class);
+        when(mockResponseBody.source()).thenReturn(mockSource);
+        final Response mockResponse = mock(Response.class);
+        when(mockResponse.body()).thenReturn(mockResponseBody);
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        try (final MockedStatic<TransferFileWriter> writerMockedStatic = mockStatic(TransferFileWriter.class)) {
+            final long actual = connection.processDownloadResponse(
+                    mockResponse,
+                    mockPath,
+                    BYTES_TRANSFERRED,
+                    mockCallback);
+
+            assertAll(
+                    () -> assertEquals(BYTES_TRANSFERRED, actual),
+                    () -> verify(mockWriter).write(
+                            eq(mockSource),
+                            eq(mockPath),
+                            eq(BYTES_TRANSFERRED),
+                            eq(mockCallback)),
+                    () -> writerMockedStatic.verify(TransferFileWriter::builder, never()));
+        }
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.connection;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.discogs.FunctionalTestBase;
+import com.amilesend.discogs.model.inventory.type.DownloadInformation;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResumableDownloaderTest extends FunctionalTestBase {
+    private static final String FILE_NAME = "export.csv";
+    private static final String ETAG_VALUE = "\"etag-1\"";
+    private static final int CONTENT_SIZE = 100_000;
+
+    @TempDir
+    private Path tempDir;
+
+    ////////////////////
+    // download
+    ////////////////////
+
+    @Test
+    public void download_withRangeSupportAndSegments_shouldDownloadCompleteFile() {
+        final byte[] content = newContent();
+        final List<String> ranges = setUpRangeDispatcher(content, content.length);
+
+        final DownloadInformation actual = newDownloader(4).download(newRequest(), tempDir, new NoOpTransferProgressCallback());
+
+        assertAll(
+                () -> assertEquals(FILE_NAME, actual.getFileName()),
+                () -> assertEquals(CONTENT_SIZE, actual.getSizeBytes()),
+                () -> assertEquals(CONTENT_SIZE, actual.getDownloadedBytes()),
+                () -> assertArrayEquals(content, Files.readAllBytes(tempDir.resolve(FILE_NAME))),
+                () -> assertEquals(5, ranges.size()),
+                () -> assertEquals(1L, countFiles()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void download_withExistingPartialState_shouldResumeFromRecordedOffset() {
+        final byte[] content = newContent();
+        final List<String> ranges = setUpRangeDispatcher(content, content.length);
+        final Request request = newRequest();
+        final String stateKey = ResumableDownloader.toStateKey(request.url().toString());
+        final Path stateFile = tempDir.resolve(stateKey + ResumableDownloader.STATE_FILE_EXTENSION);
+        final Path partFile = tempDir.resolve(stateKey + ResumableDownloader.PARTIAL_FILE_EXTENSION);
+        final int resumeOffset = CONTENT_SIZE / 2;
+        final DownloadState state = DownloadState.newState(
+                request.url().toString(), FILE_NAME, CONTENT_SIZE, ETAG_VALUE, null, 1);
+        state.getSegments().get(0).setCompletedBytes(resumeOffset);
+        state.save(stateFile);
+        Files.write(partFile, Arrays.copyOf(content, resumeOffset));
+
+        final DownloadInformation actual = newDownloader(1).download(request, tempDir, new NoOpTransferProgressCallback());
+
+        assertAll(
+                () -> assertEquals(CONTENT_SIZE - resumeOffset, actual.getDownloadedBytes()),
+                () -> assertArrayEquals(content, Files.readAllBytes(tempDir.resolve(FILE_NAME))),
+                () -> assertEquals(List.of("bytes=0-0", "bytes=" + resumeOffset + "-" + (CONTENT_SIZE - 1)), ranges),
+                () -> assertFalse(Files.exists(stateFile)),
+                () -> assertFalse(Files.exists(partFile)));
+    }
+
+    @Test
+    public void download_withoutRangeSupport_shouldDownloadInSinglePass() {
+        final byte[] content = newContent();
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .addHeader(DiscogsConnection.CONTENT_DISPOSITION, "attachment; filename=" + FILE_NAME)
+                .body(new Buffer().write(content))
+                .build());
+
+        final DownloadInformation actual = newDownloader(4).download(newRequest(), tempDir, new NoOpTransferProgressCallback());
+
+        assertAll(
+                () -> assertEquals(CONTENT_SIZE, actual.getDownloadedBytes()),
+                () -> assertArrayEquals(content, Files.readAllBytes(tempDir.resolve(FILE_NAME))),
+                () -> assertEquals(1L, countFiles()));
+    }
+
+    @Test
+    public void download_withInterruptedTransfer_shouldThrowExceptionAndKeepStateForResume() {
+        final byte[] content = newContent();
+        setUpRangeDispatcher(content, CONTENT_SIZE * 2L);
+
+        assertThrows(RequestException.class,
+                () -> newDownloader(1).download(newRequest(), tempDir, new NoOpTransferProgressCallback()));
+        assertEquals(2L, countFiles());
+        assertFalse(Files.exists(tempDir.resolve(FILE_NAME)));
+    }
+
+    ////////////////////
+    // parseTotalBytesFromContentRange
+    ////////////////////
+
+    @Test
+    public void parseTotalBytesFromContentRange_withValidValue_shouldReturnTotal() {
+        assertEquals(1234L, ResumableDownloader.parseTotalBytesFromContentRange("bytes 0-0/1234"));
+    }
+
+    @Test
+    public void parseTotalBytesFromContentRange_withInvalidValue_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResumableDownloader.parseTotalBytesFromContentRange("bytes 0-0/*")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResumableDownloader.parseTotalBytesFromContentRange("bytes 0-0")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResumableDownloader.parseTotalBytesFromContentRange(" ")));
+    }
+
+    ////////////////////
+    // builder
+    ////////////////////
+
+    @Test
+    public void builder_withInvalidSegmentCount_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> newDownloader(0));
+    }
+
+    private ResumableDownloader newDownloader(final int segmentCount) {
+        return ResumableDownloader.builder()
+                .connection(getConnection())
+                .segmentCount(segmentCount)
+                .maxAttempts(1)
+                .build();
+    }
+
+    private Request newRequest() {
+        return new Request.Builder()
+                .url(getMockWebServerUrl() + "/inventory/export/1/download")
+                .build();
+    }
+
+    private static byte[] newContent() {
+        final byte[] content = new byte[CONTENT_SIZE];
+        new Random(42L).nextBytes(content);
+        return content;
+    }
+
+    @SneakyThrows
+    private long countFiles() {
+        try (final var files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    private List<String> setUpRangeDispatcher(final byte[] content, final long reportedTotalBytes) {
+        final List<String> ranges = new CopyOnWriteArrayList<>();
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                final String range = request.getHeaders().get(ResumableDownloader.RANGE);
+                ranges.add(range);
+                final String[] bounds = range.substring("bytes=".length()).split("-");
+                final int start = Integer.parseInt(bounds[0]);
+                final int end = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+                return new MockResponse.Builder()
+                        .code(206)
+                        .addHeader(DiscogsConnection.CONTENT_DISPOSITION, "attachment; filename=" + FILE_NAME)
+                        .addHeader(ResumableDownloader.ETAG, ETAG_VALUE)
+                        .addHeader(ResumableDownloader.CONTENT_RANGE,
+                                "bytes " + start + "-" + end + "/" + reportedTotalBytes)
+                        .body(new Buffer().write(Arrays.copyOfRange(content, start, end + 1)))
+                        .build();
+            }
+        });
+
+        return ranges;
+    }
+}
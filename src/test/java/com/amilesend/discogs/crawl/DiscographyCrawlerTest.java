@@ -0,0 +1,196 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.GetArtistReleasesRequest;
+import com.amilesend.discogs.model.database.GetArtistReleasesResponse;
+import com.amilesend.discogs.model.database.GetMasterReleaseVersionsRequest;
+import com.amilesend.discogs.model.database.GetMasterReleaseVersionsResponse;
+import com.amilesend.discogs.model.database.GetReleaseRequest;
+import com.amilesend.discogs.model.database.GetReleaseResponse;
+import com.amilesend.discogs.model.database.type.MasterReleaseVersion;
+import com.amilesend.discogs.model.type.Artist;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DiscographyCrawlerTest {
+    private DatabaseApi mockApi;
+    private List<Long> releaseIds;
+    private List<Integer> depths;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        releaseIds = new ArrayList<>();
+        depths = new ArrayList<>();
+        when(mockApi.getRelease(any(GetReleaseRequest.class))).thenAnswer(invocation -> {
+            final long releaseId = invocation.getArgument(0, GetReleaseRequest.class).getReleaseId();
+            return newRelease(releaseId, releaseId == 11L ? List.of(2L, 194L) : List.of(1L));
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withMastersAndPages_shouldFetchEachReleaseOnce() {
+        mockArtistReleases(1L, 1, 2, List.of(newArtistRelease(10L, "release"), newArtistRelease(100L, "master")));
+        mockArtistReleases(1L, 2, 2, List.of(newArtistRelease(11L, "release")));
+        mockMasterVersions(100L, List.of(10L, 12L));
+
+        final DiscographyCrawlSummary actual = newCrawler(0).crawl(1L, (release, depth) -> {
+            releaseIds.add(release.getId());
+            depths.add(depth);
+        });
+
+        assertAll(
+                () -> assertEquals(Set.of(10L, 11L, 12L), Set.copyOf(releaseIds)),
+                () -> assertEquals(3, releaseIds.size()),
+                () -> assertEquals(Set.of(0), Set.copyOf(depths)),
+                () -> assertEquals(1, actual.getArtistCount()),
+                () -> assertEquals(1, actual.getMasterCount()),
+                () -> assertEquals(3, actual.getReleaseCount()),
+                () -> assertEquals(6, actual.getRequestCount()),
+                () -> assertEquals(0, actual.getFailedRequestCount()),
+                () -> verify(mockApi, times(3)).getRelease(any(GetReleaseRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withMaxDepth_shouldCrawlCreditedArtistsExceptVarious() {
+        mockArtistReleases(1L, 1, 1, List.of(newArtistRelease(11L, "release")));
+        mockArtistReleases(2L, 1, 1, List.of(newArtistRelease(11L, "release"), newArtistRelease(20L, "release")));
+
+        final DiscographyCrawlSummary actual = newCrawler(1).crawl(1L, (release, depth) -> {
+            releaseIds.add(release.getId());
+            depths.add(depth);
+        });
+
+        assertAll(
+                () -> assertEquals(List.of(11L, 20L), releaseIds),
+                () -> assertEquals(List.of(0, 1), depths),
+                () -> assertEquals(2, actual.getArtistCount()),
+                () -> verify(mockApi, times(2)).getArtistReleases(any(GetArtistReleasesRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withFailedRequest_shouldCountFailureAndContinue() {
+        mockArtistReleases(1L, 1, 1, List.of(newArtistRelease(100L, "master"), newArtistRelease(10L, "release")));
+        when(mockApi.getMasterReleaseVersions(any(GetMasterReleaseVersionsRequest.class)))
+                .thenThrow(new ResponseException("Not found"));
+
+        final DiscographyCrawlSummary actual = newCrawler(0).crawl(1L, (release, depth) -> {
+            releaseIds.add(release.getId());
+        });
+
+        assertAll(
+                () -> assertEquals(List.of(10L), releaseIds),
+                () -> assertEquals(1, actual.getFailedRequestCount()));
+    }
+
+    @Test
+    public void crawl_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> newCrawler(0).crawl(0L, (release, depth) -> {})),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> DiscographyCrawler.builder().databaseApi(mockApi).maxDepth(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> DiscographyCrawler.builder().databaseApi(mockApi).pageSize(101).build()));
+    }
+
+    private DiscographyCrawler newCrawler(final int maxDepth) {
+        return DiscographyCrawler.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(BulkExecutor.builder()
+                        .rateLimiter(mock(RateLimiter.class))
+                        .maxAttempts(1)
+                        .concurrency(1)
+                        .build())
+                .maxDepth(maxDepth)
+                .batchSize(2)
+                .build();
+    }
+
+    private void mockArtistReleases(
+            final long artistId,
+            final int page,
+            final int pages,
+            final List<GetArtistReleasesResponse.ArtistRelease> releases) {
+        when(mockApi.getArtistReleases(argThat(r -> r != null && r.getArtistId() == artistId
+                && Integer.valueOf(page).equals(r.getPage()))))
+                .thenReturn(GetArtistReleasesResponse.builder()
+                        .releases(releases)
+                        .pagination(newPagination(pages))
+                        .build());
+    }
+
+    private void mockMasterVersions(final long masterId, final List<Long> versionIds) {
+        when(mockApi.getMasterReleaseVersions(argThat(r -> r != null && r.getMasterId() == masterId)))
+                .thenReturn(GetMasterReleaseVersionsResponse.builder()
+                        .versions(versionIds.stream()
+                                .map(id -> MasterReleaseVersion.builder().id(id).build())
+                                .collect(Collectors.toList()))
+                        .pagination(newPagination(1))
+                        .build());
+    }
+
+    private static PaginatedResponseBase.Pagination newPagination(final int pages) {
+        return PaginatedResponseBase.Pagination.builder()
+                .pages(pages)
+                .urls(Map.of())
+                .build();
+    }
+
+    private static GetArtistReleasesResponse.ArtistRelease newArtistRelease(final long id, final String type) {
+        return GetArtistReleasesResponse.ArtistRelease.builder()
+                .id(id)
+                .type(type)
+                .build();
+    }
+
+    private static GetReleaseResponse newRelease(final long releaseId, final List<Long> artistIds) {
+        return GetReleaseResponse.builder()
+                .id(releaseId)
+                .artists(artistIds.stream()
+                        .map(id -> Artist.builder().id(id).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.crawl;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.GetLabelReleasesRequest;
+import com.amilesend.discogs.model.database.GetLabelReleasesResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LabelCatalogCrawlerTest {
+    private static final long LABEL_ID = 7L;
+
+    @TempDir
+    private Path tempDir;
+    private DatabaseApi mockApi;
+    private LabelCatalogStore store;
+    private Map<Integer, List<GetLabelReleasesResponse.LabelRelease>> catalog;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        store = new LabelCatalogStore(tempDir);
+        catalog = new HashMap<>();
+        catalog.put(1, List.of(newRelease(1L, "CAT-1", 1990), newRelease(2L, null, null)));
+        catalog.put(2, List.of(newRelease(3L, "CAT-3", 1992)));
+        when(mockApi.getLabelReleases(any(GetLabelReleasesRequest.class))).thenAnswer(invocation -> {
+            final GetLabelReleasesRequest request = invocation.getArgument(0);
+            if (!catalog.containsKey(request.getPage())) {
+                throw new ResponseException("Not found");
+            }
+            return GetLabelReleasesResponse.builder()
+                    .releases(catalog.get(request.getPage()))
+                    .pagination(PaginatedResponseBase.Pagination.builder()
+                            .pages(catalog.size())
+                            .items(catalog.values().stream().mapToInt(List::size).sum())
+                            .build())
+                    .build();
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void refresh_withoutSnapshot_shouldFetchAllPagesAndSaveSnapshot() {
+        final LabelCatalogRefreshResult actual = newCrawler(true).refresh(LABEL_ID);
+
+        final LabelCatalogSnapshot snapshot = store.get(LABEL_ID);
+        assertAll(
+                () -> assertEquals(List.of(1, 2), actual.getChangedPages()),
+                () -> assertEquals(3, actual.getItemCount()),
+                () -> assertEquals(3, actual.getAddedCount()),
+                () -> assertEquals(2, actual.getRequestCount()),
+                () -> assertEquals(3, snapshot.size()),
+                () -> assertEquals(2, snapshot.getPageCount()),
+                () -> assertEquals("CAT-3", snapshot.getCatalogNumber(2)),
+                () -> assertNull(snapshot.getCatalogNumber(1)),
+                () -> assertEquals(LabelCatalogSnapshot.NO_YEAR, snapshot.getYear(1)),
+                () -> assertEquals(1992, snapshot.getYear(2)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void refresh_withUnchangedCatalogAndQuickCheck_shouldOnlyFetchFirstPage() {
+        newCrawler(true).refresh(LABEL_ID);
+        clearInvocations(mockApi);
+
+        final LabelCatalogRefreshResult actual = newCrawler(true).refresh(LABEL_ID);
+
+        assertAll(
+                () -> assertFalse(actual.isChanged()),
+                () -> assertEquals(1, actual.getRequestCount()),
+                () -> verify(mockApi, times(1)).getLabelReleases(any(GetLabelReleasesRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void refresh_withUnchangedCatalogAndDefaultSettings_shouldFetchEveryPage() {
+        final LabelCatalogCrawler crawlerUnderTest = LabelCatalogCrawler.builder()
+                .databaseApi(mockApi)
+                .store(store)
+                .bulkExecutor(newBulkExecutor(1))
+                .build();
+        crawlerUnderTest.refresh(LABEL_ID);
+        clearInvocations(mockApi);
+
+        final LabelCatalogRefreshResult actual = crawlerUnderTest.refresh(LABEL_ID);
+
+        assertAll(
+                () -> assertFalse(crawlerUnderTest.isQuickCheck()),
+                () -> assertFalse(actual.isChanged()),
+                () -> assertEquals(2, actual.getRequestCount()),
+                () -> verify(mockApi, times(2)).getLabelReleases(any(GetLabelReleasesRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void refresh_withChangedPage_shouldReportChangedPageAndDiff() {
+        newCrawler(false).refresh(LABEL_ID);
+        catalog.put(2, List.of(newRelease(4L, "CAT-4", 1993)));
+
+        final LabelCatalogRefreshResult actual = newCrawler(false).refresh(LABEL_ID);
+
+        assertAll(
+                () -> assertTrue(actual.isChanged()),
+                () -> assertEquals(List.of(2), actual.getChangedPages()),
+                () -> assertEquals(1, actual.getAddedCount()),
+                () -> assertEquals(1, actual.getRemovedCount()),
+                () -> assertEquals(4L, store.get(LABEL_ID).getReleaseId(2)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void refresh_withFailedPage_shouldNotSaveSnapshot() {
+        // Reports two pages where the second page is not available
+        catalog.put(3, List.of());
+        catalog.remove(2);
+
+        final LabelCatalogRefreshResult actual = newCrawler(true).refresh(LABEL_ID);
+
+        assertAll(
+                () -> assertEquals(1, actual.getFailedPageCount()),
+                () -> assertNull(store.get(LABEL_ID)));
+    }
+
+    @Test
+    public void refresh_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> newCrawler(true).refresh(0L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> LabelCatalogCrawler.builder()
+                        .databaseApi(mockApi)
+                        .store(store)
+                        .pageSize(0)
+                        .build()));
+    }
+
+    private LabelCatalogCrawler newCrawler(final boolean quickCheck) {
+        return LabelCatalogCrawler.builder()
+                .databaseApi(mockApi)
+                .store(store)
+                .bulkExecutor(newBulkExecutor(1))
+                .quickCheck(quickCheck)
+                .build();
+    }
+
+    private static GetLabelReleasesResponse.LabelRelease newRelease(
+            final long releaseId,
+            final String catalogNumber,
+            final Integer year) {
+        return GetLabelReleasesResponse.LabelRelease.builder()
+                .id(releaseId)
+                .catalogNumber(catalogNumber)
+                .year(year)
+                .build();
+    }
+}
@@ -19,13 +19,16 @@ package com.amilesend.discogs.csv;
 
 import com.amilesend.discogs.csv.type.InventoryHeader;
 import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.csv.type.InventoryRecordBatch;
 import com.amilesend.discogs.csv.type.InventoryRecordType;
 import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.type.Condition;
 import lombok.SneakyThrows;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,6 +37,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -45,10 +49,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +102,8 @@ public class InventoryCsvWriterTest {
     @Test
     @SneakyThrows
     public void builder_withOverwrite_shouldReturnWriter() {
+        final Path mockParentPath = mock(Path.class);
+        when(mockCsvFilePath.getParent()).thenReturn(mockParentPath);
         try (final MockedStatic<Files> filesMockedStatic = mockStatic(Files.class)) {
             filesMockedStatic.when(() -> Files.createFile(any(Path.class))).thenReturn(mockCsvFilePath);
 
@@ -108,7 +117,7 @@ public class InventoryCsvWriterTest {
 
             assertAll(
                     () -> filesMockedStatic.verify(() -> Files.deleteIfExists(eq(mockCsvFilePath))),
-                    () -> filesMockedStatic.verify(() -> Files.createDirectories(eq(mockCsvFilePath))),
+                    () -> filesMockedStatic.verify(() -> Files.createDirectories(eq(mockParentPath))),
                     () -> filesMockedStatic.verify(() -> Files.createFile(eq(mockCsvFilePath))),
                     () -> assertEquals(mockPrinter, actual.getCsvPrinter()),
                     () -> assertEquals(InventoryRecordType.NEW, actual.getRecordType()),
@@ -280,6 +289,179 @@ public class InventoryCsvWriterTest {
         assertThrows(NullPointerException.class, () -> writerUnderTest.write(null));
     }
 
+    /////////////
+    // writeAll
+    /////////////
+
+    @Test
+    @SneakyThrows
+    public void writeAll_withSyncMode_shouldPrintAllRecords() {
+        writerUnderTest = setUpWriterForAppend(mockCsvFilePath, mockPrinter);
+        final List<String> csvRecordValue = List.of("Value1", "Value2", "Value3");
+        final InventoryRecord mockRecord = mock(InventoryRecord.class);
+        when(mockRecord.toCsvRow(anyList(), any(InventoryRecordType.class))).thenReturn(csvRecordValue);
+
+        final long actual = writerUnderTest.writeAll(List.of(mockRecord, mockRecord));
+
+        assertAll(
+                () -> assertEquals(2L, actual),
+                () -> verify(mockPrinter, times(2)).printRecord(eq(csvRecordValue)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void writeAll_withAsyncMode_shouldWriteRecordsInOrder(@TempDir final Path tempDir) {
+        final Path csvFile = Files.createFile(tempDir.resolve("inventory.csv"));
+        final List<InventoryRecord> records = new ArrayList<>();
+        for (int i = 1; i <= 500; ++i) {
+            records.add(newRecord(i));
+        }
+
+        final long actual;
+        try (final InventoryCsvWriter writer = newAsyncWriter(csvFile)) {
+            actual = writer.writeAll(records);
+        }
+
+        final List<String> lines = Files.readAllLines(csvFile);
+        assertAll(
+                () -> assertEquals(500L, actual),
+                () -> assertEquals(501, lines.size()),
+                () -> assertEquals("release_id,price,media_condition", lines.get(0)),
+                () -> assertEquals("1,9.99,Mint (M)", lines.get(1)),
+                () -> assertEquals("500,9.99,Mint (M)", lines.get(500)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void writeAll_withAsyncModeAndInvalidRecord_shouldWritePrecedingRecordsAndThrowException(
+            @TempDir final Path tempDir) {
+        final Path csvFile = Files.createFile(tempDir.resolve("inventory.csv"));
+        final List<InventoryRecord> records = new ArrayList<>();
+        for (int i = 1; i <= 100; ++i) {
+            records.add(i == 50 ? InventoryRecord.builder().releaseId(i).build() : newRecord(i));
+        }
+
+        try (final InventoryCsvWriter writer = newAsyncWriter(csvFile)) {
+            assertThrows(ValidationException.class, () -> writer.writeAll(records));
+        }
+
+        final List<String> lines = Files.readAllLines(csvFile);
+        assertAll(
+                () -> assertEquals(50, lines.size()),
+                () -> assertEquals("49,9.99,Mint (M)", lines.get(49)));
+    }
+
+    @Test
+    public void builder_withInvalidAsyncParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InventoryCsvWriter.builder()
+                                .csvFile(mockCsvFilePath)
+                                .headers(NEW_MIN_HEADERS)
+                                .recordType(InventoryRecordType.NEW)
+                                .workerCount(0)
+                                .build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InventoryCsvWriter.builder()
+                                .csvFile(mockCsvFilePath)
+                                .headers(NEW_MIN_HEADERS)
+                                .recordType(InventoryRecordType.NEW)
+                                .queueCapacity(0)
+                                .build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InventoryCsvWriter.builder()
+                                .csvFile(mockCsvFilePath)
+                                .headers(NEW_MIN_HEADERS)
+                                .recordType(InventoryRecordType.NEW)
+                                .bufferSizeBytes(0)
+                                .build()));
+    }
+
+    ///////////////
+    // writeBatch
+    ///////////////
+
+    @Test
+    @SneakyThrows
+    public void writeBatch_withValidBatch_shouldPrintEachRow() {
+        writerUnderTest = setUpWriterForAppend(mockCsvFilePath, mockPrinter);
+        final List<String> printedValues = new ArrayList<>();
+        doAnswer(invocation -> printedValues.add(invocation.getArgument(0).toString()))
+                .when(mockPrinter).print(any());
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        final int row1 = batch.addRow(1234);
+        batch.setPrice(row1, 9.99D);
+        batch.setMediaCondition(row1, Condition.MINT);
+        final int row2 = batch.addRow(5678);
+        batch.setPrice(row2, 10D);
+        batch.setMediaCondition(row2, Condition.POOR);
+
+        writerUnderTest.writeBatch(batch);
+
+        assertAll(
+                () -> assertEquals(List.of(
+                        "1234", "9.99", "Mint (M)",
+                        "5678", "10.0", "Poor (P)"), printedValues),
+                () -> verify(mockPrinter, times(2)).println());
+    }
+
+    @Test
+    @SneakyThrows
+    public void writeBatch_withInvalidBatch_shouldThrowExceptionBeforePrinting() {
+        writerUnderTest = setUpWriterForAppend(mockCsvFilePath, mockPrinter);
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        batch.addRow(1234);
+
+        assertAll(
+                () -> assertThrows(ValidationException.class, () -> writerUnderTest.writeBatch(batch)),
+                () -> verify(mockPrinter, never()).print(any()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void writeBatch_withIOException_shouldThrowException() {
+        writerUnderTest = setUpWriterForAppend(mockCsvFilePath, mockPrinter);
+        doThrow(new IOException("Exception")).when(mockPrinter).print(any());
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        batch.add(InventoryRecord.builder()
+                .releaseId(1234)
+                .price(9.99D)
+                .mediaCondition(Condition.MINT)
+                .build());
+
+        assertThrows(IOException.class, () -> writerUnderTest.writeBatch(batch));
+    }
+
+    //////////////
+    // writeFile
+    //////////////
+
+    @Test
+    @SneakyThrows
+    public void writeFile_withRecords_shouldWriteAndCloseFile(@TempDir final Path tempDir) {
+        final Path csvFile = tempDir.resolve("out").resolve("inventory.csv");
+
+        final Path actual = InventoryCsvWriter.writeFile(InventoryCsvWriter.builder()
+                        .csvFile(csvFile)
+                        .headers(NEW_MIN_HEADERS)
+                        .recordType(InventoryRecordType.NEW),
+                writer -> writer.writeAll(List.of(newRecord(1), newRecord(2))));
+
+        assertAll(
+                () -> assertEquals(csvFile, actual),
+                () -> assertEquals(List.of("release_id,price,media_condition", "1,9.99,Mint (M)", "2,9.99,Mint (M)"),
+                        Files.readAllLines(csvFile)));
+    }
+
+    @Test
+    public void writeFile_withValidationException_shouldThrowException(@TempDir final Path tempDir) {
+        assertThrows(ValidationException.class, () -> InventoryCsvWriter.writeFile(InventoryCsvWriter.builder()
+                        .csvFile(tempDir.resolve("inventory.csv"))
+                        .headers(NEW_MIN_HEADERS)
+                        .recordType(InventoryRecordType.NEW),
+                writer -> writer.write(InventoryRecord.builder().releaseId(1).build())));
+    }
+
     //////////
     // close
     //////////
@@ -318,6 +500,28 @@ public class InventoryCsvWriterTest {
     }
 
 
+    @SneakyThrows
+    private static InventoryCsvWriter newAsyncWriter(final Path csvFile) {
+        return InventoryCsvWriter.builder()
+                .csvFile(csvFile)
+                .headers(NEW_MIN_HEADERS)
+                .recordType(InventoryRecordType.NEW)
+                .isAppended(true)
+                .isAsync(true)
+                .workerCount(4)
+                .queueCapacity(8)
+                .bufferSizeBytes(4096)
+                .build();
+    }
+
+    private static InventoryRecord newRecord(final int releaseId) {
+        return InventoryRecord.builder()
+                .releaseId(releaseId)
+                .price(9.99D)
+                .mediaCondition(Condition.MINT)
+                .build();
+    }
+
     @SneakyThrows
     private static InventoryCsvWriter setUpWriterForAppend(final Path mockCsvFilePath, final CSVPrinter mockPrinter) {
         try (final MockedStatic<Files> filesMockedStatic = mockStatic(Files.class)) {
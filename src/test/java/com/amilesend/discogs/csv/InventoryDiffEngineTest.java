@@ -0,0 +1,299 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.csv;
+
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.model.marketplace.GetInventoryRequest;
+import com.amilesend.discogs.model.marketplace.GetInventoryResponse;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.Listing;
+import com.amilesend.discogs.model.marketplace.type.ListingRelease;
+import com.amilesend.discogs.model.marketplace.type.Price;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newPaginationWithNext;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+public class InventoryDiffEngineTest {
+    @TempDir
+    private Path tempDir;
+
+    /////////
+    // diff
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void diff_withMixedChanges_shouldWriteMinimalCsvFiles() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+        engineUnderTest.loadCurrent(List.of(
+                newRecord(1, 10.0D, "A"),
+                newRecord(2, 20.0D, "B"),
+                newRecord(3, 30.0D, "C")));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(
+                newRecord(1, 10.0D, "A"),
+                newRecord(2, 25.0D, "B"),
+                newRecord(4, 40.0D, "D")), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, actual.getAddCount()),
+                () -> assertEquals(1, actual.getChangeCount()),
+                () -> assertEquals(1, actual.getDeleteCount()),
+                () -> assertEquals(1, actual.getUnchangedCount()),
+                () -> assertTrue(actual.hasChanges()),
+                () -> assertEquals(
+                        List.of("release_id,price,media_condition,external_id", "4,40.0,Mint (M),D"),
+                        Files.readAllLines(actual.getAddCsvFile())),
+                () -> assertEquals(
+                        List.of("release_id,price,media_condition,external_id", "2,25.0,Mint (M),B"),
+                        Files.readAllLines(actual.getChangeCsvFile())),
+                () -> assertEquals(
+                        List.of("release_id,external_id,listing_id", "3,C,"),
+                        Files.readAllLines(actual.getDeleteCsvFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withExternalIdKeyAndListingIds_shouldWriteListingIdsToDeleteCsv() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+        engineUnderTest.loadCurrent(List.of(
+                InventoryRecord.builder().releaseId(1).externalId("A").listingId(100L).build(),
+                InventoryRecord.builder().releaseId(1).externalId("B").listingId(101L).build()));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(newRecord(1, 10.0D, "A")), tempDir);
+
+        assertEquals(List.of("release_id,external_id,listing_id", "1,B,101"),
+                Files.readAllLines(actual.getDeleteCsvFile()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withUndefinedDesiredValues_shouldNotReportChange() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+        engineUnderTest.loadCurrent(List.of(InventoryRecord.builder()
+                .releaseId(1)
+                .price(10.0D)
+                .mediaCondition(Condition.MINT)
+                .comments("Existing comments")
+                .externalId("A")
+                .build()));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(newRecord(1, 10.0D, "A")), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, actual.getUnchangedCount()),
+                () -> assertFalse(actual.hasChanges()),
+                () -> assertNull(actual.getAddCsvFile()),
+                () -> assertNull(actual.getChangeCsvFile()),
+                () -> assertNull(actual.getDeleteCsvFile()),
+                () -> assertFalse(Files.exists(tempDir.resolve(InventoryDiffEngine.DELETE_CSV_FILE_NAME))));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withReleaseIdKey_shouldWriteDeleteCsvWithListingId() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder()
+                .key(InventoryDiffEngine.Key.RELEASE_ID)
+                .build();
+        engineUnderTest.loadCurrent(List.of(newListingRecord(100L, 1, 10.0D), newListingRecord(102L, 2, 20.0D)));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(newRecord(1, 10.0D, null)), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, actual.getDeleteCount()),
+                () -> assertEquals(List.of("release_id,listing_id", "2,102"),
+                        Files.readAllLines(actual.getDeleteCsvFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withListingIdKey_shouldCorrelateListingsAndAddRecordsWithoutListingId() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder()
+                .key(InventoryDiffEngine.Key.LISTING_ID)
+                .build();
+        engineUnderTest.loadCurrent(List.of(
+                newListingRecord(100L, 1, 10.0D),
+                newListingRecord(101L, 1, 10.0D),
+                newListingRecord(102L, 2, 20.0D)));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(
+                newListingRecord(100L, 1, 15.0D),
+                newListingRecord(101L, 1, 10.0D),
+                newRecord(3, 30.0D, null)), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, actual.getAddCount()),
+                () -> assertEquals(1, actual.getChangeCount()),
+                () -> assertEquals(1, actual.getUnchangedCount()),
+                () -> assertEquals(1, actual.getDeleteCount()),
+                () -> assertEquals("release_id,price,media_condition",
+                        Files.readAllLines(actual.getAddCsvFile()).get(0)),
+                () -> assertEquals(List.of("release_id,price,media_condition,listing_id", "1,15.0,Mint (M),100"),
+                        Files.readAllLines(actual.getChangeCsvFile())),
+                () -> assertEquals(List.of("release_id,listing_id", "2,102"),
+                        Files.readAllLines(actual.getDeleteCsvFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withDuplicateCurrentKeys_shouldReportAndSkipDuplicates() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder()
+                .key(InventoryDiffEngine.Key.RELEASE_ID)
+                .build();
+        engineUnderTest.loadCurrent(List.of(
+                newRecord(1, 10.0D, null),
+                newRecord(1, 15.0D, null),
+                newRecord(2, 20.0D, null),
+                newRecord(2, 25.0D, null),
+                newRecord(3, 30.0D, null)));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(newRecord(1, 12.0D, null)), tempDir);
+
+        assertAll(
+                () -> assertEquals(List.of("1", "2"), actual.getDuplicateKeys()),
+                () -> assertEquals(1, actual.getAmbiguousCount()),
+                () -> assertEquals(0, actual.getChangeCount()),
+                () -> assertEquals(List.of("release_id,listing_id", "3,"),
+                        Files.readAllLines(actual.getDeleteCsvFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void diff_withCurrentItemsWithoutKey_shouldReportAndSkipItems() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+        engineUnderTest.loadCurrent(List.of(
+                newRecord(1, 10.0D, "A"),
+                newRecord(2, 20.0D, null),
+                newRecord(3, 30.0D, " ")));
+
+        final InventoryDiffResult actual = engineUnderTest.diff(List.of(newRecord(1, 10.0D, "A")), tempDir);
+
+        assertAll(
+                () -> assertEquals(1, engineUnderTest.getCurrentSize()),
+                () -> assertEquals(2, actual.getUnkeyedCount()),
+                () -> assertEquals(1, actual.getUnchangedCount()),
+                () -> assertEquals(0, actual.getDeleteCount()),
+                () -> assertFalse(actual.hasChanges()));
+    }
+
+    @Test
+    public void diff_withInvalidDesiredRecords_shouldThrowException() {
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> engineUnderTest.diff(
+                        List.of(newRecord(1, 10.0D, "A"), newRecord(2, 10.0D, "A")), tempDir)),
+                () -> assertThrows(IllegalArgumentException.class, () -> engineUnderTest.diff(
+                        List.of(newRecord(1, 10.0D, " ")), tempDir)));
+    }
+
+    ////////////////////////////
+    // loadCurrentFromExport
+    ////////////////////////////
+
+    @Test
+    @SneakyThrows
+    public void loadCurrentFromExport_withExportFile_shouldLoadRecordsAndIgnoreUnknownColumns() {
+        final Path exportFile = Files.writeString(tempDir.resolve("export.csv"),
+                "listing_id,artist,release_id,price,media_condition,external_id\r\n"
+                        + "100,Artist,1,10.00,Mint (M),A\r\n"
+                        + "101,Artist,2,20.00,Mint (M),B\r\n");
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+
+        engineUnderTest.loadCurrentFromExport(exportFile);
+        final InventoryDiffResult actual = engineUnderTest.diff(
+                List.of(newRecord(1, 10.0D, "A"), newRecord(2, 20.0D, "B")),
+                tempDir.resolve("out"));
+
+        assertAll(
+                () -> assertEquals(2, engineUnderTest.getCurrentSize()),
+                () -> assertEquals(2, actual.getUnchangedCount()),
+                () -> assertFalse(actual.hasChanges()));
+    }
+
+    ///////////////////////////////
+    // loadCurrentFromInventory
+    ///////////////////////////////
+
+    @Test
+    public void loadCurrentFromInventory_withMultiplePages_shouldLoadAllListings() {
+        final GetInventoryResponse lastPage = newInventoryPage(List.of(newListing(2L, "B")), null);
+        final GetInventoryResponse firstPage = spy(newInventoryPage(List.of(newListing(1L, "A")), "http://next"));
+        doReturn(lastPage).when(firstPage).getNext();
+        final MarketplaceApi mockApi = mock(MarketplaceApi.class);
+        when(mockApi.getInventory(any(GetInventoryRequest.class))).thenReturn(firstPage);
+        final InventoryDiffEngine engineUnderTest = InventoryDiffEngine.builder().build();
+
+        engineUnderTest.loadCurrentFromInventory(mockApi, "username");
+
+        assertEquals(2, engineUnderTest.getCurrentSize());
+    }
+
+    private static InventoryRecord newRecord(final int releaseId, final double price, final String externalId) {
+        return InventoryRecord.builder()
+                .releaseId(releaseId)
+                .price(price)
+                .mediaCondition(Condition.MINT)
+                .externalId(externalId)
+                .build();
+    }
+
+    private static InventoryRecord newListingRecord(final long listingId, final int releaseId, final double price) {
+        return InventoryRecord.builder()
+                .listingId(listingId)
+                .releaseId(releaseId)
+                .price(price)
+                .mediaCondition(Condition.MINT)
+                .build();
+    }
+
+    private static Listing newListing(final long releaseId, final String externalId) {
+        return Listing.builder()
+                .id(releaseId * 100L)
+                .release(ListingRelease.builder().id(releaseId).build())
+                .price(Price.builder().currency(Currency.USD).value(10.0D).build())
+                .condition(Condition.MINT)
+                .externalId(externalId)
+                .build();
+    }
+
+    private static GetInventoryResponse newInventoryPage(final List<Listing> listings, final String nextUrl) {
+        return GetInventoryResponse.builder()
+                .listings(listings)
+                .pagination(newPaginationWithNext(nextUrl))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.csv.type;
+
+import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InventoryRecordBatchTest {
+
+    ////////
+    // add
+    ////////
+
+    @Test
+    public void add_withRecord_shouldPopulateAllColumns() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch(1);
+
+        final int row = batch.add(newValidInventoryRecord());
+
+        assertAll(
+                () -> assertEquals(0, row),
+                () -> assertEquals(1, batch.size()),
+                () -> assertEquals(1234, batch.getReleaseId(row)),
+                () -> assertEquals(9.99D, batch.getPrice(row)),
+                () -> assertEquals(Condition.GOOD, batch.getMediaCondition(row)),
+                () -> assertEquals(SleeveCondition.NOT_GRADED, batch.getSleeveCondition(row)),
+                () -> assertEquals("Comments", batch.getComments(row)),
+                () -> assertEquals(InventoryRecord.YES, batch.getAcceptOffer(row)),
+                () -> assertEquals("Location", batch.getLocation(row)),
+                () -> assertEquals("ExternalId", batch.getExternalId(row)),
+                () -> assertEquals(100, batch.getWeight(row)),
+                () -> assertEquals(2, batch.getFormatQuantity(row)));
+    }
+
+    @Test
+    public void addRow_beyondInitialCapacity_shouldGrowAndResetOptionalColumns() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch(1);
+        batch.add(newValidInventoryRecord());
+
+        final int row = batch.addRow(5678);
+
+        assertAll(
+                () -> assertEquals(2, batch.size()),
+                () -> assertEquals(5678, batch.getReleaseId(row)),
+                () -> assertTrue(batch.isDefined(row, InventoryHeader.RELEASE_ID)),
+                () -> assertTrue(List.of(InventoryHeader.values()).stream()
+                        .filter(h -> h != InventoryHeader.RELEASE_ID)
+                        .noneMatch(h -> batch.isDefined(row, h))),
+                () -> assertNull(batch.getMediaCondition(row)),
+                () -> assertNull(batch.getSleeveCondition(row)),
+                () -> assertEquals(1234, batch.getReleaseId(0)));
+    }
+
+    @Test
+    public void clear_shouldResetSize() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        batch.add(newValidInventoryRecord());
+
+        batch.clear();
+
+        assertAll(
+                () -> assertEquals(0, batch.size()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> batch.getReleaseId(0)));
+    }
+
+    @Test
+    public void ctor_withInvalidCapacity_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new InventoryRecordBatch(0));
+    }
+
+    /////////////
+    // validate
+    /////////////
+
+    @Test
+    @SneakyThrows
+    public void validate_withValidRows_shouldDoNothing() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        batch.add(newValidInventoryRecord());
+        batch.addRow(5678);
+
+        batch.validate(InventoryRecordType.UPDATE);
+    }
+
+    @Test
+    public void validate_withInvalidRows_shouldThrowExceptionWithAllErrors() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        batch.add(newValidInventoryRecord());
+        final int invalidRow = batch.addRow(0);
+        batch.setAcceptOffer(invalidRow, "SomeWrongValue");
+        batch.setWeight(invalidRow, -1);
+
+        final ValidationException thrown =
+                assertThrows(ValidationException.class, () -> batch.validate(InventoryRecordType.NEW));
+
+        final List<InventoryHeader> actualHeaders = thrown.getErrors().stream()
+                .map(ValidationException.Descriptor::getHeader)
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertEquals(List.of(
+                        InventoryHeader.RELEASE_ID,
+                        InventoryHeader.PRICE,
+                        InventoryHeader.MEDIA_CONDITION,
+                        InventoryHeader.ACCEPT_OFFER,
+                        InventoryHeader.WEIGHT), actualHeaders),
+                () -> assertTrue(thrown.getErrors().stream().allMatch(e -> e.getRow() == invalidRow)),
+                () -> assertEquals("0", thrown.getErrors().get(0).getValue()));
+    }
+
+    @Test
+    public void isDefined_withInvalidRow_shouldThrowException() {
+        final InventoryRecordBatch batch = new InventoryRecordBatch();
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isDefined(0, InventoryHeader.PRICE));
+    }
+
+    private static InventoryRecord newValidInventoryRecord() {
+        return InventoryRecord.builder()
+                .releaseId(1234)
+                .price(9.99D)
+                .mediaCondition(Condition.GOOD)
+                .sleeveCondition(SleeveCondition.NOT_GRADED)
+                .comments("Comments")
+                .acceptOffer(InventoryRecord.YES)
+                .location("Location")
+                .externalId("ExternalId")
+                .weight(100)
+                .formatQuantity(2)
+                .build();
+    }
+}
@@ -18,8 +18,14 @@
 package com.amilesend.discogs.csv.type;
 
 import com.amilesend.discogs.csv.validation.ValidationException;
+import com.amilesend.discogs.model.marketplace.CreateListingRequest;
+import com.amilesend.discogs.model.marketplace.UpdateListingRequest;
 import com.amilesend.discogs.model.marketplace.type.Condition;
+import com.amilesend.discogs.model.marketplace.type.Listing;
+import com.amilesend.discogs.model.marketplace.type.ListingRelease;
+import com.amilesend.discogs.model.marketplace.type.Price;
 import com.amilesend.discogs.model.marketplace.type.SleeveCondition;
+import com.amilesend.discogs.model.type.Currency;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +34,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class InventoryRecordTest {
@@ -56,6 +63,112 @@ public class InventoryRecordTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void getDefinedHeaders_withMultipleInvocations_shouldReturnCachedHeaders() {
+        final InventoryRecord record = newValidInventoryCsvRecord();
+
+        final List<InventoryHeader> actual = record.getDefinedHeaders();
+
+        assertAll(
+                () -> assertSame(actual, record.getDefinedHeaders()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> actual.add(InventoryHeader.PRICE)));
+    }
+
+    ////////////////
+    // fromListing
+    ////////////////
+
+    @Test
+    public void fromListing_withListing_shouldReturnRecord() {
+        final Listing listing = Listing.builder()
+                .release(ListingRelease.builder().id(1234L).build())
+                .price(Price.builder().currency(Currency.USD).value(9.99D).build())
+                .condition(Condition.GOOD)
+                .sleeveCondition(SleeveCondition.GOOD)
+                .allowOffers(true)
+                .externalId("ExternalId")
+                .weight(100)
+                .build();
+
+        final InventoryRecord actual = InventoryRecord.fromListing(listing);
+
+        final InventoryRecord expected = InventoryRecord.builder()
+                .releaseId(1234)
+                .price(9.99D)
+                .mediaCondition(Condition.GOOD)
+                .sleeveCondition(SleeveCondition.GOOD)
+                .acceptOffer(InventoryRecord.YES)
+                .externalId("ExternalId")
+                .weight(100)
+                .build();
+        assertEquals(expected, actual);
+    }
+
+    ///////////////////////
+    // fromListingRequest
+    ///////////////////////
+
+    @Test
+    public void fromListingRequest_withRequest_shouldReturnRecord() {
+        final CreateListingRequest request = CreateListingRequest.builder()
+                .releaseId(1234L)
+                .price(9.99D)
+                .condition(Condition.GOOD)
+                .allowOffers(false)
+                .weight("100")
+                .formatQuantity(2.0D)
+                .build();
+
+        final InventoryRecord actual = InventoryRecord.fromListingRequest(request);
+
+        final InventoryRecord expected = InventoryRecord.builder()
+                .releaseId(1234)
+                .price(9.99D)
+                .mediaCondition(Condition.GOOD)
+                .acceptOffer(InventoryRecord.NO)
+                .weight(100)
+                .formatQuantity(2)
+                .build();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void fromListingRequest_withUpdateRequest_shouldReturnRecordWithListingId() {
+        final UpdateListingRequest request = UpdateListingRequest.builder()
+                .listingId(42L)
+                .releaseId(1234L)
+                .price(9.99D)
+                .condition(Condition.GOOD)
+                .build();
+
+        final InventoryRecord actual = InventoryRecord.fromListingRequest(request);
+
+        final InventoryRecord expected = InventoryRecord.builder()
+                .releaseId(1234)
+                .price(9.99D)
+                .mediaCondition(Condition.GOOD)
+                .listingId(42L)
+                .build();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void fromListingRequest_withFractionalValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InventoryRecord.fromListingRequest(CreateListingRequest.builder()
+                                .releaseId(1234L)
+                                .condition(Condition.GOOD)
+                                .weight("100.5")
+                                .build())),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InventoryRecord.fromListingRequest(CreateListingRequest.builder()
+                                .releaseId(1234L)
+                                .condition(Condition.GOOD)
+                                .formatQuantity(1.5D)
+                                .build())));
+    }
+
     /////////////
     // validate
     /////////////
@@ -0,0 +1,57 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.data;
+
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static org.mockito.Mockito.mock;
+
+@UtilityClass
+public class BulkDataHelper {
+    ///////////////
+    // Pagination
+    ///////////////
+
+    public static PaginatedResponseBase.Pagination newPaginationWithNext(final String nextUrl) {
+        return PaginatedResponseBase.Pagination.builder()
+                .urls(Objects.isNull(nextUrl) ? Map.of() : Map.of("next", nextUrl))
+                .build();
+    }
+
+    /////////////////
+    // BulkExecutor
+    /////////////////
+
+    public static BulkExecutor newBulkExecutor(final int maxAttempts) {
+        return newBulkExecutor(mock(RateLimiter.class), maxAttempts);
+    }
+
+    public static BulkExecutor newBulkExecutor(final RateLimiter rateLimiter, final int maxAttempts) {
+        return BulkExecutor.builder()
+                .rateLimiter(rateLimiter)
+                .maxAttempts(maxAttempts)
+                .initialBackoffMillis(0L)
+                .build();
+    }
+}
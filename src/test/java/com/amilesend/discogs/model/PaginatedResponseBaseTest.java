@@ -32,13 +32,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class PaginatedResponseBaseTest {
@@ -177,6 +183,49 @@ public class PaginatedResponseBaseTest {
         assertEquals(secondPageResponse, actual);
     }
 
+    ////////////////
+    // streamPages
+    ////////////////
+
+    @Test
+    public void streamPages_withMultiplePages_shouldLazilyReturnAllPages() {
+        doReturn(new Request.Builder()).when(mockConnection).newRequestBuilder();
+        doReturn(secondPageResponse).when(mockConnection).execute(any(Request.class), any(GsonParser.class));
+
+        final Stream<PaginatedStringsResponse> actual = responseUnderTest.streamPages();
+
+        verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class));
+        assertEquals(List.of("1", "2", "3", "4"), actual
+                .flatMap(page -> page.getValues().stream())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void streamPages_withPrefetch_shouldReturnAllPagesInOrder() {
+        doReturn(new Request.Builder()).when(mockConnection).newRequestBuilder();
+        doReturn(secondPageResponse).when(mockConnection).execute(any(Request.class), any(GsonParser.class));
+
+        try (Stream<PaginatedStringsResponse> actual = responseUnderTest.streamPages(true)) {
+            assertEquals(List.of(responseUnderTest, secondPageResponse), actual.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void streamPages_withSinglePage_shouldNotRequestPages() {
+        assertEquals(List.of(secondPageResponse), secondPageResponse.streamPages(true).collect(Collectors.toList()));
+        verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class));
+    }
+
+    @Test
+    public void streamPages_withPrefetchFailure_shouldThrowException() {
+        doReturn(new Request.Builder()).when(mockConnection).newRequestBuilder();
+        doThrow(new IllegalStateException("Exception"))
+                .when(mockConnection).execute(any(Request.class), any(GsonParser.class));
+
+        assertThrows(IllegalStateException.class,
+                () -> responseUnderTest.streamPages(true).collect(Collectors.toList()));
+    }
+
     @SuperBuilder
     @Getter
     @EqualsAndHashCode(callSuper = true)
@@ -0,0 +1,299 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchResultFormat;
+import com.amilesend.discogs.model.database.type.SearchResultStat;
+import com.amilesend.discogs.model.database.type.SearchResultUserData;
+import com.amilesend.discogs.model.database.type.SearchType;
+import com.amilesend.discogs.model.type.Artist;
+import com.amilesend.discogs.model.type.CatalogEntity;
+import com.amilesend.discogs.model.type.Format;
+import com.amilesend.discogs.model.type.Release;
+import com.amilesend.discogs.model.type.ReleaseIdentifier;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocalSearchIndexTest {
+    @TempDir
+    private Path tempDir;
+    private DatabaseApi mockApi;
+    private LocalSearchIndex indexUnderTest;
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        indexUnderTest = newIndex(tempDir.resolve("search.segment"));
+        indexUnderTest.addAll(List.of(
+                newResult(1L, "Nirvana - Nevermind", "DGC-24425", "720642442524", "1991"),
+                newResult(2L, "Nirvana - Bleach", "SP 34", "098787003423", "1989"),
+                newResult(3L, "Mudhoney - Superfuzz Bigmuff", "SP 21", null, "1988")));
+    }
+
+    ///////////
+    // find
+    ///////////
+
+    @Test
+    public void find_withTextFields_shouldReturnMatchingDocuments() {
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), findIds(SearchRequest.builder().artist("NIRVANA").build())),
+                () -> assertEquals(List.of(1L), findIds(SearchRequest.builder().query("nirvana nevermind").build())),
+                () -> assertEquals(List.of(2L), findIds(SearchRequest.builder().releaseTitle("bleach").build())),
+                () -> assertEquals(List.of(2L, 3L), findIds(SearchRequest.builder().label("Sub Pop").build())),
+                () -> assertEquals(List.of(1L, 2L, 3L), findIds(SearchRequest.builder().genre("ROCK").build())),
+                () -> assertEquals(List.of(3L), findIds(SearchRequest.builder().style("Grunge").year(1988).build())),
+                () -> assertEquals(List.of(), findIds(SearchRequest.builder().artist("Nirvana").year(1988).build())));
+    }
+
+    @Test
+    public void find_withCatalogNumberOrBarcode_shouldMatchIgnoringSeparators() {
+        assertAll(
+                () -> assertEquals(List.of(1L), findIds(SearchRequest.builder().catalogNumber("dgc 24425").build())),
+                () -> assertEquals(List.of(2L), findIds(SearchRequest.builder().barcode("0 98787-00342 3").build())),
+                () -> assertEquals(List.of(3L), findIds(SearchRequest.builder().query("SP21").build())));
+    }
+
+    @Test
+    public void find_withUnsupportedRequest_shouldReturnEmpty() {
+        assertAll(
+                () -> assertFalse(indexUnderTest.find(SearchRequest.builder().track("Polly").build()).isPresent()),
+                () -> assertFalse(indexUnderTest.find(SearchRequest.builder().year(1991).build()).isPresent()));
+    }
+
+    @Test
+    public void find_withReplacedDocument_shouldOnlyMatchNewValues() {
+        indexUnderTest.add(newResult(1L, "Nirvana - In Utero", "DGC-24607", null, "1993"));
+
+        assertAll(
+                () -> assertEquals(3, indexUnderTest.getDocumentCount()),
+                () -> assertEquals(List.of(), findIds(SearchRequest.builder().releaseTitle("Nevermind").build())),
+                () -> assertEquals(List.of(1L), findIds(SearchRequest.builder().releaseTitle("utero").build())));
+    }
+
+    /////////////
+    // search
+    /////////////
+
+    @Test
+    public void search_withLocalMatch_shouldNotCallApi() {
+        final SearchResponse actual =
+                indexUnderTest.search(SearchRequest.builder().artist("Nirvana").perPage(1).build());
+
+        assertAll(
+                () -> assertEquals(1, actual.getResults().size()),
+                () -> assertEquals(2, actual.getPagination().getItems()),
+                () -> assertEquals(2, actual.getPagination().getPages()),
+                () -> verify(mockApi, never()).search(any(SearchRequest.class)));
+    }
+
+    @Test
+    public void search_withLocalMiss_shouldCallApiAndIndexResults() {
+        final SearchResponse response = SearchResponse.builder()
+                .results(List.of(newResult(4L, "Soundgarden - Badmotorfinger", "75021 5374 2", null, "1991")))
+                .pagination(PaginatedResponseBase.Pagination.builder().items(1).pages(1).build())
+                .build();
+        when(mockApi.search(any(SearchRequest.class))).thenReturn(response);
+        final SearchRequest request = SearchRequest.builder().artist("Soundgarden").build();
+
+        final SearchResponse actual = indexUnderTest.search(request);
+
+        assertAll(
+                () -> assertSame(response, actual),
+                () -> verify(mockApi).search(request),
+                () -> assertEquals(List.of(4L), findIds(request)));
+    }
+
+    //////////////////
+    // save / open
+    //////////////////
+
+    @Test
+    @SneakyThrows
+    public void save_withReopenedIndex_shouldAnswerFromSegment() {
+        final Path segmentFile = tempDir.resolve("search.segment");
+        indexUnderTest.save();
+        final LocalSearchIndex reopened = newIndex(segmentFile);
+        reopened.add(newResult(2L, "Nirvana - Bleach (Deluxe)", "SP 834", null, "2009"));
+
+        assertAll(
+                () -> assertTrue(Files.isRegularFile(segmentFile)),
+                () -> assertEquals(3, reopened.getDocumentCount()),
+                () -> assertEquals(List.of(1L),
+                        findIds(reopened, SearchRequest.builder().barcode("720642442524").build())),
+                () -> assertEquals(List.of(2L), findIds(reopened, SearchRequest.builder().query("deluxe").build())),
+                () -> assertEquals(List.of(),
+                        findIds(reopened, SearchRequest.builder().catalogNumber("SP 34").build())),
+                () -> assertEquals("Mudhoney - Superfuzz Bigmuff", reopened.find(SearchRequest.builder()
+                        .catalogNumber("SP-21")
+                        .build()).get().get(0).getTitle()));
+
+        reopened.save();
+        assertEquals(List.of(2L),
+                findIds(newIndex(segmentFile), SearchRequest.builder().catalogNumber("SP834").build()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void save_withAllFields_shouldRoundTripDocument() {
+        final SearchResult expected = SearchResult.builder()
+                .id(5L)
+                .resourceUrl("https://api.discogs.com/releases/5")
+                .type(SearchType.RELEASE)
+                .masterId(50L)
+                .masterUrl("https://api.discogs.com/masters/50")
+                .title("Soundgarden - Screaming Life")
+                .year("1987")
+                .country("US")
+                .catalogNumber("SP 12")
+                .uri("/release/5")
+                .thumb("https://img.discogs.com/thumb.jpg")
+                .coverImage("https://img.discogs.com/cover.jpg")
+                .label(List.of("Sub Pop"))
+                .barcode(List.of("098787001221"))
+                .genre(List.of("Rock"))
+                .style(List.of("Grunge"))
+                .format(List.of("Vinyl", "12\""))
+                .formatQuantity(1)
+                .formats(List.of(SearchResultFormat.builder()
+                        .name("Vinyl")
+                        .qty("1")
+                        .text("Orange")
+                        .descriptions(List.of("12\"", "EP"))
+                        .build()))
+                .community(SearchResultStat.builder().want(120).have(340).build())
+                .userData(SearchResultUserData.builder().inWantList(true).inCollection(false).build())
+                .build();
+        final Path segmentFile = tempDir.resolve("full.segment");
+        final LocalSearchIndex index = newIndex(segmentFile);
+        index.add(expected);
+        index.save();
+
+        final SearchResult actual = newIndex(segmentFile).find(SearchRequest.builder()
+                .catalogNumber("SP 12")
+                .build()).orElseThrow().get(0);
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    @SneakyThrows
+    public void save_withoutSegmentFile_shouldThrowException() {
+        final LocalSearchIndex index = LocalSearchIndex.builder().build();
+        assertThrows(IllegalStateException.class, index::save);
+    }
+
+    /////////////////////
+    // toSearchResult
+    /////////////////////
+
+    @Test
+    public void toSearchResult_withRelease_shouldMapIndexedFields() {
+        final Release release = Release.builder()
+                .id(10L)
+                .title("Nevermind")
+                .artists(List.of(Artist.builder().name("Nirvana").build()))
+                .labels(List.of(CatalogEntity.builder().name("DGC").catalogNumber("DGC-24425").build()))
+                .identifiers(List.of(
+                        ReleaseIdentifier.builder().type("Barcode").value("720642442524").build(),
+                        ReleaseIdentifier.builder().type("Matrix / Runout").value("DGCD-24425").build()))
+                .formats(List.of(Format.builder().name("CD").build()))
+                .genres(List.of("Rock"))
+                .year(1991)
+                .build();
+
+        final SearchResult actual = LocalSearchIndex.toSearchResult(release);
+        indexUnderTest.add(release);
+
+        assertAll(
+                () -> assertEquals(SearchType.RELEASE, actual.getType()),
+                () -> assertEquals("Nirvana - Nevermind", actual.getTitle()),
+                () -> assertEquals(List.of("DGC"), actual.getLabel()),
+                () -> assertEquals("DGC-24425", actual.getCatalogNumber()),
+                () -> assertEquals(List.of("720642442524"), actual.getBarcode()),
+                () -> assertEquals("1991", actual.getYear()),
+                () -> assertEquals(List.of(10L),
+                        findIds(SearchRequest.builder().artist("nirvana").format("cd").build())));
+    }
+
+    @SneakyThrows
+    private LocalSearchIndex newIndex(final Path segmentFile) {
+        return LocalSearchIndex.builder()
+                .databaseApi(mockApi)
+                .segmentFile(segmentFile)
+                .build();
+    }
+
+    private List<Long> findIds(final SearchRequest request) {
+        return findIds(indexUnderTest, request);
+    }
+
+    private static List<Long> findIds(final LocalSearchIndex index, final SearchRequest request) {
+        return index.find(request).orElseThrow().stream()
+                .map(SearchResult::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static SearchResult newResult(
+            final long id,
+            final String title,
+            final String catalogNumber,
+            final String barcode,
+            final String year) {
+        final boolean isSubPop = catalogNumber.startsWith("SP");
+        return SearchResult.builder()
+                .id(id)
+                .type(SearchType.RELEASE)
+                .title(title)
+                .catalogNumber(catalogNumber)
+                .barcode(Optional.ofNullable(barcode).map(List::of).orElse(null))
+                .label(List.of(isSubPop ? "Sub Pop" : "DGC"))
+                .genre(List.of("Rock"))
+                .style(List.of(id == 3L ? "Grunge" : "Alternative Rock"))
+                .year(year)
+                .format(List.of("Vinyl"))
+                .build();
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.csv.type.InventoryRecord;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchType;
+import com.amilesend.discogs.model.marketplace.type.Condition;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReleaseMatcherTest {
+    private static final SearchResult NEVERMIND = newResult(1L, "Nirvana - Nevermind", "DGC-24425", "720642442524");
+    private static final SearchResult BLEACH = newResult(2L, "Nirvana - Bleach", "SP 34", "098787003423");
+    private static final SearchResult INCESTICIDE = newResult(3L, "Nirvana - Incesticide", "DGCD-24504", null);
+
+    private DatabaseApi mockApi;
+    private List<ReleaseMatch> matches;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        matches = new ArrayList<>();
+        when(mockApi.search(any(SearchRequest.class))).thenAnswer(invocation -> {
+            final SearchRequest request = invocation.getArgument(0);
+            if ("720642442524".equals(request.getBarcode())) {
+                return newResponse(List.of(NEVERMIND));
+            }
+            if ("SP 34".equals(request.getCatalogNumber())) {
+                return newResponse(List.of(BLEACH));
+            }
+            if ("Bleach".equals(request.getReleaseTitle())) {
+                return newResponse(List.of(NEVERMIND, BLEACH));
+            }
+            if ("Incesticide".equals(request.getReleaseTitle())) {
+                return newResponse(List.of(INCESTICIDE));
+            }
+            return newResponse(List.of());
+        });
+    }
+
+    ////////////
+    // match
+    ////////////
+
+    @Test
+    @SneakyThrows
+    public void match_withDuplicateRows_shouldSearchOnce() {
+        final CatalogRow row = CatalogRow.builder()
+                .artist("Nirvana")
+                .title("Nevermind")
+                .barcode("7 20642-44252 4")
+                .build();
+
+        final ReleaseMatchSummary actual = newMatcher(null).match(List.of(row, row), matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getMatchedCount()),
+                () -> assertEquals(1, actual.getQueryCount()),
+                () -> assertEquals(1, actual.getRequestCount()),
+                () -> assertEquals(1L, matches.get(0).getReleaseId()),
+                () -> assertEquals(1L, matches.get(1).getReleaseId()),
+                () -> assertEquals(1.0D, matches.get(0).getConfidence(), 0.001D),
+                () -> verify(mockApi, times(1)).search(any(SearchRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withBarcodeMiss_shouldFallBackToNextSearch() {
+        final ReleaseMatchSummary actual = newMatcher(null).match(List.of(
+                CatalogRow.builder().artist("Nirvana").title("Incesticide").barcode("000000000000").build(),
+                CatalogRow.builder().artist("Nirvana").title("Bleach").catalogNumber(" SP  34 ").build()),
+                matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getMatchedCount()),
+                () -> assertEquals(3, actual.getQueryCount()),
+                () -> assertEquals(3L, matches.get(0).getReleaseId()),
+                () -> assertEquals(2L, matches.get(1).getReleaseId()),
+                () -> verify(mockApi, never()).search(argThat(r -> r != null
+                        && r.getCatalogNumber() != null
+                        && r.getReleaseTitle() != null)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withLowConfidenceCandidates_shouldReportUnmatched() {
+        final ReleaseMatchSummary actual = newMatcher(null).match(List.of(
+                CatalogRow.builder().artist("Soundgarden").title("Bleach").build(),
+                CatalogRow.builder().catalogNumber("UNKNOWN").build(),
+                CatalogRow.builder().externalId("no identifiers").build()),
+                matches::add);
+
+        assertAll(
+                () -> assertEquals(3, actual.getUnmatchedCount()),
+                () -> assertFalse(matches.get(0).isMatched()),
+                () -> assertEquals(2L, matches.get(0).getCandidate().getId()),
+                () -> assertEquals(0.5D, matches.get(0).getConfidence(), 0.001D),
+                () -> assertNull(matches.get(1).getCandidate()),
+                () -> assertNull(matches.get(2).getCandidate()),
+                () -> assertThrows(IllegalStateException.class, () -> matches.get(0).toInventoryRecord()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withLocalIndex_shouldSearchLocallyAndIndexApiResults() {
+        final LocalSearchIndex index = LocalSearchIndex.builder().build();
+        index.add(BLEACH);
+        final ReleaseMatcher matcherUnderTest = newMatcher(index);
+
+        final ReleaseMatchSummary actual = matcherUnderTest.match(List.of(
+                CatalogRow.builder().catalogNumber("SP34").build(),
+                CatalogRow.builder().barcode("720642442524").build()),
+                matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getMatchedCount()),
+                () -> assertEquals(1, actual.getLocalHitCount()),
+                () -> assertEquals(1, actual.getRequestCount()),
+                () -> assertEquals(2, index.getDocumentCount()),
+                () -> verify(mockApi, never()).search(argThat(r -> r != null && r.getCatalogNumber() != null)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withLowConfidenceLocalResults_shouldSearchApi() {
+        final LocalSearchIndex index = LocalSearchIndex.builder().build();
+        index.add(newResult(4L, "Nirvana - Bleach", "SP 34", "720642442524"));
+        final ReleaseMatcher matcherUnderTest = newMatcher(index);
+
+        final ReleaseMatchSummary actual = matcherUnderTest.match(List.of(CatalogRow.builder()
+                .artist("Nirvana")
+                .title("Nevermind")
+                .catalogNumber("DGC-24425")
+                .barcode("720642442524")
+                .build()), matches::add);
+
+        assertAll(
+                () -> assertEquals(1, actual.getMatchedCount()),
+                () -> assertEquals(0, actual.getLocalHitCount()),
+                () -> assertEquals(1, actual.getRequestCount()),
+                () -> assertEquals(1L, matches.get(0).getReleaseId()),
+                () -> assertEquals(1.0D, matches.get(0).getConfidence(), 0.001D),
+                () -> verify(mockApi).search(argThat(r -> r != null && "720642442524".equals(r.getBarcode()))));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withReservedCharacters_shouldSearchEachRow() {
+        final ReleaseMatchSummary actual = newMatcher(null).match(List.of(
+                CatalogRow.builder().artist("Nirvana").title("100%").build(),
+                CatalogRow.builder().artist("Nirvana").title("C++").build(),
+                CatalogRow.builder().artist("Nirvana").title("C").build()),
+                matches::add);
+
+        assertAll(
+                () -> assertEquals(3, actual.getRowCount()),
+                () -> assertEquals(3, actual.getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withFailedSearch_shouldReportFailureAndContinue() {
+        when(mockApi.search(any(SearchRequest.class))).thenThrow(new IllegalStateException("Exception"));
+
+        final ReleaseMatchSummary actual = newMatcher(null).match(
+                List.of(CatalogRow.builder().barcode("720642442524").title("Nevermind").build()),
+                matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getFailedRequestCount()),
+                () -> assertEquals(0, actual.getUnmatchedCount()),
+                () -> assertEquals(1, actual.getFailedCount()),
+                () -> assertEquals(0, actual.getQueryCount()),
+                () -> assertEquals(1, matches.size()),
+                () -> assertTrue(matches.get(0).isFailed()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void match_withFailedSearchInEarlierBatch_shouldRetrySearchInLaterBatch() {
+        when(mockApi.search(any(SearchRequest.class)))
+                .thenThrow(new IllegalStateException("Exception"))
+                .thenReturn(newResponse(List.of(NEVERMIND)));
+        final CatalogRow row = CatalogRow.builder().barcode("720642442524").build();
+
+        final ReleaseMatchSummary actual = ReleaseMatcher.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(newBulkExecutor(1))
+                .batchSize(1)
+                .build()
+                .match(List.of(row, row), matches::add);
+
+        assertAll(
+                () -> assertEquals(2, actual.getRequestCount()),
+                () -> assertEquals(1, actual.getFailedRequestCount()),
+                () -> assertEquals(1, actual.getFailedCount()),
+                () -> assertEquals(1, actual.getMatchedCount()),
+                () -> assertTrue(matches.get(0).isFailed()),
+                () -> assertEquals(1L, matches.get(1).getReleaseId()));
+    }
+
+    //////////////////////////
+    // toInventoryRecord
+    //////////////////////////
+
+    @Test
+    @SneakyThrows
+    public void toInventoryRecord_withMatch_shouldCarryInventoryFields() {
+        newMatcher(null).match(List.of(CatalogRow.builder()
+                .externalId("SKU-1")
+                .barcode("720642442524")
+                .price(20.0D)
+                .mediaCondition(Condition.MINT)
+                .build()), matches::add);
+
+        final InventoryRecord actual = matches.get(0).toInventoryRecord();
+
+        assertAll(
+                () -> assertEquals(1, actual.getReleaseId()),
+                () -> assertEquals(20.0D, actual.getPrice()),
+                () -> assertEquals(Condition.MINT, actual.getMediaCondition()),
+                () -> assertEquals("SKU-1", actual.getExternalId()));
+    }
+
+    ////////////
+    // score
+    ////////////
+
+    @Test
+    public void score_withPartialMatches_shouldWeighDefinedFields() {
+        final ReleaseMatcher matcherUnderTest = newMatcher(null);
+
+        assertAll(
+                () -> assertEquals(1.0D, matcherUnderTest.score(
+                        CatalogRow.builder().catalogNumber("dgc24425").build(), NEVERMIND), 0.001D),
+                () -> assertEquals(0.0D, matcherUnderTest.score(
+                        CatalogRow.builder().barcode("098787003423").build(), NEVERMIND), 0.001D),
+                () -> assertEquals(0.5D, matcherUnderTest.score(
+                        CatalogRow.builder().artist("Nirvana").title("In Utero").build(), NEVERMIND), 0.001D),
+                () -> assertEquals(0.0D, matcherUnderTest.score(CatalogRow.builder().build(), NEVERMIND), 0.001D));
+    }
+
+    @Test
+    public void score_withTitleOnlyRow_shouldNotReachDefaultMinConfidence() {
+        final ReleaseMatcher matcherUnderTest = newMatcher(null);
+
+        final double actual = matcherUnderTest.score(CatalogRow.builder().title("Nevermind").build(), NEVERMIND);
+
+        assertAll(
+                () -> assertEquals(0.5D, actual, 0.001D),
+                () -> assertTrue(actual < matcherUnderTest.getMinConfidence()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> ReleaseMatcher.builder().build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ReleaseMatcher.builder()
+                        .databaseApi(mockApi)
+                        .minConfidence(0.0D)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ReleaseMatcher.builder()
+                        .databaseApi(mockApi)
+                        .candidateCount(101)
+                        .build()),
+                () -> assertTrue(ReleaseMatcher.builder().databaseApi(mockApi).build().getBatchSize() > 0));
+    }
+
+    private ReleaseMatcher newMatcher(final LocalSearchIndex index) {
+        return ReleaseMatcher.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(newBulkExecutor(1))
+                .localIndex(index)
+                .build();
+    }
+
+    private static SearchResponse newResponse(final List<SearchResult> results) {
+        return SearchResponse.builder().results(results).build();
+    }
+
+    private static SearchResult newResult(
+            final long id,
+            final String title,
+            final String catalogNumber,
+            final String barcode) {
+        return SearchResult.builder()
+                .id(id)
+                .type(SearchType.RELEASE)
+                .title(title)
+                .catalogNumber(catalogNumber)
+                .barcode(barcode == null ? null : List.of(barcode))
+                .build();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchType;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchCacheTest {
+    private DatabaseApi mockApi;
+    private SearchCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        when(mockApi.search(any(SearchRequest.class))).thenReturn(newResponse(1));
+        cacheUnderTest = newCache(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cacheUnderTest.close();
+    }
+
+    /////////////////
+    // toCacheKey
+    /////////////////
+
+    @Test
+    public void toCacheKey_withEquivalentRequests_shouldReturnSameKey() {
+        final String expected = SearchCache.toCacheKey(SearchRequest.builder()
+                .query("Miles  Davis ")
+                .type(SearchType.RELEASE)
+                .build());
+
+        assertAll(
+                () -> assertEquals(expected, SearchCache.toCacheKey(SearchRequest.builder()
+                        .query(" miles davis")
+                        .type(SearchType.RELEASE)
+                        .page(1)
+                        .country(" ")
+                        .build())),
+                () -> assertNotEquals(expected, SearchCache.toCacheKey(SearchRequest.builder()
+                        .query("Miles Davis")
+                        .type(SearchType.RELEASE)
+                        .page(2)
+                        .build())),
+                () -> assertNotEquals(expected, SearchCache.toCacheKey(SearchRequest.builder()
+                        .query("Miles Davis&type=release")
+                        .build())));
+    }
+
+    @Test
+    public void toCacheKey_withReservedCharacters_shouldKeepValuesDistinct() {
+        final String plusKey = SearchCache.toCacheKey(SearchRequest.builder().query("C++").build());
+        final String percentKey = SearchCache.toCacheKey(SearchRequest.builder().query("100%").build());
+
+        assertAll(
+                () -> assertNotEquals(SearchCache.toCacheKey(SearchRequest.builder().query("C").build()), plusKey),
+                () -> assertNotEquals(SearchCache.toCacheKey(SearchRequest.builder().query("C  ").build()), plusKey),
+                () -> assertEquals(plusKey, SearchCache.toCacheKey(SearchRequest.builder().query(" c++ ").build())),
+                () -> assertNotEquals(SearchCache.toCacheKey(SearchRequest.builder().query("100").build()),
+                        percentKey),
+                () -> assertEquals(percentKey, SearchCache.toCacheKey(SearchRequest.builder().query("100%").build())),
+                () -> assertNotEquals(percentKey, SearchCache.toCacheKey(SearchRequest.builder().query("%").build())));
+    }
+
+    /////////////
+    // search
+    /////////////
+
+    @Test
+    @SneakyThrows
+    public void search_withEquivalentRequests_shouldReturnCachedResponse() {
+        final SearchResponse first = cacheUnderTest.search(SearchRequest.builder().query("Nirvana").build());
+        final SearchResponse second = cacheUnderTest.search(SearchRequest.builder().query(" nirvana").build());
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals(1L, cacheUnderTest.getHitCount()),
+                () -> assertEquals(1L, cacheUnderTest.getRequestCount()),
+                () -> verify(mockApi, times(1)).search(any(SearchRequest.class)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withConcurrentIdenticalRequests_shouldShareInFlightRequest() {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final SearchResponse response = newResponse(1);
+        when(mockApi.search(any(SearchRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return response;
+        });
+        final SearchRequest request = SearchRequest.builder().query("Nirvana").build();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<SearchResponse> first = executor.submit(() -> cacheUnderTest.search(request));
+            assertTrue(started.await(5L, TimeUnit.SECONDS));
+            final Future<SearchResponse> second = executor.submit(() -> cacheUnderTest.search(request));
+            while (cacheUnderTest.getSharedCount() == 0L) {
+                Thread.sleep(5L);
+            }
+            release.countDown();
+
+            assertAll(
+                    () -> assertSame(response, first.get(5L, TimeUnit.SECONDS)),
+                    () -> assertSame(response, second.get(5L, TimeUnit.SECONDS)),
+                    () -> verify(mockApi, times(1)).search(any(SearchRequest.class)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withFailedRequest_shouldNotCacheAndRethrow() {
+        when(mockApi.search(any(SearchRequest.class)))
+                .thenThrow(new IllegalStateException("Exception"))
+                .thenReturn(newResponse(1));
+        final SearchRequest request = SearchRequest.builder().query("Nirvana").build();
+
+        assertThrows(IllegalStateException.class, () -> cacheUnderTest.search(request));
+        cacheUnderTest.search(request);
+
+        verify(mockApi, times(2)).search(any(SearchRequest.class));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withErrorWhileShared_shouldCompleteWaitingCallers() {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(mockApi.search(any(SearchRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            throw new AssertionError("Error");
+        });
+        final SearchRequest request = SearchRequest.builder().query("Nirvana").build();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<SearchResponse> first = executor.submit(() -> cacheUnderTest.search(request));
+            assertTrue(started.await(5L, TimeUnit.SECONDS));
+            final Future<SearchResponse> second = executor.submit(() -> cacheUnderTest.search(request));
+            while (cacheUnderTest.getSharedCount() == 0L) {
+                Thread.sleep(5L);
+            }
+            release.countDown();
+
+            assertAll(
+                    () -> assertInstanceOf(AssertionError.class, assertThrows(ExecutionException.class,
+                            () -> first.get(5L, TimeUnit.SECONDS)).getCause()),
+                    () -> assertInstanceOf(AssertionError.class, assertThrows(ExecutionException.class,
+                            () -> second.get(5L, TimeUnit.SECONDS)).getCause()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withFirstPage_shouldNotPrefetch() {
+        cacheUnderTest.close();
+        cacheUnderTest = newCache(1);
+        when(mockApi.search(any(SearchRequest.class))).thenReturn(newResponse(3));
+
+        cacheUnderTest.search(SearchRequest.builder().query("Nirvana").build());
+
+        assertAll(
+                () -> assertEquals(1L, cacheUnderTest.getRequestCount()),
+                () -> verify(mockApi, never()).search(argThat(r -> r != null && r.getPage() != null)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withLaterPage_shouldPrefetchNextPage() {
+        cacheUnderTest.close();
+        cacheUnderTest = newCache(1);
+        when(mockApi.search(any(SearchRequest.class))).thenReturn(newResponse(3));
+
+        cacheUnderTest.search(SearchRequest.builder().query("Nirvana").page(2).build());
+        verify(mockApi, timeout(5000L)).search(argThat(r -> r != null && Integer.valueOf(3).equals(r.getPage())));
+        cacheUnderTest.search(SearchRequest.builder().query("Nirvana").page(3).build());
+
+        assertAll(
+                () -> assertTrue(cacheUnderTest.getHitCount() + cacheUnderTest.getSharedCount() >= 1L),
+                () -> verify(mockApi, times(1))
+                        .search(argThat(r -> r != null && Integer.valueOf(3).equals(r.getPage()))));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> SearchCache.builder().build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> SearchCache.builder()
+                        .databaseApi(mockApi)
+                        .prefetchPages(-1)
+                        .build()));
+    }
+
+    private SearchCache newCache(final int prefetchPages) {
+        return SearchCache.builder()
+                .databaseApi(mockApi)
+                .rateLimiter(mock(RateLimiter.class))
+                .prefetchPages(prefetchPages)
+                .build();
+    }
+
+    private static SearchResponse newResponse(final int pages) {
+        return SearchResponse.builder()
+                .results(List.of())
+                .pagination(PaginatedResponseBase.Pagination.builder()
+                        .pages(pages)
+                        .build())
+                .build();
+    }
+}
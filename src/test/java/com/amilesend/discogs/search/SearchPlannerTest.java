@@ -0,0 +1,194 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.search;
+
+import com.amilesend.discogs.api.DatabaseApi;
+import com.amilesend.discogs.concurrent.BulkExecutor;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.database.SearchRequest;
+import com.amilesend.discogs.model.database.SearchResponse;
+import com.amilesend.discogs.model.database.type.SearchResult;
+import com.amilesend.discogs.model.database.type.SearchType;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newBulkExecutor;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchPlannerTest {
+    private DatabaseApi mockApi;
+    private List<SearchResult> results;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(DatabaseApi.class);
+        results = new ArrayList<>();
+        when(mockApi.search(any(SearchRequest.class))).thenAnswer(invocation -> {
+            final SearchRequest request = invocation.getArgument(0);
+            if (request.getType() == null) {
+                return newResponse(250, List.of());
+            }
+            switch (request.getType()) {
+                case RELEASE:
+                    // The second page repeats a result from the first page
+                    return request.getPage() == 1
+                            ? newResponse(150, newResults(SearchType.RELEASE, 1L, 100L))
+                            : newResponse(150, newResults(SearchType.RELEASE, 100L, 150L));
+                case MASTER:
+                    return newResponse(50, newResults(SearchType.MASTER, 1L, 50L));
+                default:
+                    return newResponse(0, List.of());
+            }
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withBroadQuery_shouldSplitByTypeAndDedupeResults() {
+        final SearchPlanSummary actual = newPlanner(null).search(
+                SearchRequest.builder().genre("Jazz").build(), results::add);
+
+        assertAll(
+                () -> assertEquals(200, results.size()),
+                () -> assertEquals(150L, results.stream()
+                        .filter(r -> r.getType() == SearchType.RELEASE)
+                        .map(SearchResult::getId)
+                        .distinct()
+                        .count()),
+                () -> assertEquals(200, actual.getResultCount()),
+                () -> assertEquals(1, actual.getDuplicateCount()),
+                () -> assertEquals(4, actual.getQueryCount()),
+                () -> assertEquals(0, actual.getTruncatedQueryCount()),
+                () -> assertEquals(6, actual.getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withQueryWithinLimit_shouldFetchAllPagesWithoutSplitting() {
+        final SearchPlanSummary actual = newPlanner(List.of(SearchPlanner.Dimension.TYPE))
+                .search(SearchRequest.builder().type(SearchType.RELEASE).build(), results::add);
+
+        assertAll(
+                () -> assertEquals(150, results.size()),
+                () -> assertEquals(1, actual.getQueryCount()),
+                () -> assertEquals(0, actual.getTruncatedQueryCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withQueryExceedingLimit_shouldTruncateWhenNoDimensionsRemain() {
+        final SearchPlanSummary actual = SearchPlanner.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(newExecutor())
+                .maxResultsPerQuery(100)
+                .dimensions(List.of(SearchPlanner.Dimension.TYPE))
+                .build()
+                .search(SearchRequest.builder().type(SearchType.RELEASE).build(), results::add);
+
+        assertAll(
+                () -> assertEquals(100, results.size()),
+                () -> assertEquals(1, actual.getTruncatedQueryCount()),
+                () -> assertEquals(1, actual.getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void search_withArtistQueryExceedingLimit_shouldTruncateWithoutSplittingOnReleaseDimensions() {
+        doAnswer(invocation -> {
+            final SearchRequest request = invocation.getArgument(0);
+            return newResponse(150, newResults(SearchType.ARTIST,
+                    (request.getPage() - 1) * 100L + 1L, Math.min(request.getPage() * 100L, 150L)));
+        }).when(mockApi).search(any(SearchRequest.class));
+
+        final SearchPlanSummary actual = SearchPlanner.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(newExecutor())
+                .maxResultsPerQuery(100)
+                .formats(List.of("Vinyl"))
+                .countries(List.of("US"))
+                .build()
+                .search(SearchRequest.builder().type(SearchType.ARTIST).build(), results::add);
+
+        assertAll(
+                () -> assertEquals(100, results.size()),
+                () -> assertEquals(1, actual.getQueryCount()),
+                () -> assertEquals(1, actual.getTruncatedQueryCount()),
+                () -> assertEquals(1, actual.getRequestCount()),
+                () -> verify(mockApi).search(any(SearchRequest.class)));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> SearchPlanner.builder()
+                        .databaseApi(mockApi)
+                        .pageSize(0)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> SearchPlanner.builder()
+                        .databaseApi(mockApi)
+                        .maxResultsPerQuery(10)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> SearchPlanner.builder()
+                        .databaseApi(mockApi)
+                        .minYear(2000)
+                        .maxYear(1999)
+                        .build()));
+    }
+
+    private SearchPlanner newPlanner(final List<SearchPlanner.Dimension> dimensions) {
+        return SearchPlanner.builder()
+                .databaseApi(mockApi)
+                .bulkExecutor(newExecutor())
+                .maxResultsPerQuery(200)
+                .dimensions(dimensions)
+                .build();
+    }
+
+    private static BulkExecutor newExecutor() {
+        return newBulkExecutor(1);
+    }
+
+    private static SearchResponse newResponse(final int items, final List<SearchResult> results) {
+        return SearchResponse.builder()
+                .results(results)
+                .pagination(PaginatedResponseBase.Pagination.builder()
+                        .items(items)
+                        .pages((items + 99) / 100)
+                        .build())
+                .build();
+    }
+
+    private static List<SearchResult> newResults(final SearchType type, final long fromId, final long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> SearchResult.builder().id(id).type(type).build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByReleaseRequest;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByReleaseResponse;
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CollectionReleaseIndexTest {
+
+    ////////////////
+    // load / get
+    ////////////////
+
+    @Test
+    public void get_withLoadedReleases_shouldReturnAllInstances() {
+        final CollectionReleaseIndex indexUnderTest = CollectionReleaseIndex.builder().build();
+        indexUnderTest.load(List.of(
+                newRelease(100L, 1L, 1L, 5),
+                newRelease(100L, 2L, 3L, null),
+                newRelease(200L, 3L, 1L, 4)));
+
+        assertAll(
+                () -> assertEquals(List.of(
+                        newInstance(100L, 2L, 3L, 0),
+                        newInstance(100L, 1L, 1L, 5)), indexUnderTest.get(100L)),
+                () -> assertEquals(List.of(newInstance(200L, 3L, 1L, 4)), indexUnderTest.get(200L)),
+                () -> assertEquals(List.of(), indexUnderTest.get(300L)),
+                () -> assertFalse(indexUnderTest.contains(300L)),
+                () -> assertEquals(2, indexUnderTest.size()),
+                () -> assertEquals(3, indexUnderTest.getInstanceCount()));
+    }
+
+    @Test
+    public void add_withExistingInstance_shouldUpdateInPlace() {
+        final CollectionReleaseIndex indexUnderTest = CollectionReleaseIndex.builder().build();
+        indexUnderTest.add(newRelease(100L, 1L, 1L, 5));
+
+        indexUnderTest.add(newRelease(100L, 1L, 2L, 3));
+
+        assertAll(
+                () -> assertEquals(List.of(newInstance(100L, 1L, 2L, 3)), indexUnderTest.get(100L)),
+                () -> assertEquals(1, indexUnderTest.getInstanceCount()));
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_shouldGrow() {
+        final CollectionReleaseIndex indexUnderTest = CollectionReleaseIndex.builder().initialCapacity(1).build();
+        final List<CollectionRelease> releases = new ArrayList<>();
+        for (long id = 1L; id <= 1000L; ++id) {
+            releases.add(newRelease(id * 7919L, id, 1L, null));
+        }
+
+        releases.forEach(indexUnderTest::add);
+
+        assertAll(
+                () -> assertEquals(1000, indexUnderTest.size()),
+                () -> assertEquals(2048, indexUnderTest.getTableCapacity()),
+                () -> assertTrue(releases.stream().allMatch(r -> indexUnderTest.get(r.getId()).size() == 1
+                        && indexUnderTest.get(r.getId()).get(0).getInstanceId() == r.getInstanceId())));
+    }
+
+    ///////////////////////
+    // refresh on miss
+    ///////////////////////
+
+    @Test
+    public void get_withRefreshEnabled_shouldFetchAndIndexMisses() {
+        final UserCollectionApi mockApi = mock(UserCollectionApi.class);
+        final Map<Long, List<CollectionRelease>> owned = Map.of(100L, List.of(newRelease(100L, 1L, 2L, 4)));
+        when(mockApi.getCollectionItems(any(GetCollectionItemsByReleaseRequest.class))).thenAnswer(i -> {
+            final GetCollectionItemsByReleaseRequest request = i.getArgument(0);
+            return GetCollectionItemsByReleaseResponse.builder()
+                    .releases(owned.getOrDefault(request.getReleaseId(), List.of()))
+                    .pagination(PaginatedResponseBase.Pagination.builder().build())
+                    .build();
+        });
+        final CollectionReleaseIndex indexUnderTest = CollectionReleaseIndex.builder()
+                .userCollectionApi(mockApi)
+                .username("username")
+                .rateLimiter(mock(RateLimiter.class))
+                .build();
+
+        final List<CollectionInstance> first = indexUnderTest.get(100L);
+        final List<CollectionInstance> second = indexUnderTest.get(100L);
+        final boolean notOwned = indexUnderTest.contains(200L);
+        indexUnderTest.contains(200L);
+
+        assertAll(
+                () -> assertEquals(List.of(newInstance(100L, 1L, 2L, 4)), first),
+                () -> assertEquals(first, second),
+                () -> assertFalse(notOwned),
+                () -> assertEquals(2, indexUnderTest.size()),
+                () -> verify(mockApi, times(1)).getCollectionItems(
+                        argThat((GetCollectionItemsByReleaseRequest r) -> r.getReleaseId() == 100L)),
+                () -> verify(mockApi, times(1)).getCollectionItems(
+                        argThat((GetCollectionItemsByReleaseRequest r) -> r.getReleaseId() == 200L)));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CollectionReleaseIndex.builder().initialCapacity(0).build()),
+                () -> assertThrows(NullPointerException.class, () -> CollectionReleaseIndex.builder()
+                        .userCollectionApi(mock(UserCollectionApi.class))
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CollectionReleaseIndex.builder().build().get(0L)));
+    }
+
+    private static CollectionRelease newRelease(
+            final long releaseId,
+            final long instanceId,
+            final long folderId,
+            final Integer rating) {
+        return CollectionRelease.builder()
+                .id(releaseId)
+                .instanceId(instanceId)
+                .folderId(folderId)
+                .rating(rating)
+                .build();
+    }
+
+    private static CollectionInstance newInstance(
+            final long releaseId,
+            final long instanceId,
+            final long folderId,
+            final int rating) {
+        return CollectionInstance.builder()
+                .releaseId(releaseId)
+                .instanceId(instanceId)
+                .folderId(folderId)
+                .rating(rating)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CollectionStoreTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void put_withSameReleaseInMultipleInstances_shouldKeyByInstanceId() {
+        final CollectionStore storeUnderTest = new CollectionStore(tempDir.resolve("collection.jsonl"));
+
+        storeUnderTest.put(newRelease(1L, 100L, 1L, T0));
+        storeUnderTest.put(newRelease(2L, 100L, 2L, T0.plusHours(1)));
+        storeUnderTest.put(newRelease(3L, 200L, 1L, T0.plusHours(2)));
+
+        assertAll(
+                () -> assertEquals(3, storeUnderTest.size()),
+                () -> assertEquals(Set.of(1L, 3L), storeUnderTest.getInstanceIds(1L)),
+                () -> assertEquals(Set.of(1L, 2L, 3L), storeUnderTest.getInstanceIds()),
+                () -> assertEquals(T0.plusHours(2), storeUnderTest.getLatestDateAdded()),
+                () -> assertEquals(T0.plusHours(1), storeUnderTest.getLatestDateAdded(2L)),
+                () -> assertNull(storeUnderTest.getLatestDateAdded(3L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void remove_withInstanceId_shouldRemoveItem() {
+        final CollectionStore storeUnderTest = new CollectionStore(tempDir.resolve("collection.jsonl"));
+        storeUnderTest.put(newRelease(1L, 100L, 1L, T0));
+
+        assertAll(
+                () -> assertEquals(1L, storeUnderTest.remove(1L).getInstanceId()),
+                () -> assertNull(storeUnderTest.get(1L)),
+                () -> assertNull(storeUnderTest.remove(1L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void put_withNullInstanceId_shouldThrowException() {
+        final CollectionStore storeUnderTest = new CollectionStore(tempDir.resolve("collection.jsonl"));
+
+        assertThrows(NullPointerException.class,
+                () -> storeUnderTest.put(CollectionRelease.builder().id(100L).build()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void save_withItems_shouldPersistAndReload() {
+        final Path storeFile = tempDir.resolve("nested").resolve("collection.jsonl");
+        final CollectionStore storeUnderTest = new CollectionStore(storeFile);
+        storeUnderTest.put(newRelease(1L, 100L, 1L, T0));
+        storeUnderTest.put(newRelease(2L, 200L, 2L, T0.plusHours(1)));
+
+        storeUnderTest.save();
+
+        final CollectionStore actual = new CollectionStore(storeFile);
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals(100L, actual.get(1L).getId()),
+                () -> assertEquals(2L, actual.get(2L).getFolderId()),
+                () -> assertEquals(T0.plusHours(1), actual.get(2L).getDateAdded()),
+                () -> assertFalse(Files.exists(storeFile.resolveSibling("collection.jsonl.tmp"))));
+    }
+
+    private static CollectionRelease newRelease(
+            final long instanceId,
+            final long releaseId,
+            final long folderId,
+            final LocalDateTime dateAdded) {
+        return CollectionRelease.builder()
+                .id(releaseId)
+                .instanceId(instanceId)
+                .folderId(folderId)
+                .dateAdded(dateAdded)
+                .build();
+    }
+}
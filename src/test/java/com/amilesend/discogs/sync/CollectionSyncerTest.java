@@ -0,0 +1,273 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.api.UserCollectionApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.PaginatedResponseBase;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByFolderRequest;
+import com.amilesend.discogs.model.collection.GetCollectionItemsByFolderResponse;
+import com.amilesend.discogs.model.collection.GetFoldersRequest;
+import com.amilesend.discogs.model.collection.GetFoldersResponse;
+import com.amilesend.discogs.model.collection.type.CollectionRelease;
+import com.amilesend.discogs.model.collection.type.Folder;
+import com.amilesend.discogs.model.type.SortOrder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CollectionSyncerTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    private Path tempDir;
+    private UserCollectionApi mockApi;
+    private CollectionStore store;
+    private final Map<Long, List<List<CollectionRelease>>> pagesByFolder = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        mockApi = mock(UserCollectionApi.class);
+        store = new CollectionStore(tempDir.resolve("collection.jsonl"));
+        when(mockApi.getCollectionItems(any(GetCollectionItemsByFolderRequest.class))).thenAnswer(i -> {
+            final GetCollectionItemsByFolderRequest request = i.getArgument(0);
+            final List<List<CollectionRelease>> pages = pagesByFolder.get(request.getFolderId());
+            return GetCollectionItemsByFolderResponse.builder()
+                    .releases(pages.get(request.getPage() - 1))
+                    .pagination(PaginatedResponseBase.Pagination.builder()
+                            .page(request.getPage())
+                            .pages(pages.size())
+                            .build())
+                    .build();
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withEmptyStore_shouldFetchAllPagesOfEachFolder() {
+        mockFolders(newFolder(0L, 3), newFolder(1L, 2), newFolder(2L, 1));
+        pagesByFolder.put(1L, List.of(
+                List.of(newRelease(11L, 1L, T0.plusHours(2))),
+                List.of(newRelease(12L, 1L, T0.plusHours(1)))));
+        pagesByFolder.put(2L, List.of(List.of(newRelease(21L, 2L, T0))));
+
+        final CollectionSyncResult actual = newSyncer().sync();
+
+        assertAll(
+                () -> assertEquals(2, actual.getFolderCount()),
+                () -> assertEquals(2, actual.getFullFolderCount()),
+                () -> assertEquals(4, actual.getRequestCount()),
+                () -> assertEquals(3, actual.getFetchedCount()),
+                () -> assertEquals(3, actual.getAddedCount()),
+                () -> assertEquals(0, actual.getRemovedCount()),
+                () -> assertEquals(3, store.size()),
+                () -> assertEquals(1L, store.get(12L).getFolderId()),
+                () -> assertTrue(Files.exists(store.getStoreFile())),
+                () -> verify(mockApi).getCollectionItems(argThat((GetCollectionItemsByFolderRequest r) ->
+                        r.getFolderId() == 1L
+                                && r.getPage() == 2
+                                && r.getSort() == GetCollectionItemsByFolderRequest.Sort.ADDED
+                                && r.getSortOrder() == SortOrder.DESC)),
+                () -> verify(mockApi, never()).getCollectionItems(
+                        argThat((GetCollectionItemsByFolderRequest r) -> r.getFolderId() == 0L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withExistingItems_shouldOnlyFetchNewItems() {
+        mockFolders(newFolder(1L, 2));
+        pagesByFolder.put(1L, List.of(
+                List.of(newRelease(11L, 1L, T0.plusHours(1))),
+                List.of(newRelease(10L, 1L, T0))));
+        newSyncer().sync();
+        mockFolders(newFolder(1L, 3));
+        pagesByFolder.put(1L, List.of(
+                List.of(newRelease(12L, 1L, T0.plusHours(2)), newRelease(11L, 1L, T0.plusHours(1))),
+                List.of(newRelease(10L, 1L, T0))));
+
+        final CollectionSyncResult actual = newSyncer().sync();
+
+        assertAll(
+                () -> assertEquals(0, actual.getFullFolderCount()),
+                () -> assertEquals(3, actual.getRequestCount()),
+                () -> assertEquals(2, actual.getFetchedCount()),
+                () -> assertEquals(1, actual.getAddedCount()),
+                () -> assertEquals(3, store.size()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withRemovedAndMovedItems_shouldReconcileMismatchedFolders() {
+        mockFolders(newFolder(1L, 2), newFolder(2L, 1));
+        pagesByFolder.put(1L, List.of(List.of(newRelease(11L, 1L, T0.plusHours(1)), newRelease(10L, 1L, T0))));
+        pagesByFolder.put(2L, List.of(List.of(newRelease(20L, 2L, T0))));
+        newSyncer().sync();
+        // Instance 10 moved to folder 2, and instance 20 was deleted
+        mockFolders(newFolder(1L, 1), newFolder(2L, 1));
+        pagesByFolder.put(1L, List.of(List.of(newRelease(11L, 1L, T0.plusHours(1)))));
+        pagesByFolder.put(2L, List.of(List.of(newRelease(10L, 2L, T0))));
+
+        final CollectionSyncResult actual = newSyncer().sync();
+
+        assertAll(
+                () -> assertEquals(1, actual.getFullFolderCount()),
+                () -> assertEquals(1, actual.getRemovedCount()),
+                () -> assertEquals(0, actual.getAddedCount()),
+                () -> assertEquals(2, store.size()),
+                () -> assertEquals(2L, store.get(10L).getFolderId()),
+                () -> assertNull(store.get(20L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withOnlyAllFolder_shouldSyncAllFolder() {
+        mockFolders(newFolder(0L, 2));
+        pagesByFolder.put(0L, List.of(List.of(newRelease(11L, 1L, T0.plusHours(1)), newRelease(21L, 2L, T0))));
+        newSyncer().sync();
+
+        final CollectionSyncResult actual = newSyncer().sync();
+
+        assertAll(
+                () -> assertEquals(1, actual.getFolderCount()),
+                () -> assertEquals(0, actual.getFullFolderCount()),
+                () -> assertEquals(0, actual.getAddedCount()),
+                () -> assertEquals(2, store.size()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void fullSync_withDuplicateItemsAcrossPages_shouldDeduplicateByInstanceId() {
+        mockFolders(newFolder(1L, 2));
+        pagesByFolder.put(1L, List.of(
+                List.of(newRelease(11L, 1L, T0.plusHours(1)), newRelease(10L, 1L, T0)),
+                List.of(newRelease(10L, 1L, T0))));
+
+        final CollectionSyncResult actual = newSyncer().fullSync();
+
+        assertAll(
+                () -> assertEquals(2, actual.getFetchedCount()),
+                () -> assertEquals(2, store.size()));
+    }
+
+    @Test
+    public void sync_withRequestFailure_shouldThrowExceptionAndNotSaveStore() {
+        mockFolders(newFolder(1L, 1));
+        when(mockApi.getCollectionItems(any(GetCollectionItemsByFolderRequest.class)))
+                .thenThrow(new IllegalStateException("Failure"));
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> newSyncer().sync()),
+                () -> assertFalse(Files.exists(store.getStoreFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withReconcileFailure_shouldNotChangeStore() {
+        mockFolders(newFolder(1L, 1), newFolder(2L, 1));
+        pagesByFolder.put(1L, List.of(List.of(newRelease(11L, 1L, T0.plusHours(1)))));
+        pagesByFolder.put(2L, List.of(List.of(newRelease(20L, 2L, T0))));
+        newSyncer().sync();
+        mockFolders(newFolder(1L, 2), newFolder(2L, 2));
+        pagesByFolder.put(1L, List.of(List.of(newRelease(12L, 1L, T0.plusHours(2)), newRelease(11L, 1L, T0))));
+        pagesByFolder.put(2L, List.of(
+                List.of(newRelease(20L, 2L, T0), newRelease(19L, 2L, T0.minusHours(1))),
+                List.of()));
+        when(mockApi.getCollectionItems(argThat((GetCollectionItemsByFolderRequest r) ->
+                r != null && r.getFolderId() == 2L && r.getPage() == 2)))
+                .thenThrow(new IllegalStateException("Failure"));
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> newSyncer().sync()),
+                () -> assertEquals(2, store.size()),
+                () -> assertNull(store.get(12L)),
+                () -> assertNull(store.get(19L)));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> CollectionSyncer.builder()
+                        .userCollectionApi(mockApi)
+                        .store(store)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> CollectionSyncer.builder()
+                        .userCollectionApi(mockApi)
+                        .store(store)
+                        .username("username")
+                        .pageSize(101)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> CollectionSyncer.builder()
+                        .userCollectionApi(mockApi)
+                        .store(store)
+                        .username("username")
+                        .concurrency(0)
+                        .build()));
+    }
+
+    private CollectionSyncer newSyncer() {
+        return CollectionSyncer.builder()
+                .userCollectionApi(mockApi)
+                .store(store)
+                .username("username")
+                .rateLimiter(mock(RateLimiter.class))
+                .build();
+    }
+
+    private void mockFolders(final Folder... folders) {
+        when(mockApi.getFolders(any(GetFoldersRequest.class)))
+                .thenReturn(GetFoldersResponse.builder().folders(List.of(folders)).build());
+    }
+
+    private static Folder newFolder(final long id, final int count) {
+        return Folder.builder().id(id).count(count).build();
+    }
+
+    private static CollectionRelease newRelease(
+            final long instanceId,
+            final long folderId,
+            final LocalDateTime dateAdded) {
+        return CollectionRelease.builder()
+                .id(instanceId * 100L)
+                .instanceId(instanceId)
+                .folderId(folderId)
+                .dateAdded(dateAdded)
+                .build();
+    }
+}
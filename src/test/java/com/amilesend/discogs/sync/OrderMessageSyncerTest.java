@@ -0,0 +1,281 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.marketplace.GetOrderMessagesRequest;
+import com.amilesend.discogs.model.marketplace.GetOrderMessagesResponse;
+import com.amilesend.discogs.model.marketplace.type.OrderMessage;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newPaginationWithNext;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrderMessageSyncerTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    private Path tempDir;
+    private MarketplaceApi mockApi;
+    private RateLimiter mockRateLimiter;
+    private Path stateFile;
+    private final Map<String, List<OrderMessage>> delivered = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        mockRateLimiter = mock(RateLimiter.class);
+        stateFile = tempDir.resolve("state.properties");
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withNoCursors_shouldDeliverAllMessagesOldestFirst() {
+        final GetOrderMessagesResponse lastPage = newPage(List.of(newMessage(T0, "A")), null);
+        final GetOrderMessagesResponse firstPage = spy(newPage(
+                List.of(newMessage(T0.plusHours(2), "C"), newMessage(T0.plusHours(1), "B")), "http://next"));
+        doReturn(lastPage).when(firstPage).getNext();
+        mockMessages("1", firstPage);
+        mockMessages("2", newPage(List.of(newMessage(T0, "X")), null));
+
+        final int actual = newSyncer().sync(List.of("1", "2", "1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(4, actual),
+                () -> assertEquals(List.of("A", "B", "C"), toText(delivered.get("1"))),
+                () -> assertEquals(List.of("X"), toText(delivered.get("2"))),
+                () -> verify(mockRateLimiter, times(3)).acquire(),
+                () -> assertNotNull(new SyncStateStore(stateFile)
+                        .get(OrderMessageSyncer.CURSOR_KEY_PREFIX + "1")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withCursor_shouldStopAtKnownMessages() {
+        mockMessages("1", newPage(List.of(newMessage(T0, "A")), null));
+        newSyncer().sync(List.of("1"), delivered::put);
+        delivered.clear();
+        final GetOrderMessagesResponse page = spy(newPage(List.of(
+                newMessage(T0.plusHours(1), "C"),
+                newMessage(T0, "B"),
+                newMessage(T0, "A"),
+                newMessage(T0.minusHours(1), "Old")), "http://next"));
+        mockMessages("1", page);
+
+        final int actual = newSyncer().sync(List.of("1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(2, actual),
+                () -> assertEquals(List.of("B", "C"), toText(delivered.get("1"))),
+                () -> verify(page, never()).getNext());
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withNoNewMessages_shouldNotNotifyListener() {
+        mockMessages("1", newPage(List.of(newMessage(T0, "A")), null));
+        newSyncer().sync(List.of("1"), delivered::put);
+        delivered.clear();
+
+        final int actual = newSyncer().sync(List.of("1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(0, actual),
+                () -> assertEquals(Map.of(), delivered));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withFailedOrder_shouldPersistOtherCursorsAndRethrow() {
+        mockMessages("1", newPage(List.of(newMessage(T0, "A")), null));
+        when(mockApi.getOrderMessages(argThat(r -> r != null && "2".equals(r.getOrderId()))))
+                .thenThrow(new IllegalStateException("Exception"));
+
+        assertThrows(IllegalStateException.class,
+                () -> newSyncer().sync(List.of("1", "2"), delivered::put));
+
+        final SyncStateStore actual = new SyncStateStore(stateFile);
+        assertAll(
+                () -> assertNotNull(actual.get(OrderMessageSyncer.CURSOR_KEY_PREFIX + "1")),
+                () -> assertNull(actual.get(OrderMessageSyncer.CURSOR_KEY_PREFIX + "2")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withCursorFromPreviousProcess_shouldSkipKnownMessages() {
+        final SyncStateStore stateStore = new SyncStateStore(stateFile);
+        stateStore.put(OrderMessageSyncer.CURSOR_KEY_PREFIX + "1",
+                T0 + "|077ea4639fb56f2998cca70305326c36ae8bf9725e16a241a2eb9001991e9629");
+        stateStore.save();
+        mockMessages("1", newPage(List.of(newMessage(T0, "B"), newMessage(T0, "A")), null));
+
+        final int actual = newSyncer().sync(List.of("1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(List.of("B"), toText(delivered.get("1"))));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withUnorderedPage_shouldDeliverNewMessagesByTimestamp() {
+        mockMessages("1", newPage(List.of(newMessage(T0, "A")), null));
+        newSyncer().sync(List.of("1"), delivered::put);
+        delivered.clear();
+        final GetOrderMessagesResponse page = spy(newPage(List.of(
+                newMessage(T0.plusHours(1), "B"),
+                newMessage(T0.minusHours(1), "Old"),
+                newMessage(T0.plusHours(2), "C")), "http://next"));
+        mockMessages("1", page);
+
+        final int actual = newSyncer().sync(List.of("1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(2, actual),
+                () -> assertEquals(List.of("B", "C"), toText(delivered.get("1"))),
+                () -> verify(page, never()).getNext());
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withUndatedMessages_shouldDeliverEachOnce() {
+        mockMessages("1", newPage(List.of(newMessage(T0, "A"), newMessage(null, "Undated")), null));
+        newSyncer().sync(List.of("1"), delivered::put);
+        final List<String> first = toText(delivered.get("1"));
+        delivered.clear();
+        mockMessages("1", newPage(List.of(
+                newMessage(null, "Second undated"),
+                newMessage(T0.plusHours(1), "B"),
+                newMessage(T0, "A"),
+                newMessage(null, "Undated")), null));
+
+        final int actual = newSyncer().sync(List.of("1"), delivered::put);
+        final List<String> second = toText(delivered.get("1"));
+        delivered.clear();
+        final int repeated = newSyncer().sync(List.of("1"), delivered::put);
+
+        assertAll(
+                () -> assertEquals(List.of("Undated", "A"), first),
+                () -> assertEquals(2, actual),
+                () -> assertEquals(List.of("Second undated", "B"), second),
+                () -> assertEquals(0, repeated),
+                () -> assertEquals(Map.of(), delivered));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withFailedOrderAndSave_shouldRethrowOrderFailure() {
+        when(mockApi.getOrderMessages(any(GetOrderMessagesRequest.class)))
+                .thenThrow(new IllegalStateException("Exception"));
+        final SyncStateStore mockStateStore = mock(SyncStateStore.class);
+        final IOException saveFailure = new IOException("Save");
+        doThrow(saveFailure).when(mockStateStore).save();
+        final OrderMessageSyncer syncerUnderTest = OrderMessageSyncer.builder()
+                .marketplaceApi(mockApi)
+                .stateStore(mockStateStore)
+                .rateLimiter(mockRateLimiter)
+                .build();
+
+        final IllegalStateException actual = assertThrows(IllegalStateException.class,
+                () -> syncerUnderTest.sync(List.of("1"), delivered::put));
+
+        assertArrayEquals(new Throwable[] {saveFailure}, actual.getSuppressed());
+    }
+
+    @Test
+    public void sync_withBlankOrderId_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> newSyncer().sync(List.of(" "), delivered::put));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderMessageSyncer.builder()
+                        .marketplaceApi(mockApi)
+                        .stateStore(new SyncStateStore(stateFile))
+                        .concurrency(0)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderMessageSyncer.builder()
+                        .marketplaceApi(mockApi)
+                        .stateStore(new SyncStateStore(stateFile))
+                        .pageSize(101)
+                        .build()));
+    }
+
+    @SneakyThrows
+    private OrderMessageSyncer newSyncer() {
+        return OrderMessageSyncer.builder()
+                .marketplaceApi(mockApi)
+                .stateStore(new SyncStateStore(stateFile))
+                .rateLimiter(mockRateLimiter)
+                .concurrency(2)
+                .build();
+    }
+
+    private void mockMessages(final String orderId, final GetOrderMessagesResponse response) {
+        when(mockApi.getOrderMessages(argThat((GetOrderMessagesRequest r) -> r != null
+                && orderId.equals(r.getOrderId())))).thenReturn(response);
+    }
+
+    private static List<String> toText(final List<OrderMessage> messages) {
+        return messages.stream().map(OrderMessage::getMessage).collect(Collectors.toList());
+    }
+
+    private static OrderMessage newMessage(final LocalDateTime timestamp, final String message) {
+        return OrderMessage.builder()
+                .timestamp(timestamp)
+                .type("message")
+                .subject("Subject")
+                .message(message)
+                .build();
+    }
+
+    private static GetOrderMessagesResponse newPage(final List<OrderMessage> messages, final String nextUrl) {
+        return GetOrderMessagesResponse.builder()
+                .messages(messages)
+                .pagination(newPaginationWithNext(nextUrl))
+                .build();
+    }
+}
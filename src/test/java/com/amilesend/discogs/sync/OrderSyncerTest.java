@@ -0,0 +1,182 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.model.marketplace.GetOrdersRequest;
+import com.amilesend.discogs.model.marketplace.GetOrdersResponse;
+import com.amilesend.discogs.model.marketplace.type.Order;
+import com.amilesend.discogs.model.type.SortOrder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.amilesend.discogs.data.BulkDataHelper.newPaginationWithNext;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrderSyncerTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    private Path tempDir;
+    private MarketplaceApi mockApi;
+    private SyncStateStore stateStore;
+    private OrderSyncer syncerUnderTest;
+    private final List<OrderChangeEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        stateStore = new SyncStateStore(tempDir.resolve("state.properties"));
+        syncerUnderTest = OrderSyncer.builder()
+                .marketplaceApi(mockApi)
+                .stateStore(stateStore)
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withNoWatermark_shouldFetchAllPagesAndEmitCreatedEvents() {
+        final GetOrdersResponse lastPage = newPage(List.of(newOrder("1", T0, T0)), null);
+        final GetOrdersResponse firstPage = spy(newPage(List.of(newOrder("2", T0.plusHours(1), T0.plusHours(2))),
+                "http://next"));
+        doReturn(lastPage).when(firstPage).getNext();
+        when(mockApi.getOrders(any(GetOrdersRequest.class))).thenReturn(firstPage);
+
+        final int actual = syncerUnderTest.sync(events::add);
+
+        final ArgumentCaptor<GetOrdersRequest> requestCaptor = ArgumentCaptor.forClass(GetOrdersRequest.class);
+        verify(mockApi).getOrders(requestCaptor.capture());
+        assertAll(
+                () -> assertEquals(2, actual),
+                () -> assertEquals(List.of("1", "2"), toIds(events)),
+                () -> assertEquals(List.of(OrderChangeEvent.Type.CREATED, OrderChangeEvent.Type.CREATED),
+                        events.stream().map(OrderChangeEvent::getType).collect(Collectors.toList())),
+                () -> assertEquals(GetOrdersRequest.Sort.LAST_ACTIVITY, requestCaptor.getValue().getSort()),
+                () -> assertEquals(SortOrder.DESC, requestCaptor.getValue().getSortOrder()),
+                () -> assertEquals(T0.plusHours(2), syncerUnderTest.getWatermark()),
+                () -> assertEquals("2", stateStore.get(OrderSyncer.WATERMARK_IDS_KEY)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withWatermark_shouldStopPaginatingAtWatermark() {
+        stateStore.put(OrderSyncer.WATERMARK_KEY, T0.toString());
+        stateStore.put(OrderSyncer.WATERMARK_IDS_KEY, "1");
+        final GetOrdersResponse firstPage = spy(newPage(List.of(
+                newOrder("3", T0.plusHours(1), T0.plusHours(1)),
+                newOrder("2", T0.minusDays(1), T0.plusMinutes(30)),
+                newOrder("4", T0.minusDays(2), T0),
+                newOrder("1", T0.minusDays(3), T0),
+                newOrder("0", T0.minusDays(4), T0.minusMinutes(1))), "http://next"));
+        when(mockApi.getOrders(any(GetOrdersRequest.class))).thenReturn(firstPage);
+
+        final int actual = syncerUnderTest.sync(events::add);
+
+        assertAll(
+                () -> assertEquals(3, actual),
+                () -> assertEquals(List.of("4", "2", "3"), toIds(events)),
+                () -> assertEquals(List.of(
+                        OrderChangeEvent.Type.UPDATED,
+                        OrderChangeEvent.Type.UPDATED,
+                        OrderChangeEvent.Type.CREATED),
+                        events.stream().map(OrderChangeEvent::getType).collect(Collectors.toList())),
+                () -> verify(firstPage, never()).getNext(),
+                () -> assertEquals(T0.plusHours(1), syncerUnderTest.getWatermark()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withNoChanges_shouldNotAdvanceWatermark() {
+        stateStore.put(OrderSyncer.WATERMARK_KEY, T0.toString());
+        stateStore.put(OrderSyncer.WATERMARK_IDS_KEY, "1");
+        when(mockApi.getOrders(any(GetOrdersRequest.class)))
+                .thenReturn(newPage(List.of(newOrder("1", T0, T0)), null));
+
+        final int actual = syncerUnderTest.sync(events::add);
+
+        assertAll(
+                () -> assertEquals(0, actual),
+                () -> assertEquals(List.of(), events),
+                () -> assertEquals(T0, syncerUnderTest.getWatermark()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void sync_withListenerException_shouldNotAdvanceWatermark() {
+        when(mockApi.getOrders(any(GetOrdersRequest.class)))
+                .thenReturn(newPage(List.of(newOrder("1", T0, T0)), null));
+
+        assertThrows(IllegalStateException.class, () -> syncerUnderTest.sync(e -> {
+            throw new IllegalStateException("Exception");
+        }));
+
+        assertNull(syncerUnderTest.getWatermark());
+    }
+
+    @Test
+    public void builder_withInvalidPageSize_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderSyncer.builder()
+                        .marketplaceApi(mockApi)
+                        .stateStore(stateStore)
+                        .pageSize(0)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> OrderSyncer.builder()
+                        .stateStore(stateStore)
+                        .build()));
+    }
+
+    private static List<String> toIds(final List<OrderChangeEvent> events) {
+        return events.stream().map(e -> e.getOrder().getId()).collect(Collectors.toList());
+    }
+
+    private static Order newOrder(final String id, final LocalDateTime created, final LocalDateTime lastActivity) {
+        return Order.builder()
+                .id(id)
+                .created(created)
+                .lastActivity(lastActivity)
+                .build();
+    }
+
+    private static GetOrdersResponse newPage(final List<Order> orders, final String nextUrl) {
+        return GetOrdersResponse.builder()
+                .orders(orders)
+                .pagination(newPaginationWithNext(nextUrl))
+                .build();
+    }
+}
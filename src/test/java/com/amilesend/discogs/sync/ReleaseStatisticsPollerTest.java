@@ -0,0 +1,181 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.discogs.api.MarketplaceApi;
+import com.amilesend.discogs.concurrent.RateLimiter;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsRequest;
+import com.amilesend.discogs.model.marketplace.GetReleaseStatisticsResponse;
+import com.amilesend.discogs.model.marketplace.type.Price;
+import com.amilesend.discogs.model.type.Currency;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReleaseStatisticsPollerTest {
+    private static final long MINUTE = Duration.ofMinutes(1L).toMillis();
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<ReleaseStatisticsChangeEvent> events = new CopyOnWriteArrayList<>();
+    private MarketplaceApi mockApi;
+    private ReleaseStatisticsPoller pollerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockApi = mock(MarketplaceApi.class);
+        pollerUnderTest = new ReleaseStatisticsPoller(
+                mockApi,
+                events::add,
+                mock(RateLimiter.class),
+                Currency.USD,
+                Duration.ofMinutes(10L),
+                Duration.ofMinutes(40L),
+                Duration.ofMinutes(90L),
+                now::get);
+    }
+
+    @Test
+    @SneakyThrows
+    public void pollDue_withChanges_shouldEmitEventAndShortenInterval() {
+        when(mockApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class)))
+                .thenReturn(newStatistics(5, 10.0D))
+                .thenReturn(newStatistics(4, 10.0D));
+        pollerUnderTest.watch(1L);
+
+        assertEquals(1, pollerUnderTest.pollDue());
+        assertAll(
+                () -> assertEquals(0, events.size()),
+                () -> assertEquals(40L * MINUTE, pollerUnderTest.getIntervalMillis(1L)),
+                () -> assertEquals(0, pollerUnderTest.pollDue()));
+
+        now.addAndGet(40L * MINUTE);
+        assertEquals(1, pollerUnderTest.pollDue());
+        assertAll(
+                () -> assertEquals(1, events.size()),
+                () -> assertEquals(1L, events.get(0).getReleaseId()),
+                () -> assertEquals(5, events.get(0).getPrevious().getNumForSale()),
+                () -> assertEquals(4, events.get(0).getCurrent().getNumForSale()),
+                () -> assertEquals(20L * MINUTE, pollerUnderTest.getIntervalMillis(1L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void pollDue_withoutChanges_shouldGrowIntervalUpToMaximum() {
+        when(mockApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class)))
+                .thenReturn(newStatistics(5, 10.0D));
+        pollerUnderTest.watch(1L);
+        pollerUnderTest.pollDue();
+
+        now.addAndGet(40L * MINUTE);
+        pollerUnderTest.pollDue();
+        assertEquals(60L * MINUTE, pollerUnderTest.getIntervalMillis(1L));
+
+        now.addAndGet(60L * MINUTE);
+        pollerUnderTest.pollDue();
+        now.addAndGet(90L * MINUTE);
+        pollerUnderTest.pollDue();
+
+        assertAll(
+                () -> assertEquals(90L * MINUTE, pollerUnderTest.getIntervalMillis(1L)),
+                () -> assertEquals(0, events.size()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void pollDue_withMultipleReleases_shouldPollMostOverdueFirst() {
+        when(mockApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class)))
+                .thenReturn(newStatistics(5, 10.0D));
+        pollerUnderTest.watchAll(List.of(1L, 2L, 3L));
+        pollerUnderTest.unwatch(3L);
+
+        assertAll(
+                () -> assertEquals(2, pollerUnderTest.pollDue()),
+                () -> assertEquals(2, pollerUnderTest.getWatchedCount()),
+                () -> assertEquals(-1L, pollerUnderTest.getIntervalMillis(3L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void pollDue_withRequestFailure_shouldRescheduleWithSameInterval() {
+        when(mockApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class)))
+                .thenThrow(new RequestException("Exception"));
+        pollerUnderTest.watch(1L);
+
+        assertEquals(1, pollerUnderTest.pollDue());
+        assertAll(
+                () -> assertEquals(40L * MINUTE, pollerUnderTest.getIntervalMillis(1L)),
+                () -> assertEquals(0, pollerUnderTest.pollDue()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void start_withWatchedRelease_shouldPollInBackground() {
+        final CountDownLatch polled = new CountDownLatch(1);
+        when(mockApi.getReleaseStatistics(any(GetReleaseStatisticsRequest.class))).thenAnswer(i -> {
+            polled.countDown();
+            return newStatistics(5, 10.0D);
+        });
+
+        try (final ReleaseStatisticsPoller poller = ReleaseStatisticsPoller.builder()
+                .marketplaceApi(mockApi)
+                .listener(events::add)
+                .rateLimiter(mock(RateLimiter.class))
+                .build()) {
+            poller.start();
+            poller.watch(1L);
+
+            assertTrue(polled.await(5L, TimeUnit.SECONDS));
+            assertThrows(IllegalArgumentException.class, poller::start);
+        }
+        verify(mockApi, times(1)).getReleaseStatistics(any(GetReleaseStatisticsRequest.class));
+    }
+
+    @Test
+    public void builder_withInvalidIntervals_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ReleaseStatisticsPoller.builder()
+                .marketplaceApi(mockApi)
+                .listener(events::add)
+                .minInterval(Duration.ofHours(2L))
+                .build());
+    }
+
+    private static GetReleaseStatisticsResponse newStatistics(final int numForSale, final double lowestPrice) {
+        return GetReleaseStatisticsResponse.builder()
+                .numForSale(numForSale)
+                .lowestPrice(Price.builder().currency(Currency.USD).value(lowestPrice).build())
+                .build();
+    }
+}
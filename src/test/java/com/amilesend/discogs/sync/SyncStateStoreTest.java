@@ -0,0 +1,66 @@
+/*
+ * discogs-java-client - A Java client to access the Discogs API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.discogs.sync;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SyncStateStoreTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SneakyThrows
+    public void save_withValues_shouldPersistAndReload() {
+        final Path stateFile = tempDir.resolve("nested").resolve("state.properties");
+        final SyncStateStore storeUnderTest = new SyncStateStore(stateFile);
+        storeUnderTest.put("orders.watermark", "2025-01-01T00:00");
+        storeUnderTest.put("messages.1", "A");
+        storeUnderTest.put("messages.2", "B");
+        storeUnderTest.put("messages.2", null);
+
+        storeUnderTest.save();
+
+        final SyncStateStore actual = new SyncStateStore(stateFile);
+        assertAll(
+                () -> assertEquals("2025-01-01T00:00", actual.get("orders.watermark")),
+                () -> assertNull(actual.get("messages.2")),
+                () -> assertEquals(Map.of("1", "A"), actual.getAllWithPrefix("messages.")),
+                () -> assertFalse(Files.exists(stateFile.resolveSibling("state.properties.tmp"))));
+    }
+
+    @Test
+    @SneakyThrows
+    public void ctor_withNoStateFile_shouldBeEmpty() {
+        final SyncStateStore storeUnderTest = new SyncStateStore(tempDir.resolve("missing.properties"));
+
+        assertAll(
+                () -> assertNull(storeUnderTest.get("orders.watermark")),
+                () -> assertEquals(Map.of(), storeUnderTest.getAllWithPrefix("")));
+    }
+}